@@ -0,0 +1,71 @@
+package br.com.legalconnect.auth.service;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Custo de CPU e alocação da leitura e verificação de tokens JWT
+ * ({@link JwtService}), feita a cada requisição autenticada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    // Mesmo tamanho mínimo exigido para HS256 (256 bits)
+    private static final String SEGREDO = "segredo-do-benchmark-com-pelo-menos-32-bytes";
+
+    private JwtService jwtService;
+    private UserDetails usuario;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        jwtService = new JwtService();
+        // Campos preenchidos via @Value nos serviços
+        definir("secretKey", SEGREDO);
+        definir("secret", SEGREDO);
+        definir("jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        definir("refreshExpiration", TimeUnit.DAYS.toMillis(7));
+
+        usuario = User.withUsername("maria.souza@legalconnect.com.br")
+                .password("nao-usada")
+                .authorities(List.of())
+                .build();
+        token = jwtService.generateToken(usuario);
+    }
+
+    private void definir(String campo, Object valor) {
+        Field field = ReflectionUtils.findField(JwtService.class, campo);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtService, valor);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, usuario);
+    }
+}
@@ -57,6 +57,7 @@ public class SecurityConfig1 {
     private static final String[] PUBLIC_ENDPOINTS = {
             "/api/v1/auth/**",
             "/api/v1/public/**",
+            "/api/v1/interno/**", // Chamadas entre serviços: exigem o token de serviço (UsuarioInternoController)
             "/api/v1/users/register/**",
             "/api/v1/users/recover-password/**",
             "/api/v1/users/reset-password/**",
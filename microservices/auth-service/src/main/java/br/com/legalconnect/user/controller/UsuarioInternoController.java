@@ -0,0 +1,60 @@
+package br.com.legalconnect.user.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+import br.com.legalconnect.user.service.UserService;
+
+/**
+ * Endpoints chamados por outros microsserviços, sem usuário final na
+ * requisição (ex.: validações em jobs e chamadas em lote). Ficam fora da
+ * autenticação JWT e exigem a credencial de serviço no cabeçalho
+ * {@value #CABECALHO_TOKEN_SERVICO}.
+ */
+@RestController
+@RequestMapping("/api/v1/interno/usuarios")
+public class UsuarioInternoController {
+
+    public static final String CABECALHO_TOKEN_SERVICO = "X-Servico-Token";
+
+    private final UserService userService;
+    private final byte[] tokenServico;
+
+    public UsuarioInternoController(UserService userService,
+            @Value("${application.security.servico.token:}") String tokenServico) {
+        this.userService = userService;
+        this.tokenServico = tokenServico.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // - Verificar a existência de vários usuários (retorna os IDs existentes)
+    @PostMapping("existir")
+    public ResponseEntity<Set<UUID>> existsByIds(
+            @RequestHeader(value = CABECALHO_TOKEN_SERVICO, required = false) String token,
+            @RequestBody List<UUID> ids) {
+        validarToken(token);
+        return ResponseEntity.ok(userService.buscarExistentes(ids));
+    }
+
+    private void validarToken(String token) {
+        // Sem token configurado, nenhuma chamada é aceita
+        if (tokenServico.length == 0 || token == null
+                || !MessageDigest.isEqual(tokenServico, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS, HttpStatus.UNAUTHORIZED,
+                    "Credencial de serviço inválida ou ausente.");
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package br.com.legalconnect.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.legalconnect.user.entity.User;
@@ -26,4 +30,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     boolean existsByCpf(String cpf);
+
+    /**
+     * Filtra, dentre os IDs informados, os que pertencem a usuários cadastrados.
+     * Lê apenas a chave primária (index-only scan), em uma única consulta.
+     * 
+     * @param ids Os IDs a verificar.
+     * @return Os IDs existentes.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findIdsExistentes(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
@@ -1,19 +1,44 @@
 package br.com.legalconnect.user.service;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
 import br.com.legalconnect.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int MAXIMO_IDS_VERIFICACAO = 1000;
+
     private final UserRepository userRepository;
 
     public Boolean existsById(UUID id) {
         return userRepository.existsById(id);
 
     }
+
+    /**
+     * Verifica a existência de vários usuários com uma única consulta, para
+     * validações feitas por outros serviços.
+     * 
+     * @param ids Os IDs a verificar (no máximo 1000).
+     * @return Os IDs que pertencem a usuários cadastrados.
+     */
+    public Set<UUID> buscarExistentes(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        if (ids.size() > MAXIMO_IDS_VERIFICACAO) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
+                    "No máximo " + MAXIMO_IDS_VERIFICACAO + " usuários podem ser verificados por requisição.");
+        }
+        return new HashSet<>(userRepository.findIdsExistentes(new HashSet<>(ids)));
+    }
 }
@@ -0,0 +1,13 @@
+-- V10__add_selecao_ponderada_tb_patrocinio.sql
+--
+-- Nível de patrocínio (peso na seleção ponderada), limite contratado e
+-- contador de impressões dos destaques.
+--
+
+ALTER TABLE tb_patrocinio ADD COLUMN IF NOT EXISTS nivel_patrocinio character varying(20) NOT NULL DEFAULT 'BASICO';
+ALTER TABLE tb_patrocinio ADD COLUMN IF NOT EXISTS limite_impressoes bigint;
+ALTER TABLE tb_patrocinio ADD COLUMN IF NOT EXISTS impressoes bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE tb_patrocinio DROP CONSTRAINT IF EXISTS ck_patrocinio_limite_impressoes;
+ALTER TABLE tb_patrocinio ADD CONSTRAINT ck_patrocinio_limite_impressoes
+    CHECK (limite_impressoes IS NULL OR limite_impressoes > 0);
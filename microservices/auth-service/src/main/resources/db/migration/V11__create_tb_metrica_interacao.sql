@@ -0,0 +1,20 @@
+-- V11__create_tb_metrica_interacao.sql
+--
+-- Contagem de visualizações e cliques da vitrine do marketplace (destaques e
+-- cards de advogados), agregada por item, tipo de evento e minuto. As linhas
+-- são gravadas em lote pelo legal-marketplace com UPSERT incremental.
+--
+
+CREATE TABLE IF NOT EXISTS tb_metrica_interacao (
+    tipo_item character varying(20) NOT NULL,
+    item_id uuid NOT NULL,
+    tipo_evento character varying(20) NOT NULL,
+    minuto timestamp with time zone NOT NULL,
+    quantidade bigint NOT NULL DEFAULT 0,
+    CONSTRAINT pk_metrica_interacao PRIMARY KEY (tipo_item, item_id, tipo_evento, minuto),
+    CONSTRAINT ck_metrica_interacao_tipo_item CHECK (tipo_item IN ('DESTAQUE', 'ADVOGADO')),
+    CONSTRAINT ck_metrica_interacao_tipo_evento CHECK (tipo_evento IN ('VISUALIZACAO', 'CLIQUE'))
+);
+
+-- Relatórios por período de todos os itens (a PK atende às consultas por item)
+CREATE INDEX IF NOT EXISTS idx_metrica_interacao_minuto ON tb_metrica_interacao (minuto);
@@ -0,0 +1,21 @@
+-- V12__add_indices_keyset_listagens_admin.sql
+--
+-- Índices das listagens administrativas paginadas por keyset, ordenadas por
+-- (created_at DESC, id DESC). Cada combinação de filtro tem um índice cuja
+-- ordem coincide com a da consulta, de modo que qualquer página é lida por
+-- uma varredura de intervalo limitada ao tamanho da página.
+--
+
+CREATE INDEX IF NOT EXISTS idx_depoimento_created_at_id
+    ON tb_depoimento (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_depoimento_status_created_at_id
+    ON tb_depoimento (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_depoimento_tipo_created_at_id
+    ON tb_depoimento (tipo_depoimento, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_patrocinio_created_at_id
+    ON tb_patrocinio (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_patrocinio_status_created_at_id
+    ON tb_patrocinio (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_patrocinio_tipo_created_at_id
+    ON tb_patrocinio (tipo, created_at DESC, id DESC);
@@ -0,0 +1,17 @@
+-- V13__add_busca_textual_tb_depoimento.sql
+--
+-- Busca textual dos depoimentos: coluna tsvector gerada pelo banco a partir de
+-- nome (peso A), texto (peso B) e local (peso C), com a configuração
+-- portuguesa (stemming e stopwords), e índice GIN para o operador @@.
+-- Por ser GENERATED ... STORED, a coluna acompanha qualquer INSERT/UPDATE sem
+-- trigger nem código na aplicação.
+--
+
+ALTER TABLE tb_depoimento ADD COLUMN IF NOT EXISTS busca tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(nome, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(texto, '')), 'B') ||
+        setweight(to_tsvector('portuguese', coalesce(local, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_depoimento_busca ON tb_depoimento USING GIN (busca);
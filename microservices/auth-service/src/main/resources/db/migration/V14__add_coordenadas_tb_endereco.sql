@@ -0,0 +1,11 @@
+-- V14__add_coordenadas_tb_endereco.sql
+--
+-- Coordenadas dos endereços, preenchidas pelo legal-advogado a partir da
+-- tabela offline de CEPs distribuída com o serviço (ao gravar o endereço e,
+-- para as linhas existentes, por uma carga na inicialização).
+-- A busca por proximidade usa um índice espacial em memória; por isso não há
+-- índice no banco para estas colunas.
+--
+
+ALTER TABLE tb_endereco ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE tb_endereco ADD COLUMN IF NOT EXISTS longitude double precision;
@@ -0,0 +1,49 @@
+-- V15__add_indices_consultas_repositorios.sql
+--
+-- Índices secundários das consultas dos repositórios (consultas derivadas,
+-- carga de coleções e buscas do marketplace). O V1 criou apenas chaves
+-- primárias e restrições UNIQUE; estas já servem de índice para e-mail, CPF,
+-- tokens, número da OAB, pessoa_id/user_id e nomes dos cadastros auxiliares,
+-- e não são repetidas aqui.
+-- Aplicada em cada schema de tenant pelo TenantMigrationService. A cobertura é
+-- verificada por benchmarks (mvn -Pindices-repositorios verify).
+--
+
+-- Filtros por tenant (findAllByTenantId)
+CREATE INDEX IF NOT EXISTS idx_profissional_tenant_id ON tb_profissional (tenant_id);
+CREATE INDEX IF NOT EXISTS idx_role_profissional_tenant_id ON tb_role_profissional (tenant_id);
+CREATE INDEX IF NOT EXISTS idx_user_tenant_id ON tb_user (tenant_id);
+
+-- Profissionais visíveis no marketplace: índice parcial com exatamente o
+-- predicado das buscas públicas (usa_marketplace = true AND ATIVO)
+CREATE INDEX IF NOT EXISTS idx_profissional_marketplace_ativo ON tb_profissional (id)
+    WHERE usa_marketplace = true AND status_profissional = 'ATIVO';
+
+-- Endereços: carga por pessoa e listagem de estados/cidades (index-only scan)
+CREATE INDEX IF NOT EXISTS idx_endereco_pessoa_id ON tb_endereco (pessoa_id);
+CREATE INDEX IF NOT EXISTS idx_endereco_estado_cidade ON tb_endereco (estado, cidade);
+
+CREATE INDEX IF NOT EXISTS idx_pessoa_telefones_pessoa_id ON tb_pessoa_telefones (pessoa_id);
+
+-- Filhos do profissional (findAllByProfissionalId, findByIdAndProfissionalId)
+CREATE INDEX IF NOT EXISTS idx_experiencia_profissional_profissional_id
+    ON tb_experiencia_profissional (profissional_id);
+CREATE INDEX IF NOT EXISTS idx_formacao_academica_profissional_id ON tb_formacao_academica (profissional_id);
+CREATE INDEX IF NOT EXISTS idx_certificacao_profissional_profissional_id
+    ON tb_certificacao_profissional (profissional_id);
+CREATE INDEX IF NOT EXISTS idx_documento_profissional_profissional_id
+    ON tb_documento_profissional (profissional_id);
+
+-- Tabelas de junção cuja chave primária não começa por profissional_id/user_id
+-- (carga das coleções por profissional, em lote); as de roles e tipos de
+-- atendimento já começam por profissional_id
+CREATE INDEX IF NOT EXISTS idx_profissional_area_atuacao_profissional_id
+    ON tb_profissional_area_atuacao (profissional_id, area_atuacao_id);
+CREATE INDEX IF NOT EXISTS idx_profissional_idioma_profissional_id
+    ON tb_profissional_idioma (profissional_id, idioma_id);
+CREATE INDEX IF NOT EXISTS idx_profissional_local_atuacao_profissional_id
+    ON tb_profissional_local_atuacao (profissional_id, local_atuacao_id);
+CREATE INDEX IF NOT EXISTS idx_user_role_user_id ON tb_user_role (user_id, role_id);
+
+-- Depoimentos por autor (findByUserId)
+CREATE INDEX IF NOT EXISTS idx_depoimento_user_id ON tb_depoimento (user_id);
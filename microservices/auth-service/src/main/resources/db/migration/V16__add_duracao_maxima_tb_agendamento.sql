@@ -0,0 +1,11 @@
+-- V16__add_duracao_maxima_tb_agendamento.sql
+--
+-- Limita a duração de um agendamento a 8 horas (Agendamento.DURACAO_MAXIMA no
+-- legal-advogado). Com o limite, a verificação de sobreposição lê no índice
+-- (profissional_id, inicio) apenas os agendamentos que começam entre
+-- inicio - 8 horas e fim, em vez de todo o histórico do profissional.
+--
+
+ALTER TABLE tb_agendamento DROP CONSTRAINT IF EXISTS ck_agendamento_duracao_maxima;
+ALTER TABLE tb_agendamento ADD CONSTRAINT ck_agendamento_duracao_maxima
+    CHECK (fim - inicio <= interval '8 hours');
@@ -0,0 +1,58 @@
+-- V17__recalcula_senioridade_tb_metricas_profissional.sql
+--
+-- A carga inicial do V8 deixou nivel nulo e anos_experiencia zerado para os
+-- profissionais existentes. Recalcula ambos com a mesma regra do
+-- MetricasProfissionalService do legal-advogado: o maior valor entre os anos
+-- de inscrição na OAB e a soma das experiências profissionais, com períodos
+-- sobrepostos ou contíguos contados uma única vez (dias / 365). Depois da
+-- migração, a atualização diária do legal-advogado mantém os valores em dia.
+--
+
+WITH periodos AS (
+    SELECT e.profissional_id,
+           e.data_inicio AS inicio,
+           LEAST(COALESCE(e.data_fim, CURRENT_DATE), CURRENT_DATE) AS fim
+    FROM tb_experiencia_profissional e
+    WHERE e.data_inicio IS NOT NULL
+),
+marcados AS (
+    -- Início de um novo bloco quando o período começa depois do maior fim anterior
+    SELECT profissional_id, inicio, fim,
+           CASE WHEN inicio <= MAX(fim) OVER (PARTITION BY profissional_id ORDER BY inicio, fim
+                                              ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING)
+                THEN 0 ELSE 1 END AS novo_bloco
+    FROM periodos
+    WHERE fim > inicio
+),
+blocos AS (
+    SELECT profissional_id, inicio, fim,
+           SUM(novo_bloco) OVER (PARTITION BY profissional_id ORDER BY inicio, fim) AS bloco
+    FROM marcados
+),
+dias AS (
+    SELECT profissional_id, SUM(fim_bloco - inicio_bloco) AS dias
+    FROM (SELECT profissional_id, bloco, MIN(inicio) AS inicio_bloco, MAX(fim) AS fim_bloco
+          FROM blocos
+          GROUP BY profissional_id, bloco) b
+    GROUP BY profissional_id
+),
+anos AS (
+    SELECT p.id AS profissional_id,
+           GREATEST(CAST(COALESCE(d.dias, 0) / 365 AS integer),
+                    CASE WHEN p.data_inscricao_oab < CURRENT_DATE
+                         THEN CAST(EXTRACT(YEAR FROM age(CURRENT_DATE, p.data_inscricao_oab)) AS integer)
+                         ELSE 0 END) AS anos
+    FROM tb_profissional p
+    LEFT JOIN dias d ON d.profissional_id = p.id
+)
+INSERT INTO tb_metricas_profissional AS m (profissional_id, casos_concluidos, anos_experiencia, nivel, updated_at)
+SELECT profissional_id,
+       0,
+       anos,
+       CASE WHEN anos >= 8 THEN 'Sênior' WHEN anos >= 3 THEN 'Pleno' ELSE 'Júnior' END,
+       now()
+FROM anos
+ON CONFLICT (profissional_id) DO UPDATE SET
+    anos_experiencia = EXCLUDED.anos_experiencia,
+    nivel = EXCLUDED.nivel,
+    updated_at = now();
@@ -0,0 +1,9 @@
+-- V18__recalcula_coordenadas_tb_endereco.sql
+--
+-- A tabela de CEPs do legal-advogado passou a ter faixas por zona nas capitais
+-- maiores e por município no interior. As coordenadas gravadas com a tabela
+-- anterior (centro da capital) são descartadas para que a carga de
+-- inicialização do legal-advogado as recalcule com a tabela atual.
+--
+
+UPDATE tb_endereco SET latitude = NULL, longitude = NULL WHERE latitude IS NOT NULL;
@@ -0,0 +1,13 @@
+-- V3__add_variantes_midia.sql
+--
+-- URLs das variantes (thumbnail e preview) geradas de forma assíncrona
+-- a partir das fotos de perfil e dos documentos enviados ao S3.
+--
+
+ALTER TABLE tb_user
+    ADD COLUMN IF NOT EXISTS foto_thumbnail_url text,
+    ADD COLUMN IF NOT EXISTS foto_preview_url text;
+
+ALTER TABLE tb_documento_profissional
+    ADD COLUMN IF NOT EXISTS url_thumbnail character varying(500),
+    ADD COLUMN IF NOT EXISTS url_preview character varying(500);
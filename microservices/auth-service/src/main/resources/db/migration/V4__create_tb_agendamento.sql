@@ -0,0 +1,32 @@
+-- V4__create_tb_agendamento.sql
+--
+-- Agendamentos de consultas. A constraint de exclusão impede que dois
+-- agendamentos não cancelados do mesmo profissional tenham intervalos
+-- sobrepostos, inclusive sob INSERTs concorrentes.
+--
+-- Requer a extensão btree_gist, criada em public pelo callback
+-- beforeMigrate__extensoes_public.sql.
+--
+
+CREATE TABLE IF NOT EXISTS tb_agendamento (
+    created_at timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    id uuid NOT NULL,
+    profissional_id uuid NOT NULL,
+    cliente_id uuid NOT NULL,
+    tenant_id uuid NOT NULL,
+    inicio timestamp(6) without time zone NOT NULL,
+    fim timestamp(6) without time zone NOT NULL,
+    tipo_servico character varying(255) NOT NULL,
+    status character varying(20) NOT NULL,
+    CONSTRAINT tb_agendamento_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_agendamento_profissional FOREIGN KEY (profissional_id) REFERENCES tb_profissional (id),
+    CONSTRAINT ck_agendamento_intervalo CHECK (fim > inicio),
+    CONSTRAINT ex_agendamento_sem_sobreposicao EXCLUDE USING gist (
+        profissional_id WITH =,
+        tsrange(inicio, fim, '[)') WITH &&
+    ) WHERE (status <> 'CANCELADO')
+);
+
+CREATE INDEX IF NOT EXISTS idx_agendamento_profissional_inicio
+    ON tb_agendamento (profissional_id, inicio);
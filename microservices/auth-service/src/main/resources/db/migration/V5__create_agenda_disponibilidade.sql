@@ -0,0 +1,39 @@
+-- V5__create_agenda_disponibilidade.sql
+--
+-- Grade semanal de atendimento e bloqueios de agenda dos profissionais,
+-- usados no cálculo de horários livres.
+--
+
+CREATE TABLE IF NOT EXISTS tb_horario_atendimento (
+    created_at timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    id uuid NOT NULL,
+    profissional_id uuid NOT NULL,
+    tenant_id uuid NOT NULL,
+    dia_semana character varying(10) NOT NULL,
+    hora_inicio time without time zone NOT NULL,
+    hora_fim time without time zone NOT NULL,
+    CONSTRAINT tb_horario_atendimento_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_horario_atendimento_profissional FOREIGN KEY (profissional_id) REFERENCES tb_profissional (id),
+    CONSTRAINT ck_horario_atendimento_faixa CHECK (hora_fim > hora_inicio)
+);
+
+CREATE INDEX IF NOT EXISTS idx_horario_atendimento_profissional
+    ON tb_horario_atendimento (profissional_id);
+
+CREATE TABLE IF NOT EXISTS tb_bloqueio_agenda (
+    created_at timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    id uuid NOT NULL,
+    profissional_id uuid NOT NULL,
+    tenant_id uuid NOT NULL,
+    inicio timestamp(6) without time zone NOT NULL,
+    fim timestamp(6) without time zone NOT NULL,
+    motivo character varying(255),
+    CONSTRAINT tb_bloqueio_agenda_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_bloqueio_agenda_profissional FOREIGN KEY (profissional_id) REFERENCES tb_profissional (id),
+    CONSTRAINT ck_bloqueio_agenda_intervalo CHECK (fim > inicio)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bloqueio_agenda_profissional_inicio
+    ON tb_bloqueio_agenda (profissional_id, inicio);
@@ -0,0 +1,25 @@
+-- V6__create_tb_outbox_evento.sql
+--
+-- Outbox transacional de efeitos colaterais (agenda externa, e-mails),
+-- consumida pelo OutboxRelay do legal-advogado.
+--
+
+CREATE TABLE IF NOT EXISTS tb_outbox_evento (
+    created_at timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    id uuid NOT NULL,
+    agregado_id uuid NOT NULL,
+    tenant_id uuid NOT NULL,
+    tipo character varying(50) NOT NULL,
+    payload text NOT NULL,
+    status character varying(20) NOT NULL,
+    tentativas integer NOT NULL DEFAULT 0,
+    proxima_tentativa timestamp(6) without time zone NOT NULL,
+    ultimo_erro text,
+    CONSTRAINT tb_outbox_evento_pkey PRIMARY KEY (id)
+);
+
+-- Apenas eventos ainda não finalizados interessam ao relay
+CREATE INDEX IF NOT EXISTS idx_outbox_evento_status_proxima
+    ON tb_outbox_evento (status, proxima_tentativa)
+    WHERE status IN ('PENDENTE', 'PROCESSANDO');
@@ -0,0 +1,39 @@
+-- V7__create_avaliacoes.sql
+--
+-- Avaliações de consultas e agregado incremental por profissional
+-- (total, soma e histograma de notas).
+--
+
+CREATE TABLE IF NOT EXISTS tb_avaliacao (
+    created_at timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    id uuid NOT NULL,
+    agendamento_id uuid NOT NULL,
+    profissional_id uuid NOT NULL,
+    cliente_id uuid NOT NULL,
+    tenant_id uuid NOT NULL,
+    nota integer NOT NULL,
+    comentario text,
+    CONSTRAINT tb_avaliacao_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_avaliacao_agendamento UNIQUE (agendamento_id),
+    CONSTRAINT fk_avaliacao_agendamento FOREIGN KEY (agendamento_id) REFERENCES tb_agendamento (id),
+    CONSTRAINT fk_avaliacao_profissional FOREIGN KEY (profissional_id) REFERENCES tb_profissional (id),
+    CONSTRAINT ck_avaliacao_nota CHECK (nota BETWEEN 1 AND 5)
+);
+
+CREATE INDEX IF NOT EXISTS idx_avaliacao_profissional
+    ON tb_avaliacao (profissional_id);
+
+CREATE TABLE IF NOT EXISTS tb_avaliacao_agregada (
+    profissional_id uuid NOT NULL,
+    total integer NOT NULL DEFAULT 0,
+    soma bigint NOT NULL DEFAULT 0,
+    nota_1 integer NOT NULL DEFAULT 0,
+    nota_2 integer NOT NULL DEFAULT 0,
+    nota_3 integer NOT NULL DEFAULT 0,
+    nota_4 integer NOT NULL DEFAULT 0,
+    nota_5 integer NOT NULL DEFAULT 0,
+    updated_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT tb_avaliacao_agregada_pkey PRIMARY KEY (profissional_id),
+    CONSTRAINT fk_avaliacao_agregada_profissional FOREIGN KEY (profissional_id) REFERENCES tb_profissional (id)
+);
@@ -0,0 +1,30 @@
+-- V8__create_tb_metricas_profissional.sql
+--
+-- Projeção das métricas exibidas no card do advogado (satisfação, casos
+-- concluídos e senioridade), mantida por eventos de domínio.
+--
+
+ALTER TABLE tb_profissional ADD COLUMN IF NOT EXISTS data_inscricao_oab date;
+
+CREATE TABLE IF NOT EXISTS tb_metricas_profissional (
+    profissional_id uuid NOT NULL,
+    satisfacao double precision,
+    casos_concluidos integer NOT NULL DEFAULT 0,
+    anos_experiencia integer NOT NULL DEFAULT 0,
+    nivel character varying(20),
+    updated_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT tb_metricas_profissional_pkey PRIMARY KEY (profissional_id),
+    CONSTRAINT fk_metricas_profissional_profissional FOREIGN KEY (profissional_id) REFERENCES tb_profissional (id)
+);
+
+-- Carga inicial a partir dos dados já existentes; a senioridade é calculada na
+-- próxima alteração do perfil ou das experiências do profissional.
+INSERT INTO tb_metricas_profissional (profissional_id, satisfacao, casos_concluidos, anos_experiencia, updated_at)
+SELECT p.id,
+       CAST(a.nota_4 + a.nota_5 AS double precision) / NULLIF(a.total, 0),
+       (SELECT count(*) FROM tb_agendamento ag WHERE ag.profissional_id = p.id AND ag.status = 'CONCLUIDO'),
+       0,
+       now()
+FROM tb_profissional p
+LEFT JOIN tb_avaliacao_agregada a ON a.profissional_id = p.id
+ON CONFLICT (profissional_id) DO NOTHING;
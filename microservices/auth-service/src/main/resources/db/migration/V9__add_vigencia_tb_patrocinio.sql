@@ -0,0 +1,35 @@
+-- V9__add_vigencia_tb_patrocinio.sql
+--
+-- Período de vigência dos destaques (patrocínios). O status é alternado
+-- automaticamente nos limites do período pelo legal-marketplace.
+--
+
+CREATE TABLE IF NOT EXISTS tb_patrocinio (
+    id uuid NOT NULL,
+    tipo character varying(31) NOT NULL,
+    link character varying(255) NOT NULL,
+    status character varying(20) NOT NULL,
+    titulo character varying(255),
+    data_evento timestamp(6) without time zone,
+    imagem_url character varying(255),
+    nome character varying(255),
+    slogan character varying(255),
+    logo_url character varying(255),
+    data_publicacao timestamp(6) without time zone,
+    created_at timestamp(6) without time zone NOT NULL,
+    updated_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT tb_patrocinio_pkey PRIMARY KEY (id)
+);
+
+ALTER TABLE tb_patrocinio ADD COLUMN IF NOT EXISTS inicio_vigencia timestamp(6) without time zone;
+ALTER TABLE tb_patrocinio ADD COLUMN IF NOT EXISTS fim_vigencia timestamp(6) without time zone;
+
+ALTER TABLE tb_patrocinio DROP CONSTRAINT IF EXISTS ck_patrocinio_vigencia;
+ALTER TABLE tb_patrocinio ADD CONSTRAINT ck_patrocinio_vigencia
+    CHECK (inicio_vigencia IS NULL OR fim_vigencia IS NULL OR fim_vigencia > inicio_vigencia);
+
+-- Leitura das transições futuras pelo agendador de vigência
+CREATE INDEX IF NOT EXISTS idx_patrocinio_inicio_vigencia
+    ON tb_patrocinio (inicio_vigencia) WHERE inicio_vigencia IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_patrocinio_fim_vigencia
+    ON tb_patrocinio (fim_vigencia) WHERE fim_vigencia IS NOT NULL;
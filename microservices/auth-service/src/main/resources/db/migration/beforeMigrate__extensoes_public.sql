@@ -0,0 +1,13 @@
+-- beforeMigrate__extensoes_public.sql
+--
+-- Callback do Flyway executado antes da migração de qualquer schema (public e
+-- tenants). As extensões ficam uma única vez em public: criadas dentro do
+-- schema de um tenant, seriam removidas junto com ele (DROP SCHEMA ... CASCADE)
+-- e levariam as constraints dos demais tenants.
+--
+-- btree_gist: classes de operadores GiST para tipos escalares (uuid), usadas
+-- pela constraint de exclusão de tb_agendamento (V4). As classes padrão são
+-- encontradas independentemente do search_path.
+--
+
+CREATE EXTENSION IF NOT EXISTS btree_gist WITH SCHEMA public;
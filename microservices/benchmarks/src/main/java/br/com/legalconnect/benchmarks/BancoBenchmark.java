@@ -0,0 +1,98 @@
+package br.com.legalconnect.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Banco PostgreSQL usado pelas verificações deste módulo, com as migrações dos
+ * tenants aplicadas em um schema próprio.
+ * Sem benchmark.jdbc.url, sobe um container descartável (Testcontainers),
+ * encerrado no {@link #close()}.
+ *
+ * Propriedades de sistema: benchmark.jdbc.url, benchmark.jdbc.usuario,
+ * benchmark.jdbc.senha, benchmark.schema, benchmark.migracoes.
+ */
+public final class BancoBenchmark implements AutoCloseable {
+
+    private static final String IMAGEM_POSTGRES = "postgres:16-alpine";
+
+    private final PostgreSQLContainer<?> container;
+    private final String url;
+    private final String usuario;
+    private final String senha;
+    private final String schema = System.getProperty("benchmark.schema", "tenant_benchmark");
+
+    private BancoBenchmark(PostgreSQLContainer<?> container, String url, String usuario, String senha) {
+        this.container = container;
+        this.url = url;
+        this.usuario = usuario;
+        this.senha = senha;
+    }
+
+    /**
+     * Obtém o banco configurado e aplica as migrações no schema do benchmark.
+     *
+     * @return O banco pronto para uso.
+     */
+    public static BancoBenchmark iniciar() {
+        String url = System.getProperty("benchmark.jdbc.url");
+        BancoBenchmark banco;
+        if (url == null) {
+            PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGEM_POSTGRES);
+            container.start();
+            banco = new BancoBenchmark(container, container.getJdbcUrl(), container.getUsername(),
+                    container.getPassword());
+        } else {
+            banco = new BancoBenchmark(null, url, System.getProperty("benchmark.jdbc.usuario", "jususer"),
+                    System.getProperty("benchmark.jdbc.senha", "juspassword"));
+        }
+        try {
+            banco.migrar();
+        } catch (RuntimeException e) {
+            banco.close();
+            throw e;
+        }
+        return banco;
+    }
+
+    private void migrar() {
+        Flyway.configure()
+                .dataSource(url, usuario, senha)
+                .schemas(schema)
+                .locations(System.getProperty("benchmark.migracoes",
+                        "filesystem:../auth-service/src/main/resources/db/migration"))
+                .load()
+                .migrate();
+    }
+
+    /**
+     * Abre uma conexão com o search_path do schema do benchmark, o mesmo
+     * aplicado pelo MultiTenantConnectionProviderImpl.
+     */
+    public Connection conectar() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, usuario, senha);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path to \"" + schema + "\", public");
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.legalconnect.benchmarks.indices;
+
+import java.util.List;
+
+/**
+ * Consulta derivada do nome de um método de repositório (Spring Data), já
+ * traduzida para colunas.
+ * Cada grupo corresponde a um ramo "Or" do nome do método e contém as colunas
+ * combinadas por "And", no formato "tabela.coluna" (em herança JOINED, colunas
+ * do mesmo método podem estar em tabelas diferentes).
+ */
+final class ConsultaDerivada {
+
+    private final String metodo;
+    private final List<List<String>> grupos;
+    private final String pendencia;
+
+    private ConsultaDerivada(String metodo, List<List<String>> grupos, String pendencia) {
+        this.metodo = metodo;
+        this.grupos = grupos;
+        this.pendencia = pendencia;
+    }
+
+    static ConsultaDerivada resolvida(String metodo, List<List<String>> grupos) {
+        return new ConsultaDerivada(metodo, grupos, null);
+    }
+
+    /**
+     * Consulta que não pôde ser traduzida (propriedade aninhada, entidade não
+     * encontrada); é relatada como aviso.
+     */
+    static ConsultaDerivada pendente(String metodo, String pendencia) {
+        return new ConsultaDerivada(metodo, List.of(), pendencia);
+    }
+
+    /** Módulo, repositório e método, para o relatório. */
+    String getMetodo() {
+        return metodo;
+    }
+
+    List<List<String>> getGrupos() {
+        return grupos;
+    }
+
+    String getPendencia() {
+        return pendencia;
+    }
+}
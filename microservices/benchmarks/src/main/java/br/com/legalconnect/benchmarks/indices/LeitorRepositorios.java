@@ -0,0 +1,301 @@
+package br.com.legalconnect.benchmarks.indices;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lê o código-fonte dos serviços e extrai as consultas derivadas dos
+ * repositórios Spring Data (métodos findBy..., existsBy..., deleteBy... sem
+ * {@code @Query}), traduzindo as propriedades para colunas pelas anotações
+ * JPA das entidades.
+ * A leitura é textual, suficiente para o padrão de código dos serviços:
+ * - coluna: {@code @Column(name)}, {@code @JoinColumn(name)}, relação
+ * {@code @ManyToOne}/{@code @OneToOne} sem nome (campo + "_id") ou o nome do
+ * campo em snake_case (estratégia de nomes padrão do Spring Boot);
+ * - propriedades herdadas são buscadas na cadeia de superclasses;
+ * - caminhos aninhados só são resolvidos na forma relacao + Id (a coluna de
+ * junção); os demais ficam como pendência.
+ */
+final class LeitorRepositorios {
+
+    private static final Set<String> MODULOS_IGNORADOS = Set.of("bkp", "benchmarks");
+
+    private static final Pattern COMENTARIOS = Pattern.compile("(?s)/\\*.*?\\*/|//[^\\n]*");
+    private static final Pattern PACOTE = Pattern.compile("\\bpackage\\s+([\\w.]+)\\s*;");
+    private static final Pattern IMPORTACAO = Pattern.compile("\\bimport\\s+([\\w.]+)\\s*;");
+    private static final Pattern REPOSITORIO = Pattern
+            .compile("\\binterface\\s+(\\w+)\\s+extends\\s+[^{]*?JpaRepository\\s*<\\s*(\\w+)");
+    private static final Pattern CLASSE = Pattern.compile("\\bclass\\s+(\\w+)(?:\\s+extends\\s+(\\w+))?");
+    private static final Pattern TABELA = Pattern.compile("@Table\\s*\\([^)]*?\\bname\\s*=\\s*\"([^\"]+)\"");
+    private static final Pattern COLUNA = Pattern.compile("@Column\\s*\\([^)]*?\\bname\\s*=\\s*\"([^\"]+)\"");
+    private static final Pattern COLUNA_JUNCAO = Pattern
+            .compile("@JoinColumn\\s*\\([^)]*?\\bname\\s*=\\s*\"([^\"]+)\"");
+    private static final Pattern CAMPO = Pattern
+            .compile("(?:private|protected)\\s+(?:final\\s+)?[\\w.<>, ?\\[\\]]+?\\s+(\\w+)\\s*(?:=[^;]*)?$");
+    private static final Pattern METODO = Pattern.compile("(\\w+)\\s*\\((?:[^()]|\\([^()]*\\))*\\)\\s*$");
+    private static final Pattern DERIVADO = Pattern
+            .compile("^(?:find|read|get|query|search|stream|exists|count|delete|remove)\\w*?By(\\w+)$");
+    private static final Pattern SEPARADOR_OU = Pattern.compile("(?<=[a-z0-9])Or(?=[A-Z])");
+    private static final Pattern SEPARADOR_E = Pattern.compile("(?<=[a-z0-9])And(?=[A-Z])");
+
+    // Operadores do Spring Data, do mais longo para o mais curto
+    private static final List<String> OPERADORES = List.of("IsNotNull", "NotNull", "IsNull", "Null", "IsNotIn",
+            "NotIn", "IsIn", "In", "IsNotLike", "NotLike", "IsLike", "Like", "IsStartingWith", "StartingWith",
+            "StartsWith", "IsEndingWith", "EndingWith", "EndsWith", "IsContaining", "Containing", "Contains",
+            "IsNotEmpty", "NotEmpty", "IsEmpty", "Empty", "IsGreaterThanEqual", "GreaterThanEqual", "IsGreaterThan",
+            "GreaterThan", "IsLessThanEqual", "LessThanEqual", "IsLessThan", "LessThan", "IsBetween", "Between",
+            "IsAfter", "After", "IsBefore", "Before", "IsTrue", "True", "IsFalse", "False", "IsNot", "Not", "Is",
+            "Equals", "Exists");
+
+    private final Path raiz;
+    // Nome qualificado -> fontes; a mesma classe pode existir em mais de um serviço
+    private final Map<String, List<Path>> fontesPorClasse = new HashMap<>();
+    private final Map<Path, Entidade> entidades = new HashMap<>();
+
+    LeitorRepositorios(Path raiz) {
+        this.raiz = raiz;
+    }
+
+    /**
+     * @return As consultas derivadas de todos os repositórios dos serviços.
+     */
+    List<ConsultaDerivada> ler() throws IOException {
+        List<Path> fontes = listarFontes();
+        for (Path fonte : fontes) {
+            String codigo = ler(fonte);
+            Matcher pacote = PACOTE.matcher(codigo);
+            String nome = fonte.getFileName().toString().replace(".java", "");
+            fontesPorClasse.computeIfAbsent((pacote.find() ? pacote.group(1) + "." : "") + nome,
+                    chave -> new ArrayList<>()).add(fonte);
+        }
+        List<ConsultaDerivada> consultas = new ArrayList<>();
+        for (Path fonte : fontes) {
+            String codigo = ler(fonte);
+            Matcher repositorio = REPOSITORIO.matcher(codigo);
+            if (repositorio.find()) {
+                String modulo = modulo(fonte);
+                String origem = modulo + " " + repositorio.group(1);
+                Entidade entidade = entidade(codigo, modulo, repositorio.group(2));
+                String corpo = codigo.substring(codigo.indexOf('{', repositorio.end()) + 1);
+                for (String declaracao : corpo.split(";")) {
+                    if (declaracao.contains("@Query")) {
+                        continue;
+                    }
+                    Matcher metodo = METODO.matcher(declaracao.trim());
+                    if (!metodo.find()) {
+                        continue;
+                    }
+                    Matcher derivado = DERIVADO.matcher(metodo.group(1));
+                    if (derivado.matches()) {
+                        consultas.add(traduzir(origem + "." + metodo.group(1), entidade, derivado.group(1)));
+                    }
+                }
+            }
+        }
+        return consultas;
+    }
+
+    private ConsultaDerivada traduzir(String metodo, Entidade entidade, String predicado) {
+        if (entidade == null) {
+            return ConsultaDerivada.pendente(metodo, "entidade não encontrada");
+        }
+        int ordenacao = predicado.indexOf("OrderBy");
+        if (ordenacao >= 0) {
+            predicado = predicado.substring(0, ordenacao);
+        }
+        List<List<String>> grupos = new ArrayList<>();
+        for (String ramo : SEPARADOR_OU.split(predicado)) {
+            List<String> colunas = new ArrayList<>();
+            for (String parte : SEPARADOR_E.split(ramo)) {
+                String propriedade = semOperador(parte);
+                String coluna = entidade.coluna(propriedade, null);
+                if (coluna == null) {
+                    return ConsultaDerivada.pendente(metodo, "propriedade '" + propriedade + "' não resolvida");
+                }
+                colunas.add(coluna);
+            }
+            grupos.add(colunas);
+        }
+        return ConsultaDerivada.resolvida(metodo, grupos);
+    }
+
+    private static String semOperador(String parte) {
+        String propriedade = parte.replaceAll("(?:All)?IgnoreCase$", "");
+        for (String operador : OPERADORES) {
+            if (propriedade.endsWith(operador) && propriedade.length() > operador.length()) {
+                return propriedade.substring(0, propriedade.length() - operador.length());
+            }
+        }
+        return propriedade;
+    }
+
+    /**
+     * Resolve e lê a entidade referenciada por um arquivo (importação ou mesmo
+     * pacote), com suas superclasses. Entre classes homônimas de serviços
+     * diferentes, prefere a do próprio módulo.
+     */
+    private Entidade entidade(String codigoReferencia, String modulo, String nomeSimples) {
+        String qualificado = qualificar(codigoReferencia, nomeSimples);
+        if (qualificado == null) {
+            return null;
+        }
+        List<Path> candidatas = fontesPorClasse.get(qualificado);
+        Path fonte = candidatas.stream().filter(c -> modulo(c).equals(modulo)).findFirst()
+                .orElse(candidatas.get(0));
+        Entidade existente = entidades.get(fonte);
+        if (existente != null) {
+            return existente;
+        }
+        String codigo = ler(fonte);
+        Matcher classe = CLASSE.matcher(codigo);
+        if (!classe.find()) {
+            return null;
+        }
+        Entidade superclasse = classe.group(2) != null ? entidade(codigo, modulo(fonte), classe.group(2)) : null;
+        // Superclasse mapeada (@MappedSuperclass) não tem tabela própria: seus
+        // campos ficam na tabela da entidade concreta
+        Matcher tabela = TABELA.matcher(codigo);
+        String nomeTabela = tabela.find() ? tabela.group(1)
+                : codigo.contains("@Entity") ? snakeCase(nomeSimples) : null;
+        Entidade entidade = new Entidade(nomeTabela, superclasse);
+
+        String corpo = codigo.substring(codigo.indexOf('{', classe.end()) + 1);
+        for (String declaracao : corpo.split(";")) {
+            // Descarta corpos de métodos anteriores à declaração do campo
+            String trecho = declaracao.substring(declaracao.lastIndexOf('}') + 1).trim();
+            Matcher campo = CAMPO.matcher(trecho);
+            if (!campo.find() || trecho.contains(" static ")) {
+                continue;
+            }
+            entidade.campos.put(campo.group(1), colunaDoCampo(trecho, campo.group(1)));
+        }
+        entidades.put(fonte, entidade);
+        return entidade;
+    }
+
+    private static Campo colunaDoCampo(String trecho, String nome) {
+        if (trecho.contains("@OneToMany") || trecho.contains("@ManyToMany") || trecho.contains("@ElementCollection")
+                || trecho.contains("@Transient")) {
+            return new Campo(null, false);
+        }
+        Matcher juncao = COLUNA_JUNCAO.matcher(trecho);
+        if (juncao.find()) {
+            return new Campo(juncao.group(1), true);
+        }
+        if (trecho.contains("@ManyToOne") || trecho.contains("@OneToOne")) {
+            return new Campo(snakeCase(nome) + "_id", true);
+        }
+        Matcher coluna = COLUNA.matcher(trecho);
+        return new Campo(coluna.find() ? coluna.group(1) : snakeCase(nome), false);
+    }
+
+    private String qualificar(String codigo, String nomeSimples) {
+        Matcher importacao = IMPORTACAO.matcher(codigo);
+        while (importacao.find()) {
+            if (importacao.group(1).endsWith("." + nomeSimples)) {
+                return fontesPorClasse.containsKey(importacao.group(1)) ? importacao.group(1) : null;
+            }
+        }
+        Matcher pacote = PACOTE.matcher(codigo);
+        String mesmoPacote = (pacote.find() ? pacote.group(1) + "." : "") + nomeSimples;
+        return fontesPorClasse.containsKey(mesmoPacote) ? mesmoPacote : null;
+    }
+
+    private String modulo(Path fonte) {
+        return raiz.relativize(fonte).getName(0).toString();
+    }
+
+    private List<Path> listarFontes() throws IOException {
+        List<Path> fontes = new ArrayList<>();
+        try (Stream<Path> modulos = Files.list(raiz)) {
+            for (Path modulo : modulos.filter(Files::isDirectory)
+                    .filter(m -> !MODULOS_IGNORADOS.contains(m.getFileName().toString()))
+                    .collect(Collectors.toList())) {
+                Path java = modulo.resolve("src/main/java");
+                if (Files.isDirectory(java)) {
+                    try (Stream<Path> arquivos = Files.walk(java)) {
+                        arquivos.filter(a -> a.toString().endsWith(".java")).forEach(fontes::add);
+                    }
+                }
+            }
+        }
+        return fontes;
+    }
+
+    private static String ler(Path fonte) {
+        try {
+            return COMENTARIOS.matcher(Files.readString(fonte)).replaceAll("");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String snakeCase(String nome) {
+        return nome.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String decapitalizar(String nome) {
+        return nome.isEmpty() ? nome : Character.toLowerCase(nome.charAt(0)) + nome.substring(1);
+    }
+
+    /**
+     * Coluna mapeada por um campo; nula para coleções e campos transientes.
+     */
+    private static final class Campo {
+        private final String coluna;
+        private final boolean relacao;
+
+        private Campo(String coluna, boolean relacao) {
+            this.coluna = coluna;
+            this.relacao = relacao;
+        }
+    }
+
+    /**
+     * Tabela e campos de uma classe da hierarquia da entidade; a superclasse é
+     * consultada para os campos herdados.
+     */
+    private static final class Entidade {
+        private final String tabela; // Nula em superclasses mapeadas
+        private final Entidade superclasse;
+        private final Map<String, Campo> campos = new HashMap<>();
+
+        private Entidade(String tabela, Entidade superclasse) {
+            this.tabela = tabela;
+            this.superclasse = superclasse;
+        }
+
+        /**
+         * @param propriedade      Propriedade no formato do nome do método (ex.:
+         *                         ProfissionalId).
+         * @param tabelaSubclasse  Tabela da subclasse concreta, usada para campos
+         *                         de superclasses mapeadas.
+         * @return "tabela.coluna", ou null se a propriedade não for resolvida.
+         */
+        private String coluna(String propriedade, String tabelaSubclasse) {
+            String tabelaCampos = tabela != null ? tabela : tabelaSubclasse;
+            Campo campo = campos.get(decapitalizar(propriedade));
+            if (campo == null && propriedade.endsWith("Id")) {
+                // relacao + Id: a coluna de junção, sem join
+                Campo relacao = campos.get(decapitalizar(propriedade.substring(0, propriedade.length() - 2)));
+                campo = relacao != null && relacao.relacao ? relacao : null;
+            }
+            if (campo != null) {
+                return campo.coluna != null ? tabelaCampos + "." + campo.coluna : null;
+            }
+            return superclasse != null ? superclasse.coluna(propriedade, tabelaCampos) : null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.legalconnect.benchmarks.indices;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.legalconnect.benchmarks.BancoBenchmark;
+
+/**
+ * Verifica se toda consulta derivada dos repositórios tem um índice de
+ * suporte no schema gerado pelas migrações.
+ * Um ramo da consulta (colunas combinadas por "And") é suportado quando
+ * alguma de suas colunas é a primeira coluna de um índice não parcial da
+ * tabela (chave primária e restrições UNIQUE incluídas).
+ * Falha se algum ramo não tiver índice. Consultas não traduzidas e tabelas
+ * fora das migrações (criadas por outros meios) são apenas relatadas.
+ *
+ * Propriedades de sistema: benchmark.fontes (diretório dos serviços; padrão
+ * ".."), além das de {@link BancoBenchmark}.
+ */
+public final class VerificacaoIndicesRepositorios {
+
+    private static final Logger log = LoggerFactory.getLogger(VerificacaoIndicesRepositorios.class);
+
+    private static final String SQL_TABELAS = "SELECT c.relname FROM pg_class c "
+            + "JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = ? AND c.relkind IN ('r', 'p')";
+    private static final String SQL_COLUNAS_INICIAIS = "SELECT t.relname, a.attname FROM pg_index i "
+            + "JOIN pg_class t ON t.oid = i.indrelid "
+            + "JOIN pg_namespace n ON n.oid = t.relnamespace "
+            + "JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = i.indkey[0] "
+            + "WHERE n.nspname = ? AND i.indpred IS NULL";
+
+    private VerificacaoIndicesRepositorios() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path fontes = Path.of(System.getProperty("benchmark.fontes", "..")).toAbsolutePath().normalize();
+        List<ConsultaDerivada> consultas = new LeitorRepositorios(fontes).ler();
+
+        Set<String> tabelas = new HashSet<>();
+        Set<String> indexadas = new HashSet<>(); // "tabela.coluna" que iniciam um índice
+        try (BancoBenchmark banco = BancoBenchmark.iniciar(); Connection connection = banco.conectar()) {
+            try (PreparedStatement statement = connection.prepareStatement(SQL_TABELAS)) {
+                statement.setString(1, banco.getSchema());
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        tabelas.add(rs.getString(1));
+                    }
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(SQL_COLUNAS_INICIAIS)) {
+                statement.setString(1, banco.getSchema());
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        indexadas.add(rs.getString(1) + "." + rs.getString(2));
+                    }
+                }
+            }
+        }
+
+        List<String> semIndice = new ArrayList<>();
+        Map<String, List<String>> foraDasMigracoes = new HashMap<>();
+        int verificadas = 0;
+        for (ConsultaDerivada consulta : consultas) {
+            if (consulta.getPendencia() != null) {
+                log.warn("Não verificada: {} ({})", consulta.getMetodo(), consulta.getPendencia());
+                continue;
+            }
+            for (List<String> grupo : consulta.getGrupos()) {
+                String ausente = grupo.stream().map(coluna -> coluna.substring(0, coluna.indexOf('.')))
+                        .filter(tabela -> !tabelas.contains(tabela)).findFirst().orElse(null);
+                if (ausente != null) {
+                    foraDasMigracoes.computeIfAbsent(ausente, t -> new ArrayList<>()).add(consulta.getMetodo());
+                } else if (grupo.stream().noneMatch(indexadas::contains)) {
+                    semIndice.add(consulta.getMetodo() + " " + grupo);
+                } else {
+                    verificadas++;
+                }
+            }
+        }
+        foraDasMigracoes.forEach((tabela, metodos) -> log.warn("Tabela {} não existe nas migrações: {}", tabela,
+                metodos));
+        if (!semIndice.isEmpty()) {
+            semIndice.forEach(consulta -> log.error("Consulta sem índice de suporte: {}", consulta));
+            throw new IllegalStateException(semIndice.size() + " consulta(s) derivada(s) sem índice de suporte.");
+        }
+        log.info("{} consulta(s) derivada(s) com índice de suporte.", verificadas);
+    }
+}
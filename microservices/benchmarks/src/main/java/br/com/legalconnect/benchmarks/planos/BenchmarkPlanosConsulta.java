@@ -0,0 +1,267 @@
+package br.com.legalconnect.benchmarks.planos;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.legalconnect.benchmarks.BancoBenchmark;
+
+/**
+ * Benchmark de regressão dos planos de consulta dos repositórios.
+ * Etapas:
+ * - Prepara o banco com as migrações dos tenants ({@link BancoBenchmark}).
+ * - Gera dados sintéticos na escala configurada ({@link GeradorDadosSinteticos}).
+ * - Para cada {@link ConsultaMonitorada}: aquecimento, medição de latência
+ * (p50/p95/p99, lendo todas as linhas) e captura de
+ * EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON).
+ * - Falha se um plano usar Seq Scan em tabela restrita com mais linhas que o
+ * mínimo configurado, se o p95 passar do limite absoluto
+ * (planos-consulta/limites.properties) ou se regredir além da tolerância em
+ * relação a uma linha de base (relatório de uma execução anterior).
+ * O relatório completo, com os planos, é gravado em benchmark.saida.
+ *
+ * Propriedades de sistema (todas opcionais):
+ * benchmark.jdbc.url, benchmark.jdbc.usuario, benchmark.jdbc.senha,
+ * benchmark.schema, benchmark.escala, benchmark.tenants,
+ * benchmark.aquecimento, benchmark.iteracoes,
+ * benchmark.seq-scan.linhas-minimas, benchmark.linha-base,
+ * benchmark.tolerancia-regressao, benchmark.limite.&lt;consulta&gt; (p95 em ms),
+ * benchmark.migracoes, benchmark.saida.
+ */
+public final class BenchmarkPlanosConsulta {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkPlanosConsulta.class);
+    // Diferenças de latência abaixo disso são ruído de medição, não regressão
+    private static final double REGRESSAO_MINIMA_MS = 1.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Double> linhasPorTabela = new HashMap<>();
+
+    private final int escala = Integer.getInteger("benchmark.escala", 100_000);
+    private final int tenants = Integer.getInteger("benchmark.tenants", 20);
+    private final int aquecimento = Integer.getInteger("benchmark.aquecimento", 20);
+    private final int iteracoes = Integer.getInteger("benchmark.iteracoes", 200);
+    private final long linhasMinimasSeqScan = Long.getLong("benchmark.seq-scan.linhas-minimas", 10_000L);
+    private final double toleranciaRegressao = Double
+            .parseDouble(System.getProperty("benchmark.tolerancia-regressao", "0.25"));
+    private final Path saida = Path.of(System.getProperty("benchmark.saida", "target/planos-consulta"));
+
+    public static void main(String[] args) throws Exception {
+        new BenchmarkPlanosConsulta().executar();
+    }
+
+    private void executar() throws Exception {
+        try (BancoBenchmark banco = BancoBenchmark.iniciar()) {
+            List<ResultadoConsulta> resultados;
+            try (Connection connection = banco.conectar()) {
+                new GeradorDadosSinteticos(escala, tenants).popular(connection);
+                resultados = medir(connection);
+            }
+            verificarLimites(resultados);
+            verificarLinhaBase(resultados);
+            gravarRelatorio(resultados);
+            concluir(resultados);
+        }
+    }
+
+    private List<ResultadoConsulta> medir(Connection connection) throws SQLException {
+        List<ResultadoConsulta> resultados = new ArrayList<>();
+        for (ConsultaMonitorada consulta : ConsultasMonitoradas.todas(escala)) {
+            ResultadoConsulta resultado = new ResultadoConsulta();
+            resultado.setNome(consulta.getNome());
+            resultado.setOrigem(consulta.getOrigem());
+
+            for (int i = 0; i < aquecimento; i++) {
+                executarLendoTudo(connection, consulta);
+            }
+            long[] duracoes = new long[iteracoes];
+            for (int i = 0; i < iteracoes; i++) {
+                long inicio = System.nanoTime();
+                resultado.setLinhas(executarLendoTudo(connection, consulta));
+                duracoes[i] = System.nanoTime() - inicio;
+            }
+            Arrays.sort(duracoes);
+            resultado.setP50Ms(percentilMs(duracoes, 0.50));
+            resultado.setP95Ms(percentilMs(duracoes, 0.95));
+            resultado.setP99Ms(percentilMs(duracoes, 0.99));
+            resultado.setMaximoMs(duracoes[duracoes.length - 1] / 1_000_000.0);
+
+            JsonNode plano = explicar(connection, consulta);
+            resultado.setPlano(plano);
+            List<String> seqScans = new ArrayList<>();
+            coletarSeqScans(plano.path(0).path("Plan"), seqScans);
+            resultado.setSeqScans(seqScans);
+            for (String tabela : seqScans) {
+                double linhas = linhasEstimadas(connection, tabela);
+                if (consulta.getTabelasSemSeqScan().contains(tabela) && linhas >= linhasMinimasSeqScan) {
+                    resultado.getViolacoes().add(String.format("Seq Scan em %s (~%.0f linhas)", tabela, linhas));
+                }
+            }
+            resultados.add(resultado);
+            log.info("{}: p50={} ms p95={} ms p99={} ms linhas={} seqScans={}", consulta.getNome(),
+                    formatar(resultado.getP50Ms()), formatar(resultado.getP95Ms()), formatar(resultado.getP99Ms()),
+                    resultado.getLinhas(), seqScans);
+        }
+        return resultados;
+    }
+
+    private static long executarLendoTudo(Connection connection, ConsultaMonitorada consulta) throws SQLException {
+        try (PreparedStatement statement = preparar(connection, consulta.getSql(), consulta)) {
+            long linhas = 0;
+            try (ResultSet rs = statement.executeQuery()) {
+                int colunas = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    for (int c = 1; c <= colunas; c++) {
+                        rs.getObject(c); // Inclui a decodificação, como faria o Hibernate
+                    }
+                    linhas++;
+                }
+            }
+            return linhas;
+        }
+    }
+
+    private JsonNode explicar(Connection connection, ConsultaMonitorada consulta) throws SQLException {
+        String sql = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + consulta.getSql();
+        try (PreparedStatement statement = preparar(connection, sql, consulta);
+                ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return objectMapper.readTree(rs.getString(1));
+        } catch (IOException e) {
+            throw new IllegalStateException("Plano inválido para " + consulta.getNome(), e);
+        }
+    }
+
+    private static PreparedStatement preparar(Connection connection, String sql, ConsultaMonitorada consulta)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        List<Object> parametros = consulta.getParametros();
+        for (int i = 0; i < parametros.size(); i++) {
+            statement.setObject(i + 1, parametros.get(i));
+        }
+        return statement;
+    }
+
+    private static void coletarSeqScans(JsonNode no, List<String> seqScans) {
+        if (no.isMissingNode()) {
+            return;
+        }
+        if ("Seq Scan".equals(no.path("Node Type").asText())) {
+            seqScans.add(no.path("Relation Name").asText());
+        }
+        for (JsonNode filho : no.path("Plans")) {
+            coletarSeqScans(filho, seqScans);
+        }
+    }
+
+    private double linhasEstimadas(Connection connection, String tabela) throws SQLException {
+        Double cache = linhasPorTabela.get(tabela);
+        if (cache != null) {
+            return cache;
+        }
+        try (PreparedStatement statement = connection
+                .prepareStatement("SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)")) {
+            statement.setString(1, tabela);
+            try (ResultSet rs = statement.executeQuery()) {
+                double linhas = rs.next() ? rs.getDouble(1) : 0;
+                linhasPorTabela.put(tabela, linhas);
+                return linhas;
+            }
+        }
+    }
+
+    /**
+     * Limites absolutos de p95: planos-consulta/limites.properties, com
+     * sobrescrita por benchmark.limite.&lt;consulta&gt;.
+     */
+    private void verificarLimites(List<ResultadoConsulta> resultados) throws IOException {
+        Properties limites = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/planos-consulta/limites.properties")) {
+            if (in != null) {
+                limites.load(in);
+            }
+        }
+        for (ResultadoConsulta resultado : resultados) {
+            String limite = System.getProperty("benchmark.limite." + resultado.getNome(),
+                    limites.getProperty(resultado.getNome()));
+            if (limite != null && resultado.getP95Ms() > Double.parseDouble(limite)) {
+                resultado.getViolacoes().add(String.format("p95 de %s ms acima do limite de %s ms",
+                        formatar(resultado.getP95Ms()), limite));
+            }
+        }
+    }
+
+    /**
+     * Compara o p95 com o de um relatório anterior (benchmark.linha-base).
+     */
+    private void verificarLinhaBase(List<ResultadoConsulta> resultados) throws IOException {
+        String caminho = System.getProperty("benchmark.linha-base");
+        if (caminho == null) {
+            return;
+        }
+        Map<String, Double> anteriores = new HashMap<>();
+        for (JsonNode consulta : objectMapper.readTree(Path.of(caminho).toFile()).path("consultas")) {
+            anteriores.put(consulta.path("nome").asText(), consulta.path("p95Ms").asDouble());
+        }
+        for (ResultadoConsulta resultado : resultados) {
+            Double anterior = anteriores.get(resultado.getNome());
+            if (anterior != null && resultado.getP95Ms() > anterior * (1 + toleranciaRegressao)
+                    && resultado.getP95Ms() - anterior > REGRESSAO_MINIMA_MS) {
+                resultado.getViolacoes().add(String.format("p95 regrediu de %s ms para %s ms (tolerância %.0f%%)",
+                        formatar(anterior), formatar(resultado.getP95Ms()), toleranciaRegressao * 100));
+            }
+        }
+    }
+
+    private void gravarRelatorio(List<ResultadoConsulta> resultados) throws IOException {
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("escala", escala);
+        relatorio.put("tenants", tenants);
+        relatorio.put("iteracoes", iteracoes);
+        relatorio.put("consultas", resultados);
+        Files.createDirectories(saida);
+        Path arquivo = saida.resolve("relatorio.json");
+        objectMapper.writeValue(arquivo.toFile(), relatorio);
+        log.info("Relatório gravado em {}", arquivo.toAbsolutePath());
+    }
+
+    private static void concluir(List<ResultadoConsulta> resultados) {
+        List<String> violacoes = new ArrayList<>();
+        for (ResultadoConsulta resultado : resultados) {
+            resultado.getViolacoes().forEach(violacao -> violacoes.add(resultado.getNome() + ": " + violacao));
+        }
+        if (!violacoes.isEmpty()) {
+            violacoes.forEach(violacao -> log.error("Regressão: {}", violacao));
+            throw new IllegalStateException(violacoes.size() + " regressão(ões) de plano ou latência encontrada(s).");
+        }
+        log.info("Nenhuma regressão encontrada em {} consulta(s).", resultados.size());
+    }
+
+    private static double percentilMs(long[] ordenados, double percentil) {
+        int indice = (int) Math.ceil(percentil * ordenados.length) - 1;
+        return ordenados[Math.max(0, indice)] / 1_000_000.0;
+    }
+
+    private static String formatar(double ms) {
+        return String.format("%.2f", ms);
+    }
+}
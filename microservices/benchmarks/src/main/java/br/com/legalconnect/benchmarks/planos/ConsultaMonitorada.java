@@ -0,0 +1,49 @@
+package br.com.legalconnect.benchmarks.planos;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consulta de repositório acompanhada pelo benchmark: o SQL equivalente ao
+ * que o Hibernate gera, os parâmetros usados na medição e as tabelas em que
+ * o plano não pode recorrer a Seq Scan.
+ */
+final class ConsultaMonitorada {
+
+    private final String nome;
+    private final String origem;
+    private final String sql;
+    private final List<Object> parametros;
+    private final Set<String> tabelasSemSeqScan;
+
+    ConsultaMonitorada(String nome, String origem, String sql, List<Object> parametros,
+            Set<String> tabelasSemSeqScan) {
+        this.nome = nome;
+        this.origem = origem;
+        this.sql = sql;
+        this.parametros = parametros;
+        this.tabelasSemSeqScan = tabelasSemSeqScan;
+    }
+
+    /** Identificador usado nos limites e no relatório. */
+    String getNome() {
+        return nome;
+    }
+
+    /** Repositório e método de origem, para o relatório. */
+    String getOrigem() {
+        return origem;
+    }
+
+    String getSql() {
+        return sql;
+    }
+
+    List<Object> getParametros() {
+        return parametros;
+    }
+
+    Set<String> getTabelasSemSeqScan() {
+        return tabelasSemSeqScan;
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.legalconnect.benchmarks.planos;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Catálogo das consultas quentes acompanhadas pelo benchmark.
+ * O SQL reproduz o que o Hibernate gera para cada método (herança JOINED de
+ * Pessoa/Profissional, JOIN FETCH, paginação); ao alterar uma consulta no
+ * repositório, atualize a entrada correspondente.
+ * Consultas que por definição leem boa parte da tabela não restringem Seq Scan
+ * e são acompanhadas apenas pela latência.
+ */
+final class ConsultasMonitoradas {
+
+    private ConsultasMonitoradas() {
+    }
+
+    static List<ConsultaMonitorada> todas(int escala) {
+        UUID tenant = idSintetico("tenant-1");
+        return List.of(
+                // JOIN FETCH de coleção com Pageable: o Hibernate não aplica LIMIT no SQL e
+                // pagina em memória, então todas as linhas elegíveis são lidas
+                new ConsultaMonitorada("findAllPublicMarketplaceProfissionais",
+                        "legal-advogado ProfissionalRepository.findAllPublicMarketplaceProfissionais",
+                        "SELECT p.*, ps.*, u.*, e.*, pl.* FROM tb_profissional p "
+                                + "JOIN tb_pessoa ps ON ps.id = p.id "
+                                + "JOIN tb_user u ON u.id = ps.user_id "
+                                + "LEFT JOIN tb_endereco e ON e.pessoa_id = p.id "
+                                + "LEFT JOIN tb_plano pl ON pl.id = p.plano_id "
+                                + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+                                + "ORDER BY random()",
+                        List.of(), Set.of()),
+                new ConsultaMonitorada("findAllPublicMarketplaceProfissionais.count",
+                        "legal-advogado ProfissionalRepository.findAllPublicMarketplaceProfissionais (count)",
+                        "SELECT count(p.id) FROM tb_profissional p "
+                                + "JOIN tb_pessoa ps ON ps.id = p.id "
+                                + "JOIN tb_user u ON u.id = ps.user_id "
+                                + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO'",
+                        List.of(), Set.of()),
+                new ConsultaMonitorada("findDistinctEstadosAndCidades",
+                        "legal-advogado ProfissionalRepository.findDistinctEstadosAndCidades",
+                        "SELECT DISTINCT e.estado, e.cidade FROM tb_endereco e "
+                                + "WHERE e.estado IS NOT NULL AND e.cidade IS NOT NULL ORDER BY e.estado, e.cidade",
+                        List.of(), Set.of()),
+                // Substitui buscarAleatoriosAprovados: a home sorteia de um pool em memória
+                // carregado por findByStatus(APROVADO)
+                new ConsultaMonitorada("depoimentos.findByStatus",
+                        "legal-marketplace DepoimentoJpaRepository.findByStatus (pool de aprovados)",
+                        "SELECT * FROM tb_depoimento d WHERE d.status = ?",
+                        List.of("APROVADO"), Set.of()),
+                new ConsultaMonitorada("depoimentos.findTop5ByStatusOrderByCreatedAtDesc",
+                        "legal-marketplace DepoimentoJpaRepository.findTop5ByStatusOrderByCreatedAtDesc",
+                        "SELECT * FROM tb_depoimento d WHERE d.status = ? ORDER BY d.created_at DESC "
+                                + "FETCH FIRST 5 ROWS ONLY",
+                        List.of("APROVADO"), Set.of("tb_depoimento")),
+                new ConsultaMonitorada("user.findByEmail",
+                        "auth-service / legal-advogado UserRepository.findByEmail",
+                        "SELECT * FROM tb_user u WHERE u.email = ?",
+                        List.of("usuario" + (escala / 2) + "@benchmark.legalconnect.com.br"),
+                        Set.of("tb_user")),
+                new ConsultaMonitorada("profissional.findAllByTenantId",
+                        "legal-advogado ProfissionalRepository.findAllByTenantId (página de 20)",
+                        "SELECT p.*, ps.* FROM tb_profissional p JOIN tb_pessoa ps ON ps.id = p.id "
+                                + "WHERE p.tenant_id = ? OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY",
+                        List.of(tenant), Set.of()),
+                new ConsultaMonitorada("profissional.findAllByTenantId.count",
+                        "legal-advogado ProfissionalRepository.findAllByTenantId (count)",
+                        "SELECT count(p.id) FROM tb_profissional p JOIN tb_pessoa ps ON ps.id = p.id "
+                                + "WHERE p.tenant_id = ?",
+                        List.of(tenant), Set.of("tb_profissional")),
+                new ConsultaMonitorada("roleProfissional.findAllByTenantId",
+                        "legal-advogado RoleProfissionalRepository.findAllByTenantId",
+                        "SELECT * FROM tb_role_profissional r WHERE r.tenant_id = ?",
+                        List.of(tenant), Set.of("tb_role_profissional")));
+    }
+
+    /**
+     * Mesmo ID gerado pelo {@link GeradorDadosSinteticos} com md5(chave)::uuid.
+     */
+    static UUID idSintetico(String chave) {
+        try {
+            byte[] hash = MessageDigest.getInstance("MD5").digest(chave.getBytes(StandardCharsets.UTF_8));
+            String hex = HexFormat.of().formatHex(hash);
+            return UUID.fromString(hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16)
+                    + "-" + hex.substring(16, 20) + "-" + hex.substring(20));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 indisponível na JVM.", e); // Obrigatório em toda JVM
+        }
+    }
+}
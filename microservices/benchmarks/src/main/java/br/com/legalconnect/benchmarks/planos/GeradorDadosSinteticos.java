@@ -0,0 +1,154 @@
+package br.com.legalconnect.benchmarks.planos;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Popula o schema do benchmark com dados sintéticos na escala configurada.
+ * Os dados são gerados no próprio PostgreSQL (generate_series), de forma
+ * determinística: os IDs derivam de md5 do número da linha, e as
+ * distribuições (status, uso do marketplace, estados e cidades) seguem
+ * proporções fixas próximas às de produção.
+ * Ao final, as tabelas são analisadas para que o planejador tenha estatísticas
+ * atualizadas.
+ */
+class GeradorDadosSinteticos {
+
+    private static final Logger log = LoggerFactory.getLogger(GeradorDadosSinteticos.class);
+
+    // tb_plano é mantida pelo legal-advogado e não faz parte das migrações
+    private static final String SQL_PLANO = "CREATE TABLE IF NOT EXISTS tb_plano ("
+            + "id uuid PRIMARY KEY, "
+            + "created_at timestamp(6) NOT NULL, "
+            + "updated_at timestamp(6) NOT NULL, "
+            + "nome varchar(100) NOT NULL UNIQUE, "
+            + "descricao text, "
+            + "preco_mensal numeric(10,2) NOT NULL, "
+            + "preco_anual numeric(10,2) NOT NULL, "
+            + "limite_servicos_agendaveis integer, "
+            + "visibilidade_destaque varchar(50) NOT NULL, "
+            + "acesso_relatorios_avancados boolean NOT NULL, "
+            + "permite_pedidos_orcamento boolean NOT NULL, "
+            + "periodo_teste_dias integer, "
+            + "is_default boolean NOT NULL)";
+
+    private static final String[] INSERCOES = {
+            "INSERT INTO tb_tenant (id, created_at, updated_at, nome, schema_name) "
+                    + "SELECT md5('tenant-' || t)::uuid, now(), now(), 'Tenant ' || t, 'tenant_' || t "
+                    + "FROM generate_series(1, :tenants) t",
+
+            "INSERT INTO tb_plano (id, created_at, updated_at, nome, preco_mensal, preco_anual, "
+                    + "visibilidade_destaque, acesso_relatorios_avancados, permite_pedidos_orcamento, is_default) "
+                    + "SELECT md5('plano-' || k)::uuid, now(), now(), 'Plano ' || k, 50 * k, 500 * k, "
+                    + "'NIVEL_' || k, k > 1, k > 1, k = 1 FROM generate_series(1, 3) k",
+
+            // Advogados (1..escala) e clientes (escala+1..2*escala)
+            "INSERT INTO tb_user (id, created_at, updated_at, cpf, tenant_id, status, user_type, email, "
+                    + "nome_completo, senha_hash) "
+                    + "SELECT md5('user-' || i)::uuid, now() - (i % 1000) * interval '1 hour', now(), "
+                    + "lpad(i::text, 11, '0'), md5('tenant-' || (1 + i % :tenants))::uuid, "
+                    + "CASE WHEN i % 10 = 0 THEN 'PENDING' ELSE 'ACTIVE' END, "
+                    + "CASE WHEN i <= :escala THEN 'ADVOGADO' ELSE 'CLIENTE' END, "
+                    + "'usuario' || i || '@benchmark.legalconnect.com.br', 'Usuário ' || i, 'hash' "
+                    + "FROM generate_series(1, 2 * :escala) i",
+
+            "INSERT INTO tb_pessoa (id, created_at, updated_at, cpf, user_id, nome_completo) "
+                    + "SELECT md5('pessoa-' || i)::uuid, now(), now(), lpad(i::text, 11, '0'), "
+                    + "md5('user-' || i)::uuid, 'Pessoa ' || i FROM generate_series(1, :escala) i",
+
+            // 60% no marketplace; 80% ativos
+            "INSERT INTO tb_profissional (id, pessoa_id, faz_parte_de_plano, usa_marketplace, plano_id, tenant_id, "
+                    + "numero_oab, status_profissional) "
+                    + "SELECT md5('pessoa-' || i)::uuid, md5('pessoa-' || i)::uuid, i % 3 = 0, i % 5 < 3, "
+                    + "md5('plano-' || (1 + i % 3))::uuid, md5('tenant-' || (1 + i % :tenants))::uuid, "
+                    + "'OAB' || i, CASE WHEN i % 5 = 4 THEN 'PENDENTE' ELSE 'ATIVO' END "
+                    + "FROM generate_series(1, :escala) i",
+
+            // 1 a 2 endereços por profissional, em 27 UFs x 40 cidades
+            "INSERT INTO tb_endereco (id, created_at, updated_at, pessoa_id, estado, cidade, cep, numero, pais, "
+                    + "tipo_endereco, bairro, logradouro) "
+                    + "SELECT md5('endereco-' || i || '-' || n)::uuid, now(), now(), md5('pessoa-' || i)::uuid, "
+                    + "(ARRAY['AC','AL','AP','AM','BA','CE','DF','ES','GO','MA','MT','MS','MG','PA','PB','PR',"
+                    + "'PE','PI','RJ','RN','RS','RO','RR','SC','SP','SE','TO'])[1 + (i * 7 + n) % 27], "
+                    + "'Cidade ' || ((i * 13 + n) % 40), lpad(((i * 31) % 100000000)::text, 8, '0'), "
+                    + "(i % 2000)::text, 'Brasil', CASE WHEN n = 1 THEN 'ESCRITORIO' ELSE 'RESIDENCIAL' END, "
+                    + "'Bairro ' || (i % 300), 'Rua ' || (i % 5000) "
+                    + "FROM generate_series(1, :escala) i, generate_series(1, 2) n WHERE n = 1 OR i % 2 = 0",
+
+            "INSERT INTO tb_role_profissional (id, created_at, updated_at, tenant_id, name) "
+                    + "SELECT md5('role-' || t || '-' || k)::uuid, now(), now(), md5('tenant-' || t)::uuid, "
+                    + "'ROLE_' || t || '_' || k FROM generate_series(1, :tenants) t, generate_series(1, 3) k",
+
+            // Depoimentos: metade aprovados
+            "INSERT INTO tb_depoimento (id, texto, nome, local, user_id, tipo_depoimento, status, created_at, "
+                    + "updated_at) "
+                    + "SELECT md5('depoimento-' || i)::uuid, 'Atendimento excelente e muito atencioso ' || i, "
+                    + "'Cliente ' || i, 'Cidade ' || (i % 40), md5('user-' || (:escala + i))::uuid, "
+                    + "CASE WHEN i % 4 = 0 THEN 'PROFISSIONAL' ELSE 'CLIENTE' END, "
+                    + "(ARRAY['APROVADO','APROVADO','PENDENTE','REPROVADO'])[1 + i % 4], "
+                    + "now() - i * interval '1 minute', now() "
+                    + "FROM generate_series(1, :escala / 2) i"
+    };
+
+    private static final String[] TABELAS = { "tb_tenant", "tb_plano", "tb_user", "tb_pessoa", "tb_profissional",
+            "tb_endereco", "tb_role_profissional", "tb_depoimento" };
+
+    private final int escala;
+    private final int tenants;
+
+    GeradorDadosSinteticos(int escala, int tenants) {
+        this.escala = escala;
+        this.tenants = tenants;
+    }
+
+    /**
+     * Gera os dados no schema corrente da conexão, se ainda não houver
+     * profissionais (um banco já populado é reaproveitado entre execuções).
+     *
+     * @param connection Conexão com o search_path do schema do benchmark.
+     */
+    void popular(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SQL_PLANO);
+            try (var rs = statement.executeQuery("SELECT count(*) FROM tb_profissional")) {
+                rs.next();
+                long existentes = rs.getLong(1);
+                if (existentes > 0) {
+                    log.info("Schema já populado com {} profissional(is); dados reaproveitados.", existentes);
+                    return;
+                }
+            }
+        }
+
+        long inicio = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (String insercao : INSERCOES) {
+                String sql = insercao.replace(":escala", Integer.toString(escala))
+                        .replace(":tenants", Integer.toString(tenants));
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.executeUpdate();
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String tabela : TABELAS) {
+                statement.execute("VACUUM ANALYZE " + tabela);
+            }
+        }
+        log.info("Dados sintéticos gerados: {} profissional(is), {} tenant(s), em {} ms.", escala, tenants,
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.legalconnect.benchmarks.planos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Medição de uma consulta: percentis de latência, linhas retornadas, plano
+ * capturado por EXPLAIN (ANALYZE, BUFFERS) e violações encontradas.
+ */
+public class ResultadoConsulta {
+
+    private String nome;
+    private String origem;
+    private long linhas;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maximoMs;
+    private List<String> seqScans = new ArrayList<>();
+    private List<String> violacoes = new ArrayList<>();
+    private JsonNode plano;
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getOrigem() {
+        return origem;
+    }
+
+    public void setOrigem(String origem) {
+        this.origem = origem;
+    }
+
+    public long getLinhas() {
+        return linhas;
+    }
+
+    public void setLinhas(long linhas) {
+        this.linhas = linhas;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public void setP50Ms(double p50Ms) {
+        this.p50Ms = p50Ms;
+    }
+
+    public double getP95Ms() {
+        return p95Ms;
+    }
+
+    public void setP95Ms(double p95Ms) {
+        this.p95Ms = p95Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public void setP99Ms(double p99Ms) {
+        this.p99Ms = p99Ms;
+    }
+
+    public double getMaximoMs() {
+        return maximoMs;
+    }
+
+    public void setMaximoMs(double maximoMs) {
+        this.maximoMs = maximoMs;
+    }
+
+    /** Tabelas lidas por Seq Scan no plano, restritas ou não. */
+    public List<String> getSeqScans() {
+        return seqScans;
+    }
+
+    public void setSeqScans(List<String> seqScans) {
+        this.seqScans = seqScans;
+    }
+
+    public List<String> getViolacoes() {
+        return violacoes;
+    }
+
+    public void setViolacoes(List<String> violacoes) {
+        this.violacoes = violacoes;
+    }
+
+    /** Saída de EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON). */
+    public JsonNode getPlano() {
+        return plano;
+    }
+
+    public void setPlano(JsonNode plano) {
+        this.plano = plano;
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.legalconnect.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Custo de CPU e alocação da validação e normalização de CPF e CNPJ
+ * ({@link ValidatorUtil}), com e sem máscara, e da validação em lote usada
+ * nas importações. Com -prof gc, gc.alloc.rate.norm deve ficar em zero nos
+ * métodos de validação e normalização.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorUtilBenchmark {
+
+    private static final int TAMANHO_LOTE = 1_000;
+
+    // Não final: evita que o JIT trate os documentos como constantes
+    private String cpf = "52998224725";
+    private String cpfComMascara = "529.982.247-25";
+    private String cpfInvalido = "52998224724";
+    private String cnpj = "11222333000181";
+    private String cnpjComMascara = "11.222.333/0001-81";
+    private String cnpjInvalido = "11222333000180";
+
+    private List<String> loteCpfs;
+    private long[] destino;
+
+    @Setup
+    public void preparar() {
+        // Lote com máscara, como nos arquivos de importação, com ~10% de inválidos
+        Random random = new Random(42);
+        loteCpfs = new ArrayList<>(TAMANHO_LOTE);
+        for (int i = 0; i < TAMANHO_LOTE; i++) {
+            long valido;
+            do {
+                valido = ValidatorUtil.normalizarCPF(gerarCpf(random));
+            } while (valido == ValidatorUtil.DOCUMENTO_INVALIDO); // Dígitos todos iguais
+            loteCpfs.add(ValidatorUtil.formatarCPF(i % 10 == 0 ? valido + 1 : valido));
+        }
+        destino = new long[TAMANHO_LOTE];
+    }
+
+    private static String gerarCpf(Random random) {
+        int[] digitos = new int[11];
+        for (int i = 0; i < 9; i++) {
+            digitos[i] = random.nextInt(10);
+        }
+        for (int dv = 9; dv < 11; dv++) {
+            int soma = 0;
+            for (int i = 0; i < dv; i++) {
+                soma += digitos[i] * (dv + 1 - i);
+            }
+            int resto = soma % 11;
+            digitos[dv] = resto < 2 ? 0 : 11 - resto;
+        }
+        StringBuilder sb = new StringBuilder(11);
+        for (int digito : digitos) {
+            sb.append(digito);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public boolean isValidCPF() {
+        return ValidatorUtil.isValidCPF(cpf);
+    }
+
+    @Benchmark
+    public boolean isValidCPFComMascara() {
+        return ValidatorUtil.isValidCPF(cpfComMascara);
+    }
+
+    @Benchmark
+    public boolean isValidCPFInvalido() {
+        return ValidatorUtil.isValidCPF(cpfInvalido);
+    }
+
+    @Benchmark
+    public boolean isValidCNPJ() {
+        return ValidatorUtil.isValidCNPJ(cnpj);
+    }
+
+    @Benchmark
+    public boolean isValidCNPJComMascara() {
+        return ValidatorUtil.isValidCNPJ(cnpjComMascara);
+    }
+
+    @Benchmark
+    public boolean isValidCNPJInvalido() {
+        return ValidatorUtil.isValidCNPJ(cnpjInvalido);
+    }
+
+    @Benchmark
+    public long normalizarCPFComMascara() {
+        return ValidatorUtil.normalizarCPF(cpfComMascara);
+    }
+
+    @Benchmark
+    public long normalizarCNPJComMascara() {
+        return ValidatorUtil.normalizarCNPJ(cnpjComMascara);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int normalizarLoteCPFs() {
+        return ValidatorUtil.normalizarCPFs(loteCpfs, destino);
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.legalconnect.common.config.leitura;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * @class ReplicaLeituraConfig
+ * @brief Habilita o roteamento de transações somente leitura para uma réplica
+ *        PostgreSQL quando application.datasource.replica.url está definida.
+ *        Sem a propriedade, o serviço continua com o DataSource único do
+ *        Spring Boot.
+ *        O pool primário usa spring.datasource.* e spring.datasource.hikari.*;
+ *        o da réplica usa application.datasource.replica.* e
+ *        application.datasource.replica.hikari.*.
+ *        Vale para os serviços com EntityManagerFactory do Spring Boot
+ *        (legal-advogado, legal-marketplace) e para os que usam o
+ *        HibernateConfig do common-tenent.
+ *        Ambiente local com primário e réplica:
+ *        common-lib/docker/docker-compose-replica.yml.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.datasource.replica", name = "url")
+public class ReplicaLeituraConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLeituraConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("application.datasource.replica.hikari")
+    public HikariDataSource dataSourceReplica(DataSourceProperties properties,
+            @Value("${application.datasource.replica.url}") String url,
+            @Value("${application.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${application.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("replica-leitura");
+        replica.setReadOnly(true);
+        log.info("Réplica de leitura configurada: {}", url);
+        return replica;
+    }
+
+    /**
+     * DataSource principal da aplicação, injetado no HibernateConfig, no
+     * MultiTenantConnectionProviderImpl e no TenantMigrationService.
+     */
+    @Bean
+    @Primary
+    public RoteamentoLeituraDataSource dataSource(
+            @Qualifier("dataSourcePrimario") DataSource primario,
+            @Qualifier("dataSourceReplica") DataSource replica,
+            @Value("${application.datasource.replica.atraso-maximo-segundos:5}") double atrasoMaximoSegundos,
+            @Value("${application.datasource.replica.intervalo-verificacao-segundos:5}") long intervaloVerificacaoSegundos) {
+        return new RoteamentoLeituraDataSource(primario, replica, atrasoMaximoSegundos, intervaloVerificacaoSegundos);
+    }
+
+    /**
+     * Equivalente, para a EntityManagerFactory do Spring Boot, ao que o
+     * HibernateConfig do common-tenent faz com a réplica habilitada: cada
+     * transação obtém sua própria conexão (primário ou réplica); com o padrão
+     * do Spring (HOLD), a sessão aberta na requisição reutilizaria a conexão
+     * da primeira transação nas seguintes.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer conexaoPorTransacaoCustomizer() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new RoteamentoLeituraTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.legalconnect.common.config.leitura;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * @class RoteamentoLeituraDataSource
+ * @brief DataSource que envia as transações somente leitura para a réplica e
+ *        todo o resto para o primário (inclusive as leituras executadas em
+ *        {@link TransacaoLeituraContext#noPrimario}).
+ *        - A réplica é verificada periodicamente; se o atraso de replicação
+ *        passar do limite ou a verificação falhar, as leituras voltam ao
+ *        primário até a próxima verificação bem-sucedida.
+ *        - Uma falha ao obter conexão da réplica também marca a réplica como
+ *        indisponível, e a conexão é obtida do primário.
+ *        - O search_path do tenant continua sendo definido pelo
+ *        MultiTenantConnectionProviderImpl sobre a conexão devolvida, seja qual
+ *        for o pool.
+ */
+public class RoteamentoLeituraDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(RoteamentoLeituraDataSource.class);
+
+    // Réplica sem WAL pendente de aplicação não está atrasada, mesmo que o
+    // primário esteja ocioso há tempo (o replay timestamp fica parado)
+    private static final String SQL_ATRASO = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primario;
+    private final DataSource replica;
+    private final double atrasoMaximoSegundos;
+    private final long intervaloVerificacaoSegundos;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "verificacao-replica");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean replicaDisponivel;
+
+    public RoteamentoLeituraDataSource(DataSource primario, DataSource replica, double atrasoMaximoSegundos,
+            long intervaloVerificacaoSegundos) {
+        this.primario = primario;
+        this.replica = replica;
+        this.atrasoMaximoSegundos = atrasoMaximoSegundos;
+        this.intervaloVerificacaoSegundos = intervaloVerificacaoSegundos;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        verificarReplica(); // Leituras já começam na réplica, se estiver em dia
+        executor.scheduleWithFixedDelay(this::verificarReplica, intervaloVerificacaoSegundos,
+                intervaloVerificacaoSegundos, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransacaoLeituraContext.isSomenteLeitura() && !TransacaoLeituraContext.isPrimarioExigido()
+                && replicaDisponivel) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                alterarDisponibilidade(false, "falha ao obter conexão: " + e.getMessage());
+            }
+        }
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primario.getConnection(username, password);
+    }
+
+    /**
+     * @return True se as transações somente leitura estão sendo enviadas para
+     *         a réplica.
+     */
+    public boolean isReplicaDisponivel() {
+        return replicaDisponivel;
+    }
+
+    /**
+     * Mede o atraso de replicação e atualiza a disponibilidade da réplica.
+     */
+    void verificarReplica() {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(SQL_ATRASO)) {
+            double atraso = rs.next() ? rs.getDouble(1) : Double.MAX_VALUE;
+            if (atraso <= atrasoMaximoSegundos) {
+                alterarDisponibilidade(true, "atraso de " + atraso + "s");
+            } else {
+                alterarDisponibilidade(false, "atraso de " + atraso + "s acima do limite de "
+                        + atrasoMaximoSegundos + "s");
+            }
+        } catch (Exception e) {
+            alterarDisponibilidade(false, "verificação falhou: " + e.getMessage());
+        }
+    }
+
+    private void alterarDisponibilidade(boolean disponivel, String motivo) {
+        if (replicaDisponivel != disponivel) {
+            replicaDisponivel = disponivel;
+            if (disponivel) {
+                log.info("Réplica de leitura disponível ({}); transações somente leitura usarão a réplica.", motivo);
+            } else {
+                log.warn("Réplica de leitura indisponível ({}); transações somente leitura usarão o primário.",
+                        motivo);
+            }
+        }
+    }
+}
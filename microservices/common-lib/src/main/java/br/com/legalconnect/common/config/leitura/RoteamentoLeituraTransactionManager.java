@@ -0,0 +1,42 @@
+package br.com.legalconnect.common.config.leitura;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * @class RoteamentoLeituraTransactionManager
+ * @brief JpaTransactionManager que publica o modo da transação
+ *        (somente leitura ou não) no {@link TransacaoLeituraContext} antes de
+ *        iniciá-la.
+ *        O flag readOnly padrão do Spring só é exposto depois que a conexão já
+ *        foi obtida, tarde demais para escolher entre primário e réplica.
+ */
+public class RoteamentoLeituraTransactionManager extends JpaTransactionManager {
+
+    public RoteamentoLeituraTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransacaoLeituraContext.iniciar(definition.isReadOnly());
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            // Sem doBegin concluído não há doCleanupAfterCompletion
+            TransacaoLeituraContext.finalizar();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            TransacaoLeituraContext.finalizar();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.legalconnect.common.config.leitura;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * @class TransacaoLeituraContext
+ * @brief Indica, por thread, se a transação em andamento é somente leitura.
+ *        É preenchido pelo {@link RoteamentoLeituraTransactionManager} antes de
+ *        a transação obter a conexão, o que permite ao
+ *        {@link RoteamentoLeituraDataSource} escolher o pool.
+ *        Usa uma pilha porque transações REQUIRES_NEW suspendem a atual e
+ *        podem ter outro modo.
+ *        Leituras que precisam enxergar uma escrita recém-confirmada (recargas
+ *        de caches e índices após o commit) usam {@link #noPrimario}: a
+ *        réplica pode ainda não ter aplicado a escrita.
+ */
+public final class TransacaoLeituraContext {
+
+    private static final ThreadLocal<Deque<Boolean>> transacoes = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> primarioExigido = new ThreadLocal<>();
+
+    private TransacaoLeituraContext() {
+    }
+
+    /**
+     * Registra o início de uma nova transação no thread atual.
+     *
+     * @param somenteLeitura Se a transação foi declarada com readOnly = true.
+     */
+    static void iniciar(boolean somenteLeitura) {
+        Deque<Boolean> pilha = transacoes.get();
+        if (pilha == null) {
+            pilha = new ArrayDeque<>();
+            transacoes.set(pilha);
+        }
+        pilha.push(somenteLeitura);
+    }
+
+    /**
+     * Registra o fim da transação mais recente do thread atual.
+     */
+    static void finalizar() {
+        Deque<Boolean> pilha = transacoes.get();
+        if (pilha == null) {
+            return;
+        }
+        pilha.poll();
+        if (pilha.isEmpty()) {
+            transacoes.remove();
+        }
+    }
+
+    /**
+     * Executa a operação com todas as conexões obtidas no thread vindo do
+     * primário, inclusive as de transações somente leitura abertas dentro
+     * dela (como as dos métodos de consulta dos repositórios Spring Data).
+     * Sem a réplica configurada, apenas executa a operação.
+     *
+     * @param operacao A leitura que deve refletir as últimas escritas.
+     * @return O resultado da operação.
+     */
+    public static <T> T noPrimario(Supplier<T> operacao) {
+        Integer anterior = primarioExigido.get();
+        primarioExigido.set(anterior == null ? 1 : anterior + 1);
+        try {
+            return operacao.get();
+        } finally {
+            if (anterior == null) {
+                primarioExigido.remove();
+            } else {
+                primarioExigido.set(anterior);
+            }
+        }
+    }
+
+    /**
+     * @return True se o thread está dentro de {@link #noPrimario}.
+     */
+    public static boolean isPrimarioExigido() {
+        return primarioExigido.get() != null;
+    }
+
+    /**
+     * @return True se a transação em andamento no thread é somente leitura.
+     */
+    public static boolean isSomenteLeitura() {
+        Deque<Boolean> pilha = transacoes.get();
+        return pilha != null && Boolean.TRUE.equals(pilha.peek());
+    }
+}
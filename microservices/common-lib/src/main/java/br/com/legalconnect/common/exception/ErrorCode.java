@@ -85,6 +85,7 @@ public enum ErrorCode {
     INVALID_PROMO_CODE("3008", "Código promocional inválido ou expirado."),
     DOCUMENT_UPLOAD_FAILED("3009", "Falha ao fazer upload do documento."),
     INVALID_DOCUMENT_FORMAT("3010", "Formato de documento inválido."),
+    APPOINTMENT_ALREADY_REVIEWED("3011", "Este agendamento já foi avaliado."),
 
     // Erros de Validação de Campo (4000-4999) - Mais específicos, geralmente
     // tratados por @Valid
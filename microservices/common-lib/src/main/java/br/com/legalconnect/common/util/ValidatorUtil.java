@@ -1,6 +1,6 @@
 package br.com.legalconnect.common.util;
 
-import java.util.InputMismatchException;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,6 +16,24 @@ public final class ValidatorUtil {
     private static final String EMAIL_REGEX = "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
     private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
 
+    /**
+     * Valor retornado pela normalização quando o documento é inválido.
+     */
+    public static final long DOCUMENTO_INVALIDO = -1L;
+
+    private static final long LIMITE_CPF = 100_000_000_000L; // 10^11
+    private static final long LIMITE_CNPJ = 100_000_000_000_000L; // 10^14
+    private static final String MASCARA_CPF = "000.000.000-00";
+    private static final String MASCARA_CNPJ = "00.000.000/0000-00";
+
+    // Pesos por posição dos dígitos verificadores; zero onde a posição não entra
+    // na soma. Para os dois documentos o dígito é 11 - (soma % 11), ou 0 se o
+    // resto for 0 ou 1.
+    private static final int[] PESOS_CPF_DV1 = { 10, 9, 8, 7, 6, 5, 4, 3, 2, 0, 0 };
+    private static final int[] PESOS_CPF_DV2 = { 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 0 };
+    private static final int[] PESOS_CNPJ_DV1 = { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2, 0, 0 };
+    private static final int[] PESOS_CNPJ_DV2 = { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2, 0 };
+
     /**
      * Construtor privado para evitar instanciação.
      */
@@ -30,53 +48,11 @@ public final class ValidatorUtil {
      *        Implementa o algoritmo de validação de CPF brasileiro,
      *        incluindo a verificação dos dígitos verificadores.
      *
-     * @param cpf O número do CPF (apenas dígitos).
+     * @param cpf O número do CPF, com ou sem máscara (000.000.000-00).
      * @return True se o CPF for válido, false caso contrário.
      */
     public static boolean isValidCPF(String cpf) {
-        if (cpf == null || cpf.length() != 11 || cpf.matches("(\\d)\\1{10}")) {
-            return false; // CPF nulo, com tamanho diferente de 11 ou com todos os dígitos iguais
-        }
-
-        char dig10, dig11;
-        int sm, i, r, num, peso;
-
-        try {
-            // Calculo do 1o. Digito Verificador
-            sm = 0;
-            peso = 10;
-            for (i = 0; i < 9; i++) {
-                num = (int) (cpf.charAt(i) - 48);
-                sm = sm + (num * peso);
-                peso = peso - 1;
-            }
-
-            r = 11 - (sm % 11);
-            if ((r == 10) || (r == 11))
-                dig10 = '0';
-            else
-                dig10 = (char) (r + 48);
-
-            // Calculo do 2o. Digito Verificador
-            sm = 0;
-            peso = 11;
-            for (i = 0; i < 10; i++) {
-                num = (int) (cpf.charAt(i) - 48);
-                sm = sm + (num * peso);
-                peso = peso - 1;
-            }
-
-            r = 11 - (sm % 11);
-            if ((r == 10) || (r == 11))
-                dig11 = '0';
-            else
-                dig11 = (char) (r + 48);
-
-            // Verifica se os dígitos calculados conferem com os dígitos informados.
-            return (dig10 == cpf.charAt(9)) && (dig11 == cpf.charAt(10));
-        } catch (InputMismatchException erro) {
-            return false;
-        }
+        return normalizarCPF(cpf) != DOCUMENTO_INVALIDO;
     }
 
     /**
@@ -85,57 +61,177 @@ public final class ValidatorUtil {
      *        Implementa o algoritmo de validação de CNPJ brasileiro,
      *        incluindo a verificação dos dígitos verificadores.
      *
-     * @param cnpj O número do CNPJ (apenas dígitos).
+     * @param cnpj O número do CNPJ, com ou sem máscara (00.000.000/0000-00).
      * @return True se o CNPJ for válido, false caso contrário.
      */
     public static boolean isValidCNPJ(String cnpj) {
-        if (cnpj == null || cnpj.length() != 14 || cnpj.matches("(\\d)\\1{13}")) {
-            return false; // CNPJ nulo, com tamanho diferente de 14 ou com todos os dígitos iguais
-        }
+        return normalizarCNPJ(cnpj) != DOCUMENTO_INVALIDO;
+    }
 
-        char dig13, dig14;
-        int sm, i, r, num, peso;
-
-        try {
-            // Calculo do 1o. Digito Verificador
-            sm = 0;
-            peso = 2;
-            for (i = 11; i >= 0; i--) {
-                num = (int) (cnpj.charAt(i) - 48);
-                sm = sm + (num * peso);
-                peso = peso + 1;
-                if (peso == 10)
-                    peso = 2;
-            }
+    /**
+     * @brief Valida um CPF e o converte para a forma numérica canônica.
+     *
+     *        Percorre a entrada uma única vez, sem expressões regulares nem
+     *        cópias: confere os separadores, calcula os dígitos verificadores
+     *        e acumula o número. Aceita apenas os 11 dígitos ou a máscara
+     *        completa (000.000.000-00), ignorando espaços nas pontas; CPFs com
+     *        todos os dígitos iguais são rejeitados.
+     *
+     * @param cpf O CPF, com ou sem máscara.
+     * @return O CPF como número (ex: 52998224725), ou
+     *         {@link #DOCUMENTO_INVALIDO}.
+     */
+    public static long normalizarCPF(CharSequence cpf) {
+        return normalizar(cpf, MASCARA_CPF, PESOS_CPF_DV1, PESOS_CPF_DV2);
+    }
+
+    /**
+     * @brief Valida um CNPJ e o converte para a forma numérica canônica.
+     *
+     *        Mesmas regras de {@link #normalizarCPF(CharSequence)}, com os
+     *        pesos do CNPJ: 14 dígitos ou a máscara 00.000.000/0000-00.
+     *
+     * @param cnpj O CNPJ, com ou sem máscara.
+     * @return O CNPJ como número (ex: 11222333000181), ou
+     *         {@link #DOCUMENTO_INVALIDO}.
+     */
+    public static long normalizarCNPJ(CharSequence cnpj) {
+        return normalizar(cnpj, MASCARA_CNPJ, PESOS_CNPJ_DV1, PESOS_CNPJ_DV2);
+    }
+
+    /**
+     * @brief Valida e normaliza uma lista de CPFs (ex: arquivo de importação).
+     *
+     *        Não aloca por item: o resultado de cada posição é gravado em
+     *        destino, com {@link #DOCUMENTO_INVALIDO} para os inválidos.
+     *
+     * @param cpfs    Os CPFs, com ou sem máscara.
+     * @param destino Vetor com pelo menos cpfs.size() posições.
+     * @return A quantidade de CPFs inválidos.
+     */
+    public static int normalizarCPFs(List<? extends CharSequence> cpfs, long[] destino) {
+        return normalizarTodos(cpfs, destino, MASCARA_CPF, PESOS_CPF_DV1, PESOS_CPF_DV2);
+    }
 
-            r = sm % 11;
-            if ((r == 0) || (r == 1))
-                dig13 = '0';
-            else
-                dig13 = (char) ((11 - r) + 48);
-
-            // Calculo do 2o. Digito Verificador
-            sm = 0;
-            peso = 2;
-            for (i = 12; i >= 0; i--) {
-                num = (int) (cnpj.charAt(i) - 48);
-                sm = sm + (num * peso);
-                peso = peso + 1;
-                if (peso == 10)
-                    peso = 2;
+    /**
+     * @brief Valida e normaliza uma lista de CNPJs (ex: arquivo de importação).
+     *
+     * @param cnpjs   Os CNPJs, com ou sem máscara.
+     * @param destino Vetor com pelo menos cnpjs.size() posições.
+     * @return A quantidade de CNPJs inválidos.
+     * @see #normalizarCPFs(List, long[])
+     */
+    public static int normalizarCNPJs(List<? extends CharSequence> cnpjs, long[] destino) {
+        return normalizarTodos(cnpjs, destino, MASCARA_CNPJ, PESOS_CNPJ_DV1, PESOS_CNPJ_DV2);
+    }
+
+    /**
+     * @brief Formata um CPF normalizado com a máscara 000.000.000-00.
+     *
+     * @param cpf O CPF na forma numérica.
+     * @return O CPF com máscara.
+     */
+    public static String formatarCPF(long cpf) {
+        return formatar(cpf, LIMITE_CPF, MASCARA_CPF);
+    }
+
+    /**
+     * @brief Formata um CNPJ normalizado com a máscara 00.000.000/0000-00.
+     *
+     * @param cnpj O CNPJ na forma numérica.
+     * @return O CNPJ com máscara.
+     */
+    public static String formatarCNPJ(long cnpj) {
+        return formatar(cnpj, LIMITE_CNPJ, MASCARA_CNPJ);
+    }
+
+    private static long normalizar(CharSequence documento, String mascara, int[] pesosDv1, int[] pesosDv2) {
+        if (documento == null) {
+            return DOCUMENTO_INVALIDO;
+        }
+        int inicio = 0;
+        int fim = documento.length();
+        while (inicio < fim && documento.charAt(inicio) == ' ') {
+            inicio++;
+        }
+        while (fim > inicio && documento.charAt(fim - 1) == ' ') {
+            fim--;
+        }
+        // Apenas dígitos ou a máscara completa, com cada separador na sua posição
+        int digitos = pesosDv1.length;
+        boolean mascarado = fim - inicio == mascara.length();
+        if (!mascarado && fim - inicio != digitos) {
+            return DOCUMENTO_INVALIDO;
+        }
+        int lidos = 0;
+        int soma1 = 0;
+        int soma2 = 0;
+        int primeiro = -1;
+        boolean repetidos = true;
+        long valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = documento.charAt(i);
+            if (mascarado && mascara.charAt(i - inicio) != '0') {
+                if (c != mascara.charAt(i - inicio)) {
+                    return DOCUMENTO_INVALIDO;
+                }
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                return DOCUMENTO_INVALIDO;
+            }
+            int digito = c - '0';
+            if (lidos == digitos - 2 && digito != digitoVerificador(soma1)
+                    || lidos == digitos - 1 && digito != digitoVerificador(soma2)) {
+                return DOCUMENTO_INVALIDO;
             }
+            if (primeiro < 0) {
+                primeiro = digito;
+            } else if (digito != primeiro) {
+                repetidos = false;
+            }
+            soma1 += digito * pesosDv1[lidos];
+            soma2 += digito * pesosDv2[lidos];
+            valor = valor * 10 + digito;
+            lidos++;
+        }
+        return lidos == digitos && !repetidos ? valor : DOCUMENTO_INVALIDO;
+    }
+
+    private static int digitoVerificador(int soma) {
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
 
-            r = sm % 11;
-            if ((r == 0) || (r == 1))
-                dig14 = '0';
-            else
-                dig14 = (char) ((11 - r) + 48);
+    private static int normalizarTodos(List<? extends CharSequence> documentos, long[] destino, String mascara,
+            int[] pesosDv1, int[] pesosDv2) {
+        if (destino.length < documentos.size()) {
+            throw new IllegalArgumentException("O vetor de destino tem menos posições que a lista de documentos.");
+        }
+        int invalidos = 0;
+        for (int i = 0, tamanho = documentos.size(); i < tamanho; i++) {
+            long valor = normalizar(documentos.get(i), mascara, pesosDv1, pesosDv2);
+            destino[i] = valor;
+            if (valor == DOCUMENTO_INVALIDO) {
+                invalidos++;
+            }
+        }
+        return invalidos;
+    }
 
-            // Verifica se os dígitos calculados conferem com os dígitos informados.
-            return (dig13 == cnpj.charAt(12)) && (dig14 == cnpj.charAt(13));
-        } catch (InputMismatchException erro) {
-            return false;
+    private static String formatar(long documento, long limite, String mascara) {
+        if (documento < 0 || documento >= limite) {
+            throw new IllegalArgumentException("Documento fora da faixa da máscara " + mascara + ": " + documento);
+        }
+        char[] saida = mascara.toCharArray();
+        long restante = documento;
+        for (int i = saida.length - 1; i >= 0; i--) {
+            if (saida[i] == '0') {
+                saida[i] = (char) ('0' + restante % 10);
+                restante /= 10;
+            }
         }
+        return new String(saida);
     }
 
     /**
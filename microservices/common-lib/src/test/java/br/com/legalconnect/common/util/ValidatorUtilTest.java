@@ -0,0 +1,100 @@
+package br.com.legalconnect.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Validação, normalização e formatação de CPF e CNPJ ({@link ValidatorUtil}).
+ */
+class ValidatorUtilTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "52998224725", "529.982.247-25", " 529.982.247-25 ", "01234567890", "012.345.678-90" })
+    void cpfValido(String cpf) {
+        assertTrue(ValidatorUtil.isValidCPF(cpf));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "52998224724", // Segundo dígito verificador errado
+            "52998224715", // Primeiro dígito verificador errado
+            "5299822472", // Dígitos de menos
+            "529982247250", // Dígitos demais
+            "52998224a25",
+            "529.982.247/25", // Separador trocado
+            "529982.247-25", // Máscara incompleta
+            "5.2.9.9.8.2.2.4.7.2.5", // Separadores fora da máscara
+            "529.982.247-2 5",
+            "529 982 247 25" })
+    void cpfInvalido(String cpf) {
+        assertFalse(ValidatorUtil.isValidCPF(cpf));
+        assertEquals(ValidatorUtil.DOCUMENTO_INVALIDO, ValidatorUtil.normalizarCPF(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "00000000000", "11111111111", "999.999.999-99" })
+    void cpfComDigitosRepetidosEInvalido(String cpf) {
+        assertFalse(ValidatorUtil.isValidCPF(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "11222333000181", "11.222.333/0001-81", " 11.222.333/0001-81" })
+    void cnpjValido(String cnpj) {
+        assertTrue(ValidatorUtil.isValidCNPJ(cnpj));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "11222333000180", // Segundo dígito verificador errado
+            "11222333000191", // Primeiro dígito verificador errado
+            "1122233300018", // Dígitos de menos
+            "112223330001810", // Dígitos demais
+            "11.222.333.0001-81", // Separador trocado
+            "11222333/0001-81", // Máscara incompleta
+            "1.1.2.2.2.3.3.3.0.0.0.1.8.1", // Separadores fora da máscara
+            "52998224725" }) // CPF não é CNPJ
+    void cnpjInvalido(String cnpj) {
+        assertFalse(ValidatorUtil.isValidCNPJ(cnpj));
+        assertEquals(ValidatorUtil.DOCUMENTO_INVALIDO, ValidatorUtil.normalizarCNPJ(cnpj));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "00000000000000", "11111111111111", "22.222.222/2222-22" })
+    void cnpjComDigitosRepetidosEInvalido(String cnpj) {
+        assertFalse(ValidatorUtil.isValidCNPJ(cnpj));
+    }
+
+    @Test
+    void normalizacaoEFormatacaoSaoInversas() {
+        assertEquals(52998224725L, ValidatorUtil.normalizarCPF("529.982.247-25"));
+        assertEquals("529.982.247-25", ValidatorUtil.formatarCPF(52998224725L));
+        // Zeros à esquerda voltam na formatação
+        assertEquals(1234567890L, ValidatorUtil.normalizarCPF("012.345.678-90"));
+        assertEquals("012.345.678-90", ValidatorUtil.formatarCPF(1234567890L));
+
+        assertEquals(11222333000181L, ValidatorUtil.normalizarCNPJ("11.222.333/0001-81"));
+        assertEquals("11.222.333/0001-81", ValidatorUtil.formatarCNPJ(11222333000181L));
+    }
+
+    @Test
+    void normalizacaoEmLoteMarcaOsInvalidos() {
+        List<String> cpfs = Arrays.asList("529.982.247-25", "52998224724", null, "01234567890");
+        long[] destino = new long[cpfs.size()];
+
+        assertEquals(2, ValidatorUtil.normalizarCPFs(cpfs, destino));
+        assertArrayEquals(new long[] { 52998224725L, ValidatorUtil.DOCUMENTO_INVALIDO,
+                ValidatorUtil.DOCUMENTO_INVALIDO, 1234567890L }, destino);
+    }
+}
@@ -8,6 +8,7 @@ import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,21 +30,42 @@ public class HibernateConfig {
 
     private static final Logger log = LoggerFactory.getLogger(HibernateConfig.class);
 
+    /**
+     * Perfil de desempenho padrão dos serviços. Cada valor pode ser sobrescrito
+     * pelo serviço com spring.jpa.properties.hibernate.*.
+     * - Batch fetching: coleções e proxies LAZY de várias entidades do contexto
+     * de persistência são carregados em uma consulta (IN), em vez de uma por
+     * entidade.
+     * - Batching JDBC: INSERTs e UPDATEs da mesma tabela são agrupados e
+     * enviados em lotes; a ordenação agrupa as instruções por entidade. Requer
+     * IDs gerados pela aplicação (GenerationType.UUID, como em BaseEntity), já
+     * que IDENTITY desativa o batching de INSERT.
+     */
+    static final Map<String, Object> PERFIL_DESEMPENHO = Map.of(
+            "hibernate.default_batch_fetch_size", "32",
+            "hibernate.jdbc.batch_size", "50",
+            "hibernate.order_inserts", "true",
+            "hibernate.order_updates", "true",
+            "hibernate.jdbc.batch_versioned_data", "true");
+
     private final JpaProperties jpaProperties;
     private final DataSource dataSource;
     private final MultiTenantConnectionProviderImpl multiTenantConnectionProvider;
     private final CurrentTenantIdentifierResolverImpl currentTenantIdentifierResolver;
+    private final boolean replicaLeituraHabilitada;
 
     @Autowired
     public HibernateConfig(
             JpaProperties jpaProperties,
             DataSource dataSource,
             MultiTenantConnectionProviderImpl multiTenantConnectionProvider,
-            CurrentTenantIdentifierResolverImpl currentTenantIdentifierResolver) {
+            CurrentTenantIdentifierResolverImpl currentTenantIdentifierResolver,
+            @Value("${application.datasource.replica.url:}") String urlReplicaLeitura) {
         this.jpaProperties = jpaProperties;
         this.dataSource = dataSource;
         this.multiTenantConnectionProvider = multiTenantConnectionProvider;
         this.currentTenantIdentifierResolver = currentTenantIdentifierResolver;
+        this.replicaLeituraHabilitada = !urlReplicaLeitura.isBlank();
         log.debug("HibernateConfig inicializado.");
     }
 
@@ -78,8 +100,16 @@ public class HibernateConfig {
         properties.put("hibernate.multi_tenant_connection_provider", multiTenantConnectionProvider);
         properties.put("hibernate.tenant_identifier_resolver", currentTenantIdentifierResolver);
         properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        properties.put("hibernate.show_sql", true);
-        properties.put("hibernate.format_sql", true);
+        // Log de SQL apenas quando habilitado pelo serviço (spring.jpa.show-sql)
+        properties.put("hibernate.show_sql", jpaProperties.isShowSql());
+        properties.putIfAbsent("hibernate.format_sql", false);
+        PERFIL_DESEMPENHO.forEach(properties::putIfAbsent);
+        if (replicaLeituraHabilitada) {
+            // Cada transação obtém sua própria conexão (primário ou réplica); com o
+            // padrão do Spring (HOLD), a sessão aberta na requisição reutilizaria a
+            // conexão da primeira transação nas seguintes
+            properties.put("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+        }
 
         em.setJpaPropertyMap(properties);
         log.debug("EntityManagerFactory configurado com propriedades de multitenancy: {}", properties);
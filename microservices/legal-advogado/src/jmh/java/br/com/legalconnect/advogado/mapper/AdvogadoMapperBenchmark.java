@@ -0,0 +1,142 @@
+package br.com.legalconnect.advogado.mapper;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.legalconnect.advogado.domain.AreaAtuacao;
+import br.com.legalconnect.advogado.domain.AvaliacaoAgregada;
+import br.com.legalconnect.advogado.domain.FormacaoAcademica;
+import br.com.legalconnect.advogado.domain.MetricasProfissional;
+import br.com.legalconnect.advogado.domain.Plano;
+import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.domain.TipoAtendimento;
+import br.com.legalconnect.advogado.repository.AreaAtuacaoRepository;
+import br.com.legalconnect.advogado.repository.TipoAtendimentoRepository;
+import br.com.legalconnect.commom.model.Endereco;
+import br.com.legalconnect.commom.model.User;
+import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO;
+
+/**
+ * Custo de CPU e alocação da montagem do card do advogado
+ * ({@link AdvogadoMapper#toAdvogadoResponseDTO(Profissional, ProjecoesCard)}),
+ * com projeções já carregadas em lote, como na listagem do marketplace.
+ * Os repositórios de cadastros auxiliares são substituídos por versões em
+ * memória, para medir apenas o mapeamento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdvogadoMapperBenchmark {
+
+    private AdvogadoMapper mapper;
+    private Profissional profissional;
+    private ProjecoesCard projecoes;
+
+    @Setup
+    public void preparar() {
+        Map<UUID, AreaAtuacao> areas = new HashMap<>();
+        for (String nome : List.of("Direito de Família", "Direito Civil", "Sucessões")) {
+            AreaAtuacao area = new AreaAtuacao();
+            area.setId(UUID.randomUUID());
+            area.setNome(nome);
+            areas.put(area.getId(), area);
+        }
+        Map<UUID, TipoAtendimento> tipos = new HashMap<>();
+        for (String nome : List.of("Consulta Online", "Consulta Presencial")) {
+            TipoAtendimento tipo = new TipoAtendimento();
+            tipo.setId(UUID.randomUUID());
+            tipo.setNome(nome);
+            tipos.put(tipo.getId(), tipo);
+        }
+
+        mapper = new AdvogadoMapperImpl();
+        mapper.areaAtuacaoRepository = repositorioEmMemoria(AreaAtuacaoRepository.class, areas);
+        mapper.tipoAtendimentoRepository = repositorioEmMemoria(TipoAtendimentoRepository.class, tipos);
+
+        User usuario = new User();
+        usuario.setNomeCompleto("Maria Aparecida Souza");
+        usuario.setFotoUrl("https://cdn.legalconnect.com.br/fotos/maria.jpg");
+        usuario.setFotoThumbnailUrl("https://cdn.legalconnect.com.br/fotos/maria-thumb.jpg");
+
+        Plano plano = new Plano();
+        plano.setNome("Premium");
+
+        Endereco endereco = new Endereco();
+        endereco.setCidade("São Paulo");
+        endereco.setEstado("SP");
+        endereco.setTipoEndereco(Endereco.TipoEndereco.ESCRITORIO);
+
+        profissional = new Profissional();
+        profissional.setId(UUID.randomUUID());
+        profissional.setNumeroOab("SP123456");
+        profissional.setFazParteDePlano(true);
+        profissional.setUsuario(usuario);
+        profissional.setPlano(plano);
+        profissional.getEnderecos().add(endereco);
+        profissional.getAreaAtuacaoIds().addAll(areas.keySet());
+        profissional.getTipoAtendimentoIds().addAll(tipos.keySet());
+        for (int ano = 2010; ano <= 2018; ano += 4) {
+            FormacaoAcademica formacao = new FormacaoAcademica();
+            formacao.setCurso("Direito");
+            formacao.setInstituicao("Universidade de São Paulo");
+            formacao.setDataConclusao(LocalDate.of(ano, 12, 1));
+            profissional.getFormacoes().add(formacao);
+        }
+
+        UUID id = profissional.getId();
+        projecoes = new ProjecoesCard(
+                Map.of(id, AvaliacaoAgregada.builder().profissionalId(id).total(42).soma(189L).build()),
+                Map.of(id, MetricasProfissional.builder().profissionalId(id).satisfacao(0.93)
+                        .casosConcluidos(128).nivel("Sênior").build()));
+    }
+
+    @Benchmark
+    public AdvogadoResponseDTO toAdvogadoResponseDTO() {
+        return mapper.toAdvogadoResponseDTO(profissional, projecoes);
+    }
+
+    /**
+     * Repositório que atende apenas findById e findAllById a partir de um mapa.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E> R repositorioEmMemoria(Class<R> tipo, Map<UUID, E> entidades) {
+        return (R) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, (proxy, metodo, args) -> {
+            switch (metodo.getName()) {
+                case "findById":
+                    return Optional.ofNullable(entidades.get(args[0]));
+                case "findAllById":
+                    List<E> encontradas = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        E entidade = entidades.get(id);
+                        if (entidade != null) {
+                            encontradas.add(entidade);
+                        }
+                    }
+                    return encontradas;
+                default:
+                    throw new UnsupportedOperationException(metodo.getName());
+            }
+        });
+    }
+}
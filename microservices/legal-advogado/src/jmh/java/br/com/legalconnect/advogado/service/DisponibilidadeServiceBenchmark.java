@@ -0,0 +1,170 @@
+package br.com.legalconnect.advogado.service;
+
+import java.lang.reflect.Proxy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.legalconnect.advogado.domain.Agendamento;
+import br.com.legalconnect.advogado.domain.Agendamento.AgendamentoStatus;
+import br.com.legalconnect.advogado.domain.BloqueioAgenda;
+import br.com.legalconnect.advogado.domain.HorarioAtendimento;
+import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.dto.response.DisponibilidadeResponseDTO;
+import br.com.legalconnect.advogado.repository.AgendamentoRepository;
+import br.com.legalconnect.advogado.repository.BloqueioAgendaRepository;
+import br.com.legalconnect.advogado.repository.HorarioAtendimentoRepository;
+
+/**
+ * Custo de CPU e alocação do cálculo de horários livres
+ * ({@link DisponibilidadeService#calcularDisponibilidade(Collection, LocalDate, LocalDate)})
+ * para um mês inteiro e muitos profissionais de uma vez.
+ * Os repositórios devolvem listas já carregadas, para medir apenas a
+ * aritmética de intervalos e a montagem da resposta. Cada profissional tem
+ * cerca de quatro consultas por dia útil e um bloqueio por semana; metade tem
+ * grade própria e metade segue o expediente padrão.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisponibilidadeServiceBenchmark {
+
+    private static final int DIAS = 31;
+
+    /** Profissionais consultados de uma vez. */
+    @Param({ "1", "50", "500" })
+    private int profissionais;
+
+    private DisponibilidadeService service;
+    private List<UUID> ids;
+    private LocalDate de;
+    private LocalDate ate;
+
+    @Setup
+    public void preparar() {
+        // Mês no futuro: horários passados são descartados pelo serviço
+        de = LocalDate.now().plusMonths(1).with(TemporalAdjusters.firstDayOfMonth());
+        ate = de.plusDays(DIAS - 1);
+
+        Random random = new Random(42);
+        ids = new ArrayList<>(profissionais);
+        List<HorarioAtendimento> grades = new ArrayList<>();
+        List<Agendamento> agendamentos = new ArrayList<>();
+        List<BloqueioAgenda> bloqueios = new ArrayList<>();
+        for (int p = 0; p < profissionais; p++) {
+            Profissional profissional = new Profissional();
+            profissional.setId(UUID.randomUUID());
+            ids.add(profissional.getId());
+
+            if (p % 2 == 0) {
+                for (DayOfWeek dia : EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.SATURDAY)) {
+                    grades.add(faixa(profissional, dia, LocalTime.of(8, 0), LocalTime.of(12, 0)));
+                    if (dia != DayOfWeek.SATURDAY) {
+                        grades.add(faixa(profissional, dia, LocalTime.of(14, 0), LocalTime.of(19, 0)));
+                    }
+                }
+            }
+            for (LocalDate dia = de; !dia.isAfter(ate); dia = dia.plusDays(1)) {
+                if (dia.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+                for (int c = 0; c < 4; c++) {
+                    LocalDateTime inicio = dia.atTime(9 + random.nextInt(9), random.nextBoolean() ? 0 : 30);
+                    agendamentos.add(Agendamento.builder()
+                            .profissional(profissional)
+                            .inicio(inicio)
+                            .fim(inicio.plus(AgendamentoService.DURACAO_CONSULTA))
+                            .status(AgendamentoStatus.AGENDADO)
+                            .build());
+                }
+                if (dia.getDayOfWeek() == DayOfWeek.WEDNESDAY) {
+                    bloqueios.add(BloqueioAgenda.builder()
+                            .profissional(profissional)
+                            .inicio(dia.atTime(13, 0))
+                            .fim(dia.atTime(16, 0))
+                            .build());
+                }
+            }
+        }
+
+        service = new DisponibilidadeService(
+                repositorioEmMemoria(AgendamentoRepository.class, agendamentos, Agendamento::getProfissional),
+                repositorioEmMemoria(BloqueioAgendaRepository.class, bloqueios, BloqueioAgenda::getProfissional),
+                repositorioEmMemoria(HorarioAtendimentoRepository.class, grades,
+                        HorarioAtendimento::getProfissional),
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                List.of("09:00-12:00", "13:00-18:00"),
+                30,
+                62);
+    }
+
+    private static HorarioAtendimento faixa(Profissional profissional, DayOfWeek dia, LocalTime inicio,
+            LocalTime fim) {
+        return HorarioAtendimento.builder()
+                .profissional(profissional)
+                .diaSemana(dia)
+                .horaInicio(inicio)
+                .horaFim(fim)
+                .build();
+    }
+
+    @Benchmark
+    public Map<UUID, DisponibilidadeResponseDTO> calcularDisponibilidadeMes() {
+        return service.calcularDisponibilidade(ids, de, ate);
+    }
+
+    /**
+     * Repositório que devolve, para qualquer consulta por coleção de IDs de
+     * profissionais, as entidades desses profissionais (o filtro de período é
+     * irrelevante: todas estão no mês medido).
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E> R repositorioEmMemoria(Class<R> tipo, List<E> entidades,
+            Function<E, Profissional> profissional) {
+        return (R) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, (proxy, metodo, args) -> {
+            switch (metodo.getName()) {
+                case "findAllByProfissionalIdIn":
+                case "findAtivosSobrepostos":
+                case "findSobrepostos":
+                    Set<UUID> ids = new HashSet<>((Collection<UUID>) args[0]);
+                    List<E> encontradas = new ArrayList<>();
+                    for (E entidade : entidades) {
+                        if (ids.contains(profissional.apply(entidade).getId())) {
+                            encontradas.add(entidade);
+                        }
+                    }
+                    return encontradas;
+                default:
+                    throw new UnsupportedOperationException(metodo.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.legalconnect.advogado.service;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.legalconnect.advogado.domain.AreaAtuacao;
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
+import br.com.legalconnect.advogado.dto.response.SugestaoResponseDTO;
+import br.com.legalconnect.advogado.repository.AreaAtuacaoRepository;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.advogado.service.IndiceSugestoes.TipoSugestao;
+
+/**
+ * Custo de CPU e alocação do autocompletar ({@link IndiceSugestoes}): consulta
+ * por prefixo curto (tops pré-calculados) e longo (faixa do array ordenado),
+ * reconstrução completa do índice e aplicação incremental de alterações de
+ * perfil. Os repositórios devolvem linhas já carregadas, no formato da
+ * consulta nativa, para medir apenas o índice. Cada advogado tem nome e
+ * sobrenomes acentuados, uma ou duas cidades e até três áreas de atuação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndiceSugestoesBenchmark {
+
+    private static final int LIMITE = 10;
+    private static final int ALTERADOS_POR_LOTE = 20;
+
+    private static final String[] NOMES = { "João", "Maria", "José", "Ana", "Antônio", "Fernanda", "Luís",
+            "Júlia", "Sérgio", "Patrícia", "Márcio", "Beatriz", "Rogério", "Cláudia", "André", "Letícia",
+            "Fábio", "Mônica", "Vinícius", "Lúcia" };
+    private static final String[] SOBRENOMES = { "Silva", "Santos", "Oliveira", "Souza", "Conceição",
+            "Araújo", "Gonçalves", "Simões", "Magalhães", "Guimarães", "Lima", "Câmara", "Brandão", "Assunção",
+            "Falcão", "Peixoto", "Sampaio", "Lemos", "Tavares", "Rodrigues" };
+    private static final String[][] CIDADES = { { "São Paulo", "SP" }, { "São José dos Campos", "SP" },
+            { "Santos", "SP" }, { "Campinas", "SP" }, { "Rio de Janeiro", "RJ" }, { "São Gonçalo", "RJ" },
+            { "Belo Horizonte", "MG" }, { "Uberlândia", "MG" }, { "Curitiba", "PR" }, { "Maringá", "PR" },
+            { "Porto Alegre", "RS" }, { "Florianópolis", "SC" }, { "Salvador", "BA" }, { "Recife", "PE" },
+            { "Fortaleza", "CE" }, { "São Luís", "MA" }, { "Belém", "PA" }, { "Manaus", "AM" },
+            { "Goiânia", "GO" }, { "Brasília", "DF" } };
+    private static final String[] AREAS = { "Direito Civil", "Direito Penal", "Direito Trabalhista",
+            "Direito Tributário", "Direito de Família", "Direito Previdenciário", "Direito do Consumidor",
+            "Direito Empresarial", "Direito Imobiliário", "Direito Ambiental", "Direito Digital",
+            "Direito Administrativo" };
+
+    /** Advogados do marketplace no índice. */
+    @Param({ "1000", "10000", "50000" })
+    private int advogados;
+
+    private IndiceSugestoes indice;
+    private IndiceSugestoes indiceSempreExpirado;
+    private List<UUID> ids;
+    private Random random;
+
+    @Setup
+    public void preparar() {
+        random = new Random(42);
+        List<AreaAtuacao> areas = new ArrayList<>(AREAS.length);
+        for (String nome : AREAS) {
+            AreaAtuacao area = new AreaAtuacao();
+            area.setId(UUID.randomUUID());
+            area.setNome(nome);
+            areas.add(area);
+        }
+        ids = new ArrayList<>(advogados);
+        List<Object[]> termos = new ArrayList<>(advogados * 5);
+        for (int i = 0; i < advogados; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            termos.add(new Object[] { "NOME", id, NOMES[random.nextInt(NOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                    + SOBRENOMES[random.nextInt(SOBRENOMES.length)], null });
+            for (int c = 1 + random.nextInt(2); c > 0; c--) {
+                String[] cidade = CIDADES[random.nextInt(CIDADES.length)];
+                termos.add(new Object[] { "CIDADE", id, cidade[0], cidade[1] });
+            }
+            for (int a = 1 + random.nextInt(3); a > 0; a--) {
+                termos.add(new Object[] { "AREA", id, areas.get(random.nextInt(areas.size())).getId().toString(),
+                        null });
+            }
+        }
+
+        ProfissionalRepository profissionalRepository = profissionalRepositoryEmMemoria(termos);
+        AreaAtuacaoRepository areaAtuacaoRepository = areaAtuacaoRepositoryEmMemoria(areas);
+        indice = new IndiceSugestoes(profissionalRepository, areaAtuacaoRepository, LIMITE, Long.MAX_VALUE / 1000);
+        indice.atualizar();
+        // Idade máxima negativa: toda chamada a atualizar() reconstrói o índice
+        indiceSempreExpirado = new IndiceSugestoes(profissionalRepository, areaAtuacaoRepository, LIMITE, -1);
+        indiceSempreExpirado.atualizar();
+    }
+
+    @Benchmark
+    public List<SugestaoResponseDTO> sugerirPrefixoCurto() {
+        return indice.sugerir("Sa", null, LIMITE);
+    }
+
+    @Benchmark
+    public List<SugestaoResponseDTO> sugerirPrefixoLongo() {
+        return indice.sugerir("Simõ", null, LIMITE);
+    }
+
+    @Benchmark
+    public List<SugestaoResponseDTO> sugerirPrefixoLongoPorTipo() {
+        return indice.sugerir("são j", TipoSugestao.CIDADE, LIMITE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void reconstruir() {
+        indiceSempreExpirado.atualizar();
+    }
+
+    /**
+     * Lote típico do agendamento: {@value #ALTERADOS_POR_LOTE} perfis
+     * alterados desde a última execução.
+     */
+    @Benchmark
+    public void aplicarAlteracoes() {
+        for (int i = 0; i < ALTERADOS_POR_LOTE; i++) {
+            UUID alterado = ids.get(random.nextInt(advogados));
+            indice.onPerfilProfissionalAlterado(new PerfilProfissionalAlteradoEvent(alterado));
+        }
+        indice.atualizar();
+    }
+
+    /**
+     * Repositório que devolve as linhas de termos no formato de
+     * {@link ProfissionalRepository#findTermosSugestoesMarketplace()}; a busca
+     * por IDs usa um mapa, como o índice do banco.
+     */
+    @SuppressWarnings("unchecked")
+    private static ProfissionalRepository profissionalRepositoryEmMemoria(List<Object[]> termos) {
+        Map<UUID, List<Object[]>> porProfissional = termos.stream()
+                .collect(Collectors.groupingBy(termo -> (UUID) termo[1]));
+        return (ProfissionalRepository) Proxy.newProxyInstance(ProfissionalRepository.class.getClassLoader(),
+                new Class<?>[] { ProfissionalRepository.class }, (proxy, metodo, args) -> {
+                    switch (metodo.getName()) {
+                        case "findTermosSugestoesMarketplace":
+                            return termos;
+                        case "findTermosSugestoesByProfissionalIdIn":
+                            List<Object[]> encontrados = new ArrayList<>();
+                            for (UUID id : (Collection<UUID>) args[0]) {
+                                encontrados.addAll(porProfissional.getOrDefault(id, List.of()));
+                            }
+                            return encontrados;
+                        default:
+                            throw new UnsupportedOperationException(metodo.getName());
+                    }
+                });
+    }
+
+    private static AreaAtuacaoRepository areaAtuacaoRepositoryEmMemoria(List<AreaAtuacao> areas) {
+        return (AreaAtuacaoRepository) Proxy.newProxyInstance(AreaAtuacaoRepository.class.getClassLoader(),
+                new Class<?>[] { AreaAtuacaoRepository.class }, (proxy, metodo, args) -> {
+                    if (metodo.getName().equals("findAll") && metodo.getParameterCount() == 0) {
+                        return areas;
+                    }
+                    throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+}
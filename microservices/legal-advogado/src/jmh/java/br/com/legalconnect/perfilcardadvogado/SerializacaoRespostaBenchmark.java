@@ -0,0 +1,98 @@
+package br.com.legalconnect.perfilcardadvogado;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import br.com.legalconnect.common.dto.BaseResponse;
+import br.com.legalconnect.enums.StatusResponse;
+import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO;
+import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO.MetricasDTO;
+import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO.ServicoDTO;
+
+/**
+ * Custo de CPU e alocação da serialização JSON de uma página de cards do
+ * marketplace (BaseResponse&lt;List&lt;AdvogadoResponseDTO&gt;&gt;), com o
+ * ObjectMapper configurado como o do Spring Boot nos serviços.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoRespostaBenchmark {
+
+    /** Cards por página. */
+    @Param({ "1", "20", "100" })
+    private int tamanhoPagina;
+
+    private ObjectWriter writer;
+    private BaseResponse<List<AdvogadoResponseDTO>> resposta;
+
+    @Setup
+    public void preparar() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        List<AdvogadoResponseDTO> cards = new ArrayList<>(tamanhoPagina);
+        for (int i = 0; i < tamanhoPagina; i++) {
+            cards.add(card(i));
+        }
+        resposta = BaseResponse.<List<AdvogadoResponseDTO>>builder()
+                .status(StatusResponse.SUCESSO)
+                .message("Advogados listados com sucesso.")
+                .timestamp(LocalDateTime.now())
+                .data(cards)
+                .build();
+    }
+
+    private static AdvogadoResponseDTO card(int i) {
+        return AdvogadoResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .nome("Advogado " + i)
+                .oab("SP" + (100_000 + i))
+                .fotoUrl("https://cdn.legalconnect.com.br/fotos/" + i + ".jpg")
+                .fotoThumbnailUrl("https://cdn.legalconnect.com.br/fotos/" + i + "-thumb.jpg")
+                .avaliacao(4.5)
+                .numAvaliacoes(42)
+                .bio("Advogado com 10 anos de experiência em Direito de Família e Sucessões.")
+                .especialidades(List.of("Direito de Família", "Direito Civil", "Sucessões"))
+                .localizacao("São Paulo - SP")
+                .estado("SP")
+                .municipio("São Paulo")
+                .verificadoOAB(true)
+                .nivel("Sênior")
+                .formacao("Direito em Universidade de São Paulo")
+                .metricas(MetricasDTO.builder().satisfacao(0.93).casosConcluidos(128).build())
+                .servicos(List.of(
+                        ServicoDTO.builder().nome("Consulta Online").descricao("Serviço de consulta online")
+                                .preco("R$ 250,00").build(),
+                        ServicoDTO.builder().nome("Consulta Presencial")
+                                .descricao("Serviço de consulta presencial").preco("R$ 250,00").build()))
+                .fazParteDePlano(i % 2 == 0)
+                .nomePlano("Premium")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializar() throws JsonProcessingException {
+        return writer.writeValueAsBytes(resposta);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaRepositories(basePackages = {
 		"br.com.legalconnect.advogado.repository",
@@ -13,6 +14,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 		"br.com.legalconnect.commom.model",
 		"br.com.legalconnect.advogado.domain" })
 @EnableDiscoveryClient
+@EnableScheduling
 @SpringBootApplication
 public class LegalUsuarioApplication {
 	// @Value("${application.tenant.default-id}")
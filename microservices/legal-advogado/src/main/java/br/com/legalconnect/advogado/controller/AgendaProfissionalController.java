@@ -0,0 +1,189 @@
+package br.com.legalconnect.advogado.controller;
+
+import static br.com.legalconnect.enums.StatusResponse.SUCESSO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.legalconnect.advogado.dto.request.BloqueioAgendaRequestDTO;
+import br.com.legalconnect.advogado.dto.request.HorarioAtendimentoRequestDTO;
+import br.com.legalconnect.advogado.dto.response.BloqueioAgendaResponseDTO;
+import br.com.legalconnect.advogado.dto.response.HorarioAtendimentoResponseDTO;
+import br.com.legalconnect.advogado.service.AgendaProfissionalService;
+import br.com.legalconnect.common.dto.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Controller para a agenda do profissional.
+ * Gerencia a grade semanal de atendimento e os bloqueios de agenda usados no
+ * cálculo de horários livres.
+ */
+@RestController
+@RequestMapping("/api/v1/advogados/profissionais/{profissionalId}/agenda")
+@Tag(name = "Agenda do Profissional", description = "Grade de atendimento e bloqueios de agenda")
+public class AgendaProfissionalController {
+
+        private final AgendaProfissionalService agendaProfissionalService;
+
+        @Autowired
+        public AgendaProfissionalController(AgendaProfissionalService agendaProfissionalService) {
+                this.agendaProfissionalService = agendaProfissionalService;
+        }
+
+        /**
+         * Substitui a grade semanal de atendimento do profissional.
+         * Regras de Negócio: Faixas do mesmo dia não podem se sobrepor; uma grade
+         * vazia restaura o expediente padrão.
+         *
+         * @param profissionalId ID do profissional.
+         * @param faixas         Faixas da nova grade.
+         * @return ResponseEntity com a grade gravada.
+         */
+        @Operation(summary = "Substitui a grade de atendimento", description = "Define os dias e horários em que o advogado atende. Uma lista vazia restaura o expediente padrão.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Grade atualizada com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Faixas inválidas ou sobrepostas"),
+                        @ApiResponse(responseCode = "403", description = "Acesso negado (profissional pertence a outro tenant)"),
+                        @ApiResponse(responseCode = "404", description = "Profissional não encontrado"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @PutMapping("/horarios")
+        public ResponseEntity<BaseResponse<List<HorarioAtendimentoResponseDTO>>> substituirGrade(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId,
+                        @Valid @RequestBody List<@Valid HorarioAtendimentoRequestDTO> faixas) {
+                List<HorarioAtendimentoResponseDTO> grade = agendaProfissionalService.substituirGrade(profissionalId,
+                                faixas);
+                return ResponseEntity.ok(BaseResponse.<List<HorarioAtendimentoResponseDTO>>builder()
+                                .status(SUCESSO)
+                                .message("Grade de atendimento atualizada com sucesso.")
+                                .data(grade)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
+        /**
+         * Lista a grade semanal de atendimento do profissional.
+         *
+         * @param profissionalId ID do profissional.
+         * @return ResponseEntity com a grade (vazia se vale o expediente padrão).
+         */
+        @Operation(summary = "Lista a grade de atendimento", description = "Retorna as faixas de atendimento do advogado. Uma lista vazia indica o expediente padrão.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Grade listada com sucesso"),
+                        @ApiResponse(responseCode = "403", description = "Acesso negado (profissional pertence a outro tenant)"),
+                        @ApiResponse(responseCode = "404", description = "Profissional não encontrado"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @GetMapping("/horarios")
+        public ResponseEntity<BaseResponse<List<HorarioAtendimentoResponseDTO>>> listarGrade(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId) {
+                return ResponseEntity.ok(BaseResponse.<List<HorarioAtendimentoResponseDTO>>builder()
+                                .status(SUCESSO)
+                                .message("Grade de atendimento listada com sucesso.")
+                                .data(agendaProfissionalService.listarGrade(profissionalId))
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
+        /**
+         * Bloqueia um período da agenda do profissional.
+         * Regras de Negócio: O período não pode conter agendamentos ativos.
+         *
+         * @param profissionalId ID do profissional.
+         * @param requestDTO     DTO com o período e o motivo.
+         * @return ResponseEntity com o bloqueio criado.
+         */
+        @Operation(summary = "Bloqueia um período da agenda", description = "Registra um período em que o advogado não atende (férias, audiências, compromissos).", responses = {
+                        @ApiResponse(responseCode = "201", description = "Bloqueio criado com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Período inválido"),
+                        @ApiResponse(responseCode = "403", description = "Acesso negado (profissional pertence a outro tenant)"),
+                        @ApiResponse(responseCode = "404", description = "Profissional não encontrado"),
+                        @ApiResponse(responseCode = "409", description = "Há agendamentos ativos no período"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @PostMapping("/bloqueios")
+        public ResponseEntity<BaseResponse<BloqueioAgendaResponseDTO>> criarBloqueio(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId,
+                        @Valid @RequestBody BloqueioAgendaRequestDTO requestDTO) {
+                BloqueioAgendaResponseDTO bloqueio = agendaProfissionalService.criarBloqueio(profissionalId,
+                                requestDTO);
+                return ResponseEntity.status(HttpStatus.CREATED)
+                                .body(BaseResponse.<BloqueioAgendaResponseDTO>builder()
+                                                .status(SUCESSO)
+                                                .message("Bloqueio de agenda criado com sucesso.")
+                                                .data(bloqueio)
+                                                .timestamp(java.time.LocalDateTime.now())
+                                                .build());
+        }
+
+        /**
+         * Lista os bloqueios do profissional em um período.
+         *
+         * @param profissionalId ID do profissional.
+         * @param de             Primeiro dia do período (formato ISO).
+         * @param ate            Último dia do período, inclusivo (formato ISO).
+         * @return ResponseEntity com os bloqueios do período.
+         */
+        @Operation(summary = "Lista os bloqueios da agenda", description = "Retorna os bloqueios do advogado que se sobrepõem ao período informado.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Bloqueios listados com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Período inválido"),
+                        @ApiResponse(responseCode = "403", description = "Acesso negado (profissional pertence a outro tenant)"),
+                        @ApiResponse(responseCode = "404", description = "Profissional não encontrado"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @GetMapping("/bloqueios")
+        public ResponseEntity<BaseResponse<List<BloqueioAgendaResponseDTO>>> listarBloqueios(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId,
+                        @Parameter(description = "Primeiro dia do período (ex: 2024-07-22)") @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                        @Parameter(description = "Último dia do período, inclusivo (ex: 2024-07-28)") @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+                return ResponseEntity.ok(BaseResponse.<List<BloqueioAgendaResponseDTO>>builder()
+                                .status(SUCESSO)
+                                .message("Bloqueios de agenda listados com sucesso.")
+                                .data(agendaProfissionalService.listarBloqueios(profissionalId, de, ate))
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
+        /**
+         * Remove um bloqueio da agenda do profissional.
+         *
+         * @param profissionalId ID do profissional.
+         * @param bloqueioId     ID do bloqueio.
+         * @return ResponseEntity indicando o sucesso da remoção.
+         */
+        @Operation(summary = "Remove um bloqueio da agenda", description = "Libera novamente o período bloqueado.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Bloqueio removido com sucesso"),
+                        @ApiResponse(responseCode = "403", description = "Acesso negado (bloqueio pertence a outro tenant)"),
+                        @ApiResponse(responseCode = "404", description = "Bloqueio não encontrado para este profissional"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @DeleteMapping("/bloqueios/{bloqueioId}")
+        public ResponseEntity<BaseResponse<Void>> removerBloqueio(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId,
+                        @Parameter(description = "ID do bloqueio a ser removido") @PathVariable UUID bloqueioId) {
+                agendaProfissionalService.removerBloqueio(profissionalId, bloqueioId);
+                return ResponseEntity.ok(BaseResponse.<Void>builder()
+                                .status(SUCESSO)
+                                .message("Bloqueio de agenda removido com sucesso.")
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+}
@@ -3,6 +3,7 @@ package br.com.legalconnect.advogado.controller;
 import static br.com.legalconnect.enums.StatusResponse.ERRO;
 import static br.com.legalconnect.enums.StatusResponse.SUCESSO;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -10,12 +11,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.legalconnect.advogado.dto.response.AgendamentoResponseDTO;
+import br.com.legalconnect.advogado.dto.response.DisponibilidadeResponseDTO;
 import br.com.legalconnect.advogado.service.AgendamentoService;
+import br.com.legalconnect.advogado.service.DisponibilidadeService;
 import br.com.legalconnect.common.dto.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,10 +40,44 @@ import jakarta.validation.constraints.NotNull;
 public class AgendamentoController {
 
         private final AgendamentoService agendamentoService;
+        private final DisponibilidadeService disponibilidadeService;
 
         @Autowired
-        public AgendamentoController(AgendamentoService agendamentoService) {
+        public AgendamentoController(AgendamentoService agendamentoService,
+                        DisponibilidadeService disponibilidadeService) {
                 this.agendamentoService = agendamentoService;
+                this.disponibilidadeService = disponibilidadeService;
+        }
+
+        /**
+         * Consulta os horários livres de um profissional em um período.
+         * Funcionalidade Completa: Cenário 1 (Cliente busca horário para agendar).
+         * Regras de Negócio: Considera expediente, agendamentos ativos e bloqueios de
+         * agenda; período limitado.
+         *
+         * @param profissionalId ID do profissional.
+         * @param de             Primeiro dia do período (formato ISO).
+         * @param ate            Último dia do período, inclusivo (formato ISO).
+         * @return ResponseEntity com os intervalos livres e os horários disponíveis.
+         */
+        @Operation(summary = "Consulta a disponibilidade de um profissional", description = "Retorna os intervalos livres e os horários de início possíveis para uma consulta no período informado.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Disponibilidade calculada com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Período inválido ou longo demais"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @GetMapping("/disponibilidade/{profissionalId}")
+        public ResponseEntity<BaseResponse<DisponibilidadeResponseDTO>> consultarDisponibilidade(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId,
+                        @Parameter(description = "Primeiro dia do período (ex: 2024-07-22)") @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                        @Parameter(description = "Último dia do período, inclusivo (ex: 2024-07-28)") @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+                DisponibilidadeResponseDTO disponibilidade = disponibilidadeService
+                                .calcularDisponibilidade(profissionalId, de, ate);
+                return ResponseEntity.ok(BaseResponse.<DisponibilidadeResponseDTO>builder()
+                                .status(SUCESSO)
+                                .message("Disponibilidade calculada com sucesso.")
+                                .data(disponibilidade)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
         }
 
         /**
@@ -52,7 +92,7 @@ public class AgendamentoController {
          * @param clienteId          ID do cliente.
          * @param horarioAgendamento Horário da consulta (formato ISO).
          * @param tipoServico        Tipo de serviço agendado.
-         * @return ResponseEntity indicando o sucesso do agendamento.
+         * @return ResponseEntity com o agendamento criado.
          */
         @Operation(summary = "Agenda uma nova consulta", description = "Permite a um cliente agendar uma consulta com um profissional, verificando disponibilidade e enviando notificações.", responses = {
                         @ApiResponse(responseCode = "201", description = "Consulta agendada com sucesso"),
@@ -62,23 +102,53 @@ public class AgendamentoController {
                         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
         })
         @PostMapping("/agendar")
-        public ResponseEntity<BaseResponse<Boolean>> agendarConsulta(
+        public ResponseEntity<BaseResponse<AgendamentoResponseDTO>> agendarConsulta(
                         @Parameter(description = "ID do profissional para o agendamento") @RequestParam @NotNull UUID profissionalId,
                         @Parameter(description = "ID do cliente que está agendando") @RequestParam @NotNull UUID clienteId,
                         @Parameter(description = "Horário desejado para a consulta (formato ISO 8601, ex: 2024-07-25T10:00:00)") @RequestParam @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime horarioAgendamento,
                         @Parameter(description = "Tipo de serviço a ser agendado (ex: 'Consulta Online', 'Reunião Presencial')") @RequestParam @NotNull String tipoServico) {
 
-                boolean sucesso = agendamentoService.agendarConsulta(profissionalId, clienteId, horarioAgendamento,
-                                tipoServico);
+                AgendamentoResponseDTO agendamento = agendamentoService.agendarConsulta(profissionalId, clienteId,
+                                horarioAgendamento, tipoServico);
                 return ResponseEntity.status(HttpStatus.CREATED)
-                                .body(BaseResponse.<Boolean>builder()
+                                .body(BaseResponse.<AgendamentoResponseDTO>builder()
                                                 .status(SUCESSO)
                                                 .message("Consulta agendada com sucesso.")
-                                                .data(sucesso)
+                                                .data(agendamento)
                                                 .timestamp(java.time.LocalDateTime.now())
                                                 .build());
         }
 
+        /**
+         * Marca uma consulta como concluída.
+         * Regras de Negócio: Apenas o profissional do agendamento pode concluí-lo;
+         * cada consulta concluída entra nas métricas do profissional.
+         *
+         * @param agendamentoId  ID do agendamento.
+         * @param profissionalId ID do profissional que atendeu.
+         * @return ResponseEntity com o agendamento concluído.
+         */
+        @Operation(summary = "Conclui uma consulta", description = "Permite ao profissional marcar como concluída uma consulta já iniciada.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Consulta concluída com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Consulta não pode ser concluída"),
+                        @ApiResponse(responseCode = "403", description = "Profissional não é o responsável pelo agendamento"),
+                        @ApiResponse(responseCode = "404", description = "Agendamento não encontrado"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @PostMapping("/concluir")
+        public ResponseEntity<BaseResponse<AgendamentoResponseDTO>> concluirConsulta(
+                        @Parameter(description = "ID do agendamento a ser concluído") @RequestParam @NotNull UUID agendamentoId,
+                        @Parameter(description = "ID do profissional que atendeu") @RequestParam @NotNull UUID profissionalId) {
+
+                AgendamentoResponseDTO agendamento = agendamentoService.concluirConsulta(agendamentoId, profissionalId);
+                return ResponseEntity.ok(BaseResponse.<AgendamentoResponseDTO>builder()
+                                .status(SUCESSO)
+                                .message("Consulta concluída com sucesso.")
+                                .data(agendamento)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
         /**
          * Permite ao cliente avaliar uma consulta.
          * Funcionalidade Completa: Cenário 3 (Cliente avalia e influencia ranking).
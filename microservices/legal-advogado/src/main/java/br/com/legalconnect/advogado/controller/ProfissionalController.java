@@ -27,6 +27,7 @@ import br.com.legalconnect.advogado.dto.request.CertificacaoRequestDTO;
 import br.com.legalconnect.advogado.dto.request.DocumentoUploadRequest;
 import br.com.legalconnect.advogado.dto.request.ExperienciaProfissionalRequestDTO;
 import br.com.legalconnect.advogado.dto.request.FormacaoAcademicaRequestDTO;
+import br.com.legalconnect.advogado.dto.request.FotoPerfilUploadRequest;
 import br.com.legalconnect.advogado.dto.request.ProfissionalCreateRequest;
 import br.com.legalconnect.advogado.dto.request.ProfissionalUpdateRequest;
 import br.com.legalconnect.advogado.dto.response.CertificacaoResponseDTO;
@@ -40,6 +41,7 @@ import br.com.legalconnect.advogado.service.ExperienciaProfissionalService;
 import br.com.legalconnect.advogado.service.FormacaoAcademicaService;
 import br.com.legalconnect.advogado.service.ProfissionalService;
 import br.com.legalconnect.commom.dto.request.UserRequestDTO;
+import br.com.legalconnect.commom.dto.response.UserResponseDTO;
 import br.com.legalconnect.common.dto.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -720,6 +722,36 @@ public class ProfissionalController {
                                 .build());
         }
 
+        /**
+         * Realiza o upload da foto de perfil de um profissional.
+         * Funcionalidade Completa: Armazenamento da foto no S3 e geração assíncrona das
+         * variantes (thumbnail para os cards do marketplace e preview para o perfil).
+         * Regras de Negócio: Associação ao profissional e tenant, apenas imagens.
+         *
+         * @param profissionalId ID do profissional.
+         * @param request        DTO com a foto em Base64.
+         * @return ResponseEntity com o DTO do usuário atualizado.
+         */
+        @Operation(summary = "Realiza o upload da foto de perfil de um profissional", description = "Faz o upload da foto para o S3. Thumbnail e preview são gerados em segundo plano e expostos assim que disponíveis.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Foto de perfil atualizada com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Dados de requisição inválidos (ex: Base64 inválido ou arquivo não é imagem)"),
+                        @ApiResponse(responseCode = "403", description = "Acesso negado (profissional pertence a outro tenant)"),
+                        @ApiResponse(responseCode = "404", description = "Profissional não encontrado"),
+                        @ApiResponse(responseCode = "500", description = "Falha ao fazer upload da foto ou erro interno do servidor")
+        })
+        @PostMapping("/{profissionalId}/foto/upload")
+        public ResponseEntity<BaseResponse<UserResponseDTO>> uploadFotoPerfil(
+                        @Parameter(description = "ID do profissional") @PathVariable UUID profissionalId,
+                        @Valid @RequestBody FotoPerfilUploadRequest request) {
+                UserResponseDTO response = documentoService.uploadFotoPerfil(profissionalId, request);
+                return ResponseEntity.ok(BaseResponse.<UserResponseDTO>builder()
+                                .status(SUCESSO)
+                                .message("Foto de perfil atualizada com sucesso.")
+                                .data(response)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
         // --- Endpoints para Documentos ---
 
         /**
@@ -1,15 +1,21 @@
 package br.com.legalconnect.advogado.controller;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.legalconnect.advogado.dto.response.AdvogadoProximoResponseDTO;
 import br.com.legalconnect.advogado.dto.response.AreaAtuacaoResponseDTO;
+import br.com.legalconnect.advogado.dto.response.BuscaFacetadaResponseDTO;
+import br.com.legalconnect.advogado.dto.response.SugestaoResponseDTO;
 import br.com.legalconnect.advogado.service.AreaAtuacaoService;
+import br.com.legalconnect.advogado.service.IndiceFacetadoProfissionais.Faceta;
 import br.com.legalconnect.advogado.service.ProfissionalService;
 import br.com.legalconnect.common.dto.BaseResponse;
 import br.com.legalconnect.enums.StatusResponse;
@@ -102,4 +108,117 @@ public class ProfissionalPublicoController {
                                 .timestamp(java.time.LocalDateTime.now())
                                 .build());
         }
+
+        /**
+         * Busca facetada de advogados do marketplace.
+         * Filtra por qualquer combinação de área, local de atuação, idioma, tipo de
+         * atendimento, plano, estado e cidade, e devolve a página de advogados com
+         * as contagens de cada faceta.
+         *
+         * @param areas            IDs das áreas de atuação.
+         * @param locais           IDs dos locais de atuação.
+         * @param idiomas          IDs dos idiomas.
+         * @param tiposAtendimento IDs dos tipos de atendimento.
+         * @param planos           Nomes dos planos.
+         * @param estados          UFs.
+         * @param cidades          Nomes das cidades.
+         * @param page             Número da página (0-indexed).
+         * @param size             Tamanho da página.
+         * @return ResponseEntity com a página de advogados e as facetas.
+         */
+        @Operation(summary = "Busca facetada de advogados do marketplace", description = "Filtra advogados por área, local, idioma, tipo de atendimento, plano, estado e cidade (OU dentro de cada filtro, E entre filtros) e retorna as contagens por faceta.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Paginação inválida"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @GetMapping("/busca")
+        public ResponseEntity<BaseResponse<BuscaFacetadaResponseDTO>> buscarAdvogados(
+                        @RequestParam(required = false) List<String> areas,
+                        @RequestParam(required = false) List<String> locais,
+                        @RequestParam(required = false) List<String> idiomas,
+                        @RequestParam(required = false) List<String> tiposAtendimento,
+                        @RequestParam(required = false) List<String> planos,
+                        @RequestParam(required = false) List<String> estados,
+                        @RequestParam(required = false) List<String> cidades,
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "20") int size) {
+                Map<Faceta, List<String>> filtros = new EnumMap<>(Faceta.class);
+                filtros.put(Faceta.AREA, areas);
+                filtros.put(Faceta.LOCAL, locais);
+                filtros.put(Faceta.IDIOMA, idiomas);
+                filtros.put(Faceta.TIPO_ATENDIMENTO, tiposAtendimento);
+                filtros.put(Faceta.PLANO, planos);
+                filtros.put(Faceta.ESTADO, estados);
+                filtros.put(Faceta.CIDADE, cidades);
+                BuscaFacetadaResponseDTO response = pessoaService.buscarAdvogadosFacetado(filtros, page, size);
+
+                return ResponseEntity.ok(BaseResponse.<BuscaFacetadaResponseDTO>builder()
+                                .status(StatusResponse.SUCESSO)
+                                .message("Busca de advogados realizada com sucesso.")
+                                .data(response)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
+        /**
+         * Autocompletar da busca de advogados.
+         * Sugere nomes de advogados, cidades e áreas de atuação que começam com o
+         * texto digitado, sem diferenciar acentos nem maiúsculas.
+         *
+         * @param q      Texto digitado.
+         * @param tipo   Tipo de sugestão (ADVOGADO, CIDADE ou AREA), opcional.
+         * @param limite Quantidade máxima de sugestões.
+         * @return ResponseEntity com a lista de sugestões.
+         */
+        @Operation(summary = "Autocompletar da busca de advogados", description = "Retorna sugestões de nomes de advogados, cidades e áreas de atuação que começam com o texto informado.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Sugestões listadas com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @GetMapping("/sugestoes")
+        public ResponseEntity<BaseResponse<List<SugestaoResponseDTO>>> sugerir(
+                        @RequestParam String q,
+                        @RequestParam(required = false) String tipo,
+                        @RequestParam(defaultValue = "10") int limite) {
+                List<SugestaoResponseDTO> response = pessoaService.sugerir(q, tipo, limite);
+
+                return ResponseEntity.ok(BaseResponse.<List<SugestaoResponseDTO>>builder()
+                                .status(StatusResponse.SUCESSO)
+                                .message("Sugestões listadas com sucesso.")
+                                .data(response)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
+
+        /**
+         * Busca advogados com escritório próximo a um ponto ("advogados perto de
+         * mim"), do mais próximo ao mais distante.
+         *
+         * @param latitude  Latitude do ponto de referência.
+         * @param longitude Longitude do ponto de referência.
+         * @param raioKm    Raio máximo, em quilômetros.
+         * @param limite    Quantidade máxima de resultados.
+         * @return ResponseEntity com a lista de advogados e distâncias.
+         */
+        @Operation(summary = "Busca advogados próximos", description = "Retorna os advogados do marketplace com escritório dentro do raio informado, ordenados pela distância.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Advogados listados com sucesso"),
+                        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+                        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+        })
+        @GetMapping("/proximos")
+        public ResponseEntity<BaseResponse<List<AdvogadoProximoResponseDTO>>> buscarProximos(
+                        @RequestParam double latitude,
+                        @RequestParam double longitude,
+                        @RequestParam(defaultValue = "20") double raioKm,
+                        @RequestParam(defaultValue = "20") int limite) {
+                List<AdvogadoProximoResponseDTO> response = pessoaService.buscarAdvogadosProximos(latitude, longitude,
+                                raioKm, limite);
+
+                return ResponseEntity.ok(BaseResponse.<List<AdvogadoProximoResponseDTO>>builder()
+                                .status(StatusResponse.SUCESSO)
+                                .message("Advogados próximos listados com sucesso.")
+                                .data(response)
+                                .timestamp(java.time.LocalDateTime.now())
+                                .build());
+        }
 }
@@ -0,0 +1,81 @@
+package br.com.legalconnect.advogado.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.legalconnect.common.dto.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Consulta agendada entre um cliente e um profissional.
+ * O intervalo [inicio, fim) de agendamentos não cancelados de um mesmo
+ * profissional não pode se sobrepor: a regra é garantida no banco por uma
+ * constraint de exclusão (ver migração V4), o que impede agendamentos
+ * duplicados mesmo sob requisições concorrentes.
+ */
+@Entity
+@Table(name = "tb_agendamento", indexes = {
+        @Index(name = "idx_agendamento_profissional_inicio", columnList = "profissional_id, inicio")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class Agendamento extends BaseEntity {
+
+    /**
+     * Duração máxima de um agendamento, garantida pela constraint
+     * ck_agendamento_duracao_maxima (migração V16). Limita a faixa do índice
+     * lida nas verificações de sobreposição.
+     */
+    public static final Duration DURACAO_MAXIMA = Duration.ofHours(8);
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profissional_id", nullable = false)
+    private Profissional profissional;
+
+    @Column(name = "cliente_id", nullable = false)
+    private UUID clienteId;
+
+    @Column(name = "inicio", nullable = false)
+    private LocalDateTime inicio; // Início da consulta (inclusivo)
+
+    @Column(name = "fim", nullable = false)
+    private LocalDateTime fim; // Fim da consulta (exclusivo)
+
+    @Column(name = "tipo_servico", nullable = false, length = 255)
+    private String tipoServico;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AgendamentoStatus status;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    /**
+     * @enum AgendamentoStatus
+     * @brief Situação de um agendamento. Apenas agendamentos CANCELADO liberam o
+     *        horário para novas marcações.
+     */
+    public enum AgendamentoStatus {
+        AGENDADO,
+        CONCLUIDO,
+        CANCELADO
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.legalconnect.advogado.domain;
+
+import java.util.UUID;
+
+import br.com.legalconnect.common.dto.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Avaliação de uma consulta feita pelo cliente. Cada agendamento recebe no
+ * máximo uma avaliação.
+ */
+@Entity
+@Table(name = "tb_avaliacao")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class Avaliacao extends BaseEntity {
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "agendamento_id", nullable = false, unique = true)
+    private Agendamento agendamento;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profissional_id", nullable = false)
+    private Profissional profissional;
+
+    @Column(name = "cliente_id", nullable = false)
+    private UUID clienteId;
+
+    @Column(name = "nota", nullable = false)
+    private Integer nota; // De 1 a 5
+
+    @Column(name = "comentario", columnDefinition = "TEXT")
+    private String comentario;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+}
@@ -0,0 +1,73 @@
+package br.com.legalconnect.advogado.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Agregado das avaliações de um profissional: total, soma das notas e
+ * histograma por nota.
+ * Mantido de forma incremental a cada nova avaliação (ver
+ * {@link br.com.legalconnect.advogado.repository.AvaliacaoAgregadaRepository#registrarNota}),
+ * para que cards e ranking leiam valores prontos em vez de agregar
+ * tb_avaliacao a cada requisição.
+ * A chave é o próprio ID do profissional.
+ */
+@Entity
+@Table(name = "tb_avaliacao_agregada")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvaliacaoAgregada {
+
+    @Id
+    @Column(name = "profissional_id", nullable = false)
+    private UUID profissionalId;
+
+    @Column(name = "total", nullable = false)
+    private Integer total;
+
+    @Column(name = "soma", nullable = false)
+    private Long soma;
+
+    @Column(name = "nota_1", nullable = false)
+    private Integer nota1;
+
+    @Column(name = "nota_2", nullable = false)
+    private Integer nota2;
+
+    @Column(name = "nota_3", nullable = false)
+    private Integer nota3;
+
+    @Column(name = "nota_4", nullable = false)
+    private Integer nota4;
+
+    @Column(name = "nota_5", nullable = false)
+    private Integer nota5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Média das notas, arredondada em uma casa decimal.
+     *
+     * @return A média, ou null se não houver avaliações.
+     */
+    public Double getMedia() {
+        if (total == null || total == 0) {
+            return null;
+        }
+        return Math.round(soma * 10.0 / total) / 10.0;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.legalconnect.advogado.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.legalconnect.common.dto.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Período em que o profissional não atende (férias, audiências, compromissos
+ * pessoais), descontado dos horários livres.
+ */
+@Entity
+@Table(name = "tb_bloqueio_agenda", indexes = {
+        @Index(name = "idx_bloqueio_agenda_profissional_inicio", columnList = "profissional_id, inicio")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class BloqueioAgenda extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profissional_id", nullable = false)
+    private Profissional profissional;
+
+    @Column(name = "inicio", nullable = false)
+    private LocalDateTime inicio; // Início do bloqueio (inclusivo)
+
+    @Column(name = "fim", nullable = false)
+    private LocalDateTime fim; // Fim do bloqueio (exclusivo)
+
+    @Column(name = "motivo", length = 255)
+    private String motivo;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+}
@@ -33,6 +33,12 @@ public class Documento extends BaseEntity {
     @Column(name = "tipo_documento", nullable = false, length = 100)
     private String tipoDocumento; // Mapeia o enum DocumentoTipo como String
 
+    @Column(name = "url_thumbnail", length = 500)
+    private String urlThumbnail; // Variante reduzida (imagens e 1ª página de PDFs), gerada após o upload
+
+    @Column(name = "url_preview", length = 500)
+    private String urlPreview; // Variante de pré-visualização, gerada após o upload
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "profissional_id", nullable = false)
     private Profissional profissional;
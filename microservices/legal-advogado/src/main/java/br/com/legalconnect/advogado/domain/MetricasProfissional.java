@@ -0,0 +1,51 @@
+package br.com.legalconnect.advogado.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Projeção materializada das métricas exibidas no card do advogado
+ * (satisfação, casos concluídos e senioridade).
+ * Mantida de forma incremental pelos eventos de domínio tratados no
+ * {@link br.com.legalconnect.advogado.service.MetricasProfissionalService};
+ * cards e ranking apenas leem esta tabela.
+ * A chave é o próprio ID do profissional.
+ */
+@Entity
+@Table(name = "tb_metricas_profissional")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MetricasProfissional {
+
+    @Id
+    @Column(name = "profissional_id", nullable = false)
+    private UUID profissionalId;
+
+    @Column(name = "satisfacao")
+    private Double satisfacao; // Fração de avaliações com nota 4 ou 5; nulo sem avaliações
+
+    @Column(name = "casos_concluidos", nullable = false)
+    private Integer casosConcluidos;
+
+    @Column(name = "anos_experiencia", nullable = false)
+    private Integer anosExperiencia;
+
+    @Column(name = "nivel", length = 20)
+    private String nivel; // Júnior, Pleno ou Sênior
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
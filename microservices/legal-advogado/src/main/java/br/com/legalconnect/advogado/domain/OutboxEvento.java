@@ -0,0 +1,84 @@
+package br.com.legalconnect.advogado.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import br.com.legalconnect.common.dto.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Efeito colateral (agenda externa, e-mail) registrado na mesma transação da
+ * operação de negócio que o originou e executado depois, em segundo plano,
+ * pelo {@link br.com.legalconnect.advogado.service.OutboxRelay}.
+ * O campo proximaTentativa serve tanto para o backoff entre falhas quanto como
+ * prazo de posse de um evento em processamento: se a instância que o reservou
+ * cair, o evento volta a ser elegível quando o prazo expira.
+ */
+@Entity
+@Table(name = "tb_outbox_evento", indexes = {
+        @Index(name = "idx_outbox_evento_status_proxima", columnList = "status, proxima_tentativa")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class OutboxEvento extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 50)
+    private TipoEvento tipo;
+
+    @Column(name = "agregado_id", nullable = false)
+    private UUID agregadoId; // Ex.: ID do agendamento que originou o evento
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // Dados do efeito colateral em JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusEvento status;
+
+    @Column(name = "tentativas", nullable = false)
+    private Integer tentativas;
+
+    @Column(name = "proxima_tentativa", nullable = false)
+    private LocalDateTime proximaTentativa;
+
+    @Column(name = "ultimo_erro", columnDefinition = "TEXT")
+    private String ultimoErro;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    /**
+     * @enum TipoEvento
+     * @brief Tipos de efeito colateral tratados pelo relay.
+     */
+    public enum TipoEvento {
+        CALENDARIO_ADICIONAR_EVENTO,
+        EMAIL_CONFIRMACAO_AGENDAMENTO
+    }
+
+    /**
+     * @enum StatusEvento
+     * @brief Ciclo de vida de um evento: PENDENTE -> PROCESSANDO -> PROCESSADO,
+     *        ou FALHA após esgotar as tentativas.
+     */
+    public enum StatusEvento {
+        PENDENTE,
+        PROCESSANDO,
+        PROCESSADO,
+        FALHA
+    }
+}
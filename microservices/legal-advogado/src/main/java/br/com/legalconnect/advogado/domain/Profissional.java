@@ -1,9 +1,12 @@
 package br.com.legalconnect.advogado.domain;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+
 import br.com.legalconnect.commom.model.Pessoa;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
@@ -32,9 +35,19 @@ import lombok.experimental.SuperBuilder; // Adicionado para consistência
 @SuperBuilder // Adicionado para consistência
 public class Profissional extends Pessoa {
 
+    /**
+     * Quantidade de profissionais cujas coleções são inicializadas por consulta
+     * ao acessar uma delas (IN com os IDs pendentes no contexto de
+     * persistência), evitando uma consulta por profissional em listagens.
+     */
+    public static final int TAMANHO_LOTE_COLECOES = 50;
+
     @Column(name = "numero_oab", nullable = false, unique = true, length = 50)
     private String numeroOab;
 
+    @Column(name = "data_inscricao_oab")
+    private LocalDate dataInscricaoOab; // Usada no cálculo de senioridade
+
     @Column(name = "status_profissional", nullable = false, length = 50)
     private String statusProfissional; // Mapeia o enum do domínio (StatusProfissional) como String
 
@@ -57,15 +70,19 @@ public class Profissional extends Pessoa {
     @Column(name = "tenant_id", nullable = false)
     private UUID tenantId;
 
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @OneToMany(mappedBy = "profissional", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Certificacao> certificacoes = new HashSet<>();
 
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @OneToMany(mappedBy = "profissional", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Documento> documentos = new HashSet<>();
 
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @OneToMany(mappedBy = "profissional", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<ExperienciaProfissional> experiencias = new HashSet<>();
 
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @OneToMany(mappedBy = "profissional", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<FormacaoAcademica> formacoes = new HashSet<>();
 
@@ -73,6 +90,7 @@ public class Profissional extends Pessoa {
     // Data)
     // Se LocalAtuacao for um serviço separado, esta é a forma correta de
     // referenciar por ID.
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "tb_profissional_local_atuacao", joinColumns = @JoinColumn(name = "profissional_id"))
     @Column(name = "local_atuacao_id", nullable = false)
@@ -80,12 +98,14 @@ public class Profissional extends Pessoa {
 
     // Tabela de junção para áreas de atuação (muitos-para-muitos com IDs de Master
     // Data)
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "tb_profissional_area_atuacao", joinColumns = @JoinColumn(name = "profissional_id"))
     @Column(name = "area_atuacao_id", nullable = false)
     private Set<UUID> areaAtuacaoIds = new HashSet<>();
 
     // Tabela de junção para idiomas (muitos-para-muitos com IDs de Master Data)
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "tb_profissional_idioma", joinColumns = @JoinColumn(name = "profissional_id"))
     @Column(name = "idioma_id", nullable = false)
@@ -93,11 +113,13 @@ public class Profissional extends Pessoa {
 
     // Tabela de junção para tipos de atendimento (muitos-para-muitos com IDs de
     // Master Data)
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "tb_profissional_tipo_atendimento", joinColumns = @JoinColumn(name = "profissional_id"))
     @Column(name = "tipo_atendimento_id", nullable = false)
     private Set<UUID> tipoAtendimentoIds = new HashSet<>();
 
+    @BatchSize(size = TAMANHO_LOTE_COLECOES)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "tb_profissional_roles", joinColumns = @JoinColumn(name = "profissional_id"), inverseJoinColumns = @JoinColumn(name = "role_profissional_id"))
     private Set<RoleProfissional> roleProfissionals = new HashSet<>();
@@ -0,0 +1,18 @@
+package br.com.legalconnect.advogado.domain.evento;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento de domínio publicado quando uma nova avaliação de consulta é gravada.
+ * Consumido de forma síncrona, na mesma transação, pelo
+ * {@link br.com.legalconnect.advogado.service.MetricasProfissionalService}.
+ */
+@Getter
+@AllArgsConstructor
+public class AvaliacaoRegistradaEvent {
+    private final UUID profissionalId;
+    private final UUID avaliacaoId;
+}
@@ -0,0 +1,19 @@
+package br.com.legalconnect.advogado.domain.evento;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento de domínio publicado quando uma consulta passa para o status
+ * CONCLUIDO.
+ * Consumido de forma síncrona, na mesma transação, pelo
+ * {@link br.com.legalconnect.advogado.service.MetricasProfissionalService}.
+ */
+@Getter
+@AllArgsConstructor
+public class ConsultaConcluidaEvent {
+    private final UUID profissionalId;
+    private final UUID agendamentoId;
+}
@@ -0,0 +1,20 @@
+package br.com.legalconnect.advogado.domain.evento;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento de domínio publicado quando dados que influenciam a senioridade do
+ * profissional (experiências, data de inscrição na OAB) são alterados.
+ * Consumido de forma síncrona, na mesma transação, pelo
+ * {@link br.com.legalconnect.advogado.service.MetricasProfissionalService}, e
+ * após o commit pelo
+ * {@link br.com.legalconnect.advogado.service.IndiceFacetadoProfissionais}.
+ */
+@Getter
+@AllArgsConstructor
+public class PerfilProfissionalAlteradoEvent {
+    private final UUID profissionalId;
+}
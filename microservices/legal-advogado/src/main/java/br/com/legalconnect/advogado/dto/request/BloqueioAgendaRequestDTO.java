@@ -0,0 +1,30 @@
+package br.com.legalconnect.advogado.dto.request;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para requisição de Bloqueio de Agenda.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BloqueioAgendaRequestDTO {
+
+    @NotNull(message = "O início do bloqueio é obrigatório.")
+    private LocalDateTime inicio;
+
+    @NotNull(message = "O fim do bloqueio é obrigatório.")
+    private LocalDateTime fim;
+
+    @Size(max = 255, message = "O motivo do bloqueio deve ter no máximo 255 caracteres.")
+    private String motivo;
+}
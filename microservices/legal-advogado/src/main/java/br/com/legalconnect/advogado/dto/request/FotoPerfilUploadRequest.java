@@ -0,0 +1,32 @@
+package br.com.legalconnect.advogado.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para requisição de upload da foto de perfil do profissional.
+ * A foto original é enviada ao S3 e as variantes (thumbnail e preview) são
+ * geradas de forma assíncrona.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FotoPerfilUploadRequest {
+    @NotBlank(message = "O nome do arquivo é obrigatório.")
+    @Size(max = 255, message = "O nome do arquivo deve ter no máximo 255 caracteres.")
+    private String nomeArquivo;
+
+    @NotBlank(message = "O conteúdo do arquivo em Base64 é obrigatório.")
+    private String arquivoBase64;
+
+    @NotBlank(message = "O tipo MIME do arquivo é obrigatório.")
+    @Size(max = 100, message = "O tipo MIME do arquivo deve ter no máximo 100 caracteres.")
+    private String mimeType;
+}
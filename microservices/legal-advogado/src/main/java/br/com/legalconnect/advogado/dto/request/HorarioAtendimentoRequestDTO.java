@@ -0,0 +1,30 @@
+package br.com.legalconnect.advogado.dto.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para requisição de uma faixa da grade semanal de atendimento.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HorarioAtendimentoRequestDTO {
+
+    @NotNull(message = "O dia da semana é obrigatório.")
+    private DayOfWeek diaSemana;
+
+    @NotNull(message = "A hora de início é obrigatória.")
+    private LocalTime horaInicio;
+
+    @NotNull(message = "A hora de fim é obrigatória.")
+    private LocalTime horaFim;
+}
@@ -1,5 +1,6 @@
 package br.com.legalconnect.advogado.dto.request;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -7,6 +8,7 @@ import br.com.legalconnect.commom.dto.request.PessoaRequestDTO; // Importar Pess
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -28,6 +30,9 @@ public class ProfissionalCreateRequest extends PessoaRequestDTO {
     @Size(min = 5, max = 50, message = "O número da OAB deve ter entre 5 e 50 caracteres.")
     private String numeroOab;
 
+    @PastOrPresent(message = "A data de inscrição na OAB não pode ser futura.")
+    private LocalDate dataInscricaoOab;
+
     @NotNull(message = "A indicação de uso do marketplace é obrigatória.")
     private Boolean usaMarketplace;
 
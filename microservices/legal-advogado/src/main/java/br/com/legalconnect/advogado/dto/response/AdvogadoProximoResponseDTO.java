@@ -0,0 +1,22 @@
+package br.com.legalconnect.advogado.dto.response;
+
+import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para resposta da busca de advogados por proximidade.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdvogadoProximoResponseDTO {
+    private AdvogadoResponseDTO advogado;
+    private double distanciaKm; // Distância até o escritório mais próximo
+}
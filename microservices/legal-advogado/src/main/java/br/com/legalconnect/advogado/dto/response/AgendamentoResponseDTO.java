@@ -0,0 +1,29 @@
+package br.com.legalconnect.advogado.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para resposta de Agendamento.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgendamentoResponseDTO {
+    private UUID id;
+    private UUID profissionalId;
+    private UUID clienteId;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+    private String tipoServico;
+    private String status;
+}
@@ -0,0 +1,27 @@
+package br.com.legalconnect.advogado.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para resposta de Bloqueio de Agenda.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BloqueioAgendaResponseDTO {
+    private UUID id;
+    private UUID profissionalId;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+    private String motivo;
+}
@@ -0,0 +1,28 @@
+package br.com.legalconnect.advogado.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para resposta da busca facetada de advogados do marketplace.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BuscaFacetadaResponseDTO {
+    private List<AdvogadoResponseDTO> advogados; // Página atual, na ordem de exibição
+    private int total; // Total de advogados que atendem aos filtros
+    private int page;
+    private int size;
+    private Map<String, Map<String, Integer>> facetas; // Faceta -> valor -> quantidade
+}
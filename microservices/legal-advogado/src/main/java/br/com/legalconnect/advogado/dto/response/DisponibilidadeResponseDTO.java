@@ -0,0 +1,39 @@
+package br.com.legalconnect.advogado.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para resposta de disponibilidade de um profissional em um período.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DisponibilidadeResponseDTO {
+    private UUID profissionalId;
+    private LocalDate de;
+    private LocalDate ate;
+    private List<IntervaloDTO> intervalosLivres; // Trechos livres contínuos
+    private List<LocalDateTime> horariosDisponiveis; // Inícios possíveis para uma consulta
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class IntervaloDTO {
+        private LocalDateTime inicio;
+        private LocalDateTime fim;
+    }
+}
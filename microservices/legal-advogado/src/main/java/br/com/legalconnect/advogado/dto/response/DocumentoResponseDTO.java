@@ -22,4 +22,6 @@ public class DocumentoResponseDTO {
     private String nomeArquivo;
     private String urlS3;
     private String tipoDocumento;
+    private String urlThumbnail; // Nulo enquanto as variantes não forem geradas
+    private String urlPreview;
 }
\ No newline at end of file
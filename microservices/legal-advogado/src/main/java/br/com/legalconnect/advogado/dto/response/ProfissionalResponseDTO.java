@@ -1,5 +1,6 @@
 package br.com.legalconnect.advogado.dto.response;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,6 +27,7 @@ public class ProfissionalResponseDTO {
     private PessoaResponseDTO pessoa; // Composição: Profissional 'tem uma' Pessoa
 
     private String numeroOab;
+    private LocalDate dataInscricaoOab;
     private String statusProfissional;
     private Boolean usaMarketplace;
     private Boolean fazParteDePlano;
@@ -0,0 +1,24 @@
+package br.com.legalconnect.advogado.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para resposta do autocompletar da busca de advogados.
+ * 
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SugestaoResponseDTO {
+    private String tipo; // ADVOGADO, CIDADE ou AREA
+    private String id; // ID do advogado ou da área; para cidades, "UF/cidade"
+    private String texto; // Texto exibido (nome, cidade ou área)
+    private String complemento; // UF, para cidades
+    private int quantidade; // Advogados associados (cidades e áreas)
+}
@@ -1,18 +1,24 @@
 package br.com.legalconnect.advogado.mapper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import br.com.legalconnect.advogado.domain.AvaliacaoAgregada;
+import br.com.legalconnect.advogado.domain.MetricasProfissional;
 import br.com.legalconnect.advogado.domain.Profissional;
 import br.com.legalconnect.advogado.repository.AreaAtuacaoRepository;
+import br.com.legalconnect.advogado.repository.AvaliacaoAgregadaRepository;
 import br.com.legalconnect.advogado.repository.LocalAtuacaoRepository;
+import br.com.legalconnect.advogado.repository.MetricasProfissionalRepository;
 import br.com.legalconnect.advogado.repository.TipoAtendimentoRepository;
 import br.com.legalconnect.commom.model.Endereco;
 import br.com.legalconnect.perfilcardadvogado.dto.response.AdvogadoResponseDTO; // Import atualizado
@@ -33,43 +39,67 @@ public abstract class AdvogadoMapper {
     protected LocalAtuacaoRepository localAtuacaoRepository;
     @Autowired
     protected TipoAtendimentoRepository tipoAtendimentoRepository;
+    @Autowired
+    protected AvaliacaoAgregadaRepository avaliacaoAgregadaRepository;
+    @Autowired
+    protected MetricasProfissionalRepository metricasProfissionalRepository;
+
+    /**
+     * Converte um único profissional, buscando suas projeções (avaliações e
+     * métricas). Para listas, prefira a sobrecarga com as projeções carregadas
+     * em lote.
+     *
+     * @param profissional O profissional.
+     * @return O DTO do card do advogado.
+     */
+    public AdvogadoResponseDTO toAdvogadoResponseDTO(Profissional profissional) {
+        UUID id = profissional.getId();
+        Map<UUID, AvaliacaoAgregada> avaliacoes = avaliacaoAgregadaRepository.findById(id)
+                .map(agregada -> Map.of(id, agregada))
+                .orElse(Map.of());
+        Map<UUID, MetricasProfissional> metricas = metricasProfissionalRepository.findById(id)
+                .map(m -> Map.of(id, m))
+                .orElse(Map.of());
+        return toAdvogadoResponseDTO(profissional, new ProjecoesCard(avaliacoes, metricas));
+    }
 
     @Mapping(source = "id", target = "id")
     @Mapping(source = "numeroOab", target = "oab")
     @Mapping(source = "fazParteDePlano", target = "fazParteDePlano")
     @Mapping(source = "usuario.nomeCompleto", target = "nome")
     @Mapping(source = "usuario.fotoUrl", target = "fotoUrl")
+    @Mapping(source = "usuario.fotoThumbnailUrl", target = "fotoThumbnailUrl")
     @Mapping(source = "plano.nome", target = "nomePlano") // Mapeia o nome do plano
     // Mapeamentos para campos que precisam de lógica customizada ou agregação
-    @Mapping(target = "avaliacao", expression = "java(calcularMediaAvaliacao(profissional))")
-    @Mapping(target = "numAvaliacoes", expression = "java(calcularNumAvaliacoes(profissional))")
+    @Mapping(target = "avaliacao", expression = "java(calcularMediaAvaliacao(profissional, projecoes))")
+    @Mapping(target = "numAvaliacoes", expression = "java(calcularNumAvaliacoes(profissional, projecoes))")
     @Mapping(target = "bio", expression = "java(getBio(profissional))")
     @Mapping(target = "especialidades", expression = "java(mapAreaAtuacaoIdsToNomes(profissional.getAreaAtuacaoIds()))")
     @Mapping(target = "localizacao", expression = "java(mapLocalizacao(profissional))")
     @Mapping(target = "estado", expression = "java(mapEstado(profissional))")
     @Mapping(target = "municipio", expression = "java(mapMunicipio(profissional))")
     @Mapping(target = "verificadoOAB", expression = "java(isOABVerificada(profissional))")
-    @Mapping(target = "nivel", expression = "java(getNivelProfissional(profissional))")
+    @Mapping(target = "nivel", expression = "java(getNivelProfissional(profissional, projecoes))")
     @Mapping(target = "formacao", expression = "java(getUltimaFormacao(profissional))")
-    @Mapping(target = "metricas", expression = "java(mapMetricas(profissional))")
+    @Mapping(target = "metricas", expression = "java(mapMetricas(profissional, projecoes))")
     @Mapping(target = "servicos", expression = "java(mapServicos(profissional))")
-    public abstract AdvogadoResponseDTO toAdvogadoResponseDTO(Profissional profissional);
+    public abstract AdvogadoResponseDTO toAdvogadoResponseDTO(Profissional profissional,
+            @Context ProjecoesCard projecoes);
 
     // Métodos de mapeamento customizados
 
     @Named("calcularMediaAvaliacao")
-    protected Double calcularMediaAvaliacao(Profissional profissional) {
-        // Lógica para calcular a média de avaliação.
-        // Assumindo que a entidade Profissional não tem um campo de avaliação direta,
-        // isso viria de um relacionamento com Avaliacoes.
-        // Por simplicidade, retornamos um valor fixo ou aleatório.
-        return 4.5; // Exemplo
+    protected Double calcularMediaAvaliacao(Profissional profissional, ProjecoesCard projecoes) {
+        // Lê a média do agregado mantido a cada nova avaliação; null se ainda não
+        // houver avaliações.
+        AvaliacaoAgregada agregada = projecoes.avaliacaoDe(profissional.getId());
+        return agregada != null ? agregada.getMedia() : null;
     }
 
     @Named("calcularNumAvaliacoes")
-    protected Integer calcularNumAvaliacoes(Profissional profissional) {
-        // Lógica para obter o número de avaliações.
-        return 120; // Exemplo
+    protected Integer calcularNumAvaliacoes(Profissional profissional, ProjecoesCard projecoes) {
+        AvaliacaoAgregada agregada = projecoes.avaliacaoDe(profissional.getId());
+        return agregada != null ? agregada.getTotal() : 0;
     }
 
     @Named("getBio")
@@ -129,11 +159,11 @@ public abstract class AdvogadoMapper {
     }
 
     @Named("getNivelProfissional")
-    protected String getNivelProfissional(Profissional profissional) {
-        // Lógica para determinar o nível (Júnior, Pleno, Sênior) com base na
-        // experiência,
-        // tempo de OAB, ou algum campo específico na entidade Profissional.
-        return "Sênior"; // Exemplo
+    protected String getNivelProfissional(Profissional profissional, ProjecoesCard projecoes) {
+        // Nível (Júnior, Pleno, Sênior) pré-calculado pelo MetricasProfissionalService
+        // a partir das experiências e do tempo de OAB; null enquanto não calculado.
+        MetricasProfissional metricas = projecoes.metricasDe(profissional.getId());
+        return metricas != null ? metricas.getNivel() : null;
     }
 
     @Named("getUltimaFormacao")
@@ -147,12 +177,13 @@ public abstract class AdvogadoMapper {
     }
 
     @Named("mapMetricas")
-    protected MetricasDTO mapMetricas(Profissional profissional) {
-        // Simulação de métricas. Em um cenário real, isso viria de dados de
-        // performance.
+    protected MetricasDTO mapMetricas(Profissional profissional, ProjecoesCard projecoes) {
+        // Métricas mantidas pelos eventos de domínio (consulta concluída, avaliação
+        // registrada); o card apenas as lê.
+        MetricasProfissional metricas = projecoes.metricasDe(profissional.getId());
         return MetricasDTO.builder()
-                .satisfacao(0.95) // Exemplo: 95% de satisfação
-                .casosConcluidos(50) // Exemplo: 50 casos concluídos
+                .satisfacao(metricas != null ? metricas.getSatisfacao() : null)
+                .casosConcluidos(metricas != null ? metricas.getCasosConcluidos() : 0)
                 .build();
     }
 
@@ -30,6 +30,8 @@ public interface DocumentoMapper {
      * @return A entidade Documento correspondente.
      */
     @Mapping(target = "urlS3", ignore = true) // Preenchido após o upload bem-sucedido
+    @Mapping(target = "urlThumbnail", ignore = true) // Preenchido de forma assíncrona pelo ThumbnailService
+    @Mapping(target = "urlPreview", ignore = true) // Preenchido de forma assíncrona pelo ThumbnailService
     @Mapping(target = "profissional", ignore = true) // Relacionamento com Profissional, preenchido no serviço
     @Mapping(target = "tenantId", ignore = true) // TenantId, preenchido no serviço
     @Mapping(source = "tipoDocumento", target = "tipoDocumento", qualifiedByName = "mapDocumentoTipoToString")
@@ -47,13 +49,16 @@ public interface DocumentoMapper {
     /**
      * Atualiza uma entidade Documento existente com os dados de um
      * DocumentoUploadRequest.
-     * Campos ignorados: 'id', 'urlS3', 'profissional', 'tenantId'.
+     * Campos ignorados: 'id', 'urlS3', 'urlThumbnail', 'urlPreview',
+     * 'profissional', 'tenantId'.
      *
      * @param dto    O DTO de requisição.
      * @param entity A entidade Documento a ser atualizada.
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "urlS3", ignore = true)
+    @Mapping(target = "urlThumbnail", ignore = true)
+    @Mapping(target = "urlPreview", ignore = true)
     @Mapping(target = "profissional", ignore = true)
     @Mapping(target = "tenantId", ignore = true)
     @Mapping(source = "tipoDocumento", target = "tipoDocumento", qualifiedByName = "mapDocumentoTipoToString")
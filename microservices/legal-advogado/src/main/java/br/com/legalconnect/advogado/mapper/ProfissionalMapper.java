@@ -9,6 +9,7 @@ import br.com.legalconnect.advogado.domain.Profissional;
 import br.com.legalconnect.advogado.dto.request.ProfissionalCreateRequest;
 import br.com.legalconnect.advogado.dto.request.ProfissionalUpdateRequest;
 import br.com.legalconnect.advogado.dto.response.ProfissionalResponseDTO;
+import br.com.legalconnect.commom.mapper.EnderecoMapper;
 import br.com.legalconnect.commom.mapper.PessoaMapper;
 
 /**
@@ -19,6 +20,7 @@ import br.com.legalconnect.commom.mapper.PessoaMapper;
  */
 @Mapper(componentModel = "spring", uses = {
         PessoaMapper.class,
+        EnderecoMapper.class, // Endereços sem latitude/longitude, derivadas do CEP ao gravar
         CertificacaoMapper.class,
         DocumentoMapper.class,
         ExperienciaProfissionalMapper.class,
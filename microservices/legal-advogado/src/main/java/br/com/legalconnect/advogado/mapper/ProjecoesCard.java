@@ -0,0 +1,29 @@
+package br.com.legalconnect.advogado.mapper;
+
+import java.util.Map;
+import java.util.UUID;
+
+import br.com.legalconnect.advogado.domain.AvaliacaoAgregada;
+import br.com.legalconnect.advogado.domain.MetricasProfissional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Contexto do {@link AdvogadoMapper}: projeções pré-calculadas (avaliações e
+ * métricas) indexadas pelo ID do profissional, carregadas em lote para uma
+ * página inteira de cards.
+ */
+@Getter
+@AllArgsConstructor
+public class ProjecoesCard {
+    private final Map<UUID, AvaliacaoAgregada> avaliacoes;
+    private final Map<UUID, MetricasProfissional> metricas;
+
+    public AvaliacaoAgregada avaliacaoDe(UUID profissionalId) {
+        return avaliacoes.get(profissionalId);
+    }
+
+    public MetricasProfissional metricasDe(UUID profissionalId) {
+        return metricas.get(profissionalId);
+    }
+}
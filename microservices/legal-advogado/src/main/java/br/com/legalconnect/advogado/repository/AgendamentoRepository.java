@@ -0,0 +1,95 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.Agendamento;
+import br.com.legalconnect.advogado.domain.Agendamento.AgendamentoStatus;
+
+/**
+ * Repositório para a entidade {@link Agendamento}.
+ * Gerencia a persistência das consultas agendadas dos profissionais.
+ */
+@Repository
+public interface AgendamentoRepository extends JpaRepository<Agendamento, UUID> {
+
+    /**
+     * Verifica se existe agendamento ativo do profissional que se sobreponha ao
+     * intervalo [inicio, fim).
+     * Como nenhum agendamento dura mais que {@link Agendamento#DURACAO_MAXIMA}
+     * (constraint ck_agendamento_duracao_maxima), só podem se sobrepor os que
+     * começam em (inicio - DURACAO_MAXIMA, fim): a faixa lida no índice
+     * (profissional_id, inicio) fica limitada a esse intervalo.
+     * Serve para devolver um erro amigável antes do INSERT; a garantia contra
+     * corridas é a constraint de exclusão da tabela.
+     *
+     * @param profissionalId O ID do profissional.
+     * @param inicio         Início do intervalo (inclusivo).
+     * @param fim            Fim do intervalo (exclusivo).
+     * @return true se houver conflito, false caso contrário.
+     */
+    default boolean existsConflito(UUID profissionalId, LocalDateTime inicio, LocalDateTime fim) {
+        return existsConflito(profissionalId, inicio, fim, inicio.minus(Agendamento.DURACAO_MAXIMA),
+                AgendamentoStatus.CANCELADO);
+    }
+
+    @Query("SELECT COUNT(a) > 0 FROM Agendamento a WHERE a.profissional.id = :profissionalId "
+            + "AND a.status <> :cancelado "
+            + "AND a.inicio > :inicioMinimo AND a.inicio < :fim AND a.fim > :inicio")
+    boolean existsConflito(@Param("profissionalId") UUID profissionalId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("inicioMinimo") LocalDateTime inicioMinimo,
+            @Param("cancelado") AgendamentoStatus cancelado);
+
+    /**
+     * Busca os agendamentos ativos de vários profissionais que se sobrepõem ao
+     * período, ordenados por início. Usada no cálculo de horários livres.
+     * O limite inferior de inicio segue a mesma regra de
+     * {@link #existsConflito(UUID, LocalDateTime, LocalDateTime)}.
+     *
+     * @param profissionalIds Os IDs dos profissionais.
+     * @param inicio          Início do período (inclusivo).
+     * @param fim             Fim do período (exclusivo).
+     * @return Lista de agendamentos.
+     */
+    default List<Agendamento> findAtivosSobrepostos(Collection<UUID> profissionalIds, LocalDateTime inicio,
+            LocalDateTime fim) {
+        return findAtivosSobrepostos(profissionalIds, inicio, fim, inicio.minus(Agendamento.DURACAO_MAXIMA),
+                AgendamentoStatus.CANCELADO);
+    }
+
+    @Query("SELECT a FROM Agendamento a WHERE a.profissional.id IN :profissionalIds "
+            + "AND a.status <> :cancelado "
+            + "AND a.inicio > :inicioMinimo AND a.inicio < :fim AND a.fim > :inicio ORDER BY a.inicio")
+    List<Agendamento> findAtivosSobrepostos(@Param("profissionalIds") Collection<UUID> profissionalIds,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("inicioMinimo") LocalDateTime inicioMinimo,
+            @Param("cancelado") AgendamentoStatus cancelado);
+
+    /**
+     * Marca o agendamento como concluído, apenas se ainda estiver agendado.
+     * A condição no próprio UPDATE garante que, sob chamadas concorrentes, a
+     * conclusão (e o caso contado nas métricas) ocorra uma única vez.
+     *
+     * @param id O ID do agendamento.
+     * @return Quantidade de linhas alteradas (0 ou 1).
+     */
+    default int concluir(UUID id) {
+        return concluir(id, AgendamentoStatus.AGENDADO, AgendamentoStatus.CONCLUIDO);
+    }
+
+    @Modifying
+    @Query("UPDATE Agendamento a SET a.status = :concluido WHERE a.id = :id AND a.status = :agendado")
+    int concluir(@Param("id") UUID id, @Param("agendado") AgendamentoStatus agendado,
+            @Param("concluido") AgendamentoStatus concluido);
+}
@@ -0,0 +1,42 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.AvaliacaoAgregada;
+
+/**
+ * Repositório para a entidade {@link AvaliacaoAgregada}.
+ * Mantém os agregados de avaliação por profissional.
+ */
+@Repository
+public interface AvaliacaoAgregadaRepository extends JpaRepository<AvaliacaoAgregada, UUID> {
+
+    /**
+     * Soma uma nova nota ao agregado do profissional em um único comando
+     * (INSERT ... ON CONFLICT DO UPDATE). A atualização é atômica no banco, sem
+     * leitura prévia, de modo que avaliações concorrentes não se perdem.
+     * Deve ser chamado dentro da transação que grava a avaliação.
+     *
+     * @param profissionalId O ID do profissional.
+     * @param nota           A nota recebida (1 a 5).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_avaliacao_agregada AS a "
+            + "(profissional_id, total, soma, nota_1, nota_2, nota_3, nota_4, nota_5, updated_at) "
+            + "VALUES (:profissionalId, 1, :nota, "
+            + "CASE WHEN :nota = 1 THEN 1 ELSE 0 END, CASE WHEN :nota = 2 THEN 1 ELSE 0 END, "
+            + "CASE WHEN :nota = 3 THEN 1 ELSE 0 END, CASE WHEN :nota = 4 THEN 1 ELSE 0 END, "
+            + "CASE WHEN :nota = 5 THEN 1 ELSE 0 END, now()) "
+            + "ON CONFLICT (profissional_id) DO UPDATE SET "
+            + "total = a.total + 1, soma = a.soma + EXCLUDED.soma, "
+            + "nota_1 = a.nota_1 + EXCLUDED.nota_1, nota_2 = a.nota_2 + EXCLUDED.nota_2, "
+            + "nota_3 = a.nota_3 + EXCLUDED.nota_3, nota_4 = a.nota_4 + EXCLUDED.nota_4, "
+            + "nota_5 = a.nota_5 + EXCLUDED.nota_5, updated_at = now()", nativeQuery = true)
+    void registrarNota(@Param("profissionalId") UUID profissionalId, @Param("nota") int nota);
+}
@@ -0,0 +1,24 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.Avaliacao;
+
+/**
+ * Repositório para a entidade {@link Avaliacao}.
+ * Gerencia as avaliações de consultas feitas pelos clientes.
+ */
+@Repository
+public interface AvaliacaoRepository extends JpaRepository<Avaliacao, UUID> {
+
+    /**
+     * Verifica se o agendamento já foi avaliado.
+     *
+     * @param agendamentoId O ID do agendamento.
+     * @return true se já existir avaliação para o agendamento.
+     */
+    boolean existsByAgendamentoId(UUID agendamentoId);
+}
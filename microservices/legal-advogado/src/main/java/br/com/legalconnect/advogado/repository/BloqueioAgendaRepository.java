@@ -0,0 +1,46 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.BloqueioAgenda;
+
+/**
+ * Repositório para a entidade {@link BloqueioAgenda}.
+ * Gerencia os períodos bloqueados na agenda dos profissionais.
+ */
+@Repository
+public interface BloqueioAgendaRepository extends JpaRepository<BloqueioAgenda, UUID> {
+
+    /**
+     * Busca os bloqueios de vários profissionais que se sobrepõem ao período,
+     * ordenados por início.
+     *
+     * @param profissionalIds Os IDs dos profissionais.
+     * @param inicio          Início do período (inclusivo).
+     * @param fim             Fim do período (exclusivo).
+     * @return Lista de bloqueios.
+     */
+    @Query("SELECT b FROM BloqueioAgenda b WHERE b.profissional.id IN :profissionalIds "
+            + "AND b.inicio < :fim AND b.fim > :inicio ORDER BY b.inicio")
+    List<BloqueioAgenda> findSobrepostos(@Param("profissionalIds") Collection<UUID> profissionalIds,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    /**
+     * Busca um bloqueio pelo seu ID e pelo ID do profissional.
+     *
+     * @param id             O ID do bloqueio.
+     * @param profissionalId O ID do profissional.
+     * @return Um Optional contendo o bloqueio, se encontrado.
+     */
+    Optional<BloqueioAgenda> findByIdAndProfissionalId(UUID id, UUID profissionalId);
+}
@@ -5,7 +5,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.legalconnect.advogado.domain.Documento;
 
@@ -40,4 +44,20 @@ public interface DocumentoRepository extends JpaRepository<Documento, UUID> {
      * @param profissionalId O ID do profissional.
      */
     void deleteByIdAndProfissionalId(UUID id, UUID profissionalId);
+
+    /**
+     * Registra as URLs das variantes (thumbnail e preview) de um documento.
+     * Atualização pontual, executada fora da transação do upload, para não
+     * sobrescrever alterações concorrentes nos demais campos da entidade.
+     *
+     * @param id           O ID do documento.
+     * @param urlThumbnail A URL do thumbnail.
+     * @param urlPreview   A URL do preview.
+     * @return A quantidade de registros atualizados.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Documento d SET d.urlThumbnail = :urlThumbnail, d.urlPreview = :urlPreview WHERE d.id = :id")
+    int atualizarVariantes(@Param("id") UUID id, @Param("urlThumbnail") String urlThumbnail,
+            @Param("urlPreview") String urlPreview);
 }
\ No newline at end of file
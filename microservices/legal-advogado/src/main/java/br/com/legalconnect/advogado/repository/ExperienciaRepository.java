@@ -1,5 +1,6 @@
 package br.com.legalconnect.advogado.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,9 @@ public interface ExperienciaRepository extends JpaRepository<ExperienciaProfissi
     // Busca todas as Experiências Profissionais de um Profissional.
     List<ExperienciaProfissional> findAllByProfissionalId(UUID profissionalId);
 
+    // Busca as Experiências Profissionais de vários Profissionais em uma única consulta.
+    List<ExperienciaProfissional> findAllByProfissionalIdIn(Collection<UUID> profissionalIds);
+
     // Deleta uma Experiência Profissional pelo seu ID e pelo ID do Profissional.
     void deleteByIdAndProfissionalId(UUID id, UUID profissionalId);
 }
\ No newline at end of file
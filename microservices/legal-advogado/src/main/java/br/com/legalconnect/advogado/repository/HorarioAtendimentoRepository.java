@@ -0,0 +1,40 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.HorarioAtendimento;
+
+/**
+ * Repositório para a entidade {@link HorarioAtendimento}.
+ * Gerencia a grade semanal de atendimento dos profissionais.
+ */
+@Repository
+public interface HorarioAtendimentoRepository extends JpaRepository<HorarioAtendimento, UUID> {
+
+    /**
+     * Busca as faixas de atendimento de vários profissionais em uma única
+     * consulta.
+     *
+     * @param profissionalIds Os IDs dos profissionais.
+     * @return Lista de faixas de atendimento.
+     */
+    List<HorarioAtendimento> findAllByProfissionalIdIn(Collection<UUID> profissionalIds);
+
+    /**
+     * Remove toda a grade de atendimento de um profissional.
+     *
+     * @param profissionalId O ID do profissional.
+     * @return Quantidade de faixas removidas.
+     */
+    @Modifying
+    @Query("DELETE FROM HorarioAtendimento h WHERE h.profissional.id = :profissionalId")
+    int deleteAllByProfissionalId(@Param("profissionalId") UUID profissionalId);
+}
@@ -0,0 +1,70 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.MetricasProfissional;
+
+/**
+ * Repositório para a entidade {@link MetricasProfissional}.
+ * Cada método altera apenas as colunas afetadas por um evento, com um único
+ * comando atômico (INSERT ... ON CONFLICT DO UPDATE), sem leitura prévia.
+ */
+@Repository
+public interface MetricasProfissionalRepository extends JpaRepository<MetricasProfissional, UUID> {
+
+    /**
+     * Soma um caso concluído às métricas do profissional.
+     *
+     * @param profissionalId O ID do profissional.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_metricas_profissional AS m "
+            + "(profissional_id, casos_concluidos, anos_experiencia, updated_at) VALUES (:profissionalId, 1, 0, now()) "
+            + "ON CONFLICT (profissional_id) DO UPDATE SET "
+            + "casos_concluidos = m.casos_concluidos + 1, updated_at = now()", nativeQuery = true)
+    void registrarCasoConcluido(@Param("profissionalId") UUID profissionalId);
+
+    /**
+     * Recalcula a satisfação a partir do agregado de avaliações (O(1): lê uma
+     * única linha de tb_avaliacao_agregada).
+     *
+     * @param profissionalId O ID do profissional.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_metricas_profissional AS m "
+            + "(profissional_id, satisfacao, casos_concluidos, anos_experiencia, updated_at) "
+            + "SELECT a.profissional_id, CAST(a.nota_4 + a.nota_5 AS double precision) / NULLIF(a.total, 0), 0, 0, now() "
+            + "FROM tb_avaliacao_agregada a WHERE a.profissional_id = :profissionalId "
+            + "ON CONFLICT (profissional_id) DO UPDATE SET "
+            + "satisfacao = EXCLUDED.satisfacao, updated_at = now()", nativeQuery = true)
+    void atualizarSatisfacao(@Param("profissionalId") UUID profissionalId);
+
+    /**
+     * Grava os anos de experiência e o nível de senioridade do profissional.
+     * Linhas já atualizadas não são regravadas, o que mantém barata a
+     * atualização diária de todos os profissionais.
+     *
+     * @param profissionalId  O ID do profissional.
+     * @param anosExperiencia Anos de experiência considerados.
+     * @param nivel           Nível de senioridade.
+     * @return Quantidade de linhas gravadas (0 se nada mudou).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_metricas_profissional AS m "
+            + "(profissional_id, casos_concluidos, anos_experiencia, nivel, updated_at) "
+            + "VALUES (:profissionalId, 0, :anosExperiencia, :nivel, now()) "
+            + "ON CONFLICT (profissional_id) DO UPDATE SET "
+            + "anos_experiencia = EXCLUDED.anos_experiencia, nivel = EXCLUDED.nivel, updated_at = now() "
+            + "WHERE m.anos_experiencia IS DISTINCT FROM EXCLUDED.anos_experiencia "
+            + "OR m.nivel IS DISTINCT FROM EXCLUDED.nivel",
+            nativeQuery = true)
+    int atualizarSenioridade(@Param("profissionalId") UUID profissionalId,
+            @Param("anosExperiencia") int anosExperiencia,
+            @Param("nivel") String nivel);
+}
@@ -0,0 +1,36 @@
+package br.com.legalconnect.advogado.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.advogado.domain.OutboxEvento;
+
+/**
+ * Repositório para a entidade {@link OutboxEvento}.
+ * Gerencia a fila de efeitos colaterais pendentes.
+ */
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, UUID> {
+
+    /**
+     * Bloqueia um lote de eventos elegíveis: pendentes cuja próxima tentativa já
+     * venceu, ou em processamento cujo prazo de posse expirou.
+     * O SKIP LOCKED permite que várias instâncias do serviço consumam a fila em
+     * paralelo sem disputar as mesmas linhas. Deve ser chamado dentro de uma
+     * transação.
+     *
+     * @param agora  Instante de referência.
+     * @param limite Tamanho máximo do lote.
+     * @return Eventos bloqueados, dos mais antigos para os mais novos.
+     */
+    @Query(value = "SELECT * FROM tb_outbox_evento WHERE status IN ('PENDENTE', 'PROCESSANDO') "
+            + "AND proxima_tentativa <= :agora ORDER BY created_at LIMIT :limite FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvento> bloquearLoteElegivel(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+}
@@ -1,13 +1,16 @@
 package br.com.legalconnect.advogado.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.legalconnect.advogado.domain.Profissional;
@@ -27,6 +30,33 @@ public interface ProfissionalRepository extends JpaRepository<Profissional, UUID
      */
     Optional<Profissional> findByNumeroOab(String numeroOab);
 
+    /**
+     * Busca um Profissional para a montagem do perfil completo: usuário, plano,
+     * roles e endereços vêm na mesma consulta (entity graph). As demais coleções
+     * são carregadas em lote (ver {@link #inicializarIdsDadosMestre(UUID)} e os
+     * {@code @BatchSize} da entidade).
+     *
+     * @param id O ID do profissional.
+     * @return Um Optional contendo o Profissional, se encontrado.
+     */
+    @EntityGraph(attributePaths = { "usuario", "plano", "roleProfissionals", "enderecos" })
+    @Query("SELECT p FROM Profissional p WHERE p.id = :id")
+    Optional<Profissional> findDetalhadoById(@Param("id") UUID id);
+
+    /**
+     * Inicializa, em uma única consulta, as quatro coleções de IDs de dados
+     * mestre (locais, áreas, idiomas e tipos de atendimento) do Profissional já
+     * presente no contexto de persistência. As coleções guardam apenas UUIDs e
+     * são pequenas, então o produto cartesiano do JOIN FETCH é barato.
+     *
+     * @param id O ID do profissional.
+     * @return O Profissional, com as coleções inicializadas.
+     */
+    @Query("SELECT DISTINCT p FROM Profissional p LEFT JOIN FETCH p.locaisAtuacaoIds "
+            + "LEFT JOIN FETCH p.areaAtuacaoIds LEFT JOIN FETCH p.idiomaIds "
+            + "LEFT JOIN FETCH p.tipoAtendimentoIds WHERE p.id = :id")
+    Optional<Profissional> inicializarIdsDadosMestre(@Param("id") UUID id);
+
     /**
      * Busca todos os Profissionais associados a um determinado tenant.
      *
@@ -77,4 +107,132 @@ public interface ProfissionalRepository extends JpaRepository<Profissional, UUID
             "WHERE p.usaMarketplace = true AND p.statusProfissional = 'ATIVO' " +
             "ORDER BY RANDOM()") // Ordena aleatoriamente para pegar uma amostra
     Page<Profissional> findAllPublicMarketplaceProfissionais(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Busca os Profissionais de uma página de resultados com os dados exibidos
+     * no card (usuário, endereços e plano) em uma única consulta.
+     *
+     * @param ids Os IDs dos profissionais.
+     * @return Lista de Profissionais, sem ordem definida.
+     */
+    @Query("SELECT DISTINCT p FROM Profissional p JOIN FETCH p.usuario u LEFT JOIN FETCH p.enderecos e "
+            + "LEFT JOIN FETCH p.plano pl WHERE p.id IN :ids")
+    List<Profissional> findAllCardsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista os profissionais visíveis no marketplace na ordem de exibição da
+     * busca: plano (GOLD, PREMIUM, EXENCIAL, PADRAO, demais), média das
+     * avaliações (maior primeiro) e nome.
+     * Usada na construção do índice da busca facetada; cada linha contém
+     * [id, nome do plano].
+     *
+     * @return Lista de Object[] com [id, nome do plano].
+     */
+    @Query(value = "SELECT p.id, pl.nome FROM tb_profissional p "
+            + "JOIN tb_pessoa pe ON pe.id = p.id "
+            + "LEFT JOIN tb_plano pl ON pl.id = p.plano_id "
+            + "LEFT JOIN tb_avaliacao_agregada a ON a.profissional_id = p.id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "ORDER BY CASE UPPER(pl.nome) WHEN 'GOLD' THEN 1 WHEN 'PREMIUM' THEN 2 "
+            + "WHEN 'EXENCIAL' THEN 3 WHEN 'PADRAO' THEN 4 ELSE 5 END, "
+            + "CAST(a.soma AS double precision) / NULLIF(a.total, 0) DESC NULLS LAST, "
+            + "LOWER(pe.nome_completo), p.id", nativeQuery = true)
+    List<Object[]> findOrdemIndiceMarketplace();
+
+    /**
+     * Lista as associações dos profissionais do marketplace com áreas, locais,
+     * idiomas e tipos de atendimento, em uma única leitura das tabelas de
+     * junção.
+     *
+     * @return Lista de Object[] com [faceta, id do profissional, id do valor].
+     */
+    @Query(value = "SELECT 'AREA', j.profissional_id, j.area_atuacao_id FROM tb_profissional_area_atuacao j "
+            + "JOIN tb_profissional p ON p.id = j.profissional_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'LOCAL', j.profissional_id, j.local_atuacao_id FROM tb_profissional_local_atuacao j "
+            + "JOIN tb_profissional p ON p.id = j.profissional_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'IDIOMA', j.profissional_id, j.idioma_id FROM tb_profissional_idioma j "
+            + "JOIN tb_profissional p ON p.id = j.profissional_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'TIPO_ATENDIMENTO', j.profissional_id, j.tipo_atendimento_id "
+            + "FROM tb_profissional_tipo_atendimento j "
+            + "JOIN tb_profissional p ON p.id = j.profissional_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO'", nativeQuery = true)
+    List<Object[]> findAssociacoesIndiceMarketplace();
+
+    /**
+     * Lista estado e cidade dos endereços dos profissionais do marketplace.
+     *
+     * @return Lista de Object[] com [id do profissional, estado, cidade].
+     */
+    @Query(value = "SELECT e.pessoa_id, e.estado, e.cidade FROM tb_endereco e "
+            + "JOIN tb_profissional p ON p.id = e.pessoa_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO'", nativeQuery = true)
+    List<Object[]> findEnderecosIndiceMarketplace();
+
+    /**
+     * Lista os termos pesquisáveis pelo autocompletar de todos os profissionais
+     * do marketplace: nome, cidades dos endereços e áreas de atuação.
+     *
+     * @return Lista de Object[] com [tipo (NOME, CIDADE ou AREA), id do
+     *         profissional, valor, complemento (UF, para cidades)].
+     */
+    @Query(value = "SELECT 'NOME', p.id, pe.nome_completo, NULL FROM tb_profissional p "
+            + "JOIN tb_pessoa pe ON pe.id = p.id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'CIDADE', p.id, e.cidade, e.estado FROM tb_endereco e "
+            + "JOIN tb_profissional p ON p.id = e.pessoa_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'AREA', p.id, CAST(j.area_atuacao_id AS varchar), NULL "
+            + "FROM tb_profissional_area_atuacao j JOIN tb_profissional p ON p.id = j.profissional_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO'", nativeQuery = true)
+    List<Object[]> findTermosSugestoesMarketplace();
+
+    /**
+     * Mesma consulta de {@link #findTermosSugestoesMarketplace()}, restrita a
+     * alguns profissionais. Profissionais fora do marketplace não retornam
+     * linhas.
+     *
+     * @param ids Os IDs dos profissionais.
+     * @return Lista de Object[] com [tipo, id do profissional, valor,
+     *         complemento].
+     */
+    @Query(value = "SELECT 'NOME', p.id, pe.nome_completo, NULL FROM tb_profissional p "
+            + "JOIN tb_pessoa pe ON pe.id = p.id "
+            + "WHERE p.id IN (:ids) AND p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'CIDADE', p.id, e.cidade, e.estado FROM tb_endereco e "
+            + "JOIN tb_profissional p ON p.id = e.pessoa_id "
+            + "WHERE p.id IN (:ids) AND p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "UNION ALL SELECT 'AREA', p.id, CAST(j.area_atuacao_id AS varchar), NULL "
+            + "FROM tb_profissional_area_atuacao j JOIN tb_profissional p ON p.id = j.profissional_id "
+            + "WHERE p.id IN (:ids) AND p.usa_marketplace = true AND p.status_profissional = 'ATIVO'", nativeQuery = true)
+    List<Object[]> findTermosSugestoesByProfissionalIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Lista as coordenadas dos endereços de escritório (ESCRITORIO e COMERCIAL)
+     * dos profissionais do marketplace. Usada na construção do índice da busca
+     * por proximidade.
+     *
+     * @return Lista de Object[] com [id do profissional, latitude, longitude].
+     */
+    @Query(value = "SELECT e.pessoa_id, e.latitude, e.longitude FROM tb_endereco e "
+            + "JOIN tb_profissional p ON p.id = e.pessoa_id "
+            + "WHERE p.usa_marketplace = true AND p.status_profissional = 'ATIVO' "
+            + "AND e.tipo_endereco IN ('ESCRITORIO', 'COMERCIAL') "
+            + "AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL", nativeQuery = true)
+    List<Object[]> findCoordenadasIndiceMarketplace();
+
+    /**
+     * Busca, em ordem de ID, um lote de profissionais posteriores ao último ID
+     * processado (paginação por chave), com a data de inscrição na OAB usada no
+     * cálculo de senioridade.
+     *
+     * @param ultimoId Último ID do lote anterior.
+     * @param limite   Tamanho do lote.
+     * @return Lista de Object[] com [id, data_inscricao_oab].
+     */
+    @Query(value = "SELECT p.id, p.data_inscricao_oab FROM tb_profissional p WHERE p.id > :ultimoId "
+            + "ORDER BY p.id LIMIT :limite", nativeQuery = true)
+    List<Object[]> findLoteInscricaoOab(@Param("ultimoId") UUID ultimoId, @Param("limite") int limite);
+}
@@ -0,0 +1,249 @@
+package br.com.legalconnect.advogado.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import br.com.legalconnect.advogado.domain.BloqueioAgenda;
+import br.com.legalconnect.advogado.domain.HorarioAtendimento;
+import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.dto.request.BloqueioAgendaRequestDTO;
+import br.com.legalconnect.advogado.dto.request.HorarioAtendimentoRequestDTO;
+import br.com.legalconnect.advogado.dto.response.BloqueioAgendaResponseDTO;
+import br.com.legalconnect.advogado.dto.response.HorarioAtendimentoResponseDTO;
+import br.com.legalconnect.advogado.repository.AgendamentoRepository;
+import br.com.legalconnect.advogado.repository.BloqueioAgendaRepository;
+import br.com.legalconnect.advogado.repository.HorarioAtendimentoRepository;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.commom.service.TenantContext;
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço responsável pela manutenção da agenda do profissional: a grade
+ * semanal de atendimento e os bloqueios de agenda, lidos pelo
+ * {@link DisponibilidadeService} no cálculo de horários livres.
+ */
+@Slf4j
+@Service
+public class AgendaProfissionalService {
+
+    // Ordem de DayOfWeek (segunda a domingo); no banco o dia é gravado como texto
+    private static final Comparator<HorarioAtendimentoRequestDTO> POR_DIA_E_HORA = Comparator
+            .comparing(HorarioAtendimentoRequestDTO::getDiaSemana)
+            .thenComparing(HorarioAtendimentoRequestDTO::getHoraInicio);
+    private static final Comparator<HorarioAtendimento> GRADE_POR_DIA_E_HORA = Comparator
+            .comparing(HorarioAtendimento::getDiaSemana)
+            .thenComparing(HorarioAtendimento::getHoraInicio);
+
+    private final ProfissionalRepository profissionalRepository;
+    private final HorarioAtendimentoRepository horarioAtendimentoRepository;
+    private final BloqueioAgendaRepository bloqueioAgendaRepository;
+    private final AgendamentoRepository agendamentoRepository;
+
+    public AgendaProfissionalService(ProfissionalRepository profissionalRepository,
+            HorarioAtendimentoRepository horarioAtendimentoRepository,
+            BloqueioAgendaRepository bloqueioAgendaRepository,
+            AgendamentoRepository agendamentoRepository) {
+        this.profissionalRepository = profissionalRepository;
+        this.horarioAtendimentoRepository = horarioAtendimentoRepository;
+        this.bloqueioAgendaRepository = bloqueioAgendaRepository;
+        this.agendamentoRepository = agendamentoRepository;
+    }
+
+    /**
+     * Substitui a grade semanal de atendimento do profissional.
+     * Regras de Negócio:
+     * - O profissional deve existir e pertencer ao tenant atual.
+     * - Cada faixa deve terminar depois de começar, e faixas do mesmo dia não
+     * podem se sobrepor.
+     * - Uma grade vazia faz o profissional voltar ao expediente padrão.
+     * - Agendamentos já gravados fora da nova grade são mantidos.
+     *
+     * @param profissionalId ID do profissional.
+     * @param faixas         Faixas de atendimento da nova grade.
+     * @return Lista com a grade gravada, ordenada por dia e hora.
+     * @throws BusinessException se o profissional não for encontrado ou a grade
+     *                           for inválida.
+     */
+    @Transactional
+    public List<HorarioAtendimentoResponseDTO> substituirGrade(UUID profissionalId,
+            List<HorarioAtendimentoRequestDTO> faixas) {
+        Profissional profissional = buscarProfissionalDoTenant(profissionalId);
+        validarGrade(faixas);
+
+        horarioAtendimentoRepository.deleteAllByProfissionalId(profissionalId);
+        List<HorarioAtendimento> grade = new ArrayList<>(faixas.size());
+        for (HorarioAtendimentoRequestDTO faixa : faixas) {
+            grade.add(HorarioAtendimento.builder()
+                    .profissional(profissional)
+                    .diaSemana(faixa.getDiaSemana())
+                    .horaInicio(faixa.getHoraInicio())
+                    .horaFim(faixa.getHoraFim())
+                    .tenantId(profissional.getTenantId())
+                    .build());
+        }
+        grade = horarioAtendimentoRepository.saveAll(grade);
+
+        log.info("Grade de atendimento do profissional {} substituída ({} faixa(s))", profissionalId, grade.size());
+        return grade.stream()
+                .sorted(GRADE_POR_DIA_E_HORA)
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lista a grade semanal de atendimento do profissional. Uma lista vazia
+     * indica que vale o expediente padrão.
+     *
+     * @param profissionalId ID do profissional.
+     * @return Lista de faixas, ordenada por dia e hora.
+     * @throws BusinessException se o profissional não for encontrado.
+     */
+    public List<HorarioAtendimentoResponseDTO> listarGrade(UUID profissionalId) {
+        buscarProfissionalDoTenant(profissionalId);
+        return horarioAtendimentoRepository.findAllByProfissionalIdIn(List.of(profissionalId)).stream()
+                .sorted(GRADE_POR_DIA_E_HORA)
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Bloqueia um período da agenda do profissional.
+     * Regras de Negócio:
+     * - O profissional deve existir e pertencer ao tenant atual.
+     * - O fim deve ser posterior ao início.
+     * - O período não pode conter agendamentos ativos: eles precisam ser
+     * cancelados antes.
+     *
+     * @param profissionalId ID do profissional.
+     * @param requestDTO     DTO com o período e o motivo do bloqueio.
+     * @return DTO do bloqueio criado.
+     * @throws BusinessException se alguma regra de negócio for violada.
+     */
+    @Transactional
+    public BloqueioAgendaResponseDTO criarBloqueio(UUID profissionalId, BloqueioAgendaRequestDTO requestDTO) {
+        Profissional profissional = buscarProfissionalDoTenant(profissionalId);
+        if (!requestDTO.getFim().isAfter(requestDTO.getInicio())) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "O fim do bloqueio deve ser posterior ao início.");
+        }
+        if (!agendamentoRepository.findAtivosSobrepostos(List.of(profissionalId), requestDTO.getInicio(),
+                requestDTO.getFim()).isEmpty()) {
+            throw new BusinessException(ErrorCode.APPOINTMENT_CONFLICT, HttpStatus.CONFLICT,
+                    "Existem agendamentos ativos no período a ser bloqueado.");
+        }
+
+        BloqueioAgenda bloqueio = bloqueioAgendaRepository.save(BloqueioAgenda.builder()
+                .profissional(profissional)
+                .inicio(requestDTO.getInicio())
+                .fim(requestDTO.getFim())
+                .motivo(requestDTO.getMotivo())
+                .tenantId(profissional.getTenantId())
+                .build());
+        return toResponseDTO(bloqueio);
+    }
+
+    /**
+     * Lista os bloqueios do profissional que se sobrepõem a um período.
+     *
+     * @param profissionalId ID do profissional.
+     * @param de             Primeiro dia do período.
+     * @param ate            Último dia do período (inclusivo).
+     * @return Lista de bloqueios, ordenada por início.
+     * @throws BusinessException se o profissional não for encontrado ou o
+     *                           período for inválido.
+     */
+    public List<BloqueioAgendaResponseDTO> listarBloqueios(UUID profissionalId, LocalDate de, LocalDate ate) {
+        buscarProfissionalDoTenant(profissionalId);
+        if (de == null || ate == null || ate.isBefore(de)) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "Período inválido: a data final deve ser igual ou posterior à data inicial.");
+        }
+        return bloqueioAgendaRepository
+                .findSobrepostos(List.of(profissionalId), de.atStartOfDay(), ate.plusDays(1).atStartOfDay())
+                .stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove um bloqueio da agenda do profissional, liberando o período.
+     *
+     * @param profissionalId ID do profissional.
+     * @param bloqueioId     ID do bloqueio.
+     * @throws BusinessException se o bloqueio não for encontrado ou pertencer a
+     *                           outro tenant.
+     */
+    @Transactional
+    public void removerBloqueio(UUID profissionalId, UUID bloqueioId) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+
+        BloqueioAgenda bloqueio = bloqueioAgendaRepository.findByIdAndProfissionalId(bloqueioId, profissionalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA, HttpStatus.NOT_FOUND,
+                        "Bloqueio de agenda não encontrado para este profissional."));
+        if (!bloqueio.getTenantId().equals(tenantId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, HttpStatus.FORBIDDEN,
+                    "Acesso negado. Bloqueio pertence a outro tenant.");
+        }
+        bloqueioAgendaRepository.delete(bloqueio);
+    }
+
+    private Profissional buscarProfissionalDoTenant(UUID profissionalId) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+
+        Profissional profissional = profissionalRepository.findById(profissionalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROFISSIONAL_NAO_ENCONTRADO, HttpStatus.NOT_FOUND,
+                        "Profissional não encontrado."));
+        if (!profissional.getTenantId().equals(tenantId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, HttpStatus.FORBIDDEN,
+                    "Acesso negado. Profissional pertence a outro tenant.");
+        }
+        return profissional;
+    }
+
+    private void validarGrade(List<HorarioAtendimentoRequestDTO> faixas) {
+        List<HorarioAtendimentoRequestDTO> ordenadas = new ArrayList<>(faixas);
+        ordenadas.sort(POR_DIA_E_HORA);
+        HorarioAtendimentoRequestDTO anterior = null;
+        for (HorarioAtendimentoRequestDTO faixa : ordenadas) {
+            if (!faixa.getHoraFim().isAfter(faixa.getHoraInicio())) {
+                throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                        "A faixa de " + faixa.getDiaSemana() + " deve terminar depois de começar.");
+            }
+            if (anterior != null && anterior.getDiaSemana() == faixa.getDiaSemana()
+                    && faixa.getHoraInicio().isBefore(anterior.getHoraFim())) {
+                throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                        "As faixas de " + faixa.getDiaSemana() + " se sobrepõem.");
+            }
+            anterior = faixa;
+        }
+    }
+
+    private HorarioAtendimentoResponseDTO toResponseDTO(HorarioAtendimento horario) {
+        return HorarioAtendimentoResponseDTO.builder()
+                .id(horario.getId())
+                .diaSemana(horario.getDiaSemana())
+                .horaInicio(horario.getHoraInicio())
+                .horaFim(horario.getHoraFim())
+                .build();
+    }
+
+    private BloqueioAgendaResponseDTO toResponseDTO(BloqueioAgenda bloqueio) {
+        return BloqueioAgendaResponseDTO.builder()
+                .id(bloqueio.getId())
+                .profissionalId(bloqueio.getProfissional().getId())
+                .inicio(bloqueio.getInicio())
+                .fim(bloqueio.getFim())
+                .motivo(bloqueio.getMotivo())
+                .build();
+    }
+}
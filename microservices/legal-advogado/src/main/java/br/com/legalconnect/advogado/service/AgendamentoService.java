@@ -1,15 +1,26 @@
 package br.com.legalconnect.advogado.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import br.com.legalconnect.advogado.domain.Agendamento;
+import br.com.legalconnect.advogado.domain.Agendamento.AgendamentoStatus;
+import br.com.legalconnect.advogado.domain.Avaliacao;
 import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.domain.evento.AvaliacaoRegistradaEvent;
+import br.com.legalconnect.advogado.domain.evento.ConsultaConcluidaEvent;
+import br.com.legalconnect.advogado.dto.response.AgendamentoResponseDTO;
+import br.com.legalconnect.advogado.repository.AgendamentoRepository;
+import br.com.legalconnect.advogado.repository.AvaliacaoAgregadaRepository;
+import br.com.legalconnect.advogado.repository.AvaliacaoRepository;
 import br.com.legalconnect.advogado.repository.ProfissionalRepository;
-import br.com.legalconnect.commom.service.EmailService; // Para enviar e-mails de confirmação
 import br.com.legalconnect.commom.service.TenantContext;
 import br.com.legalconnect.common.exception.BusinessException;
 import br.com.legalconnect.common.exception.ErrorCode;
@@ -23,42 +34,60 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class AgendamentoService {
 
+        /** Duração padrão de uma consulta. */
+        public static final Duration DURACAO_CONSULTA = Duration.ofHours(1);
+
         private final ProfissionalRepository profissionalRepository;
-        private final GoogleCalendarService googleCalendarService;
-        private final EmailService emailService;
-        // Repositório de agendamentos (assumindo a entidade Agendamento)
-        // private final AgendamentoRepository agendamentoRepository;
+        private final AgendamentoRepository agendamentoRepository;
+        private final DisponibilidadeService disponibilidadeService;
+        private final OutboxService outboxService; // Agenda externa e e-mails, executados pelo OutboxRelay
+        private final AvaliacaoRepository avaliacaoRepository;
+        private final AvaliacaoAgregadaRepository avaliacaoAgregadaRepository;
+        private final ApplicationEventPublisher eventPublisher; // Mantém as métricas do profissional
 
         @Autowired
         public AgendamentoService(ProfissionalRepository profissionalRepository,
-                        GoogleCalendarService googleCalendarService,
-                        EmailService emailService) {
+                        AgendamentoRepository agendamentoRepository,
+                        DisponibilidadeService disponibilidadeService,
+                        OutboxService outboxService,
+                        AvaliacaoRepository avaliacaoRepository,
+                        AvaliacaoAgregadaRepository avaliacaoAgregadaRepository,
+                        ApplicationEventPublisher eventPublisher) {
                 this.profissionalRepository = profissionalRepository;
-                this.googleCalendarService = googleCalendarService;
-                this.emailService = emailService;
-                // this.agendamentoRepository = agendamentoRepository;
+                this.agendamentoRepository = agendamentoRepository;
+                this.disponibilidadeService = disponibilidadeService;
+                this.outboxService = outboxService;
+                this.avaliacaoRepository = avaliacaoRepository;
+                this.avaliacaoAgregadaRepository = avaliacaoAgregadaRepository;
+                this.eventPublisher = eventPublisher;
         }
 
         /**
          * Realiza o agendamento de uma consulta entre um cliente e um profissional.
          * Regras de Negócio:
-         * - Verifica a disponibilidade do profissional na data/hora solicitada.
          * - Garante que o profissional existe e está ativo no marketplace.
-         * - Integra com Google Calendar para adicionar o evento na agenda do
+         * - O horário deve estar dentro do expediente do profissional e fora de seus
+         * bloqueios de agenda.
+         * - Verifica, por uma consulta indexada em tb_agendamento, se o intervalo
+         * [horário, horário + duração) não se sobrepõe a outro agendamento ativo do
          * profissional.
-         * - Envia e-mails de confirmação para cliente e profissional.
+         * - Sob requisições concorrentes para o mesmo horário, a constraint de
+         * exclusão do banco garante que apenas uma seja gravada; as demais recebem
+         * APPOINTMENT_CONFLICT.
+         * - Integra com Google Calendar para adicionar o evento na agenda do
+         * profissional e envia e-mails de confirmação, de forma assíncrona via outbox.
          *
          * @param profissionalId     ID do profissional.
          * @param clienteId          ID do cliente.
          * @param horarioAgendamento Horário da consulta.
          * @param tipoServico        Tipo de serviço agendado.
-         * @return Sucesso do agendamento.
+         * @return DTO do agendamento criado.
          * @throws BusinessException se o profissional não estiver disponível ou outras
          *                           regras de negócio forem violadas.
          */
         @Transactional
-        public boolean agendarConsulta(UUID profissionalId, UUID clienteId, LocalDateTime horarioAgendamento,
-                        String tipoServico) {
+        public AgendamentoResponseDTO agendarConsulta(UUID profissionalId, UUID clienteId,
+                        LocalDateTime horarioAgendamento, String tipoServico) {
                 UUID tenantId = TenantContext.getCurrentTenantId(); // O agendamento ocorre dentro do contexto de um
                                                                     // tenant
 
@@ -75,79 +104,188 @@ public class AgendamentoService {
                                         "Profissional não disponível para agendamento.");
                 }
 
-                // Regra de Negócio: Verificar disponibilidade real do profissional (com Google
-                // Calendar)
-                boolean isAvailable = googleCalendarService.checkAvailability(profissional.getUsuario().getEmail(),
-                                horarioAgendamento);
-                if (!isAvailable) {
+                LocalDateTime fimAgendamento = horarioAgendamento.plus(DURACAO_CONSULTA);
+
+                // Regra de Negócio: Respeitar expediente e bloqueios de agenda do profissional
+                if (!disponibilidadeService.atendeNoIntervalo(profissionalId, horarioAgendamento, fimAgendamento)) {
+                        throw new BusinessException(ErrorCode.ADVOCATE_NOT_AVAILABLE, HttpStatus.BAD_REQUEST,
+                                        "Profissional não atende no horário solicitado.");
+                }
+
+                // Regra de Negócio: Verificar conflito com agendamentos já gravados (consulta
+                // indexada por profissional_id, inicio)
+                if (agendamentoRepository.existsConflito(profissionalId, horarioAgendamento, fimAgendamento)) {
                         throw new BusinessException(ErrorCode.APPOINTMENT_CONFLICT, HttpStatus.CONFLICT,
                                         "Horário indisponível para o profissional.");
                 }
 
-                // Regra de Negócio: Criar o registro de agendamento no banco de dados (se
-                // houver entidade Agendamento)
-                // Agendamento newAppointment = Agendamento.builder()
-                // .profissional(profissional)
-                // .clienteId(clienteId)
-                // .horario(horarioAgendamento)
-                // .tipoServico(tipoServico)
-                // .tenantId(tenantId)
-                // .build();
-                // agendamentoRepository.save(newAppointment);
-
-                // Funcionalidade Completa: Adicionar evento ao Google Calendar do profissional
-                googleCalendarService.addEvent(
-                                profissional.getUsuario().getEmail(),
-                                "Consulta: " + tipoServico + " com Cliente " + clienteId, // Supondo que você pode obter
-                                                                                          // o nome do
-                                                                                          // cliente
-                                horarioAgendamento,
-                                horarioAgendamento.plusHours(1) // Consulta de 1 hora
-                );
-
-                // Funcionalidade Completa: Enviar e-mails de confirmação
-                emailService.sendAppointmentConfirmationEmail(
-                                profissional.getUsuario().getEmail(),
-                                "Você tem uma nova consulta agendada com o cliente " + clienteId + " para "
-                                                + horarioAgendamento);
-                // emailService.sendAppointmentConfirmationEmail(
-                // clienteService.findById(clienteId).getEmail(), // Supondo um clienteService
+                Agendamento agendamento = Agendamento.builder()
+                                .profissional(profissional)
+                                .clienteId(clienteId)
+                                .inicio(horarioAgendamento)
+                                .fim(fimAgendamento)
+                                .tipoServico(tipoServico)
+                                .status(AgendamentoStatus.AGENDADO)
+                                .tenantId(tenantId)
+                                .build();
+                try {
+                        // flush imediato para que a constraint de exclusão seja avaliada aqui, e não
+                        // no commit
+                        agendamento = agendamentoRepository.saveAndFlush(agendamento);
+                } catch (DataIntegrityViolationException e) {
+                        // Outra requisição gravou um agendamento sobreposto entre a verificação e o
+                        // INSERT
+                        log.info("Conflito de agendamento detectado pelo banco para o profissional {} em {}",
+                                        profissionalId, horarioAgendamento);
+                        throw new BusinessException(ErrorCode.APPOINTMENT_CONFLICT, HttpStatus.CONFLICT,
+                                        "Horário indisponível para o profissional.");
+                }
+
+                // Funcionalidade Completa: Adicionar evento ao Google Calendar do profissional e
+                // enviar e-mails de confirmação. Os efeitos são registrados na outbox desta mesma
+                // transação e executados pelo OutboxRelay após o commit, sem manter a transação
+                // aberta durante chamadas externas.
+                String emailProfissional = profissional.getUsuario().getEmail();
+                outboxService.registrarEventoCalendario(agendamento.getId(), tenantId,
+                                new OutboxService.EventoCalendarioPayload(
+                                                emailProfissional,
+                                                // Supondo que você pode obter o nome do cliente
+                                                "Consulta: " + tipoServico + " com Cliente " + clienteId,
+                                                horarioAgendamento,
+                                                fimAgendamento));
+                outboxService.registrarEmailConfirmacao(agendamento.getId(), tenantId,
+                                new OutboxService.EmailPayload(
+                                                emailProfissional,
+                                                "Você tem uma nova consulta agendada com o cliente " + clienteId
+                                                                + " para " + horarioAgendamento));
+                // outboxService.registrarEmailConfirmacao(agendamento.getId(), tenantId,
+                // new OutboxService.EmailPayload(clienteService.findById(clienteId).getEmail(),
+                // // Supondo um clienteService
                 // "Sua consulta com " + profissional.getNomeCompleto() + " foi confirmada para
-                // " + horarioAgendamento
-                // );
+                // " + horarioAgendamento));
 
-                return true;
+                return toResponseDTO(agendamento);
         }
 
         /**
-         * Simula a avaliação de uma consulta pelo cliente.
+         * Registra a avaliação de uma consulta pelo cliente.
          * Regras de Negócio:
-         * - Associa a avaliação ao agendamento e ao profissional.
-         * - Atualiza a média de avaliação do profissional (lógica simplificada).
+         * - O agendamento deve existir, pertencer ao cliente e não estar cancelado.
+         * - A consulta já deve ter acontecido.
+         * - Cada agendamento recebe no máximo uma avaliação.
+         * - O agregado de avaliações do profissional (total, soma e histograma) é
+         * atualizado de forma incremental na mesma transação.
+         * - Uma consulta avaliada ainda não concluída passa a CONCLUIDO.
          *
          * @param agendamentoId ID do agendamento avaliado.
          * @param clienteId     ID do cliente que avaliou.
          * @param rating        Nota da avaliação (1-5).
          * @param comentario    Comentário opcional.
          * @return Sucesso da avaliação.
+         * @throws BusinessException se alguma regra de negócio for violada.
          */
         @Transactional
         public boolean avaliarConsulta(UUID agendamentoId, UUID clienteId, int rating, String comentario) {
-                // Lógica para encontrar o agendamento e associar a avaliação.
-                // Agendamento agendamento =
-                // agendamentoRepository.findById(agendamentoId).orElseThrow(...)
-                // Criar uma entidade Avaliacao.
-                // Atualizar a média de avaliação do Profissional.
-
-                // Simulação: Apenas loga a avaliação
-                log.info("Cliente {} avaliou agendamento {} com nota {} e comentário: {}", clienteId, agendamentoId,
-                                rating,
-                                comentario);
-
-                // Para fins de demonstração, vamos considerar um sucesso
+                Agendamento agendamento = agendamentoRepository.findById(agendamentoId)
+                                .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA,
+                                                HttpStatus.NOT_FOUND, "Agendamento não encontrado."));
+
+                if (!agendamento.getClienteId().equals(clienteId)) {
+                        throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, HttpStatus.FORBIDDEN,
+                                        "Apenas o cliente do agendamento pode avaliá-lo.");
+                }
+                if (agendamento.getStatus() == AgendamentoStatus.CANCELADO
+                                || agendamento.getInicio().isAfter(LocalDateTime.now())) {
+                        throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                                        "Apenas consultas já realizadas podem ser avaliadas.");
+                }
+                if (avaliacaoRepository.existsByAgendamentoId(agendamentoId)) {
+                        throw new BusinessException(ErrorCode.APPOINTMENT_ALREADY_REVIEWED, HttpStatus.CONFLICT);
+                }
+
+                UUID profissionalId = agendamento.getProfissional().getId();
+                if (agendamento.getStatus() == AgendamentoStatus.AGENDADO) {
+                        marcarConcluido(agendamento);
+                }
+                try {
+                        avaliacaoRepository.saveAndFlush(Avaliacao.builder()
+                                        .agendamento(agendamento)
+                                        .profissional(agendamento.getProfissional())
+                                        .clienteId(clienteId)
+                                        .nota(rating)
+                                        .comentario(comentario)
+                                        .tenantId(agendamento.getTenantId())
+                                        .build());
+                } catch (DataIntegrityViolationException e) {
+                        // Avaliação concorrente do mesmo agendamento (constraint única)
+                        throw new BusinessException(ErrorCode.APPOINTMENT_ALREADY_REVIEWED, HttpStatus.CONFLICT);
+                }
+                avaliacaoAgregadaRepository.registrarNota(profissionalId, rating);
+                eventPublisher.publishEvent(new AvaliacaoRegistradaEvent(profissionalId, agendamentoId));
+
+                log.info("Cliente {} avaliou agendamento {} com nota {}", clienteId, agendamentoId, rating);
                 return true;
         }
 
+        /**
+         * Marca uma consulta como concluída pelo profissional.
+         * Regras de Negócio:
+         * - O agendamento deve existir e pertencer ao profissional.
+         * - Apenas consultas agendadas e já iniciadas podem ser concluídas.
+         * - Cada consulta concluída soma um caso às métricas do profissional.
+         *
+         * @param agendamentoId  ID do agendamento.
+         * @param profissionalId ID do profissional que atendeu.
+         * @return DTO do agendamento concluído.
+         * @throws BusinessException se alguma regra de negócio for violada.
+         */
+        @Transactional
+        public AgendamentoResponseDTO concluirConsulta(UUID agendamentoId, UUID profissionalId) {
+                Agendamento agendamento = agendamentoRepository.findById(agendamentoId)
+                                .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA,
+                                                HttpStatus.NOT_FOUND, "Agendamento não encontrado."));
+
+                if (!agendamento.getProfissional().getId().equals(profissionalId)) {
+                        throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, HttpStatus.FORBIDDEN,
+                                        "Apenas o profissional do agendamento pode concluí-lo.");
+                }
+                if (agendamento.getStatus() != AgendamentoStatus.AGENDADO
+                                || agendamento.getInicio().isAfter(LocalDateTime.now())) {
+                        throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                                        "Apenas consultas agendadas e já iniciadas podem ser concluídas.");
+                }
+
+                if (!marcarConcluido(agendamento)) {
+                        throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                                        "Apenas consultas agendadas e já iniciadas podem ser concluídas.");
+                }
+                return toResponseDTO(agendamento);
+        }
+
+        private boolean marcarConcluido(Agendamento agendamento) {
+                // UPDATE condicional: chamadas concorrentes concluem (e contam) a consulta uma
+                // única vez
+                if (agendamentoRepository.concluir(agendamento.getId()) == 0) {
+                        return false;
+                }
+                agendamento.setStatus(AgendamentoStatus.CONCLUIDO);
+                eventPublisher.publishEvent(new ConsultaConcluidaEvent(agendamento.getProfissional().getId(),
+                                agendamento.getId()));
+                return true;
+        }
+
+        private AgendamentoResponseDTO toResponseDTO(Agendamento agendamento) {
+                return AgendamentoResponseDTO.builder()
+                                .id(agendamento.getId())
+                                .profissionalId(agendamento.getProfissional().getId())
+                                .clienteId(agendamento.getClienteId())
+                                .inicio(agendamento.getInicio())
+                                .fim(agendamento.getFim())
+                                .tipoServico(agendamento.getTipoServico())
+                                .status(agendamento.getStatus().name())
+                                .build();
+        }
+
         // Outras funcionalidades como reagendamento, cancelamento, busca de
         // agendamentos
         // seriam implementadas aqui.
@@ -0,0 +1,116 @@
+package br.com.legalconnect.advogado.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.legalconnect.advogado.domain.ExperienciaProfissional;
+import br.com.legalconnect.advogado.repository.ExperienciaRepository;
+import br.com.legalconnect.advogado.repository.MetricasProfissionalRepository;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalcula diariamente a senioridade de todos os profissionais. Os anos de
+ * experiência dependem da data corrente (experiências em andamento e tempo de
+ * OAB crescem sem que o perfil seja alterado), então o evento de alteração de
+ * perfil não basta para manter {@code anos_experiencia} e {@code nivel} em dia.
+ * Percorre os profissionais em lotes por ordem de ID, com uma transação curta
+ * por lote; só as linhas cujo valor mudou são regravadas.
+ */
+@Slf4j
+@Component
+public class AtualizacaoSenioridade {
+
+    private static final UUID ID_INICIAL = new UUID(0L, 0L);
+
+    private final ProfissionalRepository profissionalRepository;
+    private final ExperienciaRepository experienciaRepository;
+    private final MetricasProfissionalRepository metricasProfissionalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+
+    public AtualizacaoSenioridade(ProfissionalRepository profissionalRepository,
+            ExperienciaRepository experienciaRepository,
+            MetricasProfissionalRepository metricasProfissionalRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.metricas.senioridade.tamanho-lote:500}") int tamanhoLote) {
+        this.profissionalRepository = profissionalRepository;
+        this.experienciaRepository = experienciaRepository;
+        this.metricasProfissionalRepository = metricasProfissionalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Scheduled(cron = "${application.metricas.senioridade.cron:0 30 3 * * *}")
+    public void atualizarComSeguranca() {
+        try {
+            int atualizados = atualizar(LocalDate.now());
+            log.info("Senioridade recalculada; {} profissional(is) mudaram de faixa.", atualizados);
+        } catch (Exception e) {
+            // Os valores anteriores continuam válidos até a próxima execução
+            log.error("Falha ao recalcular a senioridade dos profissionais: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Processa todos os lotes de profissionais.
+     *
+     * @param hoje Data de referência do cálculo.
+     * @return Quantidade de profissionais cuja senioridade foi regravada.
+     */
+    public int atualizar(LocalDate hoje) {
+        UUID ultimoId = ID_INICIAL;
+        int atualizados = 0;
+        while (true) {
+            List<Object[]> lote = profissionalRepository.findLoteInscricaoOab(ultimoId, tamanhoLote);
+            if (lote.isEmpty()) {
+                return atualizados;
+            }
+            Integer alterados = transactionTemplate.execute(status -> atualizarLote(lote, hoje));
+            atualizados += alterados != null ? alterados : 0;
+            ultimoId = (UUID) lote.get(lote.size() - 1)[0];
+            if (lote.size() < tamanhoLote) {
+                return atualizados;
+            }
+        }
+    }
+
+    private int atualizarLote(List<Object[]> lote, LocalDate hoje) {
+        List<UUID> ids = new ArrayList<>(lote.size());
+        for (Object[] linha : lote) {
+            ids.add((UUID) linha[0]);
+        }
+        Map<UUID, List<ExperienciaProfissional>> experiencias = experienciaRepository
+                .findAllByProfissionalIdIn(ids).stream()
+                .collect(Collectors.groupingBy(e -> e.getProfissional().getId()));
+
+        int total = 0;
+        for (Object[] linha : lote) {
+            UUID id = (UUID) linha[0];
+            int anos = MetricasProfissionalService.calcularAnosExperiencia(
+                    experiencias.getOrDefault(id, Collections.emptyList()), paraLocalDate(linha[1]), hoje);
+            total += metricasProfissionalRepository.atualizarSenioridade(id, anos,
+                    MetricasProfissionalService.classificarNivel(anos));
+        }
+        return total;
+    }
+
+    private static LocalDate paraLocalDate(Object valor) {
+        if (valor instanceof Date data) {
+            return data.toLocalDate();
+        }
+        return (LocalDate) valor;
+    }
+}
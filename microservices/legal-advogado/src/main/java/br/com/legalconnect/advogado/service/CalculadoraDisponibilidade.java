@@ -0,0 +1,210 @@
+package br.com.legalconnect.advogado.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Aritmética de intervalos usada no cálculo de horários livres dos
+ * profissionais.
+ * Todas as operações trabalham com listas ordenadas por início e percorrem as
+ * entradas uma única vez (varredura com dois ponteiros), de modo que o custo
+ * de calcular um mês inteiro é linear no número de intervalos, e não no
+ * número de horários candidatos.
+ * Intervalos são semiabertos: [inicio, fim).
+ */
+public final class CalculadoraDisponibilidade {
+
+    private static final Comparator<Intervalo> POR_INICIO = Comparator.comparing(Intervalo::getInicio);
+
+    private CalculadoraDisponibilidade() {
+    }
+
+    /**
+     * Gera os intervalos de expediente entre duas datas (inclusivas) a partir da
+     * grade semanal do profissional.
+     *
+     * @param de          Primeiro dia.
+     * @param ate         Último dia.
+     * @param gradeSemana Faixas de atendimento por dia da semana, cada uma como
+     *                    par [horaInicio, horaFim].
+     * @return Intervalos de expediente, ordenados e sem sobreposição.
+     */
+    public static List<Intervalo> expediente(LocalDate de, LocalDate ate, Map<DayOfWeek, List<LocalTime[]>> gradeSemana) {
+        List<Intervalo> intervalos = new ArrayList<>();
+        for (LocalDate dia = de; !dia.isAfter(ate); dia = dia.plusDays(1)) {
+            List<LocalTime[]> faixas = gradeSemana.get(dia.getDayOfWeek());
+            if (faixas == null) {
+                continue;
+            }
+            for (LocalTime[] faixa : faixas) {
+                if (faixa[1].isAfter(faixa[0])) {
+                    intervalos.add(new Intervalo(dia.atTime(faixa[0]), dia.atTime(faixa[1])));
+                }
+            }
+        }
+        return mesclar(intervalos);
+    }
+
+    /**
+     * Ordena e une intervalos sobrepostos ou adjacentes.
+     *
+     * @param intervalos Intervalos em qualquer ordem (a lista é ordenada no
+     *                   próprio lugar).
+     * @return Intervalos disjuntos, ordenados por início.
+     */
+    public static List<Intervalo> mesclar(List<Intervalo> intervalos) {
+        if (intervalos.size() < 2) {
+            return intervalos;
+        }
+        intervalos.sort(POR_INICIO);
+        List<Intervalo> resultado = new ArrayList<>(intervalos.size());
+        Intervalo atual = intervalos.get(0);
+        for (int i = 1; i < intervalos.size(); i++) {
+            Intervalo proximo = intervalos.get(i);
+            if (!proximo.getInicio().isAfter(atual.getFim())) {
+                if (proximo.getFim().isAfter(atual.getFim())) {
+                    atual = new Intervalo(atual.getInicio(), proximo.getFim());
+                }
+            } else {
+                resultado.add(atual);
+                atual = proximo;
+            }
+        }
+        resultado.add(atual);
+        return resultado;
+    }
+
+    /**
+     * Remove dos intervalos base os trechos ocupados.
+     *
+     * @param base     Intervalos disjuntos e ordenados (ex.: expediente).
+     * @param ocupados Intervalos disjuntos e ordenados (ex.: agendamentos e
+     *                 bloqueios já mesclados).
+     * @return Intervalos livres, ordenados.
+     */
+    public static List<Intervalo> subtrair(List<Intervalo> base, List<Intervalo> ocupados) {
+        List<Intervalo> livres = new ArrayList<>(base.size());
+        int j = 0;
+        for (Intervalo intervalo : base) {
+            LocalDateTime cursor = intervalo.getInicio();
+            // Ocupados que terminam antes do intervalo atual não afetam os próximos
+            while (j < ocupados.size() && !ocupados.get(j).getFim().isAfter(cursor)) {
+                j++;
+            }
+            int k = j;
+            while (k < ocupados.size() && ocupados.get(k).getInicio().isBefore(intervalo.getFim())) {
+                Intervalo ocupado = ocupados.get(k);
+                if (ocupado.getInicio().isAfter(cursor)) {
+                    livres.add(new Intervalo(cursor, ocupado.getInicio()));
+                }
+                if (ocupado.getFim().isAfter(cursor)) {
+                    cursor = ocupado.getFim();
+                }
+                k++;
+            }
+            if (cursor.isBefore(intervalo.getFim())) {
+                livres.add(new Intervalo(cursor, intervalo.getFim()));
+            }
+        }
+        return livres;
+    }
+
+    /**
+     * Descarta dos intervalos o trecho anterior a um instante (ex.: agora),
+     * cortando o intervalo que o contém.
+     *
+     * @param intervalos Intervalos disjuntos e ordenados.
+     * @param instante   Primeiro instante mantido.
+     * @return Intervalos a partir do instante, ordenados.
+     */
+    public static List<Intervalo> aPartirDe(List<Intervalo> intervalos, LocalDateTime instante) {
+        List<Intervalo> resultado = new ArrayList<>(intervalos.size());
+        for (Intervalo intervalo : intervalos) {
+            if (!intervalo.getFim().isAfter(instante)) {
+                continue;
+            }
+            resultado.add(intervalo.getInicio().isBefore(instante) ? new Intervalo(instante, intervalo.getFim())
+                    : intervalo);
+        }
+        return resultado;
+    }
+
+    /**
+     * Divide os intervalos livres em horários de início possíveis para uma
+     * consulta, alinhados à granularidade informada (ex.: de 30 em 30 minutos a
+     * partir da meia-noite).
+     *
+     * @param livres        Intervalos livres, ordenados.
+     * @param duracao       Duração da consulta.
+     * @param granularidade Passo entre horários candidatos.
+     * @return Horários de início em que a consulta inteira cabe.
+     */
+    public static List<LocalDateTime> horariosDisponiveis(List<Intervalo> livres, Duration duracao,
+            Duration granularidade) {
+        List<LocalDateTime> horarios = new ArrayList<>();
+        long passo = granularidade.toSeconds();
+        for (Intervalo livre : livres) {
+            LocalDateTime inicio = alinhar(livre.getInicio(), passo);
+            while (!inicio.plus(duracao).isAfter(livre.getFim())) {
+                horarios.add(inicio);
+                inicio = inicio.plus(granularidade);
+            }
+        }
+        return horarios;
+    }
+
+    /**
+     * Indica se o intervalo está inteiramente contido em algum dos intervalos
+     * informados (busca binária sobre a lista ordenada).
+     *
+     * @param intervalos Intervalos disjuntos e ordenados.
+     * @param alvo       Intervalo procurado.
+     * @return true se algum intervalo contém o alvo.
+     */
+    public static boolean contem(List<Intervalo> intervalos, Intervalo alvo) {
+        int baixo = 0;
+        int alto = intervalos.size() - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            Intervalo candidato = intervalos.get(meio);
+            if (candidato.getInicio().isAfter(alvo.getInicio())) {
+                alto = meio - 1;
+            } else if (!candidato.getFim().isAfter(alvo.getInicio())) {
+                baixo = meio + 1;
+            } else {
+                return !candidato.getFim().isBefore(alvo.getFim());
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime alinhar(LocalDateTime horario, long passoSegundos) {
+        long segundosNoDia = horario.toLocalTime().toSecondOfDay();
+        long resto = segundosNoDia % passoSegundos;
+        LocalDateTime semFracao = horario.withNano(0);
+        if (resto == 0 && semFracao.equals(horario)) {
+            return horario;
+        }
+        return semFracao.plusSeconds(passoSegundos - resto);
+    }
+
+    /**
+     * Intervalo de tempo semiaberto [inicio, fim).
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Intervalo {
+        private final LocalDateTime inicio;
+        private final LocalDateTime fim;
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.legalconnect.advogado.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import br.com.legalconnect.advogado.domain.Agendamento;
+import br.com.legalconnect.advogado.domain.BloqueioAgenda;
+import br.com.legalconnect.advogado.domain.HorarioAtendimento;
+import br.com.legalconnect.advogado.dto.response.DisponibilidadeResponseDTO;
+import br.com.legalconnect.advogado.repository.AgendamentoRepository;
+import br.com.legalconnect.advogado.repository.BloqueioAgendaRepository;
+import br.com.legalconnect.advogado.repository.HorarioAtendimentoRepository;
+import br.com.legalconnect.advogado.service.CalculadoraDisponibilidade.Intervalo;
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço que calcula os horários livres dos profissionais.
+ * Para um período, combina a grade semanal de atendimento, os agendamentos
+ * ativos e os bloqueios de agenda em conjuntos de intervalos e devolve os
+ * trechos livres. Os dados de todos os profissionais solicitados são lidos em
+ * três consultas, independentemente do tamanho do período.
+ */
+@Slf4j
+@Service
+public class DisponibilidadeService {
+
+    private final AgendamentoRepository agendamentoRepository;
+    private final BloqueioAgendaRepository bloqueioAgendaRepository;
+    private final HorarioAtendimentoRepository horarioAtendimentoRepository;
+    private final Map<DayOfWeek, List<LocalTime[]>> expedientePadrao;
+    private final Duration granularidade;
+    private final int periodoMaximoDias;
+
+    public DisponibilidadeService(AgendamentoRepository agendamentoRepository,
+            BloqueioAgendaRepository bloqueioAgendaRepository,
+            HorarioAtendimentoRepository horarioAtendimentoRepository,
+            @Value("${application.agenda.expediente-padrao.dias:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}") Set<DayOfWeek> diasPadrao,
+            @Value("${application.agenda.expediente-padrao.faixas:09:00-12:00,13:00-18:00}") List<String> faixasPadrao,
+            @Value("${application.agenda.granularidade-minutos:30}") int granularidadeMinutos,
+            @Value("${application.agenda.periodo-maximo-dias:62}") int periodoMaximoDias) {
+        this.agendamentoRepository = agendamentoRepository;
+        this.bloqueioAgendaRepository = bloqueioAgendaRepository;
+        this.horarioAtendimentoRepository = horarioAtendimentoRepository;
+        this.granularidade = Duration.ofMinutes(granularidadeMinutos);
+        this.periodoMaximoDias = periodoMaximoDias;
+
+        List<LocalTime[]> faixas = faixasPadrao.stream()
+                .map(faixa -> faixa.trim().split("-"))
+                .map(partes -> new LocalTime[] { LocalTime.parse(partes[0].trim()), LocalTime.parse(partes[1].trim()) })
+                .collect(Collectors.toList());
+        this.expedientePadrao = new EnumMap<>(DayOfWeek.class);
+        diasPadrao.forEach(dia -> expedientePadrao.put(dia, faixas));
+    }
+
+    /**
+     * Calcula a disponibilidade de um profissional em um período.
+     *
+     * @param profissionalId ID do profissional.
+     * @param de             Primeiro dia do período.
+     * @param ate            Último dia do período (inclusivo).
+     * @return DTO com os intervalos livres e os horários de início possíveis.
+     * @throws BusinessException se o período for inválido ou longo demais.
+     */
+    public DisponibilidadeResponseDTO calcularDisponibilidade(UUID profissionalId, LocalDate de, LocalDate ate) {
+        return calcularDisponibilidade(List.of(profissionalId), de, ate).get(profissionalId);
+    }
+
+    /**
+     * Calcula a disponibilidade de vários profissionais em um período.
+     * Regras de Negócio:
+     * - O período é limitado para manter o custo da resposta previsível.
+     * - Sem grade cadastrada, o profissional segue o expediente padrão.
+     * - Agendamentos cancelados não ocupam horário.
+     * - Horários anteriores ao momento da consulta não são oferecidos.
+     *
+     * @param profissionalIds IDs dos profissionais.
+     * @param de              Primeiro dia do período.
+     * @param ate             Último dia do período (inclusivo).
+     * @return Mapa ID do profissional -> disponibilidade, na ordem recebida.
+     * @throws BusinessException se o período for inválido ou longo demais.
+     */
+    public Map<UUID, DisponibilidadeResponseDTO> calcularDisponibilidade(Collection<UUID> profissionalIds,
+            LocalDate de, LocalDate ate) {
+        validarPeriodo(de, ate);
+        LocalDateTime inicioPeriodo = de.atStartOfDay();
+        LocalDateTime fimPeriodo = ate.plusDays(1).atStartOfDay();
+
+        LocalDateTime agora = LocalDateTime.now();
+
+        Map<UUID, Map<DayOfWeek, List<LocalTime[]>>> grades = carregarGrades(profissionalIds);
+        Map<UUID, List<Intervalo>> ocupados = carregarOcupados(profissionalIds, inicioPeriodo, fimPeriodo);
+
+        Map<UUID, DisponibilidadeResponseDTO> resultado = new LinkedHashMap<>();
+        for (UUID profissionalId : profissionalIds) {
+            // Horários que já passaram (inclusive os de hoje) não podem ser agendados
+            List<Intervalo> expediente = CalculadoraDisponibilidade.aPartirDe(
+                    CalculadoraDisponibilidade.expediente(de, ate,
+                            grades.getOrDefault(profissionalId, expedientePadrao)),
+                    agora);
+            List<Intervalo> livres = CalculadoraDisponibilidade.subtrair(expediente,
+                    CalculadoraDisponibilidade.mesclar(ocupados.getOrDefault(profissionalId, new ArrayList<>())));
+
+            resultado.put(profissionalId, DisponibilidadeResponseDTO.builder()
+                    .profissionalId(profissionalId)
+                    .de(de)
+                    .ate(ate)
+                    .intervalosLivres(livres.stream()
+                            .map(i -> new DisponibilidadeResponseDTO.IntervaloDTO(i.getInicio(), i.getFim()))
+                            .collect(Collectors.toList()))
+                    .horariosDisponiveis(CalculadoraDisponibilidade.horariosDisponiveis(livres,
+                            AgendamentoService.DURACAO_CONSULTA, granularidade))
+                    .build());
+        }
+        log.debug("Disponibilidade calculada para {} profissional(is) entre {} e {}", profissionalIds.size(), de, ate);
+        return resultado;
+    }
+
+    /**
+     * Indica se o intervalo ainda não começou, está dentro do expediente do
+     * profissional e fora de seus bloqueios de agenda. Conflitos com outros agendamentos são tratados
+     * pelo {@link AgendamentoService}.
+     *
+     * @param profissionalId ID do profissional.
+     * @param inicio         Início da consulta.
+     * @param fim            Fim da consulta.
+     * @return true se o profissional atende no intervalo.
+     */
+    public boolean atendeNoIntervalo(UUID profissionalId, LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio.isBefore(LocalDateTime.now())) {
+            return false;
+        }
+        List<UUID> ids = List.of(profissionalId);
+        List<Intervalo> expediente = CalculadoraDisponibilidade.expediente(inicio.toLocalDate(), fim.toLocalDate(),
+                carregarGrades(ids).getOrDefault(profissionalId, expedientePadrao));
+        if (!CalculadoraDisponibilidade.contem(expediente, new Intervalo(inicio, fim))) {
+            return false;
+        }
+        return bloqueioAgendaRepository.findSobrepostos(ids, inicio, fim).isEmpty();
+    }
+
+    private void validarPeriodo(LocalDate de, LocalDate ate) {
+        if (de == null || ate == null || ate.isBefore(de)) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "Período inválido: a data final deve ser igual ou posterior à data inicial.");
+        }
+        if (ChronoUnit.DAYS.between(de, ate) + 1 > periodoMaximoDias) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "O período consultado deve ter no máximo " + periodoMaximoDias + " dias.");
+        }
+    }
+
+    private Map<UUID, Map<DayOfWeek, List<LocalTime[]>>> carregarGrades(Collection<UUID> profissionalIds) {
+        Map<UUID, Map<DayOfWeek, List<LocalTime[]>>> grades = new HashMap<>();
+        for (HorarioAtendimento horario : horarioAtendimentoRepository.findAllByProfissionalIdIn(profissionalIds)) {
+            grades.computeIfAbsent(horario.getProfissional().getId(), id -> new EnumMap<>(DayOfWeek.class))
+                    .computeIfAbsent(horario.getDiaSemana(), dia -> new ArrayList<>())
+                    .add(new LocalTime[] { horario.getHoraInicio(), horario.getHoraFim() });
+        }
+        return grades;
+    }
+
+    private Map<UUID, List<Intervalo>> carregarOcupados(Collection<UUID> profissionalIds, LocalDateTime inicio,
+            LocalDateTime fim) {
+        Map<UUID, List<Intervalo>> ocupados = new HashMap<>();
+        for (Agendamento agendamento : agendamentoRepository.findAtivosSobrepostos(profissionalIds, inicio, fim)) {
+            ocupados.computeIfAbsent(agendamento.getProfissional().getId(), id -> new ArrayList<>())
+                    .add(new Intervalo(agendamento.getInicio(), agendamento.getFim()));
+        }
+        for (BloqueioAgenda bloqueio : bloqueioAgendaRepository.findSobrepostos(profissionalIds, inicio, fim)) {
+            ocupados.computeIfAbsent(bloqueio.getProfissional().getId(), id -> new ArrayList<>())
+                    .add(new Intervalo(bloqueio.getInicio(), bloqueio.getFim()));
+        }
+        return ocupados;
+    }
+}
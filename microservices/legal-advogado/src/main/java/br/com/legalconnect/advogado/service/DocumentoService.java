@@ -5,19 +5,29 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import br.com.legalconnect.advogado.domain.Documento;
 import br.com.legalconnect.advogado.domain.Profissional;
 import br.com.legalconnect.advogado.dto.request.DocumentoUploadRequest;
+import br.com.legalconnect.advogado.dto.request.FotoPerfilUploadRequest;
 import br.com.legalconnect.advogado.dto.response.DocumentoResponseDTO;
 import br.com.legalconnect.advogado.mapper.DocumentoMapper;
 import br.com.legalconnect.advogado.repository.DocumentoRepository;
 import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.commom.dto.response.UserResponseDTO;
+import br.com.legalconnect.commom.mapper.UserMapper;
+import br.com.legalconnect.commom.model.User;
+import br.com.legalconnect.commom.repository.UserRepository;
 import br.com.legalconnect.commom.service.S3Service;
 import br.com.legalconnect.commom.service.TenantContext;
+import br.com.legalconnect.commom.service.ThumbnailService;
 import br.com.legalconnect.common.exception.BusinessException;
 import br.com.legalconnect.common.exception.ErrorCode;
 import jakarta.transaction.Transactional;
@@ -25,25 +35,37 @@ import jakarta.transaction.Transactional;
 /**
  * Serviço responsável pela gestão de documentos de um Profissional.
  * Inclui o upload de arquivos para o S3 e o armazenamento dos metadados no
- * banco de dados.
+ * banco de dados. Imagens e PDFs têm variantes reduzidas (thumbnail e
+ * preview) geradas de forma assíncrona após o upload.
  */
 @Service
 public class DocumentoService {
 
+    private static final Logger log = LoggerFactory.getLogger(DocumentoService.class);
+
     private final DocumentoRepository documentoRepository;
     private final DocumentoMapper documentoMapper;
     private final ProfissionalRepository profissionalRepository;
     private final S3Service s3Service; // Serviço para integração com S3
+    private final ThumbnailService thumbnailService; // Geração das variantes de imagens e PDFs
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
 
     @Autowired
     public DocumentoService(DocumentoRepository documentoRepository,
             DocumentoMapper documentoMapper,
             ProfissionalRepository profissionalRepository,
-            S3Service s3Service) {
+            S3Service s3Service,
+            ThumbnailService thumbnailService,
+            UserRepository userRepository,
+            UserMapper userMapper) {
         this.documentoRepository = documentoRepository;
         this.documentoMapper = documentoMapper;
         this.profissionalRepository = profissionalRepository;
         this.s3Service = s3Service;
+        this.thumbnailService = thumbnailService;
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
     }
 
     /**
@@ -52,6 +74,8 @@ public class DocumentoService {
      * - O profissional deve existir e pertencer ao tenant atual.
      * - O conteúdo do arquivo em Base64 é decodificado e enviado ao S3.
      * - A URL do S3 é armazenada no banco de dados.
+     * - Thumbnail e preview são gerados após o commit; até lá as URLs das
+     * variantes permanecem nulas.
      *
      * @param profissionalId ID do profissional.
      * @param request        DTO com os dados do documento e o arquivo em Base64.
@@ -73,13 +97,7 @@ public class DocumentoService {
         }
 
         // Decodificar Base64 e fazer upload para S3
-        byte[] fileBytes;
-        try {
-            fileBytes = Base64.getDecoder().decode(request.getArquivoBase64());
-        } catch (IllegalArgumentException e) {
-            throw new BusinessException(ErrorCode.INVALID_DOCUMENT_FORMAT, HttpStatus.BAD_REQUEST,
-                    "Conteúdo do arquivo em Base64 inválido.");
-        }
+        byte[] fileBytes = decodificarBase64(request.getArquivoBase64());
 
         String s3Key = "profissionais/" + profissionalId + "/documentos/" + UUID.randomUUID() + "/"
                 + request.getNomeArquivo();
@@ -96,9 +114,83 @@ public class DocumentoService {
         documento.setTenantId(tenantId);
 
         documento = documentoRepository.save(documento);
+
+        UUID documentoId = documento.getId();
+        thumbnailService.agendarVariantes(fileBytes, request.getMimeType(), s3Key,
+                variantes -> documentoRepository.atualizarVariantes(documentoId, variantes.getThumbnailUrl(),
+                        variantes.getPreviewUrl()));
+
         return documentoMapper.toResponseDTO(documento);
     }
 
+    /**
+     * Realiza o upload da foto de perfil do usuário associado a um profissional.
+     * Regras de Negócio:
+     * - O profissional deve existir e pertencer ao tenant atual.
+     * - Apenas imagens são aceitas.
+     * - A foto original substitui a anterior; os arquivos antigos são removidos
+     * do S3 e as novas variantes são geradas de forma assíncrona, ambos após o
+     * commit.
+     *
+     * @param profissionalId ID do profissional.
+     * @param request        DTO com o nome, tipo MIME e conteúdo Base64 da foto.
+     * @return DTO do usuário com a nova URL da foto.
+     * @throws BusinessException em caso de formato inválido, falha no upload ou se
+     *                           o profissional não for encontrado.
+     */
+    @Transactional
+    public UserResponseDTO uploadFotoPerfil(UUID profissionalId, FotoPerfilUploadRequest request) {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+
+        Profissional profissional = profissionalRepository.findById(profissionalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROFISSIONAL_NAO_ENCONTRADO, HttpStatus.NOT_FOUND,
+                        "Profissional não encontrado para upload da foto de perfil."));
+
+        if (!profissional.getTenantId().equals(tenantId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS, HttpStatus.FORBIDDEN,
+                    "Acesso negado. Profissional pertence a outro tenant.");
+        }
+
+        if (!request.getMimeType().startsWith("image/")) {
+            throw new BusinessException(ErrorCode.INVALID_DOCUMENT_FORMAT, HttpStatus.BAD_REQUEST,
+                    "A foto de perfil deve ser uma imagem.");
+        }
+
+        byte[] fileBytes = decodificarBase64(request.getArquivoBase64());
+
+        String s3Key = "usuarios/" + profissional.getUsuario().getId() + "/foto/" + UUID.randomUUID() + "/"
+                + request.getNomeArquivo();
+        String fileUrl = s3Service.uploadFile(fileBytes, s3Key, request.getMimeType());
+
+        if (fileUrl == null) {
+            throw new BusinessException(ErrorCode.DOCUMENT_UPLOAD_FAILED, HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Falha ao fazer upload da foto de perfil para o S3.");
+        }
+
+        User usuario = profissional.getUsuario();
+        String fotoAnterior = usuario.getFotoUrl();
+        String thumbnailAnterior = usuario.getFotoThumbnailUrl();
+        String previewAnterior = usuario.getFotoPreviewUrl();
+
+        usuario.setFotoUrl(fileUrl);
+        usuario.setFotoThumbnailUrl(null);
+        usuario.setFotoPreviewUrl(null);
+        usuario = userRepository.save(usuario);
+
+        // Os arquivos anteriores só podem sair do S3 quando a troca estiver
+        // confirmada; em caso de rollback o registro continua apontando para eles
+        removerArquivosAposCommit(fotoAnterior, thumbnailAnterior, previewAnterior);
+
+        // A atualização condicionada à URL descarta variantes de um upload que já
+        // foi substituído por outro mais recente
+        UUID usuarioId = usuario.getId();
+        thumbnailService.agendarVariantes(fileBytes, request.getMimeType(), s3Key,
+                variantes -> userRepository.atualizarVariantesFoto(usuarioId, fileUrl,
+                        variantes.getThumbnailUrl(), variantes.getPreviewUrl()));
+
+        return userMapper.toResponseDTO(usuario);
+    }
+
     /**
      * Busca um documento pelo seu ID e pelo ID do profissional.
      * Regras de Negócio:
@@ -178,7 +270,44 @@ public class DocumentoService {
             throw new BusinessException(ErrorCode.ERRO_INTERNO_SERVIDOR, HttpStatus.INTERNAL_SERVER_ERROR,
                     "Falha ao deletar o documento do S3: " + e.getMessage());
         }
+        // As variantes são derivadas do original: uma falha aqui não impede a deleção
+        removerArquivosSilenciosamente(existingDocumento.getUrlThumbnail(), existingDocumento.getUrlPreview());
 
         documentoRepository.deleteByIdAndProfissionalId(documentoId, profissionalId);
     }
+
+    private byte[] decodificarBase64(String arquivoBase64) {
+        try {
+            return Base64.getDecoder().decode(arquivoBase64);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_DOCUMENT_FORMAT, HttpStatus.BAD_REQUEST,
+                    "Conteúdo do arquivo em Base64 inválido.");
+        }
+    }
+
+    private void removerArquivosAposCommit(String... urls) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removerArquivosSilenciosamente(urls);
+                }
+            });
+        } else {
+            removerArquivosSilenciosamente(urls);
+        }
+    }
+
+    private void removerArquivosSilenciosamente(String... urls) {
+        for (String url : urls) {
+            if (url == null || url.isEmpty()) {
+                continue;
+            }
+            try {
+                s3Service.deleteFile(url);
+            } catch (Exception e) {
+                log.warn("Falha ao remover arquivo do S3 ({}): {}", url, e.getMessage());
+            }
+        }
+    }
 }
\ No newline at end of file
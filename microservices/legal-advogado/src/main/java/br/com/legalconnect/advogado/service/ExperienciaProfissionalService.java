@@ -5,11 +5,13 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import br.com.legalconnect.advogado.domain.ExperienciaProfissional;
 import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
 import br.com.legalconnect.advogado.dto.request.ExperienciaProfissionalRequestDTO;
 import br.com.legalconnect.advogado.dto.response.ExperienciaProfissionalResponseDTO;
 import br.com.legalconnect.advogado.mapper.ExperienciaProfissionalMapper;
@@ -30,14 +32,17 @@ public class ExperienciaProfissionalService {
         private final ExperienciaRepository experienciaRepository;
         private final ExperienciaProfissionalMapper experienciaProfissionalMapper;
         private final ProfissionalRepository profissionalRepository;
+        private final ApplicationEventPublisher eventPublisher; // Recalcula a senioridade do profissional
 
         @Autowired
         public ExperienciaProfissionalService(ExperienciaRepository experienciaRepository,
                         ExperienciaProfissionalMapper experienciaProfissionalMapper,
-                        ProfissionalRepository profissionalRepository) {
+                        ProfissionalRepository profissionalRepository,
+                        ApplicationEventPublisher eventPublisher) {
                 this.experienciaRepository = experienciaRepository;
                 this.experienciaProfissionalMapper = experienciaProfissionalMapper;
                 this.profissionalRepository = profissionalRepository;
+                this.eventPublisher = eventPublisher;
         }
 
         /**
@@ -70,6 +75,7 @@ public class ExperienciaProfissionalService {
                 experiencia.setTenantId(tenantId);
 
                 experiencia = experienciaRepository.save(experiencia);
+                eventPublisher.publishEvent(new PerfilProfissionalAlteradoEvent(profissionalId));
                 return experienciaProfissionalMapper.toResponseDTO(experiencia);
         }
 
@@ -101,6 +107,7 @@ public class ExperienciaProfissionalService {
 
                 experienciaProfissionalMapper.updateEntityFromDto(requestDTO, existingExperiencia);
                 existingExperiencia = experienciaRepository.save(existingExperiencia);
+                eventPublisher.publishEvent(new PerfilProfissionalAlteradoEvent(profissionalId));
                 return experienciaProfissionalMapper.toResponseDTO(existingExperiencia);
         }
 
@@ -175,5 +182,6 @@ public class ExperienciaProfissionalService {
                 }
 
                 experienciaRepository.deleteByIdAndProfissionalId(experienciaId, profissionalId);
+                eventPublisher.publishEvent(new PerfilProfissionalAlteradoEvent(profissionalId));
         }
 }
\ No newline at end of file
@@ -0,0 +1,391 @@
+package br.com.legalconnect.advogado.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.common.config.leitura.TransacaoLeituraContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice invertido em memória dos profissionais do marketplace, usado pela
+ * busca facetada.
+ * Cada profissional recebe um ordinal denso (0..n-1) na ordem de exibição
+ * (plano, avaliação, nome); cada valor de faceta guarda o conjunto de ordinais
+ * que o possuem. Filtros viram OR dentro de uma faceta e AND entre facetas, e
+ * percorrer os bits do resultado já devolve os profissionais ordenados.
+ * O índice é um snapshot imutável reconstruído em segundo plano quando um
+ * perfil é alterado, e periodicamente para incorporar alterações feitas por
+ * outras instâncias.
+ */
+@Slf4j
+@Component
+public class IndiceFacetadoProfissionais {
+
+    /**
+     * Facetas disponíveis na busca, com o nome usado na resposta.
+     */
+    public enum Faceta {
+        AREA("areas"),
+        LOCAL("locais"),
+        IDIOMA("idiomas"),
+        TIPO_ATENDIMENTO("tiposAtendimento"),
+        PLANO("planos"),
+        ESTADO("estados"),
+        CIDADE("cidades");
+
+        private final String nome;
+
+        Faceta(String nome) {
+            this.nome = nome;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+    }
+
+    private final ProfissionalRepository profissionalRepository;
+    private final long idadeMaximaMillis;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean desatualizado = true;
+
+    public IndiceFacetadoProfissionais(ProfissionalRepository profissionalRepository,
+            @Value("${application.busca-facetada.idade-maxima-segundos:300}") long idadeMaximaSegundos) {
+        this.profissionalRepository = profissionalRepository;
+        this.idadeMaximaMillis = idadeMaximaSegundos * 1000;
+    }
+
+    /**
+     * Marca o índice para reconstrução após o commit da alteração do perfil.
+     * Várias alterações próximas resultam em uma única reconstrução.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerfilProfissionalAlterado(PerfilProfissionalAlteradoEvent evento) {
+        desatualizado = true;
+    }
+
+    /**
+     * Reconstrói o índice se houver alterações pendentes ou se o snapshot
+     * tiver ultrapassado a idade máxima. Com alterações pendentes, lê do
+     * primário: a réplica pode ainda não ter aplicado as escritas.
+     */
+    @Scheduled(fixedDelayString = "${application.busca-facetada.intervalo-verificacao-ms:5000}")
+    public void reconstruirSeNecessario() {
+        Snapshot atual = snapshot;
+        if (!desatualizado && atual != null && System.currentTimeMillis() - atual.construidoEm <= idadeMaximaMillis) {
+            return;
+        }
+        try {
+            if (desatualizado) {
+                TransacaoLeituraContext.noPrimario(this::reconstruir);
+            } else {
+                reconstruir();
+            }
+        } catch (Exception e) {
+            // Mantém o snapshot anterior; nova tentativa no próximo ciclo
+            log.warn("Falha ao reconstruir o índice da busca facetada: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Executa a busca facetada.
+     *
+     * @param filtros Valores selecionados por faceta (facetas ausentes ou vazias
+     *                não filtram).
+     * @param page    Número da página (0-indexed).
+     * @param size    Tamanho da página.
+     * @return IDs da página na ordem de exibição, total e contagens por faceta.
+     */
+    public Resultado buscar(Map<Faceta, ? extends Collection<String>> filtros, int page, int size) {
+        Snapshot indice = obter();
+
+        // Um conjunto por faceta filtrada (OR entre os valores selecionados)
+        Map<Faceta, BitSet> porFaceta = new EnumMap<>(Faceta.class);
+        filtros.forEach((faceta, valores) -> {
+            if (valores != null && !valores.isEmpty()) {
+                porFaceta.put(faceta, indice.unir(faceta, valores));
+            }
+        });
+
+        BitSet resultado = indice.todos();
+        porFaceta.values().forEach(resultado::and);
+
+        // Contagem multisseleção: cada faceta é contada contra os filtros das
+        // demais, para que o usuário veja quantos resultados teria ao marcar
+        // outro valor da mesma faceta
+        Map<String, Map<String, Integer>> facetas = new LinkedHashMap<>();
+        for (Faceta faceta : Faceta.values()) {
+            BitSet base = resultado;
+            if (porFaceta.containsKey(faceta)) {
+                base = indice.todos();
+                for (Map.Entry<Faceta, BitSet> filtro : porFaceta.entrySet()) {
+                    if (filtro.getKey() != faceta) {
+                        base.and(filtro.getValue());
+                    }
+                }
+            }
+            facetas.put(faceta.getNome(), indice.contar(faceta, base));
+        }
+
+        List<UUID> ids = new ArrayList<>(size);
+        int total = resultado.cardinality();
+        long inicio = (long) page * size;
+        if (inicio < total) {
+            // Avança até o primeiro ordinal da página e coleta os seguintes
+            int ordinal = resultado.nextSetBit(0);
+            for (long i = 0; i < inicio; i++) {
+                ordinal = resultado.nextSetBit(ordinal + 1);
+            }
+            while (ordinal >= 0 && ids.size() < size) {
+                ids.add(indice.ids[ordinal]);
+                ordinal = resultado.nextSetBit(ordinal + 1);
+            }
+        }
+        return new Resultado(ids, total, facetas);
+    }
+
+    private Snapshot obter() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual : construirSeAusente();
+    }
+
+    private synchronized Snapshot construirSeAusente() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual : reconstruir();
+    }
+
+    /**
+     * Lê o marketplace em três consultas e publica um novo snapshot.
+     * Sincronizado para que reconstruções concorrentes sejam publicadas na
+     * ordem em que consultaram o banco.
+     */
+    private synchronized Snapshot reconstruir() {
+        desatualizado = false; // Alterações durante a leitura marcam de novo
+        try {
+            return construir();
+        } catch (RuntimeException e) {
+            desatualizado = true;
+            throw e;
+        }
+    }
+
+    private Snapshot construir() {
+        List<Object[]> ordem = profissionalRepository.findOrdemIndiceMarketplace();
+        int n = ordem.size();
+        UUID[] ids = new UUID[n];
+        Map<UUID, Integer> ordinais = new HashMap<>(n * 2);
+        Map<Faceta, Map<String, Valor>> valores = new EnumMap<>(Faceta.class);
+        for (Faceta faceta : Faceta.values()) {
+            valores.put(faceta, new HashMap<>());
+        }
+
+        for (int i = 0; i < n; i++) {
+            Object[] linha = ordem.get(i);
+            ids[i] = paraUuid(linha[0]);
+            ordinais.put(ids[i], i);
+            adicionar(valores.get(Faceta.PLANO), (String) linha[1], i);
+        }
+        for (Object[] linha : profissionalRepository.findAssociacoesIndiceMarketplace()) {
+            Integer ordinal = ordinais.get(paraUuid(linha[1]));
+            if (ordinal != null) {
+                adicionar(valores.get(Faceta.valueOf(String.valueOf(linha[0]))), String.valueOf(linha[2]), ordinal);
+            }
+        }
+        for (Object[] linha : profissionalRepository.findEnderecosIndiceMarketplace()) {
+            Integer ordinal = ordinais.get(paraUuid(linha[0]));
+            if (ordinal != null) {
+                adicionar(valores.get(Faceta.ESTADO), (String) linha[1], ordinal);
+                adicionar(valores.get(Faceta.CIDADE), (String) linha[2], ordinal);
+            }
+        }
+
+        Snapshot novo = new Snapshot(ids, valores, System.currentTimeMillis());
+        snapshot = novo;
+        log.debug("Índice da busca facetada reconstruído: {} profissional(is).", n);
+        return novo;
+    }
+
+    private static void adicionar(Map<String, Valor> valores, String rotulo, int ordinal) {
+        if (rotulo == null || rotulo.isBlank()) {
+            return;
+        }
+        String limpo = rotulo.trim();
+        valores.computeIfAbsent(chave(limpo), k -> new Valor(limpo)).construcao.set(ordinal);
+    }
+
+    /**
+     * Chave de comparação dos valores: sem diferenciar maiúsculas nem espaços
+     * nas pontas (UUIDs, UFs e nomes de cidades e planos).
+     */
+    private static String chave(String valor) {
+        return valor.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static UUID paraUuid(Object valor) {
+        return valor instanceof UUID ? (UUID) valor : UUID.fromString(valor.toString());
+    }
+
+    /**
+     * Valor de uma faceta: rótulo exibido e ordinais dos profissionais.
+     * Como nos bitmaps comprimidos, a representação depende da densidade:
+     * valores raros (a maioria das cidades, por exemplo) guardam a lista
+     * ordenada de ordinais, 32 bits por profissional; valores frequentes
+     * guardam o mapa de bits, 1 bit por profissional do marketplace.
+     */
+    private static final class Valor {
+        private final String rotulo;
+        private BitSet construcao = new BitSet();
+        private int[] esparso;
+        private BitSet denso;
+        private long[] palavras;
+
+        private Valor(String rotulo) {
+            this.rotulo = rotulo;
+        }
+
+        /** Escolhe a representação definitiva ao fim da construção do índice. */
+        private void compactar(int totalProfissionais) {
+            int cardinalidade = construcao.cardinality();
+            if ((long) cardinalidade * Integer.SIZE < totalProfissionais) {
+                esparso = construcao.stream().toArray();
+            } else {
+                denso = construcao;
+                palavras = construcao.toLongArray();
+            }
+            construcao = null;
+        }
+
+        private void unirEm(BitSet destino) {
+            if (denso != null) {
+                destino.or(denso);
+            } else {
+                for (int ordinal : esparso) {
+                    destino.set(ordinal);
+                }
+            }
+        }
+
+        /** Cardinalidade da interseção com a base, sem materializar um novo conjunto. */
+        private int contarIntersecao(long[] palavrasBase) {
+            int quantidade = 0;
+            if (denso != null) {
+                int limite = Math.min(palavras.length, palavrasBase.length);
+                for (int i = 0; i < limite; i++) {
+                    quantidade += Long.bitCount(palavras[i] & palavrasBase[i]);
+                }
+            } else {
+                for (int ordinal : esparso) {
+                    int palavra = ordinal >>> 6;
+                    if (palavra >= palavrasBase.length) {
+                        break; // Ordinais crescentes: os demais também estão além da base
+                    }
+                    if ((palavrasBase[palavra] & (1L << ordinal)) != 0) {
+                        quantidade++;
+                    }
+                }
+            }
+            return quantidade;
+        }
+    }
+
+    /**
+     * Estado imutável publicado pelo índice.
+     */
+    private static final class Snapshot {
+        private final UUID[] ids;
+        private final Map<Faceta, Map<String, Valor>> valores;
+        private final long construidoEm;
+
+        private Snapshot(UUID[] ids, Map<Faceta, Map<String, Valor>> valores, long construidoEm) {
+            valores.values().forEach(daFaceta -> daFaceta.values().forEach(valor -> valor.compactar(ids.length)));
+            this.ids = ids;
+            this.valores = valores;
+            this.construidoEm = construidoEm;
+        }
+
+        /** Novo conjunto com todos os ordinais (pode ser alterado pelo chamador). */
+        private BitSet todos() {
+            BitSet todos = new BitSet(ids.length);
+            todos.set(0, ids.length);
+            return todos;
+        }
+
+        /** Novo conjunto com a união dos valores informados; desconhecidos são ignorados. */
+        private BitSet unir(Faceta faceta, Collection<String> selecionados) {
+            Map<String, Valor> daFaceta = valores.get(faceta);
+            BitSet uniao = new BitSet(ids.length);
+            for (String selecionado : selecionados) {
+                Valor valor = selecionado != null ? daFaceta.get(chave(selecionado)) : null;
+                if (valor != null) {
+                    valor.unirEm(uniao);
+                }
+            }
+            return uniao;
+        }
+
+        /** Quantidade de ordinais de {@code base} em cada valor da faceta, omitindo zeros. */
+        private Map<String, Integer> contar(Faceta faceta, BitSet base) {
+            Map<String, Valor> daFaceta = valores.get(faceta);
+            if (daFaceta.isEmpty() || base.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            long[] palavrasBase = base.toLongArray();
+            Map<String, Integer> contagens = new HashMap<>();
+            for (Valor valor : daFaceta.values()) {
+                int quantidade = valor.contarIntersecao(palavrasBase);
+                if (quantidade > 0) {
+                    contagens.put(valor.rotulo, quantidade);
+                }
+            }
+            return contagens;
+        }
+
+    }
+
+    /**
+     * Resultado de uma busca facetada.
+     */
+    public static final class Resultado {
+        private final List<UUID> ids;
+        private final int total;
+        private final Map<String, Map<String, Integer>> facetas;
+
+        Resultado(List<UUID> ids, int total, Map<String, Map<String, Integer>> facetas) {
+            this.ids = ids;
+            this.total = total;
+            this.facetas = facetas;
+        }
+
+        /** IDs dos profissionais da página, na ordem de exibição. */
+        public List<UUID> getIds() {
+            return ids;
+        }
+
+        /** Total de profissionais que atendem aos filtros. */
+        public int getTotal() {
+            return total;
+        }
+
+        /** Contagens por faceta e valor. */
+        public Map<String, Map<String, Integer>> getFacetas() {
+            return facetas;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package br.com.legalconnect.advogado.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.common.config.leitura.TransacaoLeituraContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice espacial em memória dos escritórios dos profissionais do
+ * marketplace, usado na busca por proximidade.
+ * Os pontos são distribuídos em células de uma grade regular de latitude e
+ * longitude (buckets, como os de um geohash de precisão fixa). Uma consulta
+ * visita apenas as células que cobrem o retângulo envolvente do raio e mede a
+ * distância (haversine) só dos pontos dessas células.
+ * O índice é um snapshot imutável reconstruído em segundo plano quando um
+ * perfil é alterado, e periodicamente para incorporar alterações feitas por
+ * outras instâncias.
+ */
+@Slf4j
+@Component
+public class IndiceGeograficoProfissionais {
+
+    static final double TAMANHO_CELULA_GRAUS = 0.1; // ~11 km de latitude
+    private static final double RAIO_TERRA_KM = 6371.0088;
+    private static final double KM_POR_GRAU_LATITUDE = Math.PI * RAIO_TERRA_KM / 180.0;
+
+    private final ProfissionalRepository profissionalRepository;
+    private final long idadeMaximaMillis;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean desatualizado = true;
+
+    public IndiceGeograficoProfissionais(ProfissionalRepository profissionalRepository,
+            @Value("${application.busca-proximidade.idade-maxima-segundos:300}") long idadeMaximaSegundos) {
+        this.profissionalRepository = profissionalRepository;
+        this.idadeMaximaMillis = idadeMaximaSegundos * 1000;
+    }
+
+    /**
+     * Marca o índice para reconstrução após o commit da alteração do perfil.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerfilProfissionalAlterado(PerfilProfissionalAlteradoEvent evento) {
+        desatualizado = true;
+    }
+
+    /**
+     * Reconstrói o índice se houver alterações pendentes ou se o snapshot
+     * tiver ultrapassado a idade máxima. Com alterações pendentes, lê do
+     * primário: a réplica pode ainda não ter aplicado as escritas.
+     */
+    @Scheduled(fixedDelayString = "${application.busca-proximidade.intervalo-verificacao-ms:5000}")
+    public void reconstruirSeNecessario() {
+        Snapshot atual = snapshot;
+        if (!desatualizado && atual != null && System.currentTimeMillis() - atual.construidoEm <= idadeMaximaMillis) {
+            return;
+        }
+        try {
+            if (desatualizado) {
+                TransacaoLeituraContext.noPrimario(this::reconstruir);
+            } else {
+                reconstruir();
+            }
+        } catch (Exception e) {
+            // Mantém o snapshot anterior; nova tentativa no próximo ciclo
+            log.warn("Falha ao reconstruir o índice da busca por proximidade: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Busca os profissionais com escritório dentro do raio, do mais próximo ao
+     * mais distante. Profissionais com mais de um escritório aparecem uma vez,
+     * pela menor distância.
+     *
+     * @param latitude  Latitude do ponto de referência.
+     * @param longitude Longitude do ponto de referência.
+     * @param raioKm    Raio máximo, em quilômetros.
+     * @param limite    Quantidade máxima de resultados.
+     * @return Profissionais encontrados, com a distância.
+     */
+    public List<Proximo> buscar(double latitude, double longitude, double raioKm, int limite) {
+        Snapshot indice = obter();
+        double deltaLatitude = raioKm / KM_POR_GRAU_LATITUDE;
+        // Um grau de longitude encolhe com o cosseno da latitude; o mínimo evita
+        // retângulos ilimitados perto dos polos
+        double cosseno = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        double deltaLongitude = raioKm / (KM_POR_GRAU_LATITUDE * cosseno);
+
+        int linhaInicial = celula(latitude - deltaLatitude);
+        int linhaFinal = celula(latitude + deltaLatitude);
+        int colunaInicial = celula(longitude - deltaLongitude);
+        int colunaFinal = celula(longitude + deltaLongitude);
+
+        Map<UUID, Double> menores = new HashMap<>();
+        for (int linha = linhaInicial; linha <= linhaFinal; linha++) {
+            for (int coluna = colunaInicial; coluna <= colunaFinal; coluna++) {
+                int[] pontos = indice.celulas.get(chave(linha, coluna));
+                if (pontos == null) {
+                    continue;
+                }
+                for (int ponto : pontos) {
+                    double distancia = distanciaKm(latitude, longitude, indice.latitudes[ponto],
+                            indice.longitudes[ponto]);
+                    if (distancia <= raioKm) {
+                        menores.merge(indice.ids[ponto], distancia, Math::min);
+                    }
+                }
+            }
+        }
+
+        List<Proximo> proximos = new ArrayList<>(menores.size());
+        menores.forEach((id, distancia) -> proximos.add(new Proximo(id, distancia)));
+        proximos.sort(Comparator.comparingDouble(Proximo::getDistanciaKm).thenComparing(Proximo::getId));
+        return proximos.size() > limite ? new ArrayList<>(proximos.subList(0, limite)) : proximos;
+    }
+
+    private Snapshot obter() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual : construirSeAusente();
+    }
+
+    private synchronized Snapshot construirSeAusente() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual : reconstruir();
+    }
+
+    /**
+     * Lê as coordenadas dos escritórios e publica um novo snapshot.
+     */
+    private synchronized Snapshot reconstruir() {
+        desatualizado = false; // Alterações durante a leitura marcam de novo
+        List<Object[]> linhas;
+        try {
+            linhas = profissionalRepository.findCoordenadasIndiceMarketplace();
+        } catch (RuntimeException e) {
+            desatualizado = true;
+            throw e;
+        }
+
+        int n = linhas.size();
+        UUID[] ids = new UUID[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        Map<Long, List<Integer>> agrupados = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Object[] linha = linhas.get(i);
+            ids[i] = linha[0] instanceof UUID ? (UUID) linha[0] : UUID.fromString(linha[0].toString());
+            latitudes[i] = ((Number) linha[1]).doubleValue();
+            longitudes[i] = ((Number) linha[2]).doubleValue();
+            agrupados.computeIfAbsent(chave(celula(latitudes[i]), celula(longitudes[i])), k -> new ArrayList<>())
+                    .add(i);
+        }
+        Map<Long, int[]> celulas = new HashMap<>(agrupados.size() * 2);
+        agrupados.forEach((chave, pontos) -> celulas.put(chave, pontos.stream().mapToInt(Integer::intValue).toArray()));
+
+        Snapshot novo = new Snapshot(ids, latitudes, longitudes, celulas, System.currentTimeMillis());
+        snapshot = novo;
+        log.debug("Índice da busca por proximidade reconstruído: {} escritório(s) em {} célula(s).", n,
+                celulas.size());
+        return novo;
+    }
+
+    private static int celula(double graus) {
+        return (int) Math.floor(graus / TAMANHO_CELULA_GRAUS);
+    }
+
+    private static long chave(int linha, int coluna) {
+        return ((long) linha << 32) | (coluna & 0xffffffffL);
+    }
+
+    /**
+     * Distância de grande círculo pela fórmula de haversine.
+     */
+    static double distanciaKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                        * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Estado imutável publicado pelo índice.
+     */
+    private static final class Snapshot {
+        private final UUID[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final Map<Long, int[]> celulas;
+        private final long construidoEm;
+
+        private Snapshot(UUID[] ids, double[] latitudes, double[] longitudes, Map<Long, int[]> celulas,
+                long construidoEm) {
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.celulas = celulas;
+            this.construidoEm = construidoEm;
+        }
+    }
+
+    /**
+     * Profissional encontrado e sua distância ao ponto de referência.
+     */
+    public static final class Proximo {
+        private final UUID id;
+        private final double distanciaKm;
+
+        Proximo(UUID id, double distanciaKm) {
+            this.id = id;
+            this.distanciaKm = distanciaKm;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public double getDistanciaKm() {
+            return distanciaKm;
+        }
+    }
+}
@@ -0,0 +1,619 @@
+package br.com.legalconnect.advogado.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.legalconnect.advogado.domain.AreaAtuacao;
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
+import br.com.legalconnect.advogado.dto.response.SugestaoResponseDTO;
+import br.com.legalconnect.advogado.repository.AreaAtuacaoRepository;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.common.config.leitura.TransacaoLeituraContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória do autocompletar: nomes dos advogados do marketplace,
+ * cidades dos seus endereços e áreas de atuação.
+ * Os termos são normalizados sem acentos e em minúsculas e guardados em um
+ * array ordenado, com uma entrada para o texto completo e outra a partir de
+ * cada palavra significativa ("silva" encontra "João da Silva"). Um prefixo é
+ * uma faixa contígua do array, localizada por busca binária. Para prefixos de
+ * até {@value #TAMANHO_PREFIXO_CURTO} caracteres, cujas faixas são grandes, as
+ * melhores sugestões ficam pré-calculadas.
+ * Alterações de perfil são aplicadas de forma incremental: só as entradas do
+ * advogado e das cidades e áreas cujas contagens mudaram são substituídas. O
+ * índice é reconstruído por completo periodicamente, para incorporar
+ * alterações feitas por outras instâncias.
+ */
+@Slf4j
+@Component
+public class IndiceSugestoes {
+
+    /**
+     * Tipos de sugestão.
+     */
+    public enum TipoSugestao {
+        ADVOGADO, CIDADE, AREA
+    }
+
+    static final int TAMANHO_PREFIXO_CURTO = 2;
+    private static final int TAMANHO_MINIMO_PALAVRA = 3; // Ignora "da", "de", "do" como início de entrada
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+    private static final Comparator<Sugestao> RELEVANCIA = Comparator.comparingInt(Sugestao::getPeso).reversed()
+            .thenComparing(Sugestao::getChaveOrdenacao)
+            .thenComparing(Sugestao::getIdentidade);
+
+    private final ProfissionalRepository profissionalRepository;
+    private final AreaAtuacaoRepository areaAtuacaoRepository;
+    private final int limiteMaximo;
+    private final long idadeMaximaMillis;
+    private final Set<UUID> pendentes = ConcurrentHashMap.newKeySet();
+
+    private volatile Snapshot snapshot;
+
+    // Estado usado nas atualizações incrementais, protegido pelo monitor
+    private final Map<UUID, Perfil> perfis = new HashMap<>();
+    private final Map<String, Contagem> cidades = new HashMap<>();
+    private final Map<String, Contagem> areas = new HashMap<>();
+    private final Map<String, String> nomesAreas = new HashMap<>();
+
+    public IndiceSugestoes(ProfissionalRepository profissionalRepository,
+            AreaAtuacaoRepository areaAtuacaoRepository,
+            @Value("${application.sugestoes.limite-maximo:10}") int limiteMaximo,
+            @Value("${application.sugestoes.idade-maxima-segundos:900}") long idadeMaximaSegundos) {
+        this.profissionalRepository = profissionalRepository;
+        this.areaAtuacaoRepository = areaAtuacaoRepository;
+        this.limiteMaximo = limiteMaximo;
+        this.idadeMaximaMillis = idadeMaximaSegundos * 1000;
+    }
+
+    /**
+     * Agenda a atualização do advogado após o commit da alteração do perfil.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPerfilProfissionalAlterado(PerfilProfissionalAlteradoEvent evento) {
+        pendentes.add(evento.getProfissionalId());
+    }
+
+    /**
+     * Aplica as alterações pendentes em lote ou, se o índice tiver
+     * ultrapassado a idade máxima, reconstrói-o por completo. Leituras que
+     * absorvem alterações pendentes usam o primário: a réplica pode ainda não
+     * ter aplicado as escritas.
+     */
+    @Scheduled(fixedDelayString = "${application.sugestoes.intervalo-atualizacao-ms:2000}")
+    public void atualizar() {
+        try {
+            Snapshot atual = snapshot;
+            if (atual == null || System.currentTimeMillis() - atual.construidoEm > idadeMaximaMillis) {
+                if (pendentes.isEmpty()) {
+                    reconstruir();
+                } else {
+                    TransacaoLeituraContext.noPrimario(this::reconstruir);
+                }
+            } else if (!pendentes.isEmpty()) {
+                aplicarPendentes();
+            }
+        } catch (Exception e) {
+            log.warn("Falha ao atualizar o índice de sugestões: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Retorna as melhores sugestões cujo texto (ou uma de suas palavras)
+     * começa com o prefixo informado, ordenadas por quantidade de advogados
+     * associados e, em seguida, alfabeticamente.
+     *
+     * @param prefixo Texto digitado pelo usuário.
+     * @param tipo    Tipo de sugestão desejado (null para todos).
+     * @param limite  Quantidade máxima de sugestões (até o limite configurado).
+     * @return Sugestões encontradas.
+     */
+    public List<SugestaoResponseDTO> sugerir(String prefixo, TipoSugestao tipo, int limite) {
+        String chave = normalizar(prefixo);
+        int k = Math.min(limite, limiteMaximo);
+        if (chave.isEmpty() || k <= 0) {
+            return List.of();
+        }
+        Snapshot indice = obter();
+        Sugestao[] melhores = chave.length() <= TAMANHO_PREFIXO_CURTO
+                ? indice.topos.getOrDefault(chaveTopo(chave, tipo), new Sugestao[0])
+                : melhoresDaFaixa(indice, chave, tipo, k);
+        List<SugestaoResponseDTO> resposta = new ArrayList<>(Math.min(k, melhores.length));
+        for (int i = 0; i < melhores.length && i < k; i++) {
+            resposta.add(melhores[i].toResponse());
+        }
+        return resposta;
+    }
+
+    private Snapshot obter() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual : construirSeAusente();
+    }
+
+    private synchronized Snapshot construirSeAusente() {
+        Snapshot atual = snapshot;
+        return atual != null ? atual : reconstruir();
+    }
+
+    /**
+     * Lê todos os termos em uma consulta e publica um novo índice.
+     */
+    private synchronized Snapshot reconstruir() {
+        // A leitura completa já reflete as alterações pendentes até aqui
+        Set<UUID> absorvidos = new HashSet<>(pendentes);
+        pendentes.removeAll(absorvidos);
+        Map<String, String> nomes = new HashMap<>();
+        Map<UUID, Perfil> lidos;
+        try {
+            for (AreaAtuacao area : areaAtuacaoRepository.findAll()) {
+                nomes.put(area.getId().toString(), area.getNome());
+            }
+            lidos = lerPerfis(profissionalRepository.findTermosSugestoesMarketplace());
+        } catch (RuntimeException e) {
+            pendentes.addAll(absorvidos);
+            throw e;
+        }
+
+        perfis.clear();
+        cidades.clear();
+        areas.clear();
+        nomesAreas.clear();
+        nomesAreas.putAll(nomes);
+        lidos.forEach((id, perfil) -> {
+            perfis.put(id, perfil);
+            contar(perfil, 1);
+        });
+
+        List<Sugestao> sugestoes = new ArrayList<>();
+        perfis.forEach((id, perfil) -> sugestoes.add(sugestaoAdvogado(id, perfil)));
+        cidades.keySet().forEach(chave -> sugestoes.add(sugestaoCidade(chave)));
+        areas.keySet().forEach(chave -> sugestoes.add(sugestaoArea(chave)));
+
+        Entrada[] entradas = gerarEntradas(sugestoes);
+        Snapshot novo = new Snapshot(entradas, calcularTopos(entradas, null), System.currentTimeMillis());
+        snapshot = novo;
+        log.debug("Índice de sugestões reconstruído: {} entrada(s).", entradas.length);
+        return novo;
+    }
+
+    /**
+     * Relê apenas os advogados alterados e substitui, no array ordenado, as
+     * entradas afetadas. O novo array é produzido por intercalação (O(n)); os
+     * tops pré-calculados são refeitos só para os prefixos curtos tocados.
+     */
+    private synchronized void aplicarPendentes() {
+        Snapshot atual = snapshot;
+        if (atual == null) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>(pendentes);
+        pendentes.removeAll(ids);
+        Map<UUID, Perfil> lidos;
+        try {
+            lidos = lerPerfis(TransacaoLeituraContext
+                    .noPrimario(() -> profissionalRepository.findTermosSugestoesByProfissionalIdIn(ids)));
+        } catch (RuntimeException e) {
+            pendentes.addAll(ids);
+            throw e;
+        }
+
+        Set<String> afetadas = new HashSet<>();
+        List<Sugestao> novas = new ArrayList<>();
+        Set<String> cidadesAfetadas = new LinkedHashSet<>();
+        Set<String> areasAfetadas = new LinkedHashSet<>();
+        for (UUID id : ids) {
+            Perfil anterior = perfis.remove(id);
+            Perfil novo = lidos.get(id);
+            afetadas.add(identidade(TipoSugestao.ADVOGADO, id.toString()));
+            if (anterior != null) {
+                contar(anterior, -1);
+                cidadesAfetadas.addAll(anterior.cidades);
+                areasAfetadas.addAll(anterior.areas);
+            }
+            if (novo != null) {
+                perfis.put(id, novo);
+                contar(novo, 1);
+                cidadesAfetadas.addAll(novo.cidades);
+                areasAfetadas.addAll(novo.areas);
+                novas.add(sugestaoAdvogado(id, novo));
+            }
+        }
+        for (String chave : cidadesAfetadas) {
+            afetadas.add(identidade(TipoSugestao.CIDADE, chave));
+            if (cidades.containsKey(chave)) {
+                novas.add(sugestaoCidade(chave));
+            }
+        }
+        for (String chave : areasAfetadas) {
+            afetadas.add(identidade(TipoSugestao.AREA, chave));
+            if (areas.containsKey(chave)) {
+                novas.add(sugestaoArea(chave));
+            }
+        }
+
+        Set<String> prefixosTocados = new HashSet<>();
+        List<Entrada> mantidas = new ArrayList<>(atual.entradas.length);
+        for (Entrada entrada : atual.entradas) {
+            if (afetadas.contains(entrada.sugestao.getIdentidade())) {
+                adicionarPrefixosCurtos(prefixosTocados, entrada.chave);
+            } else {
+                mantidas.add(entrada);
+            }
+        }
+        Entrada[] adicionadas = gerarEntradas(novas);
+        for (Entrada entrada : adicionadas) {
+            adicionarPrefixosCurtos(prefixosTocados, entrada.chave);
+        }
+        Entrada[] entradas = intercalar(mantidas, adicionadas);
+
+        Map<String, Sugestao[]> topos = new HashMap<>(atual.topos);
+        for (TipoSugestao tipo : TipoSugestao.values()) {
+            prefixosTocados.forEach(prefixo -> topos.remove(chaveTopo(prefixo, tipo)));
+        }
+        prefixosTocados.forEach(prefixo -> topos.remove(chaveTopo(prefixo, null)));
+        topos.putAll(calcularTopos(entradas, prefixosTocados));
+
+        snapshot = new Snapshot(entradas, topos, atual.construidoEm);
+        log.debug("Índice de sugestões atualizado: {} advogado(s) alterado(s).", ids.size());
+    }
+
+    /**
+     * Agrupa as linhas de termos por advogado.
+     */
+    private static Map<UUID, Perfil> lerPerfis(List<Object[]> linhas) {
+        Map<UUID, Perfil> lidos = new HashMap<>();
+        for (Object[] linha : linhas) {
+            String valor = linha[2] != null ? linha[2].toString().trim() : "";
+            if (valor.isEmpty()) {
+                continue;
+            }
+            UUID id = linha[1] instanceof UUID ? (UUID) linha[1] : UUID.fromString(linha[1].toString());
+            Perfil perfil = lidos.computeIfAbsent(id, k -> new Perfil());
+            switch (String.valueOf(linha[0])) {
+                case "NOME":
+                    perfil.nome = valor;
+                    break;
+                case "CIDADE":
+                    String uf = linha[3] != null ? linha[3].toString().trim().toUpperCase(Locale.ROOT) : "";
+                    perfil.cidades.add(uf + "/" + valor);
+                    break;
+                case "AREA":
+                    perfil.areas.add(valor);
+                    break;
+                default:
+                    break;
+            }
+        }
+        lidos.values().removeIf(perfil -> perfil.nome == null); // Cidades e áreas de quem saiu do marketplace
+        return lidos;
+    }
+
+    private void contar(Perfil perfil, int delta) {
+        for (String cidade : perfil.cidades) {
+            ajustar(cidades, cidade, delta);
+        }
+        for (String area : perfil.areas) {
+            ajustar(areas, area, delta);
+        }
+    }
+
+    private static void ajustar(Map<String, Contagem> contagens, String chave, int delta) {
+        Contagem contagem = contagens.computeIfAbsent(chave, k -> new Contagem());
+        contagem.valor += delta;
+        if (contagem.valor <= 0) {
+            contagens.remove(chave);
+        }
+    }
+
+    private static Sugestao sugestaoAdvogado(UUID id, Perfil perfil) {
+        return new Sugestao(TipoSugestao.ADVOGADO, id.toString(), perfil.nome, null, 1);
+    }
+
+    private Sugestao sugestaoCidade(String chave) {
+        int separador = chave.indexOf('/');
+        return new Sugestao(TipoSugestao.CIDADE, chave, chave.substring(separador + 1),
+                chave.substring(0, separador), cidades.get(chave).valor);
+    }
+
+    private Sugestao sugestaoArea(String chave) {
+        return new Sugestao(TipoSugestao.AREA, chave, nomesAreas.getOrDefault(chave, chave),
+                null, areas.get(chave).valor);
+    }
+
+    /**
+     * Gera as entradas ordenadas das sugestões: o texto completo e o sufixo a
+     * partir de cada palavra significativa.
+     */
+    private static Entrada[] gerarEntradas(List<Sugestao> sugestoes) {
+        List<Entrada> entradas = new ArrayList<>(sugestoes.size() * 2);
+        for (Sugestao sugestao : sugestoes) {
+            String texto = normalizar(sugestao.texto);
+            if (texto.isEmpty()) {
+                continue;
+            }
+            entradas.add(new Entrada(texto, sugestao));
+            for (int i = texto.indexOf(' '); i >= 0; i = texto.indexOf(' ', i + 1)) {
+                int fimPalavra = texto.indexOf(' ', i + 1);
+                int tamanhoPalavra = (fimPalavra < 0 ? texto.length() : fimPalavra) - (i + 1);
+                if (tamanhoPalavra >= TAMANHO_MINIMO_PALAVRA) {
+                    entradas.add(new Entrada(texto.substring(i + 1), sugestao));
+                }
+            }
+        }
+        Entrada[] ordenadas = entradas.toArray(new Entrada[0]);
+        Arrays.sort(ordenadas, Entrada.ORDEM);
+        return ordenadas;
+    }
+
+    private static Entrada[] intercalar(List<Entrada> a, Entrada[] b) {
+        Entrada[] resultado = new Entrada[a.size() + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.size() && j < b.length) {
+            resultado[k++] = Entrada.ORDEM.compare(a.get(i), b[j]) <= 0 ? a.get(i++) : b[j++];
+        }
+        while (i < a.size()) {
+            resultado[k++] = a.get(i++);
+        }
+        while (j < b.length) {
+            resultado[k++] = b[j++];
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula as melhores sugestões dos prefixos curtos, por tipo e para todos
+     * os tipos. Como as entradas estão ordenadas, cada prefixo é uma faixa
+     * contígua, percorrida uma única vez: sem prefixos informados, todas as
+     * faixas em sequência; com prefixos (atualização incremental), apenas as
+     * faixas deles, localizadas por busca binária.
+     *
+     * @param entradas  Entradas ordenadas.
+     * @param prefixos Prefixos a calcular (null para todos).
+     */
+    private Map<String, Sugestao[]> calcularTopos(Entrada[] entradas, Set<String> prefixos) {
+        Map<String, Sugestao[]> topos = new HashMap<>();
+        if (prefixos == null) {
+            for (int tamanho = 1; tamanho <= TAMANHO_PREFIXO_CURTO; tamanho++) {
+                int i = 0;
+                while (i < entradas.length) {
+                    if (entradas[i].chave.length() < tamanho) {
+                        i++;
+                    } else {
+                        i = calcularTopoDaFaixa(topos, entradas, i, entradas[i].chave.substring(0, tamanho));
+                    }
+                }
+            }
+        } else {
+            for (String prefixo : prefixos) {
+                calcularTopoDaFaixa(topos, entradas, inicioDaFaixa(entradas, prefixo), prefixo);
+            }
+        }
+        return topos;
+    }
+
+    /**
+     * Calcula as melhores sugestões de um prefixo a partir do início da sua
+     * faixa.
+     *
+     * @return Posição seguinte ao fim da faixa.
+     */
+    private int calcularTopoDaFaixa(Map<String, Sugestao[]> topos, Entrada[] entradas, int inicio,
+            String prefixo) {
+        PriorityQueue<Sugestao> todos = novaFila();
+        Map<TipoSugestao, PriorityQueue<Sugestao>> porTipo = new EnumMap<>(TipoSugestao.class);
+        int i = inicio;
+        for (; i < entradas.length && entradas[i].chave.startsWith(prefixo); i++) {
+            Sugestao sugestao = entradas[i].sugestao;
+            oferecer(todos, sugestao);
+            oferecer(porTipo.computeIfAbsent(sugestao.tipo, tipo -> novaFila()), sugestao);
+        }
+        if (!todos.isEmpty()) {
+            topos.put(chaveTopo(prefixo, null), ordenar(todos));
+        }
+        porTipo.forEach((tipo, fila) -> topos.put(chaveTopo(prefixo, tipo), ordenar(fila)));
+        return i;
+    }
+
+    /**
+     * Posição da primeira entrada cuja chave é maior ou igual ao prefixo.
+     */
+    private static int inicioDaFaixa(Entrada[] entradas, String prefixo) {
+        int inicio = Arrays.binarySearch(entradas, new Entrada(prefixo, null), Entrada.ORDEM_CHAVE);
+        if (inicio < 0) {
+            return -inicio - 1;
+        }
+        while (inicio > 0 && entradas[inicio - 1].chave.equals(prefixo)) {
+            inicio--; // binarySearch devolve qualquer uma das chaves iguais
+        }
+        return inicio;
+    }
+
+    /**
+     * Percorre a faixa do prefixo mantendo apenas as k melhores sugestões.
+     */
+    private static Sugestao[] melhoresDaFaixa(Snapshot indice, String prefixo, TipoSugestao tipo, int k) {
+        Entrada[] entradas = indice.entradas;
+        PriorityQueue<Sugestao> fila = new PriorityQueue<>(k + 1, RELEVANCIA.reversed());
+        for (int i = inicioDaFaixa(entradas, prefixo); i < entradas.length
+                && entradas[i].chave.startsWith(prefixo); i++) {
+            Sugestao sugestao = entradas[i].sugestao;
+            if (tipo != null && sugestao.tipo != tipo) {
+                continue;
+            }
+            if (fila.size() == k && RELEVANCIA.compare(sugestao, fila.peek()) >= 0) {
+                continue; // Não supera a pior das k melhores (inclui repetições da mesma sugestão)
+            }
+            if (!fila.contains(sugestao)) {
+                fila.add(sugestao);
+                if (fila.size() > k) {
+                    fila.poll();
+                }
+            }
+        }
+        return ordenar(fila);
+    }
+
+    private PriorityQueue<Sugestao> novaFila() {
+        return new PriorityQueue<>(limiteMaximo + 1, RELEVANCIA.reversed());
+    }
+
+    private void oferecer(PriorityQueue<Sugestao> fila, Sugestao sugestao) {
+        if (fila.size() == limiteMaximo && RELEVANCIA.compare(sugestao, fila.peek()) >= 0) {
+            return;
+        }
+        if (!fila.contains(sugestao)) {
+            fila.add(sugestao);
+            if (fila.size() > limiteMaximo) {
+                fila.poll();
+            }
+        }
+    }
+
+    private static Sugestao[] ordenar(PriorityQueue<Sugestao> fila) {
+        Sugestao[] ordenadas = fila.toArray(new Sugestao[0]);
+        Arrays.sort(ordenadas, RELEVANCIA);
+        return ordenadas;
+    }
+
+    private static void adicionarPrefixosCurtos(Set<String> prefixos, String chave) {
+        for (int tamanho = 1; tamanho <= TAMANHO_PREFIXO_CURTO && tamanho <= chave.length(); tamanho++) {
+            prefixos.add(chave.substring(0, tamanho));
+        }
+    }
+
+    private static String chaveTopo(String prefixo, TipoSugestao tipo) {
+        return prefixo + "|" + (tipo != null ? tipo.name() : "*");
+    }
+
+    private static String identidade(TipoSugestao tipo, String id) {
+        return tipo.name() + ":" + id;
+    }
+
+    /**
+     * Normaliza o texto para comparação: sem acentos, em minúsculas e com
+     * qualquer sequência de caracteres não alfanuméricos reduzida a um espaço.
+     *
+     * @param texto Texto original.
+     * @return Texto normalizado (vazio se nulo).
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Dados pesquisáveis de um advogado.
+     */
+    private static final class Perfil {
+        private String nome;
+        private final Set<String> cidades = new HashSet<>(); // "UF/Cidade"
+        private final Set<String> areas = new HashSet<>(); // ID da área
+    }
+
+    private static final class Contagem {
+        private int valor;
+    }
+
+    /**
+     * Sugestão imutável, compartilhada por todas as entradas que a encontram.
+     */
+    private static final class Sugestao {
+        private final TipoSugestao tipo;
+        private final String id;
+        private final String texto;
+        private final String complemento;
+        private final int peso;
+        private final String identidade;
+        private final String chaveOrdenacao;
+
+        private Sugestao(TipoSugestao tipo, String id, String texto, String complemento, int peso) {
+            this.tipo = tipo;
+            this.id = id;
+            this.texto = texto;
+            this.complemento = complemento;
+            this.peso = peso;
+            this.identidade = IndiceSugestoes.identidade(tipo, id);
+            this.chaveOrdenacao = normalizar(texto);
+        }
+
+        private int getPeso() {
+            return peso;
+        }
+
+        private String getIdentidade() {
+            return identidade;
+        }
+
+        private String getChaveOrdenacao() {
+            return chaveOrdenacao;
+        }
+
+        private SugestaoResponseDTO toResponse() {
+            return SugestaoResponseDTO.builder()
+                    .tipo(tipo.name())
+                    .id(id)
+                    .texto(texto)
+                    .complemento(complemento)
+                    .quantidade(tipo == TipoSugestao.ADVOGADO ? 0 : peso)
+                    .build();
+        }
+    }
+
+    /**
+     * Termo normalizado que leva a uma sugestão.
+     */
+    private static final class Entrada {
+        private static final Comparator<Entrada> ORDEM_CHAVE = Comparator.comparing(e -> e.chave);
+        private static final Comparator<Entrada> ORDEM = ORDEM_CHAVE
+                .thenComparing(e -> e.sugestao.getIdentidade());
+
+        private final String chave;
+        private final Sugestao sugestao;
+
+        private Entrada(String chave, Sugestao sugestao) {
+            this.chave = chave;
+            this.sugestao = sugestao;
+        }
+    }
+
+    /**
+     * Estado imutável publicado pelo índice.
+     */
+    private static final class Snapshot {
+        private final Entrada[] entradas;
+        private final Map<String, Sugestao[]> topos;
+        private final long construidoEm;
+
+        private Snapshot(Entrada[] entradas, Map<String, Sugestao[]> topos, long construidoEm) {
+            this.entradas = entradas;
+            this.topos = topos;
+            this.construidoEm = construidoEm;
+        }
+    }
+}
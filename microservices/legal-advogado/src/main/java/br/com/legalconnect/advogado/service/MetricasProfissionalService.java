@@ -0,0 +1,155 @@
+package br.com.legalconnect.advogado.service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import br.com.legalconnect.advogado.domain.AvaliacaoAgregada;
+import br.com.legalconnect.advogado.domain.ExperienciaProfissional;
+import br.com.legalconnect.advogado.domain.MetricasProfissional;
+import br.com.legalconnect.advogado.domain.evento.AvaliacaoRegistradaEvent;
+import br.com.legalconnect.advogado.domain.evento.ConsultaConcluidaEvent;
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
+import br.com.legalconnect.advogado.mapper.ProjecoesCard;
+import br.com.legalconnect.advogado.repository.AvaliacaoAgregadaRepository;
+import br.com.legalconnect.advogado.repository.ExperienciaRepository;
+import br.com.legalconnect.advogado.repository.MetricasProfissionalRepository;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço que mantém a projeção {@link MetricasProfissional} e fornece as
+ * projeções pré-calculadas usadas nos cards de advogados.
+ * As métricas são atualizadas pelos eventos de domínio, na mesma transação da
+ * operação que os originou; a leitura dos cards nunca calcula métricas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetricasProfissionalService {
+
+    public static final String NIVEL_JUNIOR = "Júnior";
+    public static final String NIVEL_PLENO = "Pleno";
+    public static final String NIVEL_SENIOR = "Sênior";
+
+    private static final int ANOS_MINIMOS_PLENO = 3;
+    private static final int ANOS_MINIMOS_SENIOR = 8;
+
+    private final MetricasProfissionalRepository metricasProfissionalRepository;
+    private final AvaliacaoAgregadaRepository avaliacaoAgregadaRepository;
+    private final ExperienciaRepository experienciaRepository;
+    private final ProfissionalRepository profissionalRepository;
+
+    /**
+     * Carrega em lote as projeções (avaliações e métricas) de uma página de
+     * profissionais: duas consultas por chave primária, independentemente do
+     * tamanho da página.
+     *
+     * @param profissionalIds IDs dos profissionais.
+     * @return Contexto para o {@link br.com.legalconnect.advogado.mapper.AdvogadoMapper}.
+     */
+    public ProjecoesCard carregarProjecoes(Collection<UUID> profissionalIds) {
+        Map<UUID, AvaliacaoAgregada> avaliacoes = avaliacaoAgregadaRepository.findAllById(profissionalIds).stream()
+                .collect(Collectors.toMap(AvaliacaoAgregada::getProfissionalId, Function.identity()));
+        Map<UUID, MetricasProfissional> metricas = metricasProfissionalRepository.findAllById(profissionalIds)
+                .stream()
+                .collect(Collectors.toMap(MetricasProfissional::getProfissionalId, Function.identity()));
+        return new ProjecoesCard(avaliacoes, metricas);
+    }
+
+    @EventListener
+    public void onConsultaConcluida(ConsultaConcluidaEvent evento) {
+        metricasProfissionalRepository.registrarCasoConcluido(evento.getProfissionalId());
+    }
+
+    @EventListener
+    public void onAvaliacaoRegistrada(AvaliacaoRegistradaEvent evento) {
+        metricasProfissionalRepository.atualizarSatisfacao(evento.getProfissionalId());
+    }
+
+    /**
+     * Recalcula a senioridade do profissional. A entrada é pequena (as
+     * experiências de um único profissional) e o cálculo só ocorre quando esses
+     * dados mudam.
+     */
+    @EventListener
+    public void onPerfilProfissionalAlterado(PerfilProfissionalAlteradoEvent evento) {
+        UUID profissionalId = evento.getProfissionalId();
+        LocalDate inscricaoOab = profissionalRepository.findById(profissionalId)
+                .map(p -> p.getDataInscricaoOab())
+                .orElse(null);
+        int anos = calcularAnosExperiencia(experienciaRepository.findAllByProfissionalId(profissionalId),
+                inscricaoOab, LocalDate.now());
+        metricasProfissionalRepository.atualizarSenioridade(profissionalId, anos, classificarNivel(anos));
+        log.debug("Senioridade do profissional {} atualizada: {} ano(s)", profissionalId, anos);
+    }
+
+    /**
+     * Anos de experiência considerados para a senioridade: o maior valor entre o
+     * tempo de inscrição na OAB e a soma das experiências profissionais, com
+     * períodos sobrepostos contados uma única vez.
+     *
+     * @param experiencias Experiências do profissional.
+     * @param inscricaoOab Data de inscrição na OAB (opcional).
+     * @param hoje         Data de referência.
+     * @return Anos completos de experiência.
+     */
+    static int calcularAnosExperiencia(List<ExperienciaProfissional> experiencias, LocalDate inscricaoOab,
+            LocalDate hoje) {
+        List<LocalDate[]> periodos = new ArrayList<>();
+        for (ExperienciaProfissional experiencia : experiencias) {
+            if (experiencia.getDataInicio() == null) {
+                continue;
+            }
+            LocalDate fim = experiencia.getDataFim() != null && experiencia.getDataFim().isBefore(hoje)
+                    ? experiencia.getDataFim()
+                    : hoje;
+            if (fim.isAfter(experiencia.getDataInicio())) {
+                periodos.add(new LocalDate[] { experiencia.getDataInicio(), fim });
+            }
+        }
+        periodos.sort(Comparator.comparing(periodo -> periodo[0]));
+
+        long dias = 0;
+        LocalDate inicioAtual = null;
+        LocalDate fimAtual = null;
+        for (LocalDate[] periodo : periodos) {
+            if (fimAtual == null || periodo[0].isAfter(fimAtual)) {
+                if (fimAtual != null) {
+                    dias += fimAtual.toEpochDay() - inicioAtual.toEpochDay();
+                }
+                inicioAtual = periodo[0];
+                fimAtual = periodo[1];
+            } else if (periodo[1].isAfter(fimAtual)) {
+                fimAtual = periodo[1];
+            }
+        }
+        if (fimAtual != null) {
+            dias += fimAtual.toEpochDay() - inicioAtual.toEpochDay();
+        }
+
+        int anosExperiencias = (int) (dias / 365);
+        int anosOab = inscricaoOab != null && inscricaoOab.isBefore(hoje)
+                ? Period.between(inscricaoOab, hoje).getYears()
+                : 0;
+        return Math.max(anosExperiencias, anosOab);
+    }
+
+    static String classificarNivel(int anos) {
+        if (anos >= ANOS_MINIMOS_SENIOR) {
+            return NIVEL_SENIOR;
+        }
+        return anos >= ANOS_MINIMOS_PLENO ? NIVEL_PLENO : NIVEL_JUNIOR;
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.legalconnect.advogado.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.legalconnect.advogado.domain.OutboxEvento;
+import br.com.legalconnect.advogado.domain.OutboxEvento.StatusEvento;
+import br.com.legalconnect.advogado.repository.OutboxEventoRepository;
+import br.com.legalconnect.advogado.service.OutboxService.EmailPayload;
+import br.com.legalconnect.advogado.service.OutboxService.EventoCalendarioPayload;
+import br.com.legalconnect.commom.service.EmailService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relay da outbox: executa em segundo plano os efeitos colaterais registrados
+ * pelo {@link OutboxService}.
+ * Cada ciclo reserva um lote em uma transação curta, executa as chamadas
+ * externas sem transação aberta e grava o resultado do lote em uma segunda
+ * transação curta. Falhas são reprocessadas com backoff exponencial até o
+ * limite de tentativas.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int TAMANHO_MAXIMO_ERRO = 2000;
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final GoogleCalendarService googleCalendarService;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int maximoTentativas;
+    private final Duration backoffInicial;
+    private final Duration prazoProcessamento;
+
+    public OutboxRelay(OutboxEventoRepository outboxEventoRepository,
+            GoogleCalendarService googleCalendarService,
+            EmailService emailService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.outbox.tamanho-lote:50}") int tamanhoLote,
+            @Value("${application.outbox.maximo-tentativas:8}") int maximoTentativas,
+            @Value("${application.outbox.backoff-inicial-segundos:5}") long backoffInicialSegundos,
+            @Value("${application.outbox.prazo-processamento-segundos:120}") long prazoProcessamentoSegundos) {
+        this.outboxEventoRepository = outboxEventoRepository;
+        this.googleCalendarService = googleCalendarService;
+        this.emailService = emailService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.maximoTentativas = maximoTentativas;
+        this.backoffInicial = Duration.ofSeconds(backoffInicialSegundos);
+        this.prazoProcessamento = Duration.ofSeconds(prazoProcessamentoSegundos);
+    }
+
+    /**
+     * Processa lotes enquanto houver eventos elegíveis, até um lote vir
+     * incompleto.
+     */
+    @Scheduled(fixedDelayString = "${application.outbox.intervalo-ms:2000}")
+    public void processarPendentes() {
+        int processados;
+        do {
+            processados = processarLote();
+        } while (processados == tamanhoLote);
+    }
+
+    /**
+     * Reserva, executa e finaliza um lote de eventos.
+     *
+     * @return Quantidade de eventos do lote.
+     */
+    public int processarLote() {
+        List<OutboxEvento> lote = transactionTemplate.execute(status -> reservarLote());
+        if (lote == null || lote.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        for (OutboxEvento evento : lote) {
+            try {
+                executar(evento);
+                evento.setStatus(StatusEvento.PROCESSADO);
+                evento.setUltimoErro(null);
+            } catch (Exception e) {
+                registrarFalha(evento, e, agora);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxEventoRepository.saveAll(lote));
+        log.debug("Outbox: lote de {} evento(s) processado.", lote.size());
+        return lote.size();
+    }
+
+    private List<OutboxEvento> reservarLote() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<OutboxEvento> lote = outboxEventoRepository.bloquearLoteElegivel(agora, tamanhoLote);
+        LocalDateTime prazo = agora.plus(prazoProcessamento);
+        for (OutboxEvento evento : lote) {
+            evento.setStatus(StatusEvento.PROCESSANDO);
+            evento.setTentativas(evento.getTentativas() + 1);
+            evento.setProximaTentativa(prazo);
+        }
+        return outboxEventoRepository.saveAll(lote);
+    }
+
+    private void executar(OutboxEvento evento) throws Exception {
+        switch (evento.getTipo()) {
+            case CALENDARIO_ADICIONAR_EVENTO -> {
+                EventoCalendarioPayload payload = objectMapper.readValue(evento.getPayload(),
+                        EventoCalendarioPayload.class);
+                boolean adicionado = googleCalendarService.addEvent(payload.getEmailAgenda(), payload.getResumo(),
+                        payload.getInicio(), payload.getFim());
+                if (!adicionado) {
+                    throw new IllegalStateException("Agenda externa recusou o evento.");
+                }
+            }
+            case EMAIL_CONFIRMACAO_AGENDAMENTO -> {
+                EmailPayload payload = objectMapper.readValue(evento.getPayload(), EmailPayload.class);
+                emailService.sendAppointmentConfirmationEmail(payload.getDestinatario(), payload.getDetalhes());
+            }
+            default -> throw new IllegalStateException("Tipo de evento não suportado: " + evento.getTipo());
+        }
+    }
+
+    private void registrarFalha(OutboxEvento evento, Exception e, LocalDateTime agora) {
+        String erro = String.valueOf(e.getMessage());
+        evento.setUltimoErro(erro.length() > TAMANHO_MAXIMO_ERRO ? erro.substring(0, TAMANHO_MAXIMO_ERRO) : erro);
+        if (evento.getTentativas() >= maximoTentativas) {
+            evento.setStatus(StatusEvento.FALHA);
+            log.error("Outbox: evento {} ({}) falhou definitivamente após {} tentativas: {}", evento.getId(),
+                    evento.getTipo(), evento.getTentativas(), erro);
+            return;
+        }
+        // Backoff exponencial: inicial * 2^(tentativas - 1)
+        long fator = 1L << Math.min(evento.getTentativas() - 1, 16);
+        evento.setStatus(StatusEvento.PENDENTE);
+        evento.setProximaTentativa(agora.plus(backoffInicial.multipliedBy(fator)));
+        log.warn("Outbox: falha no evento {} ({}), tentativa {}. Nova tentativa em {}: {}", evento.getId(),
+                evento.getTipo(), evento.getTentativas(), evento.getProximaTentativa(), erro);
+    }
+}
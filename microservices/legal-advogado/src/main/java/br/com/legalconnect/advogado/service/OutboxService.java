@@ -0,0 +1,100 @@
+package br.com.legalconnect.advogado.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.legalconnect.advogado.domain.OutboxEvento;
+import br.com.legalconnect.advogado.domain.OutboxEvento.StatusEvento;
+import br.com.legalconnect.advogado.domain.OutboxEvento.TipoEvento;
+import br.com.legalconnect.advogado.repository.OutboxEventoRepository;
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço responsável por registrar efeitos colaterais na outbox.
+ * Os métodos devem ser chamados dentro da transação da operação de negócio: o
+ * evento só passa a existir se a operação for confirmada, e nenhuma chamada
+ * externa é feita enquanto a transação está aberta.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventoRepository outboxEventoRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Registra a criação de um evento na agenda externa do profissional.
+     *
+     * @param agregadoId ID do agregado de origem (ex.: agendamento).
+     * @param tenantId   ID do tenant.
+     * @param payload    Dados do evento de agenda.
+     */
+    public void registrarEventoCalendario(UUID agregadoId, UUID tenantId, EventoCalendarioPayload payload) {
+        registrar(TipoEvento.CALENDARIO_ADICIONAR_EVENTO, agregadoId, tenantId, payload);
+    }
+
+    /**
+     * Registra o envio de um e-mail de confirmação de agendamento.
+     *
+     * @param agregadoId ID do agregado de origem (ex.: agendamento).
+     * @param tenantId   ID do tenant.
+     * @param payload    Destinatário e detalhes do e-mail.
+     */
+    public void registrarEmailConfirmacao(UUID agregadoId, UUID tenantId, EmailPayload payload) {
+        registrar(TipoEvento.EMAIL_CONFIRMACAO_AGENDAMENTO, agregadoId, tenantId, payload);
+    }
+
+    private void registrar(TipoEvento tipo, UUID agregadoId, UUID tenantId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.ERRO_INTERNO_SERVIDOR, HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Falha ao serializar evento " + tipo + ": " + e.getMessage());
+        }
+        outboxEventoRepository.save(OutboxEvento.builder()
+                .tipo(tipo)
+                .agregadoId(agregadoId)
+                .payload(json)
+                .status(StatusEvento.PENDENTE)
+                .tentativas(0)
+                .proximaTentativa(LocalDateTime.now())
+                .tenantId(tenantId)
+                .build());
+    }
+
+    /**
+     * Dados para criação de um evento na agenda externa.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EventoCalendarioPayload {
+        private String emailAgenda;
+        private String resumo;
+        private LocalDateTime inicio;
+        private LocalDateTime fim;
+    }
+
+    /**
+     * Dados para envio de um e-mail de confirmação.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EmailPayload {
+        private String destinatario;
+        private String detalhes;
+    }
+}
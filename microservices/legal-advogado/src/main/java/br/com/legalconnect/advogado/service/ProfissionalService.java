@@ -1,14 +1,17 @@
 package br.com.legalconnect.advogado.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator; // Import adicionado
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest; // Import adicionado
 import org.springframework.data.domain.Pageable;
@@ -20,9 +23,17 @@ import br.com.legalconnect.advogado.domain.ExperienciaProfissional;
 import br.com.legalconnect.advogado.domain.FormacaoAcademica;
 import br.com.legalconnect.advogado.domain.Plano; // Import adicionado
 import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
 import br.com.legalconnect.advogado.dto.request.ProfissionalCreateRequest;
 import br.com.legalconnect.advogado.dto.request.ProfissionalUpdateRequest;
+import br.com.legalconnect.advogado.dto.response.AdvogadoProximoResponseDTO;
+import br.com.legalconnect.advogado.dto.response.AreaAtuacaoResponseDTO;
+import br.com.legalconnect.advogado.dto.response.BuscaFacetadaResponseDTO;
+import br.com.legalconnect.advogado.dto.response.IdiomaResponseDTO;
+import br.com.legalconnect.advogado.dto.response.LocalAtuacaoResponseDTO;
 import br.com.legalconnect.advogado.dto.response.ProfissionalResponseDTO;
+import br.com.legalconnect.advogado.dto.response.SugestaoResponseDTO;
+import br.com.legalconnect.advogado.dto.response.TipoAtendimentoResponseDTO;
 import br.com.legalconnect.advogado.mapper.AdvogadoMapper; // Import atualizado
 import br.com.legalconnect.advogado.mapper.AreaAtuacaoMapper;
 import br.com.legalconnect.advogado.mapper.CertificacaoMapper;
@@ -32,6 +43,7 @@ import br.com.legalconnect.advogado.mapper.FormacaoAcademicaMapper;
 import br.com.legalconnect.advogado.mapper.IdiomaMapper;
 import br.com.legalconnect.advogado.mapper.LocalAtuacaoMapper;
 import br.com.legalconnect.advogado.mapper.ProfissionalMapper;
+import br.com.legalconnect.advogado.mapper.ProjecoesCard;
 import br.com.legalconnect.advogado.mapper.TipoAtendimentoMapper;
 import br.com.legalconnect.advogado.repository.AreaAtuacaoRepository;
 import br.com.legalconnect.advogado.repository.CertificacaoRepository;
@@ -43,6 +55,8 @@ import br.com.legalconnect.advogado.repository.LocalAtuacaoRepository;
 import br.com.legalconnect.advogado.repository.PlanoRepository; // Import adicionado
 import br.com.legalconnect.advogado.repository.ProfissionalRepository;
 import br.com.legalconnect.advogado.repository.TipoAtendimentoRepository;
+import br.com.legalconnect.advogado.service.IndiceFacetadoProfissionais.Faceta;
+import br.com.legalconnect.advogado.service.IndiceSugestoes.TipoSugestao;
 import br.com.legalconnect.commom.dto.request.PessoaRequestDTO;
 import br.com.legalconnect.commom.model.Pessoa;
 import br.com.legalconnect.commom.service.PessoaService;
@@ -67,6 +81,10 @@ import lombok.extern.slf4j.Slf4j; // Import adicionado
 @Slf4j // Adiciona logger
 public class ProfissionalService {
 
+    public static final int TAMANHO_MAXIMO_BUSCA = 50;
+    public static final int TAMANHO_MAXIMO_PREFIXO = 100;
+    public static final int RAIO_MAXIMO_KM = 100;
+
     private final ProfissionalRepository profissionalRepository;
     private final ProfissionalMapper profissionalMapper;
     private final AdvogadoMapper advogadoMapper;
@@ -89,6 +107,11 @@ public class ProfissionalService {
     private final LocalAtuacaoMapper localAtuacaoMapper;
     private final TipoAtendimentoMapper tipoAtendimentoMapper;
     private final PlanoRepository planoRepository; // Novo repositório injetado
+    private final MetricasProfissionalService metricasProfissionalService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IndiceFacetadoProfissionais indiceFacetadoProfissionais;
+    private final IndiceSugestoes indiceSugestoes;
+    private final IndiceGeograficoProfissionais indiceGeograficoProfissionais;
 
     /**
      * Cria um novo Profissional no sistema.
@@ -174,6 +197,9 @@ public class ProfissionalService {
         // Gerenciar certificações, experiências e formações
         manageNestedEntities(profissional, createRequest);
 
+        // Senioridade depende da inscrição na OAB e das experiências recém-gravadas
+        eventPublisher.publishEvent(new PerfilProfissionalAlteradoEvent(profissional.getId()));
+
         return mapToResponseDTOWithDetails(profissional);
     }
 
@@ -253,6 +279,7 @@ public class ProfissionalService {
         manageNestedEntities(existingProfissional, updateRequest);
 
         existingProfissional = profissionalRepository.save(existingProfissional);
+        eventPublisher.publishEvent(new PerfilProfissionalAlteradoEvent(existingProfissional.getId()));
         return mapToResponseDTOWithDetails(existingProfissional);
     }
 
@@ -267,10 +294,12 @@ public class ProfissionalService {
      * @throws BusinessException se o Profissional não for encontrado ou não
      *                           pertencer ao tenant.
      */
+    @Transactional
     public ProfissionalResponseDTO findProfissionalById(UUID id) {
         UUID tenantId = TenantContext.getCurrentTenantId();
 
-        Profissional profissional = profissionalRepository.findById(id)
+        // Raiz com usuário, plano, roles e endereços em uma consulta
+        Profissional profissional = profissionalRepository.findDetalhadoById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFISSIONAL_NAO_ENCONTRADO, HttpStatus.NOT_FOUND,
                         "Profissional não encontrado."));
 
@@ -280,6 +309,10 @@ public class ProfissionalService {
                     "Acesso negado. Profissional pertence a outro tenant.");
         }
 
+        // Inicializa as quatro coleções de IDs de dados mestre na mesma instância
+        // (mesmo contexto de persistência), em uma consulta
+        profissionalRepository.inicializarIdsDadosMestre(id);
+
         return mapToResponseDTOWithDetails(profissional);
     }
 
@@ -290,11 +323,15 @@ public class ProfissionalService {
      *                 ordenação.
      * @return Página de DTOs de Profissionais.
      */
+    @Transactional
     public Page<ProfissionalResponseDTO> findAllProfissionais(Pageable pageable) {
         UUID tenantId = TenantContext.getCurrentTenantId(); // Filtra por tenant
 
         Page<Profissional> profissionaisPage = profissionalRepository.findAllByTenantId(tenantId, pageable);
-        return profissionaisPage.map(this::mapToResponseDTOWithDetails);
+        // Coleções carregadas em lote para a página (@BatchSize) e dados mestre
+        // de todos os profissionais da página em uma consulta por tipo
+        DadosMestre dadosMestre = carregarDadosMestre(profissionaisPage.getContent());
+        return profissionaisPage.map(profissional -> mapToResponseDTOWithDetails(profissional, dadosMestre));
     }
 
     /**
@@ -304,15 +341,22 @@ public class ProfissionalService {
      *
      * @return Uma lista de AdvogadoResponseDTO.
      */
+    // Somente leitura: com a réplica habilitada, a página inteira é lida dela
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<AdvogadoResponseDTO> findAllAdvogadosPublico() {
         // Busca 20 profissionais aleatórios do repositório
         Page<Profissional> randomProfessionalsPage = profissionalRepository
                 .findAllPublicMarketplaceProfissionais(PageRequest.of(0, 20));
         List<Profissional> randomProfessionals = randomProfessionalsPage.getContent();
 
+        // Avaliações e métricas pré-calculadas de todos os profissionais da página,
+        // carregadas em lote
+        ProjecoesCard projecoes = metricasProfissionalService.carregarProjecoes(
+                randomProfessionals.stream().map(Profissional::getId).collect(Collectors.toList()));
+
         // Converte para DTOs
         List<AdvogadoResponseDTO> advogadoDTOs = randomProfessionals.stream()
-                .map(advogadoMapper::toAdvogadoResponseDTO)
+                .map(profissional -> advogadoMapper.toAdvogadoResponseDTO(profissional, projecoes))
                 .collect(Collectors.toList());
 
         // Aplica a ordenação customizada em memória
@@ -341,6 +385,131 @@ public class ProfissionalService {
         return advogadoDTOs;
     }
 
+    /**
+     * Busca facetada de advogados do marketplace.
+     * Regras de Negócio:
+     * - Valores de uma mesma faceta são combinados com OU; facetas diferentes,
+     * com E.
+     * - A ordem é a mesma da listagem pública (plano, avaliação, nome).
+     * - As contagens de cada faceta desconsideram o filtro da própria faceta.
+     *
+     * @param filtros Valores selecionados por faceta.
+     * @param page    Número da página (0-indexed).
+     * @param size    Tamanho da página (até {@value #TAMANHO_MAXIMO_BUSCA}).
+     * @return DTO com a página de advogados, o total e as contagens por faceta.
+     * @throws BusinessException se a paginação for inválida.
+     */
+    public BuscaFacetadaResponseDTO buscarAdvogadosFacetado(Map<Faceta, List<String>> filtros, int page, int size) {
+        if (page < 0 || size < 1 || size > TAMANHO_MAXIMO_BUSCA) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "Paginação inválida: a página deve ser >= 0 e o tamanho entre 1 e " + TAMANHO_MAXIMO_BUSCA + ".");
+        }
+        IndiceFacetadoProfissionais.Resultado resultado = indiceFacetadoProfissionais.buscar(filtros, page, size);
+
+        Map<UUID, AdvogadoResponseDTO> cards = carregarCards(resultado.getIds());
+        List<AdvogadoResponseDTO> advogados = resultado.getIds().stream()
+                .map(cards::get)
+                .filter(card -> card != null)
+                .collect(Collectors.toList());
+
+        return BuscaFacetadaResponseDTO.builder()
+                .advogados(advogados)
+                .total(resultado.getTotal())
+                .page(page)
+                .size(size)
+                .facetas(resultado.getFacetas())
+                .build();
+    }
+
+    /**
+     * Busca os advogados do marketplace com escritório próximo a um ponto.
+     * Regras de Negócio:
+     * - Considera endereços do tipo ESCRITORIO ou COMERCIAL com coordenadas
+     * (derivadas do CEP).
+     * - Resultados ordenados pela distância do escritório mais próximo.
+     *
+     * @param latitude  Latitude do ponto de referência.
+     * @param longitude Longitude do ponto de referência.
+     * @param raioKm    Raio máximo, em quilômetros (até {@value #RAIO_MAXIMO_KM}).
+     * @param limite    Quantidade máxima de resultados (até
+     *                  {@value #TAMANHO_MAXIMO_BUSCA}).
+     * @return Lista de advogados com a distância.
+     * @throws BusinessException se os parâmetros forem inválidos.
+     */
+    public List<AdvogadoProximoResponseDTO> buscarAdvogadosProximos(double latitude, double longitude, double raioKm,
+            int limite) {
+        // Comparações com NaN são sempre falsas: a validação precisa ser positiva
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "Coordenadas inválidas: latitude deve estar entre -90 e 90 e longitude entre -180 e 180.");
+        }
+        if (!(raioKm > 0 && raioKm <= RAIO_MAXIMO_KM) || limite < 1 || limite > TAMANHO_MAXIMO_BUSCA) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "O raio deve estar entre 0 e " + RAIO_MAXIMO_KM + " km e o limite entre 1 e "
+                            + TAMANHO_MAXIMO_BUSCA + ".");
+        }
+        List<IndiceGeograficoProfissionais.Proximo> proximos = indiceGeograficoProfissionais.buscar(latitude,
+                longitude, raioKm, limite);
+
+        Map<UUID, AdvogadoResponseDTO> cards = carregarCards(proximos.stream()
+                .map(IndiceGeograficoProfissionais.Proximo::getId)
+                .collect(Collectors.toList()));
+        return proximos.stream()
+                .filter(proximo -> cards.containsKey(proximo.getId()))
+                .map(proximo -> AdvogadoProximoResponseDTO.builder()
+                        .advogado(cards.get(proximo.getId()))
+                        .distanciaKm(Math.round(proximo.getDistanciaKm() * 10) / 10.0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Monta os cards de uma página de resultados dos índices em memória: uma
+     * consulta para os profissionais e duas para as projeções. Profissionais
+     * removidos desde a última reconstrução do índice não aparecem no mapa.
+     */
+    private Map<UUID, AdvogadoResponseDTO> carregarCards(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Profissional> profissionais = profissionalRepository.findAllCardsByIdIn(ids);
+        ProjecoesCard projecoes = metricasProfissionalService.carregarProjecoes(
+                profissionais.stream().map(Profissional::getId).collect(Collectors.toList()));
+        return profissionais.stream()
+                .collect(Collectors.toMap(Profissional::getId, p -> advogadoMapper.toAdvogadoResponseDTO(p, projecoes)));
+    }
+
+    /**
+     * Sugestões do autocompletar para nomes de advogados, cidades e áreas de
+     * atuação.
+     * Regras de Negócio:
+     * - A comparação ignora acentos e maiúsculas e aceita o início de qualquer
+     * palavra do texto.
+     * - Cidades e áreas são ordenadas pela quantidade de advogados associados.
+     *
+     * @param prefixo Texto digitado.
+     * @param tipo    Tipo de sugestão (ADVOGADO, CIDADE ou AREA), opcional.
+     * @param limite  Quantidade máxima de sugestões.
+     * @return Lista de sugestões.
+     * @throws BusinessException se o prefixo ou o tipo forem inválidos.
+     */
+    public List<SugestaoResponseDTO> sugerir(String prefixo, String tipo, int limite) {
+        if (prefixo == null || prefixo.length() > TAMANHO_MAXIMO_PREFIXO) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                    "O texto pesquisado deve ter até " + TAMANHO_MAXIMO_PREFIXO + " caracteres.");
+        }
+        TipoSugestao tipoSugestao = null;
+        if (tipo != null && !tipo.isBlank()) {
+            try {
+                tipoSugestao = TipoSugestao.valueOf(tipo.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.DADOS_INVALIDOS, HttpStatus.BAD_REQUEST,
+                        "Tipo de sugestão inválido: " + tipo + ". Use ADVOGADO, CIDADE ou AREA.");
+            }
+        }
+        return indiceSugestoes.sugerir(prefixo, tipoSugestao, limite);
+    }
+
     /**
      * Deleta um Profissional pelo ID.
      * Regras de Negócio:
@@ -377,6 +546,12 @@ public class ProfissionalService {
                 .forEach(f -> formacaoRepository.deleteByIdAndProfissionalId(f.getId(), id));
         documentoRepository.findAllByProfissionalId(id).forEach(d -> {
             s3Service.deleteFile(d.getUrlS3()); // Deleta arquivo do S3
+            if (d.getUrlThumbnail() != null) {
+                s3Service.deleteFile(d.getUrlThumbnail()); // Variantes geradas a partir do original
+            }
+            if (d.getUrlPreview() != null) {
+                s3Service.deleteFile(d.getUrlPreview());
+            }
             documentoRepository.deleteByIdAndProfissionalId(d.getId(), id);
         });
 
@@ -553,29 +728,25 @@ public class ProfissionalService {
      * @return O DTO de resposta detalhado.
      */
     private ProfissionalResponseDTO mapToResponseDTOWithDetails(Profissional profissional) {
+        return mapToResponseDTOWithDetails(profissional, carregarDadosMestre(List.of(profissional)));
+    }
+
+    /**
+     * Mapeia um Profissional para ProfissionalResponseDTO usando dados mestre já
+     * carregados.
+     *
+     * @param profissional A entidade Profissional.
+     * @param dadosMestre  Dados mestre dos profissionais sendo mapeados.
+     * @return O DTO de resposta detalhado.
+     */
+    private ProfissionalResponseDTO mapToResponseDTOWithDetails(Profissional profissional, DadosMestre dadosMestre) {
         ProfissionalResponseDTO responseDTO = profissionalMapper.toResponseDTO(profissional);
 
         // Popula listas de DTOs de dados mestre
-        responseDTO.setLocaisAtuacao(
-                localAtuacaoRepository.findAllById(profissional.getLocaisAtuacaoIds())
-                        .stream()
-                        .map(localAtuacaoMapper::toResponseDTO)
-                        .collect(Collectors.toList()));
-        responseDTO.setAreasAtuacao(
-                areaAtuacaoRepository.findAllById(profissional.getAreaAtuacaoIds())
-                        .stream()
-                        .map(areaAtuacaoMapper::toResponseDTO)
-                        .collect(Collectors.toList()));
-        responseDTO.setIdiomas(
-                idiomaRepository.findAllById(profissional.getIdiomaIds())
-                        .stream()
-                        .map(idiomaMapper::toResponseDTO)
-                        .collect(Collectors.toList()));
-        responseDTO.setTiposAtendimento(
-                tipoAtendimentoRepository.findAllById(profissional.getTipoAtendimentoIds())
-                        .stream()
-                        .map(tipoAtendimentoMapper::toResponseDTO)
-                        .collect(Collectors.toList()));
+        responseDTO.setLocaisAtuacao(selecionar(dadosMestre.locaisAtuacao, profissional.getLocaisAtuacaoIds()));
+        responseDTO.setAreasAtuacao(selecionar(dadosMestre.areasAtuacao, profissional.getAreaAtuacaoIds()));
+        responseDTO.setIdiomas(selecionar(dadosMestre.idiomas, profissional.getIdiomaIds()));
+        responseDTO.setTiposAtendimento(selecionar(dadosMestre.tiposAtendimento, profissional.getTipoAtendimentoIds()));
 
         // Popula as coleções aninhadas
         responseDTO.setCertificacoes(
@@ -601,6 +772,53 @@ public class ProfissionalService {
         return responseDTO;
     }
 
+    /**
+     * Carrega, com uma consulta por tipo, os dados mestre referenciados por um
+     * conjunto de profissionais. Tipos sem IDs não geram consulta.
+     *
+     * @param profissionais Profissionais a mapear.
+     * @return Dados mestre indexados por ID.
+     */
+    private DadosMestre carregarDadosMestre(Collection<Profissional> profissionais) {
+        Set<UUID> locais = new HashSet<>();
+        Set<UUID> areas = new HashSet<>();
+        Set<UUID> idiomas = new HashSet<>();
+        Set<UUID> tipos = new HashSet<>();
+        for (Profissional profissional : profissionais) {
+            locais.addAll(profissional.getLocaisAtuacaoIds());
+            areas.addAll(profissional.getAreaAtuacaoIds());
+            idiomas.addAll(profissional.getIdiomaIds());
+            tipos.addAll(profissional.getTipoAtendimentoIds());
+        }
+        DadosMestre dadosMestre = new DadosMestre();
+        localAtuacaoRepository.findAllById(locais)
+                .forEach(l -> dadosMestre.locaisAtuacao.put(l.getId(), localAtuacaoMapper.toResponseDTO(l)));
+        areaAtuacaoRepository.findAllById(areas)
+                .forEach(a -> dadosMestre.areasAtuacao.put(a.getId(), areaAtuacaoMapper.toResponseDTO(a)));
+        idiomaRepository.findAllById(idiomas)
+                .forEach(i -> dadosMestre.idiomas.put(i.getId(), idiomaMapper.toResponseDTO(i)));
+        tipoAtendimentoRepository.findAllById(tipos)
+                .forEach(t -> dadosMestre.tiposAtendimento.put(t.getId(), tipoAtendimentoMapper.toResponseDTO(t)));
+        return dadosMestre;
+    }
+
+    private static <T> List<T> selecionar(Map<UUID, T> porId, Set<UUID> ids) {
+        return ids.stream()
+                .map(porId::get)
+                .filter(dto -> dto != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * DTOs de dados mestre indexados por ID.
+     */
+    private static final class DadosMestre {
+        private final Map<UUID, LocalAtuacaoResponseDTO> locaisAtuacao = new HashMap<>();
+        private final Map<UUID, AreaAtuacaoResponseDTO> areasAtuacao = new HashMap<>();
+        private final Map<UUID, IdiomaResponseDTO> idiomas = new HashMap<>();
+        private final Map<UUID, TipoAtendimentoResponseDTO> tiposAtendimento = new HashMap<>();
+    }
+
     /**
      * Valida a existência de entidades de dados mestre.
      *
@@ -619,6 +837,7 @@ public class ProfissionalService {
         }
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public Map<String, List<String>> listarLocalizacoesDisponiveis() {
         List<Object[]> resultados = profissionalRepository.findDistinctEstadosAndCidades();
         Map<String, List<String>> localizacoes = new HashMap<>();
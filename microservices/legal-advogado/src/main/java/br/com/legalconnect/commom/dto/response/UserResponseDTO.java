@@ -27,6 +27,8 @@ public class UserResponseDTO {
     private String cpf;
     private String telefone;
     private String fotoUrl;
+    private String fotoThumbnailUrl;
+    private String fotoPreviewUrl;
     private UserType userType; // Tipo de usuário (CLIENTE, ADVOGADO, etc.)
     private UserStatus userStatus; // Status da conta do usuário
 }
\ No newline at end of file
@@ -30,6 +30,8 @@ public interface EnderecoMapper {
     // @Mapping(target = "empresa", ignore = true) // Descomente se Empresa for
     // relevante e existir
     @Mapping(target = "id", source = "id", qualifiedByName = "mapStringToUuid")
+    @Mapping(target = "latitude", ignore = true) // Derivada do CEP ao gravar
+    @Mapping(target = "longitude", ignore = true)
     Endereco toEntity(EnderecoRequestDTO dto);
 
     /**
@@ -52,6 +54,8 @@ public interface EnderecoMapper {
      */
     @Mapping(target = "id", ignore = true) // ID não deve ser atualizado pelo DTO
     @Mapping(target = "pessoa", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
     // @Mapping(target = "empresa", ignore = true)
     void updateEntityFromDto(EnderecoRequestDTO dto, @MappingTarget Endereco entity);
 
@@ -26,6 +26,8 @@ public interface UserMapper {
      * @return A entidade User correspondente.
      */
     @Mapping(source = "senha", target = "senhaHash") // Mapeia a senha do DTO para senhaHash na entidade
+    @Mapping(target = "fotoThumbnailUrl", ignore = true) // Gerado pelo ThumbnailService
+    @Mapping(target = "fotoPreviewUrl", ignore = true) // Gerado pelo ThumbnailService
     // @Mapping(target = "userType", ignore = true) // Definido pela lógica de
     // negócio
     // @Mapping(target = "userStatus", ignore = true) // Definido pela lógica de
@@ -53,6 +55,8 @@ public interface UserMapper {
      */
     @Mapping(target = "id", ignore = true) // ID não deve ser atualizado pelo DTO
     @Mapping(source = "senha", target = "senhaHash")
+    @Mapping(target = "fotoThumbnailUrl", ignore = true)
+    @Mapping(target = "fotoPreviewUrl", ignore = true)
     // @Mapping(target = "userType", ignore = true)
     // @Mapping(target = "userStatus", ignore = true)
     void updateEntityFromDto(UserRequestDTO dto, @MappingTarget User entity);
@@ -0,0 +1,33 @@
+package br.com.legalconnect.commom.model;
+
+import br.com.legalconnect.commom.service.TabelaCoordenadasCep;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Listener JPA que preenche latitude e longitude do {@link Endereco} a partir
+ * do CEP, sempre que o endereço é inserido ou alterado.
+ * Instanciado pelo contêiner de beans do Spring (configurado pelo Spring Boot
+ * para o Hibernate), que injeta a tabela de CEPs.
+ */
+public class CoordenadasEnderecoListener {
+
+    private final TabelaCoordenadasCep tabelaCoordenadasCep;
+
+    public CoordenadasEnderecoListener(TabelaCoordenadasCep tabelaCoordenadasCep) {
+        this.tabelaCoordenadasCep = tabelaCoordenadasCep;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void preencherCoordenadas(Endereco endereco) {
+        tabelaCoordenadasCep.localizar(endereco.getCep()).ifPresentOrElse(coordenada -> {
+            endereco.setLatitude(coordenada.getLatitude());
+            endereco.setLongitude(coordenada.getLongitude());
+        }, () -> {
+            // CEP fora da tabela: sem coordenadas, em vez de manter as do CEP anterior
+            endereco.setLatitude(null);
+            endereco.setLongitude(null);
+        });
+    }
+}
@@ -3,6 +3,7 @@ package br.com.legalconnect.commom.model;
 import br.com.legalconnect.common.dto.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -20,9 +21,11 @@ import lombok.experimental.SuperBuilder;
  * @brief Entidade que representa um endereço detalhado.
  *        Pode ser associada a Pessoas ou Empresas.
  *        Mapeada para a tabela 'tb_endereco'.
+ *        Latitude e longitude são derivadas do CEP ao gravar.
  */
 @Entity
 @Table(name = "tb_endereco")
+@EntityListeners(CoordenadasEnderecoListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,6 +54,12 @@ public class Endereco extends BaseEntity {
     @Column(name = "cep", nullable = false, length = 9) // CEP com máscara
     private String cep; // Código de Endereçamento Postal
 
+    @Column(name = "latitude")
+    private Double latitude; // Preenchida pelo CEP (ver CoordenadasEnderecoListener)
+
+    @Column(name = "longitude")
+    private Double longitude; // Preenchida pelo CEP (ver CoordenadasEnderecoListener)
+
     @Column(name = "pais", nullable = false, length = 50)
     private String pais = "Brasil"; // País (valor padrão "Brasil")
 
@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
+
 import br.com.legalconnect.common.dto.BaseEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
@@ -71,6 +73,7 @@ public class Pessoa extends BaseEntity {
      *        mappedBy indica que o relacionamento é gerenciado pelo campo 'pessoa'
      *        na entidade Endereco.
      */
+    @BatchSize(size = 50) // Carrega os endereços de várias pessoas por consulta em listagens
     @OneToMany(mappedBy = "pessoa", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<Endereco> enderecos = new HashSet<>(); // Conjunto de endereços da pessoa
 
@@ -78,6 +81,7 @@ public class Pessoa extends BaseEntity {
      * @brief Coleção de strings para armazenar múltiplos números de telefone.
      *        Será mapeada para uma tabela separada 'tb_pessoa_telefones'.
      */
+    @BatchSize(size = 50)
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "tb_pessoa_telefones", joinColumns = @JoinColumn(name = "pessoa_id"))
     @Column(name = "numero_telefone", length = 20)
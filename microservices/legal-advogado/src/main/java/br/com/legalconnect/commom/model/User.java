@@ -48,6 +48,12 @@ public class User extends BaseEntity { // Implementa UserDetails
     @Column(name = "foto_url", columnDefinition = "TEXT")
     private String fotoUrl; // URL da foto de perfil do usuário no S3
 
+    @Column(name = "foto_thumbnail_url", columnDefinition = "TEXT")
+    private String fotoThumbnailUrl; // Variante reduzida da foto, usada nos cards do marketplace
+
+    @Column(name = "foto_preview_url", columnDefinition = "TEXT")
+    private String fotoPreviewUrl; // Variante intermediária da foto, usada nas páginas de perfil
+
     /**
      * @enum UserType
      * @brief Enumeração para categorizar o tipo principal de um usuário.
@@ -0,0 +1,46 @@
+package br.com.legalconnect.commom.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.commom.model.Endereco;
+
+/**
+ * Repositório para a entidade {@link Endereco}.
+ * Usado na carga das coordenadas dos endereços gravados antes da tabela de
+ * CEPs.
+ */
+@Repository
+public interface EnderecoRepository extends JpaRepository<Endereco, UUID> {
+
+    /**
+     * Busca, em ordem de ID, um lote de endereços ainda sem coordenadas,
+     * posteriores ao último ID processado (paginação por chave).
+     *
+     * @param ultimoId Último ID do lote anterior.
+     * @param limite   Tamanho do lote.
+     * @return Lista de Object[] com [id, cep].
+     */
+    @Query(value = "SELECT e.id, e.cep FROM tb_endereco e WHERE e.latitude IS NULL AND e.id > :ultimoId "
+            + "ORDER BY e.id LIMIT :limite", nativeQuery = true)
+    List<Object[]> findLoteSemCoordenadas(@Param("ultimoId") UUID ultimoId, @Param("limite") int limite);
+
+    /**
+     * Grava as coordenadas de um endereço sem carregar a entidade.
+     *
+     * @param id        O ID do endereço.
+     * @param latitude  Latitude em graus decimais.
+     * @param longitude Longitude em graus decimais.
+     * @return Quantidade de linhas alteradas (0 ou 1).
+     */
+    @Modifying
+    @Query("UPDATE Endereco e SET e.latitude = :latitude, e.longitude = :longitude WHERE e.id = :id")
+    int atualizarCoordenadas(@Param("id") UUID id, @Param("latitude") double latitude,
+            @Param("longitude") double longitude);
+}
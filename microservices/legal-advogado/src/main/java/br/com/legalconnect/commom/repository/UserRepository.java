@@ -2,7 +2,11 @@ package br.com.legalconnect.commom.repository;
 
 import br.com.legalconnect.commom.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -31,4 +35,21 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return true se um usuário com o e-mail já existe, false caso contrário.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Registra as URLs das variantes da foto de perfil de um usuário, desde que
+     * a foto atual ainda seja a que originou as variantes.
+     *
+     * @param id               O ID do usuário.
+     * @param fotoUrl          A URL da foto original das variantes.
+     * @param fotoThumbnailUrl A URL do thumbnail da foto.
+     * @param fotoPreviewUrl   A URL do preview da foto.
+     * @return A quantidade de registros atualizados (0 se a foto já foi trocada).
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.fotoThumbnailUrl = :fotoThumbnailUrl, u.fotoPreviewUrl = :fotoPreviewUrl "
+            + "WHERE u.id = :id AND u.fotoUrl = :fotoUrl")
+    int atualizarVariantesFoto(@Param("id") UUID id, @Param("fotoUrl") String fotoUrl,
+            @Param("fotoThumbnailUrl") String fotoThumbnailUrl, @Param("fotoPreviewUrl") String fotoPreviewUrl);
 }
\ No newline at end of file
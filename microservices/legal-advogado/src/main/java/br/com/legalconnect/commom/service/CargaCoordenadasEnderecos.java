@@ -0,0 +1,86 @@
+package br.com.legalconnect.commom.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.legalconnect.commom.repository.EnderecoRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Preenche, na inicialização, as coordenadas dos endereços gravados antes da
+ * tabela de CEPs. Percorre a tabela uma única vez, em lotes por ordem de ID e
+ * uma transação curta por lote; endereços cujo CEP não está na tabela ficam
+ * sem coordenadas e não são revisitados na mesma execução.
+ */
+@Slf4j
+@Component
+public class CargaCoordenadasEnderecos {
+
+    private static final UUID ID_INICIAL = new UUID(0L, 0L);
+
+    private final EnderecoRepository enderecoRepository;
+    private final TabelaCoordenadasCep tabelaCoordenadasCep;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+
+    public CargaCoordenadasEnderecos(EnderecoRepository enderecoRepository,
+            TabelaCoordenadasCep tabelaCoordenadasCep,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.geo.carga.tamanho-lote:500}") int tamanhoLote) {
+        this.enderecoRepository = enderecoRepository;
+        this.tabelaCoordenadasCep = tabelaCoordenadasCep;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarComSeguranca() {
+        try {
+            int preenchidos = carregar();
+            if (preenchidos > 0) {
+                log.info("Coordenadas preenchidas para {} endereço(s) existente(s).", preenchidos);
+            }
+        } catch (Exception e) {
+            // Endereços novos continuam recebendo coordenadas ao serem gravados
+            log.error("Falha ao preencher coordenadas dos endereços existentes: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Processa todos os lotes de endereços sem coordenadas.
+     *
+     * @return Quantidade de endereços preenchidos.
+     */
+    public int carregar() {
+        UUID ultimoId = ID_INICIAL;
+        int preenchidos = 0;
+        while (true) {
+            List<Object[]> lote = enderecoRepository.findLoteSemCoordenadas(ultimoId, tamanhoLote);
+            if (lote.isEmpty()) {
+                return preenchidos;
+            }
+            Integer alterados = transactionTemplate.execute(status -> {
+                int total = 0;
+                for (Object[] linha : lote) {
+                    UUID id = (UUID) linha[0];
+                    total += tabelaCoordenadasCep.localizar((String) linha[1])
+                            .map(c -> enderecoRepository.atualizarCoordenadas(id, c.getLatitude(), c.getLongitude()))
+                            .orElse(0);
+                }
+                return total;
+            });
+            preenchidos += alterados != null ? alterados : 0;
+            ultimoId = (UUID) lote.get(lote.size() - 1)[0];
+            if (lote.size() < tamanhoLote) {
+                return preenchidos;
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.legalconnect.commom.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tabela offline de coordenadas por faixa de CEP, distribuída com o serviço.
+ * As faixas são carregadas uma única vez em um mapa ordenado pelo CEP inicial;
+ * a consulta é um floorEntry (O(log n)) seguido da verificação do CEP final.
+ * Nenhuma chamada externa é feita para geocodificar endereços.
+ */
+@Slf4j
+@Service
+public class TabelaCoordenadasCep {
+
+    private static final int CEP_MAXIMO = 99_999_999;
+
+    private final TreeMap<Integer, Faixa> faixas = new TreeMap<>();
+
+    public TabelaCoordenadasCep(@Value("${application.geo.tabela-cep:classpath:geo/cep-coordenadas.csv}") Resource tabela)
+            throws IOException {
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(tabela.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            int numero = 0;
+            while ((linha = leitor.readLine()) != null) {
+                numero++;
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split(";");
+                if (campos.length < 4) {
+                    throw new IllegalStateException("Linha " + numero + " inválida na tabela de CEPs: " + linha);
+                }
+                int inicio = Integer.parseInt(campos[0].trim());
+                int fim = Integer.parseInt(campos[1].trim());
+                double latitude = Double.parseDouble(campos[2].trim());
+                double longitude = Double.parseDouble(campos[3].trim());
+                if (inicio < 0 || fim > CEP_MAXIMO || inicio > fim
+                        || !(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+                    throw new IllegalStateException("Linha " + numero + " inválida na tabela de CEPs: " + linha);
+                }
+                // Com faixas sobrepostas, o floorEntry devolveria a faixa errada
+                Map.Entry<Integer, Faixa> anterior = faixas.floorEntry(fim);
+                if (anterior != null && anterior.getValue().fim >= inicio) {
+                    throw new IllegalStateException("Linha " + numero + " sobrepõe a faixa iniciada em "
+                            + anterior.getKey() + " na tabela de CEPs: " + linha);
+                }
+                faixas.put(inicio, new Faixa(fim, new Coordenada(latitude, longitude)));
+            }
+        }
+        log.info("Tabela de coordenadas por CEP carregada: {} faixa(s).", faixas.size());
+    }
+
+    /**
+     * Localiza as coordenadas de um CEP.
+     *
+     * @param cep CEP com ou sem máscara.
+     * @return Coordenadas da faixa que contém o CEP, se houver.
+     */
+    public Optional<Coordenada> localizar(String cep) {
+        if (cep == null) {
+            return Optional.empty();
+        }
+        String digitos = cep.replaceAll("\\D", "");
+        if (digitos.length() != 8) {
+            return Optional.empty();
+        }
+        int valor = Integer.parseInt(digitos);
+        Map.Entry<Integer, Faixa> entrada = faixas.floorEntry(valor);
+        if (entrada == null || valor > entrada.getValue().fim) {
+            return Optional.empty();
+        }
+        return Optional.of(entrada.getValue().coordenada);
+    }
+
+    private static final class Faixa {
+        private final int fim;
+        private final Coordenada coordenada;
+
+        private Faixa(int fim, Coordenada coordenada) {
+            this.fim = fim;
+            this.coordenada = coordenada;
+        }
+    }
+
+    /**
+     * Par latitude/longitude, em graus decimais.
+     */
+    public static final class Coordenada {
+        private final double latitude;
+        private final double longitude;
+
+        public Coordenada(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package br.com.legalconnect.commom.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Serviço responsável por derivar variantes reduzidas (thumbnail e preview) de
+ * imagens e PDFs enviados ao S3.
+ * O processamento ocorre de forma assíncrona em um pool de threads limitado,
+ * disparado somente após o commit da transação que registrou o arquivo
+ * original. As variantes são gravadas ao lado do original, com sufixos fixos
+ * na chave do S3.
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailService.class);
+
+    private static final String MIME_PDF = "application/pdf";
+    private static final String MIME_JPEG = "image/jpeg";
+    private static final String PREFIXO_MIME_IMAGEM = "image/";
+    private static final String SUFIXO_THUMBNAIL = ".thumb.jpg";
+    private static final String SUFIXO_PREVIEW = ".preview.jpg";
+
+    private final S3Service s3Service;
+    private final ThreadPoolExecutor executor;
+    private final int larguraThumbnail;
+    private final int larguraPreview;
+
+    public ThumbnailService(S3Service s3Service,
+            @Value("${application.midia.variantes.pool-size:2}") int poolSize,
+            @Value("${application.midia.variantes.fila-capacidade:100}") int filaCapacidade,
+            @Value("${application.midia.variantes.largura-thumbnail:160}") int larguraThumbnail,
+            @Value("${application.midia.variantes.largura-preview:640}") int larguraPreview) {
+        this.s3Service = s3Service;
+        this.larguraThumbnail = larguraThumbnail;
+        this.larguraPreview = larguraPreview;
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(filaCapacidade),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "midia-variantes-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Indica se o tipo MIME informado possui variantes geradas pelo pipeline
+     * (imagens e PDFs).
+     *
+     * @param mimeType O tipo MIME do arquivo original.
+     * @return true se variantes podem ser derivadas, false caso contrário.
+     */
+    public boolean suportaVariantes(String mimeType) {
+        return mimeType != null
+                && (mimeType.startsWith(PREFIXO_MIME_IMAGEM) || MIME_PDF.equalsIgnoreCase(mimeType));
+    }
+
+    /**
+     * Agenda a geração das variantes de um arquivo recém-enviado.
+     * Se houver uma transação ativa, o processamento só é disparado após o
+     * commit, evitando trabalho para registros que sofreram rollback.
+     *
+     * @param original      Os bytes do arquivo original.
+     * @param mimeType      O tipo MIME do arquivo original.
+     * @param chaveOriginal A chave do arquivo original no S3.
+     * @param aoConcluir    Callback executado no pool com as URLs das variantes.
+     */
+    public void agendarVariantes(byte[] original, String mimeType, String chaveOriginal,
+            Consumer<Variantes> aoConcluir) {
+        if (!suportaVariantes(mimeType)) {
+            return;
+        }
+
+        Runnable disparo = () -> gerarVariantes(original, mimeType, chaveOriginal)
+                .thenAccept(variantes -> {
+                    if (variantes.possuiVariantes()) {
+                        aoConcluir.accept(variantes);
+                    }
+                })
+                .exceptionally(ex -> {
+                    log.error("Falha ao registrar variantes de {}: {}", chaveOriginal, ex.getMessage(), ex);
+                    return null;
+                });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    disparo.run();
+                }
+            });
+        } else {
+            disparo.run();
+        }
+    }
+
+    /**
+     * Gera as variantes de um arquivo no pool de processamento.
+     * Quando a fila está cheia a geração é descartada (e registrada em log): o
+     * arquivo original continua disponível e as variantes são opcionais.
+     *
+     * @param original      Os bytes do arquivo original.
+     * @param mimeType      O tipo MIME do arquivo original.
+     * @param chaveOriginal A chave do arquivo original no S3.
+     * @return Um future com as URLs das variantes geradas.
+     */
+    public CompletableFuture<Variantes> gerarVariantes(byte[] original, String mimeType, String chaveOriginal) {
+        if (!suportaVariantes(mimeType)) {
+            return CompletableFuture.completedFuture(Variantes.vazias());
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> processar(original, mimeType, chaveOriginal), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Fila de variantes cheia ({} tarefas). Variantes de {} não serão geradas.",
+                    executor.getQueue().size(), chaveOriginal);
+            return CompletableFuture.completedFuture(Variantes.vazias());
+        }
+    }
+
+    private Variantes processar(byte[] original, String mimeType, String chaveOriginal) {
+        try {
+            BufferedImage origem = MIME_PDF.equalsIgnoreCase(mimeType)
+                    ? renderizarPrimeiraPagina(original)
+                    : lerImagem(original);
+            if (origem == null) {
+                log.warn("Formato não reconhecido para geração de variantes: {} ({})", chaveOriginal, mimeType);
+                return Variantes.vazias();
+            }
+
+            BufferedImage preview = redimensionar(origem, larguraPreview);
+            BufferedImage thumbnail = redimensionar(preview, larguraThumbnail);
+
+            String previewUrl = s3Service.uploadFile(codificarJpeg(preview), chaveOriginal + SUFIXO_PREVIEW,
+                    MIME_JPEG);
+            String thumbnailUrl = s3Service.uploadFile(codificarJpeg(thumbnail), chaveOriginal + SUFIXO_THUMBNAIL,
+                    MIME_JPEG);
+            log.debug("Variantes geradas para {}: thumbnail={}, preview={}", chaveOriginal, thumbnailUrl, previewUrl);
+            return new Variantes(thumbnailUrl, previewUrl);
+        } catch (IOException e) {
+            log.error("Erro ao gerar variantes de {}: {}", chaveOriginal, e.getMessage(), e);
+            return Variantes.vazias();
+        }
+    }
+
+    /**
+     * Lê a imagem com subamostragem na origem, de forma que fotos de alta
+     * resolução não sejam decodificadas por completo apenas para serem
+     * reduzidas em seguida.
+     */
+    private BufferedImage lerImagem(byte[] original) throws IOException {
+        try (ImageInputStream entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> leitores = ImageIO.getImageReaders(entrada);
+            if (!leitores.hasNext()) {
+                return null;
+            }
+            ImageReader leitor = leitores.next();
+            try {
+                leitor.setInput(entrada, true, true);
+                int fator = Math.max(1, leitor.getWidth(0) / (larguraPreview * 2));
+                ImageReadParam parametros = leitor.getDefaultReadParam();
+                parametros.setSourceSubsampling(fator, fator, 0, 0);
+                return leitor.read(0, parametros);
+            } finally {
+                leitor.dispose();
+            }
+        }
+    }
+
+    /**
+     * Renderiza somente a primeira página do PDF, já na escala do preview.
+     */
+    private BufferedImage renderizarPrimeiraPagina(byte[] original) throws IOException {
+        try (PDDocument documento = Loader.loadPDF(original)) {
+            if (documento.getNumberOfPages() == 0) {
+                return null;
+            }
+            float larguraPagina = documento.getPage(0).getMediaBox().getWidth();
+            float escala = larguraPagina > 0 ? Math.min(1f, larguraPreview / larguraPagina) : 1f;
+            return new PDFRenderer(documento).renderImage(0, escala, ImageType.RGB);
+        }
+    }
+
+    /**
+     * Reduz a imagem para a largura alvo mantendo a proporção. Imagens menores
+     * que o alvo não são ampliadas. A redução é feita em passos de metade para
+     * preservar a qualidade com interpolação bilinear.
+     */
+    private BufferedImage redimensionar(BufferedImage origem, int larguraAlvo) {
+        BufferedImage atual = origem;
+        int largura = origem.getWidth();
+        int altura = origem.getHeight();
+        int larguraFinal = Math.min(largura, larguraAlvo);
+        int alturaFinal = Math.max(1, (int) Math.round((double) altura * larguraFinal / largura));
+
+        do {
+            largura = Math.max(larguraFinal, largura / 2);
+            altura = largura == larguraFinal ? alturaFinal : Math.max(alturaFinal, altura / 2);
+
+            BufferedImage passo = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+            Graphics2D grafico = passo.createGraphics();
+            try {
+                grafico.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                grafico.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                grafico.setColor(Color.WHITE); // Fundo branco para imagens com transparência (PNG)
+                grafico.fillRect(0, 0, largura, altura);
+                grafico.drawImage(atual, 0, 0, largura, altura, null);
+            } finally {
+                grafico.dispose();
+            }
+            atual = passo;
+        } while (largura > larguraFinal);
+
+        return atual;
+    }
+
+    private byte[] codificarJpeg(BufferedImage imagem) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        ImageIO.write(imagem, "jpg", saida);
+        return saida.toByteArray();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    /**
+     * URLs das variantes derivadas de um arquivo original.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Variantes {
+        private final String thumbnailUrl;
+        private final String previewUrl;
+
+        public static Variantes vazias() {
+            return new Variantes(null, null);
+        }
+
+        public boolean possuiVariantes() {
+            return thumbnailUrl != null || previewUrl != null;
+        }
+    }
+}
@@ -22,6 +22,7 @@ public class AdvogadoResponseDTO {
     private String nome;
     private String oab;
     private String fotoUrl;
+    private String fotoThumbnailUrl; // Variante reduzida da foto, preferível nos grids de cards
     private Double avaliacao; // Média de avaliação
     private Integer numAvaliacoes; // Número de avaliações
     private String bio;
@@ -0,0 +1,127 @@
+package br.com.legalconnect.advogado.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.legalconnect.advogado.support.DadosProfissionalTeste;
+import br.com.legalconnect.commom.service.TenantContext;
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+
+/**
+ * Agendamentos concorrentes para o mesmo horário: apenas um pode ser gravado,
+ * mesmo quando todos passam pela verificação prévia antes de qualquer INSERT.
+ */
+// Relay da outbox parado: ele regravaria os eventos removidos na limpeza
+@ActiveProfiles("teste")
+@SpringBootTest(properties = "application.outbox.intervalo-ms=3600000")
+class AgendamentoServiceConcorrenciaTest {
+
+    private static final int REQUISICOES = 8;
+
+    @Autowired
+    private AgendamentoService agendamentoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DadosProfissionalTeste dados;
+    private UUID tenantId;
+    private UUID profissionalId;
+    private LocalDateTime horario;
+
+    @BeforeEach
+    void preparar() {
+        dados = new DadosProfissionalTeste(jdbcTemplate);
+        tenantId = UUID.randomUUID();
+        profissionalId = dados.criarProfissional(tenantId);
+        // Segunda-feira seguinte, dentro do expediente padrão
+        horario = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atTime(LocalTime.of(10, 0));
+    }
+
+    @AfterEach
+    void limpar() {
+        dados.removerTudo();
+    }
+
+    @Test
+    void agendamentosSimultaneosNoMesmoHorarioGravamApenasUm() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<ErrorCode>> resultados = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUISICOES; i++) {
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    TenantContext.setCurrentTenantId(tenantId);
+                    try {
+                        agendamentoService.agendarConsulta(profissionalId, UUID.randomUUID(), horario, "Consulta");
+                        return null;
+                    } catch (BusinessException e) {
+                        return e.getErrorCode();
+                    } finally {
+                        TenantContext.clear();
+                    }
+                }));
+            }
+            largada.countDown();
+
+            int gravados = 0;
+            for (Future<ErrorCode> resultado : resultados) {
+                ErrorCode erro = resultado.get(30, TimeUnit.SECONDS);
+                if (erro == null) {
+                    gravados++;
+                } else {
+                    assertEquals(ErrorCode.APPOINTMENT_CONFLICT, erro);
+                }
+            }
+            assertEquals(1, gravados);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_agendamento WHERE profissional_id = ? AND status <> 'CANCELADO'",
+                Integer.class, profissionalId));
+    }
+
+    @Test
+    void agendamentoQueSobrepoeParcialmenteRecebeConflito() {
+        TenantContext.setCurrentTenantId(tenantId);
+        try {
+            agendamentoService.agendarConsulta(profissionalId, UUID.randomUUID(), horario, "Consulta");
+
+            BusinessException erro = assertThrows(BusinessException.class, () -> agendamentoService
+                    .agendarConsulta(profissionalId, UUID.randomUUID(), horario.plusMinutes(30), "Consulta"));
+            assertEquals(ErrorCode.APPOINTMENT_CONFLICT, erro.getErrorCode());
+
+            // Intervalos semiabertos: a consulta seguinte pode começar no fim da anterior
+            agendamentoService.agendarConsulta(profissionalId, UUID.randomUUID(),
+                    horario.plus(AgendamentoService.DURACAO_CONSULTA), "Consulta");
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
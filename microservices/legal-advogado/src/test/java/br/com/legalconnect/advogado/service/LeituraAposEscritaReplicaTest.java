@@ -0,0 +1,96 @@
+package br.com.legalconnect.advogado.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.legalconnect.advogado.domain.evento.PerfilProfissionalAlteradoEvent;
+import br.com.legalconnect.advogado.dto.response.SugestaoResponseDTO;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.advogado.support.DadosProfissionalTeste;
+import br.com.legalconnect.common.config.leitura.RoteamentoLeituraDataSource;
+
+/**
+ * Leitura após escrita com o roteamento para a réplica habilitado. A réplica
+ * é um segundo schema migrado que nunca recebe as escritas do primário, como
+ * uma réplica com atraso indefinido: uma transação somente leitura comum não
+ * enxerga o que foi gravado, e a reconstrução do índice disparada pela
+ * alteração do perfil precisa enxergá-lo.
+ */
+// Tarefas periódicas paradas: a reconstrução é disparada pelo teste. Com idade
+// máxima zero, cada atualização das sugestões reconstrói o índice por completo.
+@ActiveProfiles("teste")
+@SpringBootTest(properties = { "application.teste.schemas=teste_advogado,teste_advogado_replica",
+        "application.datasource.replica.url=jdbc:postgresql://localhost:5432/jusplatform_db?currentSchema=teste_advogado_replica",
+        "application.outbox.intervalo-ms=3600000",
+        "application.sugestoes.intervalo-atualizacao-ms=3600000",
+        "application.sugestoes.idade-maxima-segundos=0",
+        "application.busca-facetada.intervalo-verificacao-ms=3600000",
+        "application.busca-proximidade.intervalo-verificacao-ms=3600000" })
+class LeituraAposEscritaReplicaTest {
+
+    @Autowired
+    private RoteamentoLeituraDataSource dataSource;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    @Autowired
+    private IndiceSugestoes indiceSugestoes;
+
+    @Autowired
+    private ApplicationEventPublisher eventos;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DadosProfissionalTeste dados;
+
+    @BeforeEach
+    void preparar() {
+        dados = new DadosProfissionalTeste(jdbcTemplate);
+    }
+
+    @AfterEach
+    void limpar() {
+        dados.removerTudo();
+    }
+
+    @Test
+    void reconstrucaoAposAlteracaoDoPerfilEnxergaAEscrita() {
+        assertTrue(dataSource.isReplicaDisponivel());
+        UUID id = dados.criarProfissionalListado(UUID.randomUUID());
+        UUID areaId = dados.criarAreaAtuacao(id, "Direito Aeroespacial " + id);
+        // Consultas somente leitura vão para a réplica, que não tem a escrita
+        assertFalse(profissionalRepository.existsById(id));
+
+        // Publicado na transação de escrita, como nos serviços do perfil
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> eventos.publishEvent(new PerfilProfissionalAlteradoEvent(id)));
+        indiceSugestoes.atualizar();
+
+        // O nome da área vem da reconstrução: lido na réplica, a sugestão
+        // não seria encontrada pelo nome
+        List<SugestaoResponseDTO> sugestoes = indiceSugestoes.sugerir("Direito Aeroespacial " + id,
+                IndiceSugestoes.TipoSugestao.AREA, 10);
+        assertEquals(1, sugestoes.size());
+        assertEquals(areaId.toString(), sugestoes.get(0).getId());
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.legalconnect.advogado.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.legalconnect.advogado.domain.Certificacao;
+import br.com.legalconnect.advogado.domain.Profissional;
+import br.com.legalconnect.advogado.repository.ProfissionalRepository;
+import br.com.legalconnect.advogado.support.DadosProfissionalTeste;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Batching JDBC do perfil de desempenho (hibernate.jdbc.batch_size): as
+ * certificações novas de um Profissional são gravadas em lotes que reutilizam
+ * o mesmo PreparedStatement. Sem batching, o Hibernate prepara um statement
+ * por INSERT.
+ */
+// Tarefas periódicas paradas: as estatísticas do Hibernate são globais, e o
+// relay da outbox regravaria os eventos removidos na limpeza
+@ActiveProfiles("teste")
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+        "application.outbox.intervalo-ms=3600000",
+        "application.sugestoes.intervalo-atualizacao-ms=3600000",
+        "application.busca-facetada.intervalo-verificacao-ms=3600000",
+        "application.busca-proximidade.intervalo-verificacao-ms=3600000" })
+class ProfissionalPersistenciaEmLoteTest {
+
+    private static final int CERTIFICACOES = 120;
+
+    /** Busca do profissional e carga da coleção de certificações. */
+    private static final int CONSULTAS = 2;
+
+    @Autowired
+    private ProfissionalRepository profissionalRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DadosProfissionalTeste dados;
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void preparar() {
+        dados = new DadosProfissionalTeste(jdbcTemplate);
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void limpar() {
+        dados.removerTudo();
+    }
+
+    @Test
+    void certificacoesNovasSaoInseridasEmLotes() {
+        UUID tenantId = UUID.randomUUID();
+        UUID id = dados.criarProfissional(tenantId);
+
+        estatisticas.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Profissional profissional = profissionalRepository.findById(id).orElseThrow();
+            for (int i = 0; i < CERTIFICACOES; i++) {
+                profissional.getCertificacoes().add(Certificacao.builder()
+                        .nome("Certificação " + i)
+                        .profissional(profissional)
+                        .tenantId(tenantId)
+                        .build());
+            }
+        });
+
+        assertEquals(CERTIFICACOES, estatisticas.getEntityInsertCount());
+        // Um único statement de INSERT para todos os lotes
+        assertEquals(CONSULTAS + 1, estatisticas.getPrepareStatementCount());
+        assertEquals(CERTIFICACOES, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_certificacao_profissional WHERE profissional_id = ?", Integer.class, id));
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.legalconnect.advogado.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import br.com.legalconnect.advogado.dto.response.ProfissionalResponseDTO;
+import br.com.legalconnect.advogado.support.DadosProfissionalTeste;
+import br.com.legalconnect.commom.service.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Orçamento de consultas SQL do perfil e da listagem de profissionais: a
+ * quantidade de statements não pode crescer com o tamanho das coleções nem
+ * com o número de profissionais da página (N+1).
+ */
+// Tarefas periódicas paradas: as estatísticas do Hibernate são globais, e o
+// relay da outbox regravaria os eventos removidos na limpeza
+@ActiveProfiles("teste")
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+        "application.outbox.intervalo-ms=3600000",
+        "application.sugestoes.intervalo-atualizacao-ms=3600000",
+        "application.busca-facetada.intervalo-verificacao-ms=3600000",
+        "application.busca-proximidade.intervalo-verificacao-ms=3600000" })
+class ProfissionalServiceConsultasTest {
+
+    /**
+     * Raiz com usuário, plano, roles e endereços (1), IDs de dados mestre (1),
+     * uma consulta por tipo de dado mestre (4) e uma por coleção do perfil (4).
+     */
+    private static final int ORCAMENTO_PERFIL = 10;
+
+    /**
+     * Página, roles e contagem (3), uma consulta por coleção de IDs de dados
+     * mestre (4) e por tipo de dado mestre (4), usuários (1) e uma consulta por
+     * coleção do perfil (4), todas em lote para a página inteira.
+     */
+    private static final int ORCAMENTO_LISTAGEM = 16;
+
+    private static final int ITENS_POR_COLECAO = 5;
+    private static final int PROFISSIONAIS_NA_PAGINA = 10;
+
+    @Autowired
+    private ProfissionalService profissionalService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DadosProfissionalTeste dados;
+    private Statistics estatisticas;
+    private UUID tenantId;
+
+    @BeforeEach
+    void preparar() {
+        dados = new DadosProfissionalTeste(jdbcTemplate);
+        tenantId = UUID.randomUUID();
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TenantContext.setCurrentTenantId(tenantId);
+    }
+
+    @AfterEach
+    void limpar() {
+        TenantContext.clear();
+        dados.removerTudo();
+    }
+
+    @Test
+    void perfilCompletoRespeitaOrcamentoDeConsultas() {
+        UUID id = dados.criarProfissionalCompleto(tenantId, ITENS_POR_COLECAO);
+
+        estatisticas.clear();
+        ProfissionalResponseDTO perfil = profissionalService.findProfissionalById(id);
+        long consultas = estatisticas.getPrepareStatementCount();
+
+        assertEquals(ITENS_POR_COLECAO, perfil.getCertificacoes().size());
+        assertEquals(ITENS_POR_COLECAO, perfil.getExperiencias().size());
+        assertTrue(consultas <= ORCAMENTO_PERFIL,
+                "findProfissionalById executou " + consultas + " consultas (orçamento: " + ORCAMENTO_PERFIL + ")");
+    }
+
+    @Test
+    void listagemRespeitaOrcamentoDeConsultas() {
+        for (int i = 0; i < PROFISSIONAIS_NA_PAGINA; i++) {
+            dados.criarProfissionalCompleto(tenantId, ITENS_POR_COLECAO);
+        }
+
+        estatisticas.clear();
+        Page<ProfissionalResponseDTO> pagina = profissionalService
+                .findAllProfissionais(PageRequest.of(0, PROFISSIONAIS_NA_PAGINA - 1));
+        long consultas = estatisticas.getPrepareStatementCount();
+
+        assertEquals(PROFISSIONAIS_NA_PAGINA - 1, pagina.getNumberOfElements());
+        pagina.forEach(p -> assertEquals(ITENS_POR_COLECAO, p.getCertificacoes().size()));
+        assertTrue(consultas <= ORCAMENTO_LISTAGEM,
+                "findAllProfissionais executou " + consultas + " consultas (orçamento: " + ORCAMENTO_LISTAGEM + ")");
+    }
+}
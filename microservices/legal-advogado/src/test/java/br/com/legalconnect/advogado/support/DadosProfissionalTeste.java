@@ -0,0 +1,187 @@
+package br.com.legalconnect.advogado.support;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Cria e remove, por JDBC, os profissionais usados nos testes de integração
+ * (tb_user, tb_pessoa e tb_profissional). Os testes rodam no schema do perfil
+ * "teste", migrado pelo {@link SchemaTesteInitializer}; ainda assim tudo o que
+ * é criado aqui é removido em {@link #removerTudo()}, para que um teste não
+ * dependa dos dados deixados por outro.
+ */
+public class DadosProfissionalTeste {
+
+    // Tabela de IDs de dados mestre -> coluna do ID referenciado
+    private static final Map<String, String> COLECOES_DADOS_MESTRE = Map.of(
+            "tb_profissional_local_atuacao", "local_atuacao_id",
+            "tb_profissional_area_atuacao", "area_atuacao_id",
+            "tb_profissional_idioma", "idioma_id",
+            "tb_profissional_tipo_atendimento", "tipo_atendimento_id");
+
+    private static final List<String> COLECOES_PERFIL = List.of("tb_certificacao_profissional",
+            "tb_documento_profissional", "tb_experiencia_profissional", "tb_formacao_academica",
+            "tb_profissional_local_atuacao", "tb_profissional_area_atuacao", "tb_profissional_idioma",
+            "tb_profissional_tipo_atendimento", "tb_profissional_roles");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<UUID> profissionais = new ArrayList<>();
+    private final List<UUID> planos = new ArrayList<>();
+    private final List<UUID> areas = new ArrayList<>();
+
+    public DadosProfissionalTeste(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Cria um profissional ativo no marketplace, sem grade de horários (usa o
+     * expediente padrão).
+     *
+     * @param tenantId O tenant do profissional.
+     * @return O ID do profissional.
+     */
+    public UUID criarProfissional(UUID tenantId) {
+        return inserirProfissional(tenantId, UUID.randomUUID(), "ACTIVE");
+    }
+
+    /**
+     * Cria um profissional listado nas consultas do marketplace (índices de
+     * busca e sugestões), que filtram pelo status ATIVO.
+     *
+     * @param tenantId O tenant do profissional.
+     * @return O ID do profissional.
+     */
+    public UUID criarProfissionalListado(UUID tenantId) {
+        return inserirProfissional(tenantId, UUID.randomUUID(), "ATIVO");
+    }
+
+    /**
+     * Cria um profissional com plano, endereço, telefone e, em cada coleção do
+     * perfil (certificações, documentos, experiências, formações e IDs de
+     * dados mestre), a quantidade de itens informada. Os IDs de dados mestre
+     * não apontam para registros existentes: as consultas acontecem do mesmo
+     * jeito, apenas sem resultado.
+     *
+     * @param tenantId        O tenant do profissional.
+     * @param itensPorColecao Quantidade de itens em cada coleção.
+     * @return O ID do profissional.
+     */
+    public UUID criarProfissionalCompleto(UUID tenantId, int itensPorColecao) {
+        UUID id = inserirProfissional(tenantId, criarPlano(), "ACTIVE");
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        Date data = Date.valueOf(LocalDate.now().minusYears(1));
+
+        jdbcTemplate.update("INSERT INTO tb_endereco (id, created_at, updated_at, pessoa_id, logradouro, numero, "
+                + "bairro, cidade, estado, cep, pais, tipo_endereco) VALUES (?, ?, ?, ?, 'Rua Teste', '1', 'Centro', "
+                + "'São Paulo', 'SP', '01001000', 'Brasil', 'COMERCIAL')", UUID.randomUUID(), agora, agora, id);
+        jdbcTemplate.update("INSERT INTO tb_pessoa_telefones (pessoa_id, numero_telefone) VALUES (?, '11999990000')",
+                id);
+        for (int i = 0; i < itensPorColecao; i++) {
+            jdbcTemplate.update("INSERT INTO tb_certificacao_profissional (id, created_at, updated_at, "
+                    + "profissional_id, tenant_id, nome, instituicao, data_conclusao) VALUES (?, ?, ?, ?, ?, ?, "
+                    + "'Instituição', ?)", UUID.randomUUID(), agora, agora, id, tenantId, "Certificação " + i, data);
+            jdbcTemplate.update("INSERT INTO tb_documento_profissional (id, created_at, updated_at, "
+                    + "profissional_id, tenant_id, nome_arquivo, url_s3, tipo_documento) VALUES (?, ?, ?, ?, ?, ?, ?, "
+                    + "'OAB')", UUID.randomUUID(), agora, agora, id, tenantId, "documento-" + i + ".pdf",
+                    "s3://teste/documento-" + i + ".pdf");
+            jdbcTemplate.update("INSERT INTO tb_experiencia_profissional (id, created_at, updated_at, "
+                    + "profissional_id, tenant_id, cargo, empresa, data_inicio, data_fim) VALUES (?, ?, ?, ?, ?, ?, "
+                    + "'Escritório', ?, ?)", UUID.randomUUID(), agora, agora, id, tenantId, "Cargo " + i,
+                    Date.valueOf(LocalDate.now().minusYears(i + 2L)), data);
+            jdbcTemplate.update("INSERT INTO tb_formacao_academica (id, created_at, updated_at, profissional_id, "
+                    + "tenant_id, curso, instituicao, data_conclusao) VALUES (?, ?, ?, ?, ?, ?, 'Universidade', ?)",
+                    UUID.randomUUID(), agora, agora, id, tenantId, "Curso " + i, data);
+            COLECOES_DADOS_MESTRE.forEach((colecao, coluna) -> jdbcTemplate.update(
+                    "INSERT INTO " + colecao + " (profissional_id, " + coluna + ") VALUES (?, ?)", id,
+                    UUID.randomUUID()));
+        }
+        return id;
+    }
+
+    /**
+     * Cria uma área de atuação e a associa ao profissional.
+     *
+     * @param profissionalId O profissional.
+     * @param nome           O nome da área.
+     * @return O ID da área.
+     */
+    public UUID criarAreaAtuacao(UUID profissionalId, String nome) {
+        UUID id = UUID.randomUUID();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO tb_area_atuacao (id, created_at, updated_at, nome) VALUES (?, ?, ?, ?)",
+                id, agora, agora, nome);
+        jdbcTemplate.update("INSERT INTO tb_profissional_area_atuacao (profissional_id, area_atuacao_id) "
+                + "VALUES (?, ?)", profissionalId, id);
+        areas.add(id);
+        return id;
+    }
+
+    private UUID criarPlano() {
+        UUID id = UUID.randomUUID();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO tb_plano (id, created_at, updated_at, nome, preco_mensal, preco_anual, "
+                + "visibilidade_destaque, acesso_relatorios_avancados, permite_pedidos_orcamento, is_default) "
+                + "VALUES (?, ?, ?, ?, 0, 0, 'PADRAO', false, false, false)",
+                id, agora, agora, "Plano teste " + id);
+        planos.add(id);
+        return id;
+    }
+
+    private UUID inserirProfissional(UUID tenantId, UUID planoId, String status) {
+        UUID usuarioId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        String sufixo = id.toString().substring(0, 8);
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update("INSERT INTO tb_user (id, created_at, updated_at, status, user_type, email, "
+                + "nome_completo, senha_hash) VALUES (?, ?, ?, 'ACTIVE', 'ADVOGADO', ?, ?, 'nao-usada')",
+                usuarioId, agora, agora, "teste-" + sufixo + "@legalconnect.com.br", "Profissional " + sufixo);
+        jdbcTemplate.update("INSERT INTO tb_pessoa (id, created_at, updated_at, user_id, cpf, nome_completo) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", id, agora, agora, usuarioId, sufixo, "Profissional " + sufixo);
+        jdbcTemplate.update("INSERT INTO tb_profissional (id, pessoa_id, plano_id, tenant_id, numero_oab, "
+                + "status_profissional, usa_marketplace, faz_parte_de_plano) "
+                + "VALUES (?, ?, ?, ?, ?, ?, true, false)",
+                id, id, planoId, tenantId, "TESTE" + sufixo, status);
+        profissionais.add(id);
+        return id;
+    }
+
+    /**
+     * Remove os profissionais criados e tudo o que os testes gravaram para eles.
+     */
+    public void removerTudo() {
+        for (UUID id : profissionais) {
+            jdbcTemplate.update("DELETE FROM tb_outbox_evento WHERE agregado_id IN "
+                    + "(SELECT id FROM tb_agendamento WHERE profissional_id = ?)", id);
+            jdbcTemplate.update("DELETE FROM tb_agendamento WHERE profissional_id = ?", id);
+            for (String colecao : COLECOES_PERFIL) {
+                jdbcTemplate.update("DELETE FROM " + colecao + " WHERE profissional_id = ?", id);
+            }
+            jdbcTemplate.update("DELETE FROM tb_metricas_profissional WHERE profissional_id = ?", id);
+            jdbcTemplate.update("DELETE FROM tb_profissional WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM tb_endereco WHERE pessoa_id = ?", id);
+            jdbcTemplate.update("DELETE FROM tb_pessoa_telefones WHERE pessoa_id = ?", id);
+            UUID usuarioId = jdbcTemplate.queryForObject("SELECT user_id FROM tb_pessoa WHERE id = ?", UUID.class,
+                    id);
+            jdbcTemplate.update("DELETE FROM tb_pessoa WHERE id = ?", id);
+            jdbcTemplate.update("DELETE FROM tb_user WHERE id = ?", usuarioId);
+        }
+        profissionais.clear();
+        for (UUID id : planos) {
+            jdbcTemplate.update("DELETE FROM tb_plano WHERE id = ?", id);
+        }
+        planos.clear();
+        for (UUID id : areas) {
+            jdbcTemplate.update("DELETE FROM tb_area_atuacao WHERE id = ?", id);
+        }
+        areas.clear();
+    }
+}
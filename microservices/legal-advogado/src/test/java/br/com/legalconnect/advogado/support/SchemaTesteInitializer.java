@@ -0,0 +1,76 @@
+package br.com.legalconnect.advogado.support;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * Cria e migra, antes de o contexto subir, os schemas dos testes de integração
+ * (application.teste.schemas, definido pelo perfil "teste"), com as migrações
+ * do auth-service, como o BancoBenchmark dos benchmarks. Sem a propriedade,
+ * não faz nada.
+ * Cada schema é migrado uma vez por JVM; entre execuções, o Flyway aplica
+ * apenas as versões pendentes. Registrado em META-INF/spring.factories.
+ */
+public class SchemaTesteInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    // tb_plano é mantida pelo legal-advogado e não faz parte das migrações
+    // (mesmo DDL do GeradorDadosSinteticos dos benchmarks)
+    private static final String SQL_PLANO = "CREATE TABLE IF NOT EXISTS tb_plano ("
+            + "id uuid PRIMARY KEY, "
+            + "created_at timestamp(6) NOT NULL, "
+            + "updated_at timestamp(6) NOT NULL, "
+            + "nome varchar(100) NOT NULL UNIQUE, "
+            + "descricao text, "
+            + "preco_mensal numeric(10,2) NOT NULL, "
+            + "preco_anual numeric(10,2) NOT NULL, "
+            + "limite_servicos_agendaveis integer, "
+            + "visibilidade_destaque varchar(50) NOT NULL, "
+            + "acesso_relatorios_avancados boolean NOT NULL, "
+            + "permite_pedidos_orcamento boolean NOT NULL, "
+            + "periodo_teste_dias integer, "
+            + "is_default boolean NOT NULL)";
+
+    private static final Set<String> migrados = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        Environment environment = context.getEnvironment();
+        String[] schemas = environment.getProperty("application.teste.schemas", String[].class);
+        if (schemas == null) {
+            return;
+        }
+        String url = environment.getRequiredProperty("spring.datasource.url");
+        String usuario = environment.getRequiredProperty("spring.datasource.username");
+        String senha = environment.getRequiredProperty("spring.datasource.password");
+        for (String schema : schemas) {
+            if (migrados.add(schema)) {
+                Flyway.configure()
+                        .dataSource(url, usuario, senha)
+                        .schemas(schema)
+                        .locations(environment.getRequiredProperty("application.teste.migracoes"))
+                        .load()
+                        .migrate();
+                criarPlano(url, usuario, senha, schema);
+            }
+        }
+    }
+
+    private static void criarPlano(String url, String usuario, String senha, String schema) {
+        try (Connection connection = DriverManager.getConnection(url, usuario, senha);
+                Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO \"" + schema + "\"");
+            statement.execute(SQL_PLANO);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao criar tb_plano no schema " + schema, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.legalconnect.commom.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import br.com.legalconnect.commom.service.TabelaCoordenadasCep.Coordenada;
+
+/**
+ * Carga e consulta da tabela de coordenadas por faixa de CEP, incluindo a
+ * tabela distribuída com o serviço (que não pode ter faixas sobrepostas).
+ */
+class TabelaCoordenadasCepTest {
+
+    @Test
+    void tabelaDistribuidaLocalizaZonasEMunicipios() throws Exception {
+        TabelaCoordenadasCep tabela = new TabelaCoordenadasCep(new ClassPathResource("geo/cep-coordenadas.csv"));
+
+        // Zonas diferentes da mesma capital ficam em pontos diferentes
+        Coordenada zonaSul = tabela.localizar("04538-133").orElseThrow();
+        Coordenada zonaNorte = tabela.localizar("02011-000").orElseThrow();
+        assertTrue(zonaSul.getLatitude() < zonaNorte.getLatitude());
+
+        assertEquals(-22.9056, tabela.localizar("13015-904").orElseThrow().getLatitude()); // Campinas
+        assertTrue(tabela.localizar("14900-000").isEmpty()); // Fora das faixas
+        assertTrue(tabela.localizar("1234").isEmpty());
+        assertTrue(tabela.localizar(null).isEmpty());
+    }
+
+    @Test
+    void faixasSobrepostasSaoRejeitadas() {
+        assertThrows(IllegalStateException.class, () -> carregar(
+                "01000000;01999999;-23.5;-46.6;A\n01500000;02499999;-23.4;-46.6;B\n"));
+        assertThrows(IllegalStateException.class, () -> carregar(
+                "01500000;02499999;-23.4;-46.6;B\n01000000;01999999;-23.5;-46.6;A\n"));
+    }
+
+    @Test
+    void coordenadasInvalidasSaoRejeitadas() {
+        assertThrows(IllegalStateException.class, () -> carregar("01000000;01999999;NaN;-46.6;A\n"));
+        assertThrows(IllegalStateException.class, () -> carregar("01000000;01999999;-23.5;-200;A\n"));
+        assertThrows(IllegalStateException.class, () -> carregar("01999999;01000000;-23.5;-46.6;A\n"));
+    }
+
+    private static TabelaCoordenadasCep carregar(String conteudo) throws Exception {
+        return new TabelaCoordenadasCep(new ByteArrayResource(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+}
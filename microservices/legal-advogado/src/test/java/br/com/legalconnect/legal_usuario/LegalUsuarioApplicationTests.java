@@ -2,7 +2,9 @@ package br.com.legalconnect.legal_usuario;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+@ActiveProfiles("teste")
 @SpringBootTest
 class LegalUsuarioApplicationTests {
 
@@ -0,0 +1,98 @@
+package br.com.legalconnect.patrocinio.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.legalconnect.patrocinio.domain.DestaquesEscritorio;
+import br.com.legalconnect.patrocinio.domain.DestaquesEvento;
+import br.com.legalconnect.patrocinio.domain.DestaquesItem;
+import br.com.legalconnect.patrocinio.domain.DestaquesNoticia;
+import br.com.legalconnect.patrocinio.domain.enums.NivelPatrocinio;
+import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
+import br.com.legalconnect.patrocinio.dto.DestaquesResponseDTO;
+
+/**
+ * Custo de CPU e alocação da conversão polimórfica dos destaques
+ * ({@link PatrocinioAppService#toResponseDTO(DestaquesItem)}), executada para
+ * cada item da vitrine pública. Fica no pacote do serviço porque o método é
+ * package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatrocinioAppServiceBenchmark {
+
+    private DestaquesItem evento;
+    private DestaquesItem escritorio;
+    private DestaquesItem noticia;
+
+    @Setup
+    public void preparar() {
+        LocalDateTime agora = LocalDateTime.now();
+
+        DestaquesEvento destaqueEvento = new DestaquesEvento();
+        preencher(destaqueEvento, "EVENTO", agora);
+        destaqueEvento.setTitulo("Congresso Nacional de Direito Digital");
+        destaqueEvento.setDataEvento(agora.plusDays(30));
+        destaqueEvento.setImagemUrl("https://cdn.legalconnect.com.br/destaques/congresso.jpg");
+        evento = destaqueEvento;
+
+        DestaquesEscritorio destaqueEscritorio = new DestaquesEscritorio();
+        preencher(destaqueEscritorio, "ESCRITORIO", agora);
+        destaqueEscritorio.setNome("Souza & Associados");
+        destaqueEscritorio.setSlogan("Advocacia empresarial desde 1998");
+        destaqueEscritorio.setLogoUrl("https://cdn.legalconnect.com.br/destaques/souza.png");
+        escritorio = destaqueEscritorio;
+
+        DestaquesNoticia destaqueNoticia = new DestaquesNoticia();
+        preencher(destaqueNoticia, "NOTICIA", agora);
+        destaqueNoticia.setTitulo("STF decide sobre a LGPD no setor público");
+        destaqueNoticia.setImagemUrl("https://cdn.legalconnect.com.br/destaques/stf.jpg");
+        destaqueNoticia.setDataPublicacao(agora.minusDays(1));
+        noticia = destaqueNoticia;
+    }
+
+    private static void preencher(DestaquesItem item, String tipo, LocalDateTime agora) {
+        item.setId(UUID.randomUUID());
+        item.setTipo(tipo);
+        item.setLink("https://legalconnect.com.br/destaques/" + tipo.toLowerCase());
+        item.setStatus(PatrocinioStatus.ACTIVE);
+        item.setInicioVigencia(agora.minusDays(7));
+        item.setFimVigencia(agora.plusDays(7));
+        item.setNivelPatrocinio(NivelPatrocinio.OURO);
+        item.setLimiteImpressoes(100_000L);
+        item.setImpressoes(0L);
+        item.setCreatedAt(agora.minusDays(10));
+        item.setUpdatedAt(agora);
+    }
+
+    @Benchmark
+    public DestaquesResponseDTO toResponseDTOEvento() {
+        return PatrocinioAppService.toResponseDTO(evento);
+    }
+
+    @Benchmark
+    public DestaquesResponseDTO toResponseDTOEscritorio() {
+        return PatrocinioAppService.toResponseDTO(escritorio);
+    }
+
+    @Benchmark
+    public DestaquesResponseDTO toResponseDTONoticia() {
+        return PatrocinioAppService.toResponseDTO(noticia);
+    }
+}
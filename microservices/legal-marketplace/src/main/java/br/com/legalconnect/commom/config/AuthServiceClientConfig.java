@@ -0,0 +1,44 @@
+package br.com.legalconnect.commom.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Cliente HTTP para o auth-service, resolvido pelo Eureka (load balancer).
+ * Toda chamada leva a credencial de serviço ({@value #CABECALHO_TOKEN_SERVICO}),
+ * exigida pelas rotas internas do auth-service (/api/v1/interno/**), que não
+ * dependem de um usuário autenticado na requisição. O cabeçalho Authorization
+ * do usuário final não é repassado.
+ */
+@Configuration
+public class AuthServiceClientConfig {
+
+    public static final String CABECALHO_TOKEN_SERVICO = "X-Servico-Token";
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder loadBalancedRestClientBuilder() {
+        return RestClient.builder();
+    }
+
+    @Bean
+    public RestClient authServiceRestClient(RestClient.Builder loadBalancedRestClientBuilder,
+            @Value("${application.auth-service.url:http://auth-service}") String url,
+            @Value("${application.auth-service.timeout-millis:2000}") int timeoutMillis,
+            @Value("${application.auth-service.servico-token}") String tokenServico) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(timeoutMillis));
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMillis));
+        return loadBalancedRestClientBuilder
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .defaultHeader(CABECALHO_TOKEN_SERVICO, tokenServico)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.legalconnect.commom.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Open EntityManager in View para todas as rotas, exceto as exportações em
+ * streaming. Nelas o EntityManager da requisição ficaria aberto durante toda a
+ * escrita da resposta, acumulando no contexto de persistência cada entidade
+ * lida; sem ele, cada lote é lido em um EntityManager próprio, descartado ao
+ * fim da consulta. Substitui o interceptor automático do Spring Boot
+ * (spring.jpa.open-in-view=false).
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    static final String[] ROTAS_EXPORTACAO = {
+            "/api/v1/publico/marketplace/depoimentos/publico/depoimentos/exportar",
+            "/api/v1/marketplace/destaques/exportar"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor).excludePathPatterns(ROTAS_EXPORTACAO);
+    }
+}
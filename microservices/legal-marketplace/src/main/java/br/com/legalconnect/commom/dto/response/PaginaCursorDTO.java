@@ -0,0 +1,27 @@
+package br.com.legalconnect.commom.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para uma página de resultados paginados por cursor (keyset).
+ * Para obter a página seguinte, o cliente reenvia {@code proximoCursor} no
+ * parâmetro {@code cursor}; não há total de registros (evita o COUNT).
+ *
+ * @param <T> Tipo dos itens.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaCursorDTO<T> {
+    private List<T> itens;
+    private String proximoCursor; // Nulo na última página
+    private boolean possuiMais;
+}
@@ -2,8 +2,8 @@ package br.com.legalconnect.commom.dto.response;
 
 import java.util.UUID;
 
-import br.com.legalconnect.depoimento.domain.model.User.UserStatus;
-import br.com.legalconnect.depoimento.domain.model.User.UserType;
+import br.com.legalconnect.depoimento.domain.enums.UserStatus;
+import br.com.legalconnect.depoimento.domain.enums.UserType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
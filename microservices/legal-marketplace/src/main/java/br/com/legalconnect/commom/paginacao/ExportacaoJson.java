@@ -0,0 +1,44 @@
+package br.com.legalconnect.commom.paginacao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Escrita de exportações como um array JSON em streaming: cada item é
+ * serializado assim que lido do banco, sem montar a lista inteira em memória.
+ */
+public final class ExportacaoJson {
+
+    private ExportacaoJson() {
+    }
+
+    /**
+     * Cria o corpo da resposta de uma exportação.
+     *
+     * @param objectMapper Mapper configurado da aplicação.
+     * @param exportacao   Percorre os itens, entregando cada um ao consumidor
+     *                     recebido.
+     * @return Corpo que escreve "[item, item, ...]" no fluxo de saída.
+     */
+    public static <T> StreamingResponseBody emArray(ObjectMapper objectMapper, Consumer<Consumer<T>> exportacao) {
+        return saida -> {
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                gerador.writeStartArray();
+                exportacao.accept(item -> {
+                    try {
+                        gerador.writeObject(item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e); // Cliente desconectou: interrompe a leitura
+                    }
+                });
+                gerador.writeEndArray();
+            }
+        };
+    }
+}
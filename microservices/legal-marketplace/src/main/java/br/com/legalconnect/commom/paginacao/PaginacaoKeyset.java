@@ -0,0 +1,154 @@
+package br.com.legalconnect.commom.paginacao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import br.com.legalconnect.commom.dto.response.PaginaCursorDTO;
+import br.com.legalconnect.common.dto.BaseEntity;
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Utilitários da paginação por keyset das listagens administrativas.
+ * A ordenação é sempre (createdAt DESC, id DESC): o id desempata registros
+ * criados no mesmo instante, e cada página continua a partir do último item da
+ * anterior com um predicado de intervalo, sem OFFSET. Com os índices compostos
+ * correspondentes, o custo de qualquer página é o mesmo da primeira.
+ * O cursor exposto ao cliente é opaco (Base64 de "createdAt|id").
+ */
+public final class PaginacaoKeyset {
+
+    public static final Sort ORDENACAO = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    public static final int TAMANHO_MAXIMO = 200;
+    public static final int TAMANHO_LOTE_EXPORTACAO = 500;
+
+    private PaginacaoKeyset() {
+    }
+
+    /**
+     * Valida o tamanho de página solicitado.
+     *
+     * @param tamanho Tamanho solicitado.
+     * @return O próprio tamanho, se válido.
+     * @throws BusinessException se estiver fora de 1..{@value #TAMANHO_MAXIMO}.
+     */
+    public static int validarTamanho(int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
+                    "O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO + ".");
+        }
+        return tamanho;
+    }
+
+    /**
+     * Converte o cursor recebido do cliente na posição de rolagem do Spring Data.
+     *
+     * @param cursor Cursor opaco; nulo ou vazio para a primeira página.
+     * @return Posição keyset correspondente.
+     * @throws BusinessException se o cursor for inválido.
+     */
+    public static KeysetScrollPosition posicao(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Formato inesperado");
+            }
+            return posicao(LocalDateTime.parse(partes[0]), UUID.fromString(partes[1]));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, "Cursor de paginação inválido.");
+        }
+    }
+
+    /**
+     * Lê uma página e a converte para a resposta da API.
+     *
+     * @param janela    Resultado da consulta por keyset.
+     * @param conversor Conversão de entidade para DTO.
+     * @return A página com o cursor da seguinte, se houver.
+     */
+    public static <E extends BaseEntity, D> PaginaCursorDTO<D> montar(Window<E> janela, Function<E, D> conversor) {
+        List<E> itens = janela.getContent();
+        boolean possuiMais = janela.hasNext() && !itens.isEmpty();
+        return PaginaCursorDTO.<D>builder()
+                .itens(itens.stream().map(conversor).toList())
+                .proximoCursor(possuiMais ? codificar(itens.get(itens.size() - 1)) : null)
+                .possuiMais(possuiMais)
+                .build();
+    }
+
+    /**
+     * Monta a página a partir de uma consulta nativa que leu até
+     * {@code limite + 1} registros já ordenados: o excedente apenas indica que
+     * há página seguinte.
+     *
+     * @param lidos     Registros lidos (no máximo limite + 1).
+     * @param limite    Tamanho da página.
+     * @param conversor Conversão de entidade para DTO.
+     * @return A página com o cursor da seguinte, se houver.
+     */
+    public static <E extends BaseEntity, D> PaginaCursorDTO<D> montar(List<E> lidos, int limite,
+            Function<E, D> conversor) {
+        boolean possuiMais = lidos.size() > limite;
+        List<E> itens = possuiMais ? lidos.subList(0, limite) : lidos;
+        return PaginaCursorDTO.<D>builder()
+                .itens(itens.stream().map(conversor).toList())
+                .proximoCursor(possuiMais ? codificar(itens.get(itens.size() - 1)) : null)
+                .possuiMais(possuiMais)
+                .build();
+    }
+
+    /**
+     * Percorre todos os registros em lotes de {@value #TAMANHO_LOTE_EXPORTACAO},
+     * para exportações. Cada lote é uma consulta independente: nenhuma transação
+     * ou conexão fica aberta enquanto a resposta é escrita. O contexto de
+     * persistência é limpo após cada lote, de modo que a memória usada não cresce
+     * com o total exportado mesmo que haja um EntityManager ligado à thread.
+     *
+     * @param entityManager EntityManager compartilhado da aplicação.
+     * @param busca         Consulta de uma página a partir de uma posição.
+     * @param consumidor    Recebe cada registro, na ordem da listagem.
+     */
+    public static <E extends BaseEntity> void percorrer(EntityManager entityManager,
+            Function<KeysetScrollPosition, Window<E>> busca, Consumer<E> consumidor) {
+        KeysetScrollPosition posicao = ScrollPosition.keyset();
+        while (true) {
+            Window<E> janela = busca.apply(posicao);
+            List<E> itens = janela.getContent();
+            itens.forEach(consumidor);
+            if (!janela.hasNext() || itens.isEmpty()) {
+                return;
+            }
+            E ultimo = itens.get(itens.size() - 1);
+            posicao = posicao(ultimo.getCreatedAt(), ultimo.getId());
+            entityManager.clear();
+        }
+    }
+
+    private static KeysetScrollPosition posicao(LocalDateTime createdAt, UUID id) {
+        Map<String, Object> chaves = new LinkedHashMap<>();
+        chaves.put("createdAt", createdAt);
+        chaves.put("id", id);
+        return ScrollPosition.forward(chaves);
+    }
+
+    private static String codificar(BaseEntity ultimo) {
+        String chave = ultimo.getCreatedAt() + "|" + ultimo.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(chave.getBytes(StandardCharsets.UTF_8));
+    }
+}
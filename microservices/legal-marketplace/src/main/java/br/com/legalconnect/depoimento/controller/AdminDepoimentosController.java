@@ -0,0 +1,63 @@
+package br.com.legalconnect.depoimento.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.legalconnect.commom.dto.response.PaginaCursorDTO;
+import br.com.legalconnect.common.dto.BaseResponse;
+import br.com.legalconnect.depoimento.dto.DepoimentoResponseDTO;
+import br.com.legalconnect.depoimento.service.DepoimentoAppService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controlador REST para os endpoints de administração de depoimentos.
+ * Fora do prefixo público: a busca textual alcança depoimentos pendentes e
+ * reprovados.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Depoimentos (Admin)", description = "Endpoints para administração dos depoimentos do marketplace jurídico (acesso administrativo)")
+@RequestMapping("/api/v1/marketplace/depoimentos")
+@PreAuthorize("hasRole('ROLE_PLATAFORMA_ADMIN')")
+public class AdminDepoimentosController {
+
+        private final DepoimentoAppService appService;
+
+        @Operation(summary = "Busca depoimentos por texto (administração)", description = "Busca textual em nome, texto e local dos depoimentos, com filtros opcionais de status e tipo, do mais recente para o mais antigo e paginada por cursor. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", parameters = {
+                        @Parameter(name = "q", description = "Termos de busca; aceita \"frase exata\", or e -exclusão", required = true, example = "atendimento rápido"),
+                        @Parameter(name = "status", description = "Filtro de status (PENDENTE, APROVADO, REPROVADO)", example = "PENDENTE"),
+                        @Parameter(name = "tipo", description = "Filtro de tipo (CLIENTE, PROFISSIONAL)", example = "CLIENTE"),
+                        @Parameter(name = "cursor", description = "Valor de proximoCursor da página anterior; omitir na primeira página"),
+                        @Parameter(name = "tamanho", description = "Itens por página (1 a 200, padrão: 50)", example = "50")
+        }, responses = {
+                        @ApiResponse(responseCode = "200", description = "Página de depoimentos encontrados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginaCursorDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Termo, filtro, cursor ou tamanho inválido"),
+                        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+                        @ApiResponse(responseCode = "403", description = "Acesso proibido")
+        }, security = @SecurityRequirement(name = "bearerAuth"))
+        @GetMapping("/busca")
+        public ResponseEntity<BaseResponse<PaginaCursorDTO<DepoimentoResponseDTO>>> buscarDepoimentos(
+                        @RequestParam("q") String termo,
+                        @RequestParam(required = false) String status,
+                        @RequestParam(required = false) String tipo,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "50") int tamanho) {
+                PaginaCursorDTO<DepoimentoResponseDTO> pagina = appService.buscarPorTexto(termo, status, tipo, cursor,
+                                tamanho);
+                return ResponseEntity.ok(BaseResponse.<PaginaCursorDTO<DepoimentoResponseDTO>>builder()
+                                .data(pagina)
+                                .message("Busca de depoimentos concluída.")
+                                .build());
+        }
+}
@@ -4,7 +4,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,10 +17,17 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping; // Adicionada a importação para @RequestMapping no nível da classe
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.legalconnect.commom.dto.response.PaginaCursorDTO;
+import br.com.legalconnect.commom.paginacao.ExportacaoJson;
 import br.com.legalconnect.common.dto.BaseResponse;
 import br.com.legalconnect.depoimento.dto.DepoimentoRequestDTO;
 import br.com.legalconnect.depoimento.dto.DepoimentoResponseDTO;
+import br.com.legalconnect.depoimento.dto.ModeracaoLoteRequestDTO;
+import br.com.legalconnect.depoimento.dto.ResultadoModeracaoDTO;
 import br.com.legalconnect.depoimento.service.DepoimentoAppService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,6 +50,7 @@ import lombok.RequiredArgsConstructor;
 public class DepoimentoController {
 
         private final DepoimentoAppService appService;
+        private final ObjectMapper objectMapper;
 
         @Operation(summary = "Lista depoimentos para a página inicial", description = "Retorna uma lista de depoimentos aprovados, com opções de limite e ordenação aleatória.", parameters = {
                         @Parameter(name = "limit", description = "Número máximo de depoimentos a serem retornados (padrão: 5)", example = "5"),
@@ -139,20 +149,66 @@ public class DepoimentoController {
                                 .build());
         }
 
-        @Operation(summary = "Lista todos os depoimentos (administração)", description = "Retorna uma lista completa de todos os depoimentos, independentemente do status. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", responses = {
-                        @ApiResponse(responseCode = "200", description = "Todos os depoimentos listados para administração", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DepoimentoResponseDTO.class))),
+        @Operation(summary = "Modera depoimentos em lote", description = "Aprova e reprova uma lista de depoimentos em uma única operação e retorna o resultado de cada ID (ALTERADO, INALTERADO ou NAO_ENCONTRADO). Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "IDs a aprovar e a reprovar (até 500 em cada lista)", required = true, content = @Content(mediaType = "application/json", schema = @Schema(implementation = ModeracaoLoteRequestDTO.class))), responses = {
+                        @ApiResponse(responseCode = "200", description = "Lote moderado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoModeracaoDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Lote vazio, grande demais ou com IDs repetidos entre as listas"),
+                        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+                        @ApiResponse(responseCode = "403", description = "Acesso proibido")
+        }, security = @SecurityRequirement(name = "bearerAuth"))
+        @PutMapping("/publico/depoimentos/moderacao")
+        @PreAuthorize("hasRole('ROLE_PLATAFORMA_ADMIN')")
+        public ResponseEntity<BaseResponse<List<ResultadoModeracaoDTO>>> moderarEmLote(
+                        @RequestBody @Valid ModeracaoLoteRequestDTO request) {
+                List<ResultadoModeracaoDTO> resultados = appService.moderarEmLote(request);
+                return ResponseEntity.ok(BaseResponse.<List<ResultadoModeracaoDTO>>builder()
+                                .data(resultados)
+                                .message("Moderação em lote concluída.")
+                                .build());
+        }
+
+        @Operation(summary = "Lista depoimentos paginados (administração)", description = "Retorna os depoimentos do mais recente para o mais antigo, paginados por cursor, com filtros opcionais de status e tipo. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", parameters = {
+                        @Parameter(name = "status", description = "Filtro de status (PENDENTE, APROVADO, REPROVADO)", example = "PENDENTE"),
+                        @Parameter(name = "tipo", description = "Filtro de tipo (CLIENTE, PROFISSIONAL)", example = "CLIENTE"),
+                        @Parameter(name = "cursor", description = "Valor de proximoCursor da página anterior; omitir na primeira página"),
+                        @Parameter(name = "tamanho", description = "Itens por página (1 a 200, padrão: 50)", example = "50")
+        }, responses = {
+                        @ApiResponse(responseCode = "200", description = "Página de depoimentos listada para administração", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginaCursorDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Filtro, cursor ou tamanho inválido"),
                         @ApiResponse(responseCode = "401", description = "Não autorizado"),
                         @ApiResponse(responseCode = "403", description = "Acesso proibido")
         }, security = @SecurityRequirement(name = "bearerAuth"))
         @GetMapping("/publico/depoimentos/todos")
-        public ResponseEntity<BaseResponse<List<DepoimentoResponseDTO>>> listarTodosAdmin() {
-                List<DepoimentoResponseDTO> depoimentos = appService.listarTodos();
-                return ResponseEntity.ok(BaseResponse.<List<DepoimentoResponseDTO>>builder()
-                                .data(depoimentos)
-                                .message("Todos os depoimentos listados para administração.")
+        public ResponseEntity<BaseResponse<PaginaCursorDTO<DepoimentoResponseDTO>>> listarTodosAdmin(
+                        @RequestParam(required = false) String status,
+                        @RequestParam(required = false) String tipo,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "50") int tamanho) {
+                PaginaCursorDTO<DepoimentoResponseDTO> pagina = appService.listarPaginado(status, tipo, cursor, tamanho);
+                return ResponseEntity.ok(BaseResponse.<PaginaCursorDTO<DepoimentoResponseDTO>>builder()
+                                .data(pagina)
+                                .message("Depoimentos listados para administração.")
                                 .build());
         }
 
+        @Operation(summary = "Exporta depoimentos (administração)", description = "Retorna, em streaming, um array JSON com todos os depoimentos que atendem aos filtros. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", parameters = {
+                        @Parameter(name = "status", description = "Filtro de status (PENDENTE, APROVADO, REPROVADO)", example = "APROVADO"),
+                        @Parameter(name = "tipo", description = "Filtro de tipo (CLIENTE, PROFISSIONAL)", example = "CLIENTE")
+        }, responses = {
+                        @ApiResponse(responseCode = "200", description = "Array JSON de depoimentos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DepoimentoResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Filtro inválido"),
+                        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+                        @ApiResponse(responseCode = "403", description = "Acesso proibido")
+        }, security = @SecurityRequirement(name = "bearerAuth"))
+        @GetMapping("/publico/depoimentos/exportar")
+        @PreAuthorize("hasRole('ROLE_PLATAFORMA_ADMIN')")
+        public ResponseEntity<StreamingResponseBody> exportarDepoimentos(
+                        @RequestParam(required = false) String status,
+                        @RequestParam(required = false) String tipo) {
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(ExportacaoJson.emArray(objectMapper, appService.exportar(status, tipo)));
+        }
+
         @Operation(summary = "Busca um depoimento por ID (administração)", description = "Retorna um depoimento específico pelo seu ID. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", parameters = @Parameter(name = "id", description = "ID do depoimento a ser buscado", required = true, example = "a1b2c3d4-e5f6-7890-1234-567890abcdef"), responses = {
                         @ApiResponse(responseCode = "200", description = "Depoimento encontrado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DepoimentoResponseDTO.class))),
                         @ApiResponse(responseCode = "401", description = "Não autorizado"),
@@ -0,0 +1,12 @@
+package br.com.legalconnect.depoimento.domain.enums;
+
+/**
+ * Enum para o status da conta de um usuário do auth-service.
+ */
+public enum UserStatus {
+    ACTIVE,
+    INACTIVE,
+    PENDING_APPROVAL,
+    REJECTED,
+    PENDING
+}
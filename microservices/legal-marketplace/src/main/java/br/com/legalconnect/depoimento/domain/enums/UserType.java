@@ -0,0 +1,12 @@
+package br.com.legalconnect.depoimento.domain.enums;
+
+/**
+ * Enum para o tipo principal de um usuário do auth-service (CLIENTE, ADVOGADO,
+ * PLATAFORMA_ADMIN ou SOCIO).
+ */
+public enum UserType {
+    CLIENTE,
+    ADVOGADO,
+    PLATAFORMA_ADMIN,
+    SOCIO
+}
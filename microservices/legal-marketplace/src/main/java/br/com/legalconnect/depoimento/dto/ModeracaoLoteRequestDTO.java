@@ -0,0 +1,31 @@
+package br.com.legalconnect.depoimento.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para a moderação de vários depoimentos em uma única requisição.
+ * Um mesmo ID não pode constar nas duas listas.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModeracaoLoteRequestDTO {
+
+    @Builder.Default
+    @Size(max = 500, message = "No máximo 500 depoimentos podem ser aprovados por lote.")
+    private List<@NotNull UUID> aprovar = new ArrayList<>();
+
+    @Builder.Default
+    @Size(max = 500, message = "No máximo 500 depoimentos podem ser reprovados por lote.")
+    private List<@NotNull UUID> reprovar = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package br.com.legalconnect.depoimento.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado da moderação em lote de um depoimento.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoModeracaoDTO {
+    private UUID id;
+    private String status; // Status solicitado (APROVADO ou REPROVADO)
+    private String resultado; // ALTERADO, INALTERADO (já estava no status) ou NAO_ENCONTRADO
+}
@@ -1,9 +1,11 @@
 package br.com.legalconnect.depoimento.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,19 +17,11 @@ import br.com.legalconnect.depoimento.domain.model.Depoimento;
 /**
  * Repositório JPA para a entidade Depoimento, usando Spring Data JPA.
  * Define métodos para operações CRUD e consultas personalizadas.
+ * As listagens administrativas com filtros opcionais usam Specifications com
+ * paginação por keyset.
  */
 @Repository
-public interface DepoimentoJpaRepository extends JpaRepository<Depoimento, UUID> {
-
-    /**
-     * Busca uma lista de depoimentos aleatórios, limitada pela quantidade
-     * especificada, apenas os APROVADOS.
-     * 
-     * @param limite O número máximo de depoimentos a serem retornados.
-     * @return Uma lista de depoimentos aleatórios.
-     */
-    @Query(value = "SELECT * FROM tb_depoimento WHERE status = 'APROVADO' ORDER BY random() LIMIT :limite", nativeQuery = true)
-    List<Depoimento> buscarAleatoriosAprovados(@Param("limite") int limite);
+public interface DepoimentoJpaRepository extends JpaRepository<Depoimento, UUID>, JpaSpecificationExecutor<Depoimento> {
 
     /**
      * Busca os 5 depoimentos APROVADOS mais recentes, ordenados pela data de
@@ -61,4 +55,45 @@ public interface DepoimentoJpaRepository extends JpaRepository<Depoimento, UUID>
      * @return Uma lista de depoimentos com o status especificado.
      */
     List<Depoimento> findByStatus(DepoimentoStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Busca textual (configuração portuguesa) sobre nome, texto e local, pela
+     * coluna gerada {@code busca} e seu índice GIN. Primeira página, do mais
+     * recente para o mais antigo.
+     * 
+     * @param termo  Termos de busca (sintaxe de websearch: aspas, "or", "-").
+     * @param status Filtro opcional de status (nulo: todos).
+     * @param tipo   Filtro opcional de tipo (nulo: todos).
+     * @param limite Quantidade máxima de registros.
+     * @return Os depoimentos encontrados.
+     */
+    @Query(value = "SELECT * FROM tb_depoimento d "
+            + "WHERE d.busca @@ websearch_to_tsquery('portuguese', :termo) "
+            + "AND (CAST(:status AS varchar) IS NULL OR d.status = :status) "
+            + "AND (CAST(:tipo AS varchar) IS NULL OR d.tipo_depoimento = :tipo) "
+            + "ORDER BY d.created_at DESC, d.id DESC LIMIT :limite", nativeQuery = true)
+    List<Depoimento> buscarPorTexto(@Param("termo") String termo, @Param("status") String status,
+            @Param("tipo") String tipo, @Param("limite") int limite);
+
+    /**
+     * Continuação da busca textual a partir do último item da página anterior
+     * (keyset por created_at e id).
+     * 
+     * @param termo     Termos de busca.
+     * @param status    Filtro opcional de status.
+     * @param tipo      Filtro opcional de tipo.
+     * @param createdAt Data de criação do último item lido.
+     * @param id        ID do último item lido.
+     * @param limite    Quantidade máxima de registros.
+     * @return Os depoimentos encontrados.
+     */
+    @Query(value = "SELECT * FROM tb_depoimento d "
+            + "WHERE d.busca @@ websearch_to_tsquery('portuguese', :termo) "
+            + "AND (CAST(:status AS varchar) IS NULL OR d.status = :status) "
+            + "AND (CAST(:tipo AS varchar) IS NULL OR d.tipo_depoimento = :tipo) "
+            + "AND (d.created_at, d.id) < (:createdAt, :id) "
+            + "ORDER BY d.created_at DESC, d.id DESC LIMIT :limite", nativeQuery = true)
+    List<Depoimento> buscarPorTextoApos(@Param("termo") String termo, @Param("status") String status,
+            @Param("tipo") String tipo, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+            @Param("limite") int limite);
+}
@@ -0,0 +1,69 @@
+package br.com.legalconnect.depoimento.repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import br.com.legalconnect.depoimento.domain.enums.DepoimentoStatus;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Operações em lote sobre tb_depoimento, em SQL direto.
+ * Os IDs são enviados como um único parâmetro array (id = ANY(?)): o comando
+ * é o mesmo para qualquer tamanho de lote e o plano preparado é reaproveitado.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ModeracaoDepoimentoRepository {
+
+    private static final String SQL_ALTERAR_STATUS = "UPDATE tb_depoimento SET status = ?, updated_at = now() "
+            + "WHERE id = ANY(?) AND status <> ? RETURNING id";
+    private static final String SQL_EXISTENTES = "SELECT id FROM tb_depoimento WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Altera o status de todos os depoimentos informados que ainda não estão no
+     * status de destino, em um único UPDATE.
+     *
+     * @param ids    IDs dos depoimentos.
+     * @param status Novo status.
+     * @return IDs efetivamente alterados.
+     */
+    public Set<UUID> alterarStatus(Collection<UUID> ids, DepoimentoStatus status) {
+        Set<UUID> alterados = new HashSet<>();
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement(SQL_ALTERAR_STATUS);
+            ps.setString(1, status.name());
+            ps.setArray(2, conexao.createArrayOf("uuid", ids.toArray()));
+            ps.setString(3, status.name());
+            return ps;
+        }, rs -> {
+            alterados.add(rs.getObject("id", UUID.class));
+        });
+        return alterados;
+    }
+
+    /**
+     * Filtra, dentre os IDs informados, os que existem na tabela.
+     *
+     * @param ids IDs dos depoimentos.
+     * @return IDs existentes.
+     */
+    public Set<UUID> buscarExistentes(Collection<UUID> ids) {
+        Set<UUID> existentes = new HashSet<>();
+        jdbcTemplate.query(conexao -> {
+            PreparedStatement ps = conexao.prepareStatement(SQL_EXISTENTES);
+            ps.setArray(1, conexao.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        }, rs -> {
+            existentes.add(rs.getObject("id", UUID.class));
+        });
+        return existentes;
+    }
+}
@@ -1,13 +1,24 @@
 package br.com.legalconnect.depoimento.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.legalconnect.commom.dto.response.PaginaCursorDTO;
+import br.com.legalconnect.commom.paginacao.PaginacaoKeyset;
 import br.com.legalconnect.common.exception.BusinessException;
 import br.com.legalconnect.common.exception.ErrorCode;
 import br.com.legalconnect.depoimento.domain.enums.DepoimentoStatus;
@@ -16,7 +27,11 @@ import br.com.legalconnect.depoimento.domain.model.Depoimento;
 import br.com.legalconnect.depoimento.domain.service.DepoimentoService;
 import br.com.legalconnect.depoimento.dto.DepoimentoRequestDTO;
 import br.com.legalconnect.depoimento.dto.DepoimentoResponseDTO;
+import br.com.legalconnect.depoimento.dto.ModeracaoLoteRequestDTO;
+import br.com.legalconnect.depoimento.dto.ResultadoModeracaoDTO;
 import br.com.legalconnect.depoimento.repository.DepoimentoJpaRepository;
+import br.com.legalconnect.depoimento.repository.ModeracaoDepoimentoRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -31,7 +46,10 @@ public class DepoimentoAppService {
 
     private final DepoimentoService domainService;
     private final DepoimentoJpaRepository repository;
+    private final ModeracaoDepoimentoRepository moderacaoRepository;
     private final UserServiceImpl userService;
+    private final PoolDepoimentosAprovados poolAprovados;
+    private final EntityManager entityManager;
 
     /**
      * Converte um DepoimentoRequestDTO para uma entidade Depoimento.
@@ -57,7 +75,7 @@ public class DepoimentoAppService {
      * @param entity A entidade Depoimento.
      * @return O DTO de resposta.
      */
-    private DepoimentoResponseDTO toResponse(Depoimento entity) {
+    static DepoimentoResponseDTO toResponse(Depoimento entity) {
         return DepoimentoResponseDTO.builder()
                 .id(entity.getId())
                 .texto(entity.getTexto())
@@ -135,6 +153,7 @@ public class DepoimentoAppService {
         }
 
         Depoimento salvo = domainService.salvar(depoimento);
+        poolAprovados.atualizar(salvo);
         return toResponse(salvo); // Usando o método toResponse manual
     }
 
@@ -176,7 +195,9 @@ public class DepoimentoAppService {
                         depoimentoExistente.setStatus(novoStatus);
                     }
 
-                    return toResponse(domainService.salvar(depoimentoExistente)); // Usando o método toResponse manual
+                    Depoimento salvo = domainService.salvar(depoimentoExistente);
+                    poolAprovados.atualizar(salvo);
+                    return toResponse(salvo); // Usando o método toResponse manual
                 })
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA,
                         ErrorCode.ENTIDADE_NAO_ENCONTRADA.getMessage()));
@@ -194,6 +215,7 @@ public class DepoimentoAppService {
                     ErrorCode.ENTIDADE_NAO_ENCONTRADA.getMessage());
         }
         domainService.excluir(id);
+        poolAprovados.remover(id);
     }
 
     /**
@@ -211,10 +233,9 @@ public class DepoimentoAppService {
                         // throw new BusinessException(ErrorCode.DEPOIMENTO_ALREADY_APPROVED,
                         // ErrorCode.DEPOIMENTO_ALREADY_APPROVED.getMessage());
                     }
-                    return toResponse(domainService.alterarStatus(id, DepoimentoStatus.APROVADO).get()); // Usando o
-                                                                                                         // método
-                                                                                                         // toResponse
-                                                                                                         // manual
+                    Depoimento alterado = domainService.alterarStatus(id, DepoimentoStatus.APROVADO).get();
+                    poolAprovados.atualizar(alterado);
+                    return toResponse(alterado);
                 })
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA,
                         ErrorCode.ENTIDADE_NAO_ENCONTRADA.getMessage()));
@@ -235,24 +256,181 @@ public class DepoimentoAppService {
                         // throw new BusinessException(ErrorCode.DEPOIMENTO_ALREADY_REJECTED,
                         // ErrorCode.DEPOIMENTO_ALREADY_REJECTED.getMessage());
                     }
-                    return toResponse(domainService.alterarStatus(id, DepoimentoStatus.REPROVADO).get()); // Usando o
-                                                                                                          // método
-                                                                                                          // toResponse
-                                                                                                          // manual
+                    Depoimento alterado = domainService.alterarStatus(id, DepoimentoStatus.REPROVADO).get();
+                    poolAprovados.atualizar(alterado);
+                    return toResponse(alterado);
                 })
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA,
                         ErrorCode.ENTIDADE_NAO_ENCONTRADA.getMessage()));
     }
 
     /**
-     * Lista todos os depoimentos, convertendo-os para DTOs de resposta.
+     * Aprova e reprova vários depoimentos de uma vez. Cada status é aplicado
+     * com um único UPDATE sobre todos os IDs, na mesma transação, e o pool da
+     * página inicial é atualizado uma vez, após o commit.
      * 
-     * @return Uma lista de DTOs de resposta de depoimentos.
+     * @param request Listas de IDs a aprovar e a reprovar.
+     * @return O resultado de cada ID, na ordem recebida.
+     * @throws BusinessException se o lote estiver vazio ou um ID constar nas duas
+     *                           listas.
      */
-    public List<DepoimentoResponseDTO> listarTodos() {
-        return domainService.listarTodos().stream()
-                .map(this::toResponse) // Usando o método toResponse manual
-                .collect(Collectors.toList());
+    @Transactional
+    public List<ResultadoModeracaoDTO> moderarEmLote(ModeracaoLoteRequestDTO request) {
+        Set<UUID> aprovar = new LinkedHashSet<>(request.getAprovar());
+        Set<UUID> reprovar = new LinkedHashSet<>(request.getReprovar());
+        if (aprovar.isEmpty() && reprovar.isEmpty()) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, "Informe ao menos um depoimento para moderar.");
+        }
+        if (aprovar.stream().anyMatch(reprovar::contains)) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
+                    "Um depoimento não pode ser aprovado e reprovado no mesmo lote.");
+        }
+
+        Set<UUID> aprovados = aprovar.isEmpty() ? Set.of()
+                : moderacaoRepository.alterarStatus(aprovar, DepoimentoStatus.APROVADO);
+        Set<UUID> reprovados = reprovar.isEmpty() ? Set.of()
+                : moderacaoRepository.alterarStatus(reprovar, DepoimentoStatus.REPROVADO);
+
+        // Os não alterados ou já estavam no status pedido ou não existem
+        List<UUID> naoAlterados = new ArrayList<>();
+        aprovar.stream().filter(id -> !aprovados.contains(id)).forEach(naoAlterados::add);
+        reprovar.stream().filter(id -> !reprovados.contains(id)).forEach(naoAlterados::add);
+        Set<UUID> existentes = naoAlterados.isEmpty() ? Set.of()
+                : moderacaoRepository.buscarExistentes(naoAlterados);
+
+        if (!aprovados.isEmpty() || !reprovados.isEmpty()) {
+            List<Depoimento> novosAprovados = aprovados.isEmpty() ? List.of() : repository.findAllById(aprovados);
+            poolAprovados.atualizarLote(novosAprovados, reprovados);
+        }
+
+        List<ResultadoModeracaoDTO> resultados = new ArrayList<>(aprovar.size() + reprovar.size());
+        aprovar.forEach(id -> resultados.add(resultadoModeracao(id, DepoimentoStatus.APROVADO, aprovados, existentes)));
+        reprovar.forEach(id -> resultados.add(resultadoModeracao(id, DepoimentoStatus.REPROVADO, reprovados, existentes)));
+        return resultados;
+    }
+
+    private static ResultadoModeracaoDTO resultadoModeracao(UUID id, DepoimentoStatus status, Set<UUID> alterados,
+            Set<UUID> existentes) {
+        String resultado = alterados.contains(id) ? "ALTERADO" : existentes.contains(id) ? "INALTERADO" : "NAO_ENCONTRADO";
+        return ResultadoModeracaoDTO.builder()
+                .id(id)
+                .status(status.name())
+                .resultado(resultado)
+                .build();
+    }
+
+    /**
+     * Lista os depoimentos para administração, paginados por keyset
+     * (createdAt, id), do mais recente para o mais antigo.
+     * 
+     * @param status  Filtro opcional de status.
+     * @param tipo    Filtro opcional de tipo de depoimento.
+     * @param cursor  Cursor da página anterior; nulo para a primeira página.
+     * @param tamanho Quantidade de itens da página.
+     * @return A página de DTOs e o cursor da página seguinte.
+     * @throws BusinessException se um filtro, o cursor ou o tamanho forem
+     *                           inválidos.
+     */
+    public PaginaCursorDTO<DepoimentoResponseDTO> listarPaginado(String status, String tipo, String cursor,
+            int tamanho) {
+        Specification<Depoimento> filtro = montarFiltro(status, tipo);
+        KeysetScrollPosition posicao = PaginacaoKeyset.posicao(cursor);
+        int limite = PaginacaoKeyset.validarTamanho(tamanho);
+        return PaginacaoKeyset.montar(buscarJanela(filtro, posicao, limite), DepoimentoAppService::toResponse);
+    }
+
+    /**
+     * Valida os filtros e prepara a exportação em streaming dos depoimentos que
+     * os atendem. Os filtros são validados aqui, antes de a resposta começar a
+     * ser escrita, para que um filtro inválido resulte em 400.
+     * 
+     * @param status Filtro opcional de status.
+     * @param tipo   Filtro opcional de tipo de depoimento.
+     * @return Exportação que percorre os depoimentos em lotes, entregando cada
+     *         DTO ao consumidor recebido, na ordem da listagem.
+     * @throws BusinessException se um filtro for inválido.
+     */
+    public Consumer<Consumer<DepoimentoResponseDTO>> exportar(String status, String tipo) {
+        Specification<Depoimento> filtro = montarFiltro(status, tipo);
+        return consumidor -> PaginacaoKeyset.percorrer(entityManager,
+                posicao -> buscarJanela(filtro, posicao, PaginacaoKeyset.TAMANHO_LOTE_EXPORTACAO),
+                depoimento -> consumidor.accept(toResponse(depoimento)));
+    }
+
+    private Window<Depoimento> buscarJanela(Specification<Depoimento> filtro, KeysetScrollPosition posicao,
+            int limite) {
+        return repository.findBy(filtro, consulta -> consulta
+                .sortBy(PaginacaoKeyset.ORDENACAO)
+                .limit(limite)
+                .scroll(posicao));
+    }
+
+    /**
+     * Busca textual nos depoimentos (nome, texto e local), com filtros
+     * opcionais e paginação por keyset, do mais recente para o mais antigo.
+     * Usa o índice GIN da coluna tsvector gerada pelo banco.
+     * 
+     * @param termo   Termos de busca (aceita "frase exata", or e -exclusão).
+     * @param status  Filtro opcional de status.
+     * @param tipo    Filtro opcional de tipo de depoimento.
+     * @param cursor  Cursor da página anterior; nulo para a primeira página.
+     * @param tamanho Quantidade de itens da página.
+     * @return A página de DTOs e o cursor da página seguinte.
+     * @throws BusinessException se o termo, um filtro, o cursor ou o tamanho
+     *                           forem inválidos.
+     */
+    public PaginaCursorDTO<DepoimentoResponseDTO> buscarPorTexto(String termo, String status, String tipo,
+            String cursor, int tamanho) {
+        String termoNormalizado = termo != null ? termo.trim() : "";
+        if (termoNormalizado.length() < 2 || termoNormalizado.length() > 200) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
+                    "O termo de busca deve ter entre 2 e 200 caracteres.");
+        }
+        DepoimentoStatus statusFiltro = parseStatusFiltro(status);
+        TipoDepoimento tipoFiltro = parseTipoFiltro(tipo);
+        String statusParametro = statusFiltro != null ? statusFiltro.name() : null;
+        String tipoParametro = tipoFiltro != null ? tipoFiltro.name() : null;
+        KeysetScrollPosition posicao = PaginacaoKeyset.posicao(cursor);
+        int limite = PaginacaoKeyset.validarTamanho(tamanho);
+
+        // Lê um registro a mais apenas para saber se existe página seguinte
+        List<Depoimento> lidos = posicao.isInitial()
+                ? repository.buscarPorTexto(termoNormalizado, statusParametro, tipoParametro, limite + 1)
+                : repository.buscarPorTextoApos(termoNormalizado, statusParametro, tipoParametro,
+                        (LocalDateTime) posicao.getKeys().get("createdAt"), (UUID) posicao.getKeys().get("id"),
+                        limite + 1);
+        return PaginacaoKeyset.montar(lidos, limite, DepoimentoAppService::toResponse);
+    }
+
+    private DepoimentoStatus parseStatusFiltro(String status) {
+        try {
+            return mapStringToDepoimentoStatus(status);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, "Filtro de status inválido: " + status);
+        }
+    }
+
+    private static TipoDepoimento parseTipoFiltro(String tipo) {
+        try {
+            return (tipo != null && !tipo.isEmpty()) ? TipoDepoimento.valueOf(tipo.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, "Filtro de tipo inválido: " + tipo);
+        }
+    }
+
+    private Specification<Depoimento> montarFiltro(String status, String tipo) {
+        DepoimentoStatus statusFiltro = parseStatusFiltro(status);
+        TipoDepoimento tipoFiltro = parseTipoFiltro(tipo);
+        // Só entram na consulta os filtros informados, para que o planner use o
+        // índice composto correspondente
+        Specification<Depoimento> filtro = Specification.where(null);
+        if (statusFiltro != null) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(root.get("status"), statusFiltro));
+        }
+        if (tipoFiltro != null) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(root.get("tipoDepoimento"), tipoFiltro));
+        }
+        return filtro;
     }
 
     /**
@@ -264,7 +442,7 @@ public class DepoimentoAppService {
      */
     public DepoimentoResponseDTO buscarPorId(UUID id) {
         return domainService.buscarPorId(id)
-                .map(this::toResponse) // Usando o método toResponse manual
+                .map(DepoimentoAppService::toResponse) // Usando o método toResponse manual
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA,
                         ErrorCode.ENTIDADE_NAO_ENCONTRADA.getMessage()));
     }
@@ -273,20 +451,20 @@ public class DepoimentoAppService {
      * Lista depoimentos para a página inicial, com opções de limite e
      * aleatoriedade.
      * Esta é uma responsabilidade do AppService, pois é um caso de uso específico.
+     * A listagem aleatória é sorteada do pool em memória dos aprovados, sem
+     * acessar o banco.
      * 
      * @param limit  O número máximo de depoimentos a serem retornados.
      * @param random Booleano indicando se a busca deve ser aleatória.
      * @return Uma lista de DTOs de resposta de depoimentos.
      */
     public List<DepoimentoResponseDTO> listarParaHome(int limit, boolean random) {
-        List<Depoimento> depoimentos;
         if (random) {
-            depoimentos = repository.buscarAleatoriosAprovados(limit);
-        } else {
-            depoimentos = repository.findTop5ByStatusOrderByCreatedAtDesc(DepoimentoStatus.APROVADO);
+            return poolAprovados.sortear(limit);
         }
+        List<Depoimento> depoimentos = repository.findTop5ByStatusOrderByCreatedAtDesc(DepoimentoStatus.APROVADO);
         return depoimentos.stream()
-                .map(this::toResponse) // Usando o método toResponse manual
+                .map(DepoimentoAppService::toResponse) // Usando o método toResponse manual
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
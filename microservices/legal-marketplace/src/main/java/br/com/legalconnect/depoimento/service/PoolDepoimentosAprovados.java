@@ -0,0 +1,246 @@
+package br.com.legalconnect.depoimento.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.legalconnect.common.config.leitura.TransacaoLeituraContext;
+import br.com.legalconnect.depoimento.domain.enums.DepoimentoStatus;
+import br.com.legalconnect.depoimento.domain.model.Depoimento;
+import br.com.legalconnect.depoimento.dto.DepoimentoResponseDTO;
+import br.com.legalconnect.depoimento.repository.DepoimentoJpaRepository;
+
+/**
+ * Mantém em memória os depoimentos APROVADOS, já convertidos em DTO, para a
+ * listagem aleatória da página inicial.
+ * Substitui o ORDER BY random() (ordenação de toda a tabela a cada visita):
+ * a amostra de k itens é sorteada por índice, em O(k).
+ * O pool é imutável e substituído por cópia a cada moderação (operação rara);
+ * como outras instâncias também moderam depoimentos, ele é recarregado do banco
+ * após um tempo máximo.
+ */
+@Component
+public class PoolDepoimentosAprovados {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolDepoimentosAprovados.class);
+
+    private final DepoimentoJpaRepository repository;
+    private final long ttlMillis;
+
+    private volatile Pool pool;
+
+    public PoolDepoimentosAprovados(DepoimentoJpaRepository repository,
+            @Value("${application.depoimentos.pool.ttl-segundos:300}") long ttlSegundos) {
+        this.repository = repository;
+        this.ttlMillis = ttlSegundos * 1000;
+    }
+
+    /**
+     * Sorteia até {@code limite} depoimentos aprovados distintos, em ordem
+     * aleatória.
+     *
+     * @param limite Quantidade desejada.
+     * @return Depoimentos sorteados (menos itens se não houver aprovados
+     *         suficientes).
+     */
+    public List<DepoimentoResponseDTO> sortear(int limite) {
+        DepoimentoResponseDTO[] itens = obter().itens;
+        int n = itens.length;
+        int k = Math.min(Math.max(limite, 0), n);
+        List<DepoimentoResponseDTO> amostra = new ArrayList<>(k);
+        if (k == 0) {
+            return amostra;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (k == n) {
+            amostra.addAll(Arrays.asList(itens));
+        } else {
+            // Algoritmo de Floyd: k índices distintos, uniformes, com k sorteios
+            Set<Integer> escolhidos = new HashSet<>(k * 2);
+            for (int j = n - k; j < n; j++) {
+                int t = random.nextInt(j + 1);
+                int indice = escolhidos.add(t) ? t : j;
+                escolhidos.add(indice);
+                amostra.add(itens[indice]);
+            }
+        }
+        // Floyd não embaralha a ordem de saída: Fisher-Yates apenas sobre os k itens
+        for (int i = k - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            DepoimentoResponseDTO troca = amostra.get(i);
+            amostra.set(i, amostra.get(j));
+            amostra.set(j, troca);
+        }
+        return amostra;
+    }
+
+    /**
+     * Reflete no pool o estado salvo de um depoimento: inclui ou substitui se
+     * estiver APROVADO, remove caso contrário.
+     *
+     * @param depoimento O depoimento recém-salvo.
+     */
+    public synchronized void atualizar(Depoimento depoimento) {
+        if (pool == null) {
+            return; // Ainda não carregado: a primeira leitura trará o estado atual
+        }
+        if (depoimento.getStatus() == DepoimentoStatus.APROVADO) {
+            pool = pool.comItem(DepoimentoAppService.toResponse(depoimento));
+        } else {
+            pool = pool.semItem(depoimento.getId());
+        }
+    }
+
+    /**
+     * Aplica ao pool o resultado de uma moderação em lote, com uma única troca
+     * do estado publicado. Dentro de uma transação, a troca ocorre após o
+     * commit; em rollback o pool não é alterado.
+     *
+     * @param aprovados   Depoimentos que passaram a APROVADO.
+     * @param removidoIds IDs que deixaram de estar aprovados.
+     */
+    public void atualizarLote(Collection<Depoimento> aprovados, Collection<UUID> removidoIds) {
+        List<DepoimentoResponseDTO> inclusoes = aprovados.stream().map(DepoimentoAppService::toResponse).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    aplicarLote(inclusoes, removidoIds);
+                }
+            });
+        } else {
+            aplicarLote(inclusoes, removidoIds);
+        }
+    }
+
+    private synchronized void aplicarLote(List<DepoimentoResponseDTO> inclusoes, Collection<UUID> removidoIds) {
+        if (pool == null) {
+            return;
+        }
+        pool = pool.semItens(removidoIds).comItens(inclusoes);
+    }
+
+    /**
+     * Remove um depoimento excluído do pool.
+     *
+     * @param id O ID do depoimento.
+     */
+    public synchronized void remover(UUID id) {
+        if (pool != null) {
+            pool = pool.semItem(id);
+        }
+    }
+
+    private Pool obter() {
+        Pool atual = pool;
+        return expirado(atual) ? recarregarSeExpirado() : atual;
+    }
+
+    private boolean expirado(Pool atual) {
+        return atual == null || System.currentTimeMillis() - atual.carregadoEm > ttlMillis;
+    }
+
+    private synchronized Pool recarregarSeExpirado() {
+        Pool atual = pool;
+        if (!expirado(atual)) {
+            return atual;
+        }
+        // Do primário: as moderações locais já aplicadas ao pool em memória
+        // seriam desfeitas por uma réplica que ainda não as recebeu
+        DepoimentoResponseDTO[] itens = TransacaoLeituraContext
+                .noPrimario(() -> repository.findByStatus(DepoimentoStatus.APROVADO)).stream()
+                .map(DepoimentoAppService::toResponse)
+                .toArray(DepoimentoResponseDTO[]::new);
+        Pool novo = new Pool(itens, System.currentTimeMillis());
+        pool = novo;
+        log.debug("Pool de depoimentos aprovados recarregado: {} item(ns).", itens.length);
+        return novo;
+    }
+
+    /**
+     * Estado imutável do pool: os DTOs e a posição de cada ID no array.
+     */
+    private static final class Pool {
+        private final DepoimentoResponseDTO[] itens;
+        private final Map<UUID, Integer> posicoes;
+        private final long carregadoEm;
+
+        private Pool(DepoimentoResponseDTO[] itens, long carregadoEm) {
+            this.itens = itens;
+            this.carregadoEm = carregadoEm;
+            this.posicoes = new HashMap<>(itens.length * 2);
+            for (int i = 0; i < itens.length; i++) {
+                posicoes.put(itens[i].getId(), i);
+            }
+        }
+
+        private Pool comItem(DepoimentoResponseDTO item) {
+            Integer posicao = posicoes.get(item.getId());
+            DepoimentoResponseDTO[] novos;
+            if (posicao != null) {
+                novos = itens.clone();
+                novos[posicao] = item;
+            } else {
+                novos = Arrays.copyOf(itens, itens.length + 1);
+                novos[itens.length] = item;
+            }
+            return new Pool(novos, carregadoEm);
+        }
+
+        private Pool comItens(List<DepoimentoResponseDTO> inclusoes) {
+            if (inclusoes.isEmpty()) {
+                return this;
+            }
+            DepoimentoResponseDTO[] novos = Arrays.copyOf(itens, itens.length + inclusoes.size());
+            int tamanho = itens.length;
+            for (DepoimentoResponseDTO item : inclusoes) {
+                Integer posicao = posicoes.get(item.getId());
+                if (posicao != null) {
+                    novos[posicao] = item;
+                } else {
+                    novos[tamanho++] = item;
+                }
+            }
+            return new Pool(Arrays.copyOf(novos, tamanho), carregadoEm);
+        }
+
+        private Pool semItens(Collection<UUID> ids) {
+            Set<UUID> remover = new HashSet<>(ids);
+            remover.retainAll(posicoes.keySet());
+            if (remover.isEmpty()) {
+                return this;
+            }
+            DepoimentoResponseDTO[] novos = Arrays.stream(itens)
+                    .filter(item -> !remover.contains(item.getId()))
+                    .toArray(DepoimentoResponseDTO[]::new);
+            return new Pool(novos, carregadoEm);
+        }
+
+        private Pool semItem(UUID id) {
+            Integer posicao = posicoes.get(id);
+            if (posicao == null) {
+                return this;
+            }
+            // A ordem não importa para o sorteio: o último ocupa a posição removida
+            DepoimentoResponseDTO[] novos = Arrays.copyOf(itens, itens.length - 1);
+            if (posicao < novos.length) {
+                novos[posicao] = itens[itens.length - 1];
+            }
+            return new Pool(novos, carregadoEm);
+        }
+    }
+}
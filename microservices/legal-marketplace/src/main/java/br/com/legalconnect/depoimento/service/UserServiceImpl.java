@@ -4,25 +4,20 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
-import br.com.legalconnect.depoimento.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Implementação mock do serviço de usuário para fins de demonstração.
- * Em uma aplicação real, esta classe faria a comunicação com o repositório de
- * usuários
- * ou outro serviço de identidade.
+ * Serviço de usuário do marketplace.
+ * Os usuários pertencem ao auth-service; a verificação é feita por
+ * {@link VerificadorExistenciaUsuario}, sem acesso direto à tabela de usuários.
  */
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl {
 
-    private final UserRepository userRepository;
+    private final VerificadorExistenciaUsuario verificadorExistenciaUsuario;
 
     public boolean userExists(UUID userId) {
-        // Lógica mock: Em uma aplicação real, você consultaria o UserRepository aqui.
-        // Para este exemplo, verifica se o ID está no conjunto de IDs simulados.
-        return userRepository.existsById(userId);
-
+        return verificadorExistenciaUsuario.existe(userId);
     }
-}
\ No newline at end of file
+}
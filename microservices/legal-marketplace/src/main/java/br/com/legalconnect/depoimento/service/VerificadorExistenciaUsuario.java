@@ -0,0 +1,150 @@
+package br.com.legalconnect.depoimento.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+
+/**
+ * Verifica a existência de usuários no auth-service, dono da tabela de
+ * usuários, com um cache local limitado.
+ * - Resultados positivos ficam em cache por mais tempo (usuários raramente são
+ * removidos); negativos, por pouco tempo, para que um cadastro recém-feito logo
+ * seja reconhecido.
+ * - O cache tem tamanho máximo e descarta as entradas menos usadas (LRU).
+ * - Os IDs ausentes do cache são verificados em uma única chamada em lote, na
+ * rota interna do auth-service (credencial de serviço, sem depender do usuário
+ * da requisição).
+ * - Falhas de rede e 5xx são indisponibilidade (503); respostas 4xx indicam erro
+ * de integração e não são tratadas como temporárias.
+ */
+@Component
+public class VerificadorExistenciaUsuario {
+
+    private static final Logger log = LoggerFactory.getLogger(VerificadorExistenciaUsuario.class);
+    private static final String URI_VERIFICACAO_LOTE = "/api/v1/interno/usuarios/existir";
+
+    private final RestClient authServiceRestClient;
+    private final long ttlPositivoMillis;
+    private final long ttlNegativoMillis;
+    private final Map<UUID, Entrada> cache;
+
+    public VerificadorExistenciaUsuario(@Qualifier("authServiceRestClient") RestClient authServiceRestClient,
+            @Value("${application.usuarios.cache.tamanho-maximo:10000}") int tamanhoMaximo,
+            @Value("${application.usuarios.cache.ttl-positivo-segundos:600}") long ttlPositivoSegundos,
+            @Value("${application.usuarios.cache.ttl-negativo-segundos:30}") long ttlNegativoSegundos) {
+        this.authServiceRestClient = authServiceRestClient;
+        this.ttlPositivoMillis = ttlPositivoSegundos * 1000;
+        this.ttlNegativoMillis = ttlNegativoSegundos * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entrada> maisAntiga) {
+                return size() > tamanhoMaximo;
+            }
+        };
+    }
+
+    /**
+     * Verifica se um usuário existe.
+     *
+     * @param userId O ID do usuário.
+     * @return true se o usuário existir.
+     * @throws BusinessException se o auth-service estiver indisponível.
+     */
+    public boolean existe(UUID userId) {
+        return userId != null && buscarExistentes(List.of(userId)).contains(userId);
+    }
+
+    /**
+     * Filtra, dentre os IDs informados, os de usuários existentes.
+     *
+     * @param userIds Os IDs a verificar.
+     * @return Os IDs existentes.
+     * @throws BusinessException se o auth-service estiver indisponível.
+     */
+    public Set<UUID> buscarExistentes(Collection<UUID> userIds) {
+        long agora = System.currentTimeMillis();
+        Set<UUID> existentes = new HashSet<>();
+        List<UUID> consultar = new ArrayList<>();
+        synchronized (cache) {
+            for (UUID id : userIds) {
+                Entrada entrada = cache.get(id);
+                if (entrada == null || entrada.expiraEm < agora) {
+                    consultar.add(id);
+                } else if (entrada.existe) {
+                    existentes.add(id);
+                }
+            }
+        }
+        if (consultar.isEmpty()) {
+            return existentes;
+        }
+
+        Set<UUID> encontrados = consultarAuthService(consultar);
+        agora = System.currentTimeMillis();
+        synchronized (cache) {
+            for (UUID id : consultar) {
+                boolean existe = encontrados.contains(id);
+                cache.put(id, new Entrada(existe, agora + (existe ? ttlPositivoMillis : ttlNegativoMillis)));
+            }
+        }
+        existentes.addAll(encontrados);
+        return existentes;
+    }
+
+    private Set<UUID> consultarAuthService(List<UUID> ids) {
+        try {
+            Set<UUID> encontrados = authServiceRestClient.post()
+                    .uri(URI_VERIFICACAO_LOTE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ids)
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Set<UUID>>() {
+                    });
+            return encontrados != null ? encontrados : Set.of();
+        } catch (HttpClientErrorException e) {
+            // 4xx não é indisponibilidade: credencial de serviço ou contrato da
+            // chamada incorretos, e repetir a requisição não resolve
+            log.error("Auth-service recusou a verificação de usuários ({}): {}", e.getStatusCode(),
+                    e.getResponseBodyAsString());
+            throw new BusinessException(ErrorCode.INTEGRATION_ERROR, HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Não foi possível validar o usuário.");
+        } catch (RestClientException e) {
+            log.error("Falha ao verificar usuários no auth-service: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.SERVICO_INDISPONIVEL,
+                    "Não foi possível validar o usuário no momento. Tente novamente.");
+        }
+    }
+
+    /**
+     * Resultado em cache de uma verificação.
+     */
+    private static final class Entrada {
+        private final boolean existe;
+        private final long expiraEm;
+
+        private Entrada(boolean existe, long expiraEm) {
+            this.existe = existe;
+            this.expiraEm = expiraEm;
+        }
+    }
+}
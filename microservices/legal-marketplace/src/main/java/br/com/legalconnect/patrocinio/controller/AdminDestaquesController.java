@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,12 +21,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.legalconnect.commom.dto.response.PaginaCursorDTO;
+import br.com.legalconnect.commom.paginacao.ExportacaoJson;
 import br.com.legalconnect.common.dto.BaseResponse;
 import br.com.legalconnect.patrocinio.dto.DestaquesRequestDTO;
 import br.com.legalconnect.patrocinio.dto.DestaquesResponseDTO;
+import br.com.legalconnect.patrocinio.dto.ImpressoesDestaqueDTO;
 import br.com.legalconnect.patrocinio.service.PatrocinioAppService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -47,25 +55,82 @@ import lombok.RequiredArgsConstructor;
 public class AdminDestaquesController {
 
         private final PatrocinioAppService patrocinioAppService;
+        private final ObjectMapper objectMapper;
 
         /**
-         * Endpoint privado para listar todos os patrocinadores, independentemente do
-         * status.
+         * Endpoint privado para listar os patrocinadores, independentemente do
+         * status, paginados por cursor (do mais recente para o mais antigo).
          * Requer a role ROLE_PLATAFORMA_ADMIN.
          *
-         * @return ResponseEntity contendo a lista completa de patrocinadores e uma
-         *         resposta padrão.
+         * @param status  Filtro opcional de status.
+         * @param tipo    Filtro opcional de tipo.
+         * @param cursor  Cursor retornado na página anterior.
+         * @param tamanho Itens por página.
+         * @return ResponseEntity contendo a página de patrocinadores e o cursor da
+         *         seguinte.
          */
-        @Operation(summary = "Lista todos os patrocinadores (administração)", description = "Retorna uma lista completa de todos os patrocinadores, independentemente do status. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", responses = {
-                        @ApiResponse(responseCode = "200", description = "Todos os patrocinadores listados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DestaquesResponseDTO.class))),
+        @Operation(summary = "Lista patrocinadores paginados (administração)", description = "Retorna os patrocinadores, independentemente do status, paginados por cursor, com filtros opcionais de status e tipo. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Página de patrocinadores listada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaginaCursorDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Filtro, cursor ou tamanho inválido"),
                         @ApiResponse(responseCode = "403", description = "Acesso proibido")
         }, security = @SecurityRequirement(name = "bearerAuth"))
         @GetMapping
-        public ResponseEntity<BaseResponse<List<DestaquesResponseDTO>>> getAllPatrocinios() {
-                List<DestaquesResponseDTO> patrocinadores = patrocinioAppService.findAllPatrocinios();
-                return ResponseEntity.ok(BaseResponse.<List<DestaquesResponseDTO>>builder()
-                                .data(patrocinadores)
-                                .message("Todos os patrocinadores listados.")
+        public ResponseEntity<BaseResponse<PaginaCursorDTO<DestaquesResponseDTO>>> getAllPatrocinios(
+                        @Parameter(description = "Filtro de status (ACTIVE, INACTIVE)") @RequestParam(required = false) String status,
+                        @Parameter(description = "Filtro de tipo (EVENTO, ESCRITORIO, NOTICIA)") @RequestParam(required = false) String tipo,
+                        @Parameter(description = "Valor de proximoCursor da página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Itens por página (1 a 200)") @RequestParam(defaultValue = "50") int tamanho) {
+                PaginaCursorDTO<DestaquesResponseDTO> pagina = patrocinioAppService.findPatrociniosPaginados(status, tipo,
+                                cursor, tamanho);
+                return ResponseEntity.ok(BaseResponse.<PaginaCursorDTO<DestaquesResponseDTO>>builder()
+                                .data(pagina)
+                                .message("Patrocinadores listados.")
+                                .build());
+        }
+
+        /**
+         * Endpoint privado para exportar os patrocinadores como um array JSON em
+         * streaming, lido do banco em lotes.
+         * Requer a role ROLE_PLATAFORMA_ADMIN.
+         *
+         * @param status Filtro opcional de status.
+         * @param tipo   Filtro opcional de tipo.
+         * @return ResponseEntity cujo corpo é escrito à medida que os lotes são
+         *         lidos.
+         */
+        @Operation(summary = "Exporta patrocinadores (administração)", description = "Retorna, em streaming, um array JSON com todos os patrocinadores que atendem aos filtros. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Array JSON de patrocinadores", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DestaquesResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Filtro inválido"),
+                        @ApiResponse(responseCode = "403", description = "Acesso proibido")
+        }, security = @SecurityRequirement(name = "bearerAuth"))
+        @GetMapping("/exportar")
+        public ResponseEntity<StreamingResponseBody> exportarPatrocinios(
+                        @Parameter(description = "Filtro de status (ACTIVE, INACTIVE)") @RequestParam(required = false) String status,
+                        @Parameter(description = "Filtro de tipo (EVENTO, ESCRITORIO, NOTICIA)") @RequestParam(required = false) String tipo) {
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(ExportacaoJson.emArray(objectMapper,
+                                                patrocinioAppService.exportarPatrocinios(status, tipo)));
+        }
+
+        /**
+         * Endpoint privado para consultar os contadores de impressões dos
+         * patrocinadores, usados no faturamento.
+         * Requer a role ROLE_PLATAFORMA_ADMIN.
+         *
+         * @return ResponseEntity contendo as impressões e o limite de cada
+         *         patrocinador.
+         */
+        @Operation(summary = "Consulta impressões dos patrocinadores", description = "Retorna o total de impressões registradas e o limite contratado de cada patrocinador, para faturamento. Requer autenticação de administrador (ROLE_PLATAFORMA_ADMIN).", responses = {
+                        @ApiResponse(responseCode = "200", description = "Impressões consultadas com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImpressoesDestaqueDTO.class))),
+                        @ApiResponse(responseCode = "403", description = "Acesso proibido")
+        }, security = @SecurityRequirement(name = "bearerAuth"))
+        @GetMapping("/impressoes")
+        public ResponseEntity<BaseResponse<List<ImpressoesDestaqueDTO>>> getImpressoesPatrocinios() {
+                List<ImpressoesDestaqueDTO> impressoes = patrocinioAppService.findImpressoesPatrocinios();
+                return ResponseEntity.ok(BaseResponse.<List<ImpressoesDestaqueDTO>>builder()
+                                .data(impressoes)
+                                .message("Impressões dos patrocinadores consultadas com sucesso.")
                                 .build());
         }
 
@@ -7,15 +7,22 @@ package br.com.legalconnect.patrocinio.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.legalconnect.common.dto.BaseResponse;
 import br.com.legalconnect.patrocinio.dto.DestaquesResponseDTO;
+import br.com.legalconnect.patrocinio.service.DestaquesAtivosCache;
 import br.com.legalconnect.patrocinio.service.PatrocinioAppService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -38,19 +45,55 @@ public class DestaquesController {
          * Endpoint público para listar todos os patrocinadores com status ATIVO.
          * Retorna uma lista de DTOs polimórficos que podem representar diferentes tipos
          * de patrocínios (Eventos, Escritórios, etc.).
+         * A resposta vem de um snapshot em memória já serializado e traz um ETag;
+         * requisições com If-None-Match igual recebem 304 sem corpo.
          *
+         * @param request Requisição atual, usada na validação do ETag.
          * @return ResponseEntity contendo a lista de patrocinadores ativos e uma
          *         resposta padrão.
          */
         @Operation(summary = "Lista patrocinadores ativos", description = "Retorna uma lista de patrocinadores com status ATIVO. A resposta pode conter diferentes tipos de patrocinadores.", responses = {
-                        @ApiResponse(responseCode = "200", description = "Patrocinadores ativos listados com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DestaquesResponseDTO.class)))
+                        @ApiResponse(responseCode = "200", description = "Patrocinadores ativos listados com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DestaquesResponseDTO.class))),
+                        @ApiResponse(responseCode = "304", description = "Lista inalterada desde o ETag informado")
         })
         @GetMapping
-        public ResponseEntity<BaseResponse<List<DestaquesResponseDTO>>> getActivePatrocinios() {
-                List<DestaquesResponseDTO> patrocinadores = patrocinioAppService.findActivePatrocinios();
-                return ResponseEntity.ok(BaseResponse.<List<DestaquesResponseDTO>>builder()
-                                .data(patrocinadores)
-                                .message("Patrocinadores ativos listados com sucesso.")
-                                .build());
+        public ResponseEntity<byte[]> getActivePatrocinios(WebRequest request) {
+                DestaquesAtivosCache.Snapshot snapshot = patrocinioAppService.findActivePatrociniosSnapshot();
+                if (request.checkNotModified(snapshot.getEtag())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(snapshot.getEtag())
+                                        .cacheControl(CacheControl.noCache())
+                                        .build();
+                }
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .eTag(snapshot.getEtag())
+                                .cacheControl(CacheControl.noCache())
+                                .body(snapshot.getJson());
+        }
+
+        /**
+         * Endpoint público para preencher os espaços de destaque da vitrine.
+         * Seleciona aleatoriamente até N patrocinadores ativos, com chance
+         * proporcional ao nível de patrocínio, e contabiliza uma impressão para cada
+         * um. Itens que atingiram o limite de impressões não são retornados.
+         *
+         * @param quantidade Número de espaços exibidos pelo front-end.
+         * @return ResponseEntity contendo os patrocinadores selecionados.
+         */
+        @Operation(summary = "Seleciona patrocinadores para exibição", description = "Retorna até N patrocinadores ativos sorteados de forma ponderada pelo nível de patrocínio, registrando uma impressão para cada um.", responses = {
+                        @ApiResponse(responseCode = "200", description = "Patrocinadores selecionados com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DestaquesResponseDTO.class))),
+                        @ApiResponse(responseCode = "400", description = "Quantidade inválida")
+        })
+        @GetMapping("/selecao")
+        public ResponseEntity<BaseResponse<List<DestaquesResponseDTO>>> selecionarPatrocinios(
+                        @Parameter(description = "Número de espaços a preencher (1 a 50)") @RequestParam(defaultValue = "3") int quantidade) {
+                List<DestaquesResponseDTO> selecionados = patrocinioAppService.selecionarPatrocinios(quantidade);
+                return ResponseEntity.ok()
+                                .cacheControl(CacheControl.noStore()) // Cada resposta é um novo sorteio
+                                .body(BaseResponse.<List<DestaquesResponseDTO>>builder()
+                                                .data(selecionados)
+                                                .message("Patrocinadores selecionados com sucesso.")
+                                                .build());
         }
 }
\ No newline at end of file
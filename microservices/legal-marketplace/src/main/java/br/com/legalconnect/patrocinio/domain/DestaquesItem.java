@@ -4,7 +4,10 @@
 //
 package br.com.legalconnect.patrocinio.domain;
 
+import java.time.LocalDateTime;
+
 import br.com.legalconnect.common.dto.BaseEntity;
+import br.com.legalconnect.patrocinio.domain.enums.NivelPatrocinio;
 import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorColumn;
@@ -25,6 +28,8 @@ import lombok.experimental.SuperBuilder;
  * Usa herança de tabela única (@Inheritance) para centralizar todos os
  * patrocínios em uma única tabela.
  * O campo 'tipo' atua como o discriminador.
+ * Quando há vigência (início e/ou fim), o status é alternado automaticamente
+ * nos limites do período pelo VigenciaDestaquesScheduler.
  */
 @Entity
 @Table(name = "tb_patrocinio")
@@ -45,4 +50,44 @@ public abstract class DestaquesItem extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     protected PatrocinioStatus status;
+
+    @Column(name = "inicio_vigencia")
+    protected LocalDateTime inicioVigencia; // Nulo: ativo desde já
+
+    @Column(name = "fim_vigencia")
+    protected LocalDateTime fimVigencia; // Exclusivo; nulo: sem término
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "nivel_patrocinio", nullable = false, length = 20)
+    protected NivelPatrocinio nivelPatrocinio; // Define o peso na seleção aleatória
+
+    @Column(name = "limite_impressoes")
+    protected Long limiteImpressoes; // Nulo: sem limite
+
+    // Mantido apenas pelo contador de impressões (UPDATE incremental em lote); a
+    // entidade nunca sobrescreve este valor.
+    @Column(name = "impressoes", insertable = false, updatable = false)
+    protected Long impressoes;
+
+    /**
+     * Indica se o item tem período de vigência controlando seu status.
+     *
+     * @return true se início ou fim de vigência estiverem definidos.
+     */
+    public boolean possuiVigencia() {
+        return inicioVigencia != null || fimVigencia != null;
+    }
+
+    /**
+     * Status que o item deve ter no instante informado, segundo sua vigência.
+     *
+     * @param instante Instante de referência.
+     * @return ACTIVE se o instante estiver em [início, fim), INACTIVE caso
+     *         contrário.
+     */
+    public PatrocinioStatus statusVigente(LocalDateTime instante) {
+        boolean iniciou = inicioVigencia == null || !inicioVigencia.isAfter(instante);
+        boolean terminou = fimVigencia != null && !fimVigencia.isAfter(instante);
+        return iniciou && !terminou ? PatrocinioStatus.ACTIVE : PatrocinioStatus.INACTIVE;
+    }
 }
\ No newline at end of file
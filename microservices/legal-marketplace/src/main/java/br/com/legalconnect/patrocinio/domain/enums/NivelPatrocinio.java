@@ -0,0 +1,25 @@
+//
+// Enum para o nível de patrocínio dos destaques.
+//
+package br.com.legalconnect.patrocinio.domain.enums;
+
+/**
+ * Define os níveis de patrocínio e o peso relativo de cada um na seleção
+ * aleatória dos destaques exibidos.
+ */
+public enum NivelPatrocinio {
+    BASICO(1),    // Nível padrão.
+    PRATA(2),     // Exibido com o dobro da frequência do básico.
+    OURO(4),      // Exibido com quatro vezes a frequência do básico.
+    DIAMANTE(8);  // Exibido com oito vezes a frequência do básico.
+
+    private final int peso;
+
+    NivelPatrocinio(int peso) {
+        this.peso = peso;
+    }
+
+    public int getPeso() {
+        return peso;
+    }
+}
@@ -5,10 +5,13 @@
 //
 package br.com.legalconnect.patrocinio.dto;
 
+import java.time.LocalDateTime;
+
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.experimental.SuperBuilder;
 
@@ -31,4 +34,9 @@ public abstract class DestaquesRequestDTO {
         @NotBlank(message = "O link é obrigatório.")
         protected String link;
         protected String status;
+        protected LocalDateTime inicioVigencia; // Opcional: ativa o destaque automaticamente
+        protected LocalDateTime fimVigencia; // Opcional: desativa o destaque automaticamente
+        protected String nivelPatrocinio; // BASICO (padrão), PRATA, OURO ou DIAMANTE
+        @Positive(message = "O limite de impressões deve ser positivo.")
+        protected Long limiteImpressoes; // Opcional: sem limite quando nulo
 }
\ No newline at end of file
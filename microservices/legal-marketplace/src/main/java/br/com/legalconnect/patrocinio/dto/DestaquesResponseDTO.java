@@ -28,6 +28,10 @@ public abstract class DestaquesResponseDTO {
         protected String tipo;
         protected String link;
         protected String status;
+        protected LocalDateTime inicioVigencia;
+        protected LocalDateTime fimVigencia;
+        protected String nivelPatrocinio;
+        protected Long limiteImpressoes;
         protected LocalDateTime createdAt;
         protected LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+//
+// DTO com os contadores de impressões de um patrocinador, para faturamento.
+//
+package br.com.legalconnect.patrocinio.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImpressoesDestaqueDTO {
+    private UUID id;
+    private long impressoes;
+    private Long limiteImpressoes; // Nulo: sem limite
+}
@@ -3,11 +3,17 @@
 //
 package br.com.legalconnect.patrocinio.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.legalconnect.patrocinio.domain.DestaquesItem;
 import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
@@ -18,7 +24,8 @@ import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
  * patrocínios.
  */
 @Repository
-public interface DestaquesJpaRepository extends JpaRepository<DestaquesItem, UUID> {
+public interface DestaquesJpaRepository
+        extends JpaRepository<DestaquesItem, UUID>, JpaSpecificationExecutor<DestaquesItem> {
     /**
      * Busca uma lista de patrocinadores pelo seu status.
      *
@@ -26,4 +33,59 @@ public interface DestaquesJpaRepository extends JpaRepository<DestaquesItem, UUI
      * @return Uma lista de patrocinadores com o status especificado.
      */
     List<DestaquesItem> findByStatus(PatrocinioStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Busca os itens cuja vigência ainda tem algum limite (início ou fim)
+     * posterior ao instante informado.
+     *
+     * @param agora Instante de referência.
+     * @return Itens com transições de status pendentes.
+     */
+    @Query("SELECT d FROM DestaquesItem d WHERE d.inicioVigencia > :agora OR d.fimVigencia > :agora")
+    List<DestaquesItem> findComTransicaoFutura(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Altera o status de um item apenas se ele ainda não estiver no status
+     * desejado. Idempotente: várias instâncias podem aplicar a mesma transição.
+     *
+     * @param id     O ID do item.
+     * @param status O novo status.
+     * @return Quantidade de linhas alteradas (0 ou 1).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE DestaquesItem d SET d.status = :status, d.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE d.id = :id AND d.status <> :status")
+    int atualizarStatusSeDiferente(@Param("id") UUID id, @Param("status") PatrocinioStatus status);
+
+    /**
+     * Ativa os itens cuja vigência está em curso e que ainda estão inativos.
+     *
+     * @param agora Instante de referência.
+     * @return Quantidade de itens ativados.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE DestaquesItem d SET d.status = br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus.ACTIVE, "
+            + "d.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE (d.inicioVigencia IS NOT NULL OR d.fimVigencia IS NOT NULL) "
+            + "AND (d.inicioVigencia IS NULL OR d.inicioVigencia <= :agora) "
+            + "AND (d.fimVigencia IS NULL OR d.fimVigencia > :agora) "
+            + "AND d.status <> br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus.ACTIVE")
+    int ativarVigentes(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Desativa os itens fora da vigência que ainda estão ativos.
+     *
+     * @param agora Instante de referência.
+     * @return Quantidade de itens desativados.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE DestaquesItem d SET d.status = br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus.INACTIVE, "
+            + "d.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE ((d.inicioVigencia IS NOT NULL AND d.inicioVigencia > :agora) "
+            + "OR (d.fimVigencia IS NOT NULL AND d.fimVigencia <= :agora)) "
+            + "AND d.status <> br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus.INACTIVE")
+    int desativarForaDaVigencia(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,225 @@
+//
+// Snapshot em memória dos destaques ativos exibidos na home pública.
+//
+package br.com.legalconnect.patrocinio.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.legalconnect.common.config.leitura.TransacaoLeituraContext;
+import br.com.legalconnect.common.dto.BaseResponse;
+import br.com.legalconnect.common.exception.BusinessException;
+import br.com.legalconnect.common.exception.ErrorCode;
+import br.com.legalconnect.patrocinio.domain.DestaquesItem;
+import br.com.legalconnect.patrocinio.domain.enums.NivelPatrocinio;
+import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
+import br.com.legalconnect.patrocinio.dto.DestaquesResponseDTO;
+import br.com.legalconnect.patrocinio.repository.DestaquesJpaRepository;
+
+/**
+ * Mantém um snapshot imutável dos destaques ativos, com a resposta pública já
+ * serializada em JSON e o respectivo ETag.
+ * O snapshot é substituído atomicamente a cada alteração feita pelo
+ * {@link DestaquesDomainService}; as leituras da home não acessam o banco.
+ * Como outras instâncias do serviço também podem alterar destaques, o snapshot
+ * expira após um tempo máximo e é recarregado na leitura seguinte.
+ */
+@Component
+public class DestaquesAtivosCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DestaquesAtivosCache.class);
+    static final String MENSAGEM_SUCESSO = "Patrocinadores ativos listados com sucesso.";
+
+    private final DestaquesJpaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public DestaquesAtivosCache(DestaquesJpaRepository repository, ObjectMapper objectMapper,
+            @Value("${application.destaques.cache.ttl-segundos:60}") long ttlSegundos) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSegundos * 1000;
+    }
+
+    /**
+     * Retorna o snapshot atual, carregando-o se ainda não existir ou se tiver
+     * expirado.
+     *
+     * @return O snapshot dos destaques ativos.
+     */
+    public Snapshot obter() {
+        Snapshot atual = snapshot;
+        return expirado(atual) ? recarregarSeExpirado() : atual;
+    }
+
+    /**
+     * Solicita a reconstrução do snapshot. Dentro de uma transação, a recarga
+     * ocorre após o commit, para que o snapshot reflita apenas dados
+     * confirmados. A recarga lê do primário: a réplica pode ainda não ter
+     * aplicado a alteração que a motivou.
+     */
+    public void invalidar() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    TransacaoLeituraContext.noPrimario(DestaquesAtivosCache.this::recarregar);
+                }
+            });
+        } else {
+            TransacaoLeituraContext.noPrimario(this::recarregar);
+        }
+    }
+
+    private boolean expirado(Snapshot atual) {
+        return atual == null || System.currentTimeMillis() - atual.getCarregadoEm() > ttlMillis;
+    }
+
+    /**
+     * Apenas a primeira leitura após a expiração consulta o banco; as demais,
+     * bloqueadas no monitor, reutilizam o snapshot recém-publicado.
+     */
+    private synchronized Snapshot recarregarSeExpirado() {
+        Snapshot atual = snapshot;
+        return expirado(atual) ? recarregar() : atual;
+    }
+
+    /**
+     * Lê os destaques ativos e publica um novo snapshot. Sincronizado para que
+     * recargas concorrentes sejam publicadas na ordem em que consultaram o banco.
+     */
+    private synchronized Snapshot recarregar() {
+        List<DestaquesItem> ativos = repository.findByStatus(PatrocinioStatus.ACTIVE);
+        List<DestaquesResponseDTO> itens = ativos.stream()
+                .map(PatrocinioAppService::toResponseDTO)
+                .collect(Collectors.toList());
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(BaseResponse.<List<DestaquesResponseDTO>>builder()
+                    .data(itens)
+                    .message(MENSAGEM_SUCESSO)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.ERRO_INTERNO_SERVIDOR,
+                    "Falha ao serializar destaques ativos: " + e.getMessage());
+        }
+        Snapshot novo = new Snapshot(List.copyOf(itens), json, calcularEtag(json), System.currentTimeMillis(),
+                montarSelecao(ativos));
+        snapshot = novo;
+        log.debug("Snapshot de destaques ativos recarregado: {} item(ns), ETag {}", itens.size(), novo.getEtag());
+        return novo;
+    }
+
+    /**
+     * Pré-calcula os dados usados pelo {@link ServidorDestaques}: tabela de alias
+     * pelos pesos dos níveis de patrocínio, limites e impressões já persistidas,
+     * na mesma ordem de {@link Snapshot#getItens()}.
+     */
+    private static Selecao montarSelecao(List<DestaquesItem> ativos) {
+        int n = ativos.size();
+        double[] pesos = new double[n];
+        long[] limites = new long[n];
+        long[] impressoes = new long[n];
+        for (int i = 0; i < n; i++) {
+            DestaquesItem item = ativos.get(i);
+            pesos[i] = item.getNivelPatrocinio() != null ? item.getNivelPatrocinio().getPeso()
+                    : NivelPatrocinio.BASICO.getPeso();
+            limites[i] = item.getLimiteImpressoes() != null ? item.getLimiteImpressoes() : Long.MAX_VALUE;
+            impressoes[i] = item.getImpressoes() != null ? item.getImpressoes() : 0L;
+        }
+        return new Selecao(new TabelaAlias(pesos), limites, impressoes);
+    }
+
+    private static String calcularEtag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM.", e); // Obrigatório em toda JVM
+        }
+    }
+
+    /**
+     * Estado imutável publicado pelo cache.
+     */
+    public static final class Snapshot {
+        private final List<DestaquesResponseDTO> itens;
+        private final byte[] json;
+        private final String etag;
+        private final long carregadoEm;
+        private final Selecao selecao;
+
+        Snapshot(List<DestaquesResponseDTO> itens, byte[] json, String etag, long carregadoEm, Selecao selecao) {
+            this.itens = itens;
+            this.json = json;
+            this.etag = etag;
+            this.carregadoEm = carregadoEm;
+            this.selecao = selecao;
+        }
+
+        /** DTOs dos destaques ativos (lista imutável). */
+        public List<DestaquesResponseDTO> getItens() {
+            return itens;
+        }
+
+        /** Corpo da resposta pública já serializado; não deve ser modificado. */
+        public byte[] getJson() {
+            return json;
+        }
+
+        /** ETag forte do corpo serializado, já entre aspas. */
+        public String getEtag() {
+            return etag;
+        }
+
+        long getCarregadoEm() {
+            return carregadoEm;
+        }
+
+        Selecao getSelecao() {
+            return selecao;
+        }
+    }
+
+    /**
+     * Dados de seleção ponderada, paralelos à lista de itens do snapshot.
+     */
+    static final class Selecao {
+        private final TabelaAlias alias;
+        private final long[] limites;
+        private final long[] impressoesPersistidas;
+
+        Selecao(TabelaAlias alias, long[] limites, long[] impressoesPersistidas) {
+            this.alias = alias;
+            this.limites = limites;
+            this.impressoesPersistidas = impressoesPersistidas;
+        }
+
+        TabelaAlias getAlias() {
+            return alias;
+        }
+
+        long getLimite(int indice) {
+            return limites[indice];
+        }
+
+        long getImpressoesPersistidas(int indice) {
+            return impressoesPersistidas[indice];
+        }
+    }
+}
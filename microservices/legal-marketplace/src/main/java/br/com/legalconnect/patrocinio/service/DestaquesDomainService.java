@@ -4,14 +4,19 @@
 //
 package br.com.legalconnect.patrocinio.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import br.com.legalconnect.commom.paginacao.PaginacaoKeyset;
 import br.com.legalconnect.common.exception.BusinessException;
 import br.com.legalconnect.common.exception.ErrorCode;
 import br.com.legalconnect.patrocinio.domain.DestaquesEscritorio;
@@ -33,9 +38,12 @@ public class DestaquesDomainService {
 
     private static final Logger log = LoggerFactory.getLogger(DestaquesDomainService.class);
     private final DestaquesJpaRepository repository;
+    private final DestaquesAtivosCache destaquesAtivosCache;
+    private final VigenciaDestaquesScheduler vigenciaScheduler;
 
     /**
-     * Busca todos os patrocinadores com status ATIVO.
+     * Busca todos os patrocinadores com status ATIVO diretamente no banco.
+     * A vitrine pública é servida pelo {@link DestaquesAtivosCache}.
      *
      * @return Uma lista de entidades PatrocinioItem com o status ATIVO.
      */
@@ -45,13 +53,30 @@ public class DestaquesDomainService {
     }
 
     /**
-     * Busca todos os patrocinadores, independente do status.
+     * Busca uma página de patrocinadores, independente do status, por keyset
+     * (createdAt, id), do mais recente para o mais antigo.
      *
-     * @return Uma lista de todas as entidades PatrocinioItem.
+     * @param status  Filtro opcional de status.
+     * @param tipo    Filtro opcional de tipo (EVENTO, ESCRITORIO, NOTICIA).
+     * @param posicao Posição a partir da qual a página é lida.
+     * @param limite  Quantidade máxima de itens.
+     * @return A janela de entidades e a indicação de página seguinte.
      */
-    public List<DestaquesItem> findAllPatrocinios() {
-        log.debug("Buscando todos os patrocinadores no repositório.");
-        return repository.findAll();
+    public Window<DestaquesItem> findPatrociniosPorJanela(PatrocinioStatus status, String tipo,
+            KeysetScrollPosition posicao, int limite) {
+        // Só entram na consulta os filtros informados, para que o planner use o
+        // índice composto correspondente
+        Specification<DestaquesItem> filtro = Specification.where(null);
+        if (status != null) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (tipo != null) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(root.get("tipo"), tipo));
+        }
+        return repository.findBy(filtro, consulta -> consulta
+                .sortBy(PaginacaoKeyset.ORDENACAO)
+                .limit(limite)
+                .scroll(posicao));
     }
 
     /**
@@ -73,7 +98,11 @@ public class DestaquesDomainService {
      */
     public DestaquesItem createPatrocinio(DestaquesItem patrocinio) {
         log.info("Salvando novo patrocinador do tipo {}: {}", patrocinio.getTipo(), patrocinio.toString());
-        return repository.save(patrocinio);
+        aplicarVigencia(patrocinio);
+        DestaquesItem salvo = repository.save(patrocinio);
+        vigenciaScheduler.agendar(salvo);
+        destaquesAtivosCache.invalidar();
+        return salvo;
     }
 
     /**
@@ -89,6 +118,11 @@ public class DestaquesDomainService {
             // A lógica de atualização é genérica, mas a JPA cuida do tipo concreto
             existing.setLink(updatedPatrocinio.getLink());
             existing.setStatus(updatedPatrocinio.getStatus());
+            existing.setInicioVigencia(updatedPatrocinio.getInicioVigencia());
+            existing.setFimVigencia(updatedPatrocinio.getFimVigencia());
+            existing.setNivelPatrocinio(updatedPatrocinio.getNivelPatrocinio());
+            existing.setLimiteImpressoes(updatedPatrocinio.getLimiteImpressoes());
+            aplicarVigencia(existing);
 
             // A cópia dos dados específicos para cada tipo de patrocínio
             if (existing instanceof DestaquesEvento && updatedPatrocinio instanceof DestaquesEvento) {
@@ -113,12 +147,17 @@ public class DestaquesDomainService {
                 throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
                         "Tentativa de atualizar um tipo de patrocínio com dados incompatíveis.");
             }
-            return repository.save(existing);
+            DestaquesItem salvo = repository.save(existing);
+            vigenciaScheduler.agendar(salvo);
+            destaquesAtivosCache.invalidar();
+            return salvo;
         }).orElseThrow(() -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA, "Patrocinador não encontrado."));
     }
 
     /**
      * Altera o status de um patrocinador.
+     * A alteração manual prevalece sobre a vigência: o período do item é
+     * removido e ele deixa de ser alternado automaticamente.
      *
      * @param id     ID do patrocinador.
      * @param status O novo status.
@@ -129,8 +168,17 @@ public class DestaquesDomainService {
         log.info("Tentando alterar o status do patrocinador {} para {}", id, status);
         return repository.findById(id)
                 .map(patrocinio -> {
+                    if (patrocinio.possuiVigencia()) {
+                        log.info("Status manual do patrocinador {} remove sua vigência ({} a {}).", id,
+                                patrocinio.getInicioVigencia(), patrocinio.getFimVigencia());
+                        patrocinio.setInicioVigencia(null);
+                        patrocinio.setFimVigencia(null);
+                    }
                     patrocinio.setStatus(status);
-                    return repository.save(patrocinio);
+                    DestaquesItem salvo = repository.save(patrocinio);
+                    vigenciaScheduler.remover(id);
+                    destaquesAtivosCache.invalidar();
+                    return salvo;
                 })
                 .orElseThrow(
                         () -> new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA, "Patrocinador não encontrado."));
@@ -148,5 +196,25 @@ public class DestaquesDomainService {
             throw new BusinessException(ErrorCode.ENTIDADE_NAO_ENCONTRADA, "Patrocinador não encontrado.");
         }
         repository.deleteById(id);
+        vigenciaScheduler.remover(id);
+        destaquesAtivosCache.invalidar();
+    }
+
+    /**
+     * Valida o período de vigência e, se houver, define o status vigente agora.
+     * As transições seguintes ficam a cargo do {@link VigenciaDestaquesScheduler}.
+     *
+     * @param patrocinio O item a ser salvo.
+     * @throws BusinessException se o fim da vigência não for posterior ao início.
+     */
+    private void aplicarVigencia(DestaquesItem patrocinio) {
+        if (patrocinio.getInicioVigencia() != null && patrocinio.getFimVigencia() != null
+                && !patrocinio.getFimVigencia().isAfter(patrocinio.getInicioVigencia())) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
+                    "O fim da vigência deve ser posterior ao início.");
+        }
+        if (patrocinio.possuiVigencia()) {
+            patrocinio.setStatus(patrocinio.statusVigente(LocalDateTime.now()));
+        }
     }
 }
\ No newline at end of file
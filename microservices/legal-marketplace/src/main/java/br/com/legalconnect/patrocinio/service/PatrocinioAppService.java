@@ -4,19 +4,24 @@
 package br.com.legalconnect.patrocinio.service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.stereotype.Service;
 
+import br.com.legalconnect.commom.dto.response.PaginaCursorDTO;
+import br.com.legalconnect.commom.paginacao.PaginacaoKeyset;
 import br.com.legalconnect.common.exception.BusinessException;
 import br.com.legalconnect.common.exception.ErrorCode;
 import br.com.legalconnect.patrocinio.domain.DestaquesEscritorio;
 import br.com.legalconnect.patrocinio.domain.DestaquesEvento;
 import br.com.legalconnect.patrocinio.domain.DestaquesItem;
 import br.com.legalconnect.patrocinio.domain.DestaquesNoticia;
+import br.com.legalconnect.patrocinio.domain.enums.NivelPatrocinio;
 import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
 import br.com.legalconnect.patrocinio.dto.DestaquesEscritorioRequestDTO;
 import br.com.legalconnect.patrocinio.dto.DestaquesEscritorioResponseDTO;
@@ -26,6 +31,8 @@ import br.com.legalconnect.patrocinio.dto.DestaquesNoticiaRequestDTO;
 import br.com.legalconnect.patrocinio.dto.DestaquesNoticiaResponseDTO;
 import br.com.legalconnect.patrocinio.dto.DestaquesRequestDTO;
 import br.com.legalconnect.patrocinio.dto.DestaquesResponseDTO;
+import br.com.legalconnect.patrocinio.dto.ImpressoesDestaqueDTO;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -39,16 +46,22 @@ import lombok.RequiredArgsConstructor;
 public class PatrocinioAppService {
 
     private static final Logger log = LoggerFactory.getLogger(PatrocinioAppService.class);
+    private static final int QUANTIDADE_MAXIMA_SELECAO = 50;
+    private static final Set<String> TIPOS_VALIDOS = Set.of("EVENTO", "ESCRITORIO", "NOTICIA");
     private final DestaquesDomainService domainService;
+    private final DestaquesAtivosCache destaquesAtivosCache;
+    private final ServidorDestaques servidorDestaques;
+    private final EntityManager entityManager;
 
     /**
      * Converte uma entidade de domínio PatrocinioItem para um DTO de resposta
-     * polimórfico.
+     * polimórfico. Também usado pelo {@link DestaquesAtivosCache} ao montar o
+     * snapshot da vitrine pública.
      * 
      * @param entity A entidade a ser convertida.
      * @return O DTO de resposta.
      */
-    private DestaquesResponseDTO toResponseDTO(DestaquesItem entity) {
+    static DestaquesResponseDTO toResponseDTO(DestaquesItem entity) {
         if (entity instanceof DestaquesEvento) {
             DestaquesEvento evento = (DestaquesEvento) entity;
             return DestaquesEventoResponseDTO.builder()
@@ -56,6 +69,10 @@ public class PatrocinioAppService {
                     .tipo(evento.getTipo())
                     .link(evento.getLink())
                     .status(evento.getStatus().name())
+                    .inicioVigencia(evento.getInicioVigencia())
+                    .fimVigencia(evento.getFimVigencia())
+                    .nivelPatrocinio(evento.getNivelPatrocinio().name())
+                    .limiteImpressoes(evento.getLimiteImpressoes())
                     .titulo(evento.getTitulo())
                     .dataEvento(evento.getDataEvento())
                     .imagemUrl(evento.getImagemUrl())
@@ -69,6 +86,10 @@ public class PatrocinioAppService {
                     .tipo(escritorio.getTipo())
                     .link(escritorio.getLink())
                     .status(escritorio.getStatus().name())
+                    .inicioVigencia(escritorio.getInicioVigencia())
+                    .fimVigencia(escritorio.getFimVigencia())
+                    .nivelPatrocinio(escritorio.getNivelPatrocinio().name())
+                    .limiteImpressoes(escritorio.getLimiteImpressoes())
                     .nome(escritorio.getNome())
                     .slogan(escritorio.getSlogan())
                     .logoUrl(escritorio.getLogoUrl())
@@ -82,6 +103,10 @@ public class PatrocinioAppService {
                     .tipo(noticia.getTipo())
                     .link(noticia.getLink())
                     .status(noticia.getStatus().name())
+                    .inicioVigencia(noticia.getInicioVigencia())
+                    .fimVigencia(noticia.getFimVigencia())
+                    .nivelPatrocinio(noticia.getNivelPatrocinio().name())
+                    .limiteImpressoes(noticia.getLimiteImpressoes())
                     .titulo(noticia.getTitulo())
                     .imagemUrl(noticia.getImagemUrl())
                     .dataPublicacao(noticia.getDataPublicacao())
@@ -110,6 +135,15 @@ public class PatrocinioAppService {
                         dto.getStatus());
             }
         }
+        NivelPatrocinio nivel = NivelPatrocinio.BASICO;
+        if (dto.getNivelPatrocinio() != null) {
+            try {
+                nivel = NivelPatrocinio.valueOf(dto.getNivelPatrocinio().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Nível de patrocínio inválido '{}' fornecido na requisição. Usando nível padrão BASICO.",
+                        dto.getNivelPatrocinio());
+            }
+        }
 
         if ("EVENTO".equalsIgnoreCase(dto.getTipo())) {
             DestaquesEventoRequestDTO eventoDto = (DestaquesEventoRequestDTO) dto;
@@ -117,6 +151,10 @@ public class PatrocinioAppService {
                     .id(id)
                     .link(eventoDto.getLink())
                     .status(status)
+                    .inicioVigencia(eventoDto.getInicioVigencia())
+                    .fimVigencia(eventoDto.getFimVigencia())
+                    .nivelPatrocinio(nivel)
+                    .limiteImpressoes(eventoDto.getLimiteImpressoes())
                     .titulo(eventoDto.getTitulo())
                     .dataEvento(eventoDto.getDataEvento())
                     .imagemUrl(eventoDto.getImagemUrl())
@@ -127,6 +165,10 @@ public class PatrocinioAppService {
                     .id(id)
                     .link(escritorioDto.getLink())
                     .status(status)
+                    .inicioVigencia(escritorioDto.getInicioVigencia())
+                    .fimVigencia(escritorioDto.getFimVigencia())
+                    .nivelPatrocinio(nivel)
+                    .limiteImpressoes(escritorioDto.getLimiteImpressoes())
                     .nome(escritorioDto.getNome())
                     .slogan(escritorioDto.getSlogan())
                     .logoUrl(escritorioDto.getLogoUrl())
@@ -137,6 +179,10 @@ public class PatrocinioAppService {
                     .id(id)
                     .link(noticiaDto.getLink())
                     .status(status)
+                    .inicioVigencia(noticiaDto.getInicioVigencia())
+                    .fimVigencia(noticiaDto.getFimVigencia())
+                    .nivelPatrocinio(nivel)
+                    .limiteImpressoes(noticiaDto.getLimiteImpressoes())
                     .titulo(noticiaDto.getTitulo())
                     .imagemUrl(noticiaDto.getImagemUrl())
                     .dataPublicacao(noticiaDto.getDataPublicacao())
@@ -146,28 +192,116 @@ public class PatrocinioAppService {
     }
 
     /**
-     * Busca todos os patrocinadores com status ATIVO.
+     * Busca todos os patrocinadores com status ATIVO, a partir do snapshot em
+     * memória (sem acesso ao banco).
      *
-     * @return Uma lista de DTOs de resposta de patrocinadores ativos.
+     * @return Uma lista imutável de DTOs de resposta de patrocinadores ativos.
      */
     public List<DestaquesResponseDTO> findActivePatrocinios() {
-        log.info("Buscando patrocinadores ativos...");
-        return domainService.findActivePatrocinios().stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return destaquesAtivosCache.obter().getItens();
+    }
+
+    /**
+     * Retorna o snapshot dos patrocinadores ativos com a resposta pública já
+     * serializada e o ETag correspondente.
+     *
+     * @return O snapshot atual.
+     */
+    public DestaquesAtivosCache.Snapshot findActivePatrociniosSnapshot() {
+        return destaquesAtivosCache.obter();
+    }
+
+    /**
+     * Seleciona os patrocinadores ativos a exibir nos espaços da vitrine,
+     * ponderados pelo nível de patrocínio e respeitando os limites de
+     * impressões.
+     *
+     * @param quantidade Número de espaços a preencher.
+     * @return Os DTOs selecionados.
+     * @throws BusinessException se a quantidade for inválida.
+     */
+    public List<DestaquesResponseDTO> selecionarPatrocinios(int quantidade) {
+        if (quantidade < 1 || quantidade > QUANTIDADE_MAXIMA_SELECAO) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS,
+                    "A quantidade deve estar entre 1 e " + QUANTIDADE_MAXIMA_SELECAO + ".");
+        }
+        return servidorDestaques.selecionar(quantidade);
+    }
+
+    /**
+     * Consulta os contadores de impressões de todos os patrocinadores, para
+     * faturamento.
+     *
+     * @return Impressões e limite de cada patrocinador.
+     */
+    public List<ImpressoesDestaqueDTO> findImpressoesPatrocinios() {
+        return servidorDestaques.consultarImpressoes();
     }
 
     /**
-     * Busca todos os patrocinadores, independente do status.
+     * Lista os patrocinadores para administração, independente do status,
+     * paginados por keyset (createdAt, id).
      * Requer privilégios de administrador.
      *
-     * @return Uma lista de DTOs de resposta de todos os patrocinadores.
+     * @param status  Filtro opcional de status (ACTIVE, INACTIVE).
+     * @param tipo    Filtro opcional de tipo (EVENTO, ESCRITORIO, NOTICIA).
+     * @param cursor  Cursor da página anterior; nulo para a primeira página.
+     * @param tamanho Quantidade de itens da página.
+     * @return A página de DTOs e o cursor da página seguinte.
+     * @throws BusinessException se um filtro, o cursor ou o tamanho forem
+     *                           inválidos.
      */
-    public List<DestaquesResponseDTO> findAllPatrocinios() {
-        log.info("Buscando todos os patrocinadores para administração...");
-        return domainService.findAllPatrocinios().stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+    public PaginaCursorDTO<DestaquesResponseDTO> findPatrociniosPaginados(String status, String tipo, String cursor,
+            int tamanho) {
+        PatrocinioStatus statusFiltro = parseStatusFiltro(status);
+        String tipoFiltro = parseTipoFiltro(tipo);
+        KeysetScrollPosition posicao = PaginacaoKeyset.posicao(cursor);
+        int limite = PaginacaoKeyset.validarTamanho(tamanho);
+        return PaginacaoKeyset.montar(
+                domainService.findPatrociniosPorJanela(statusFiltro, tipoFiltro, posicao, limite),
+                PatrocinioAppService::toResponseDTO);
+    }
+
+    /**
+     * Valida os filtros e prepara a exportação em streaming dos patrocinadores
+     * que os atendem. Os filtros são validados aqui, antes de a resposta começar
+     * a ser escrita, para que um filtro inválido resulte em 400.
+     *
+     * @param status Filtro opcional de status.
+     * @param tipo   Filtro opcional de tipo.
+     * @return Exportação que percorre os patrocinadores em lotes, entregando
+     *         cada DTO ao consumidor recebido, na ordem da listagem.
+     * @throws BusinessException se um filtro for inválido.
+     */
+    public Consumer<Consumer<DestaquesResponseDTO>> exportarPatrocinios(String status, String tipo) {
+        PatrocinioStatus statusFiltro = parseStatusFiltro(status);
+        String tipoFiltro = parseTipoFiltro(tipo);
+        return consumidor -> PaginacaoKeyset.percorrer(entityManager,
+                posicao -> domainService.findPatrociniosPorJanela(statusFiltro, tipoFiltro, posicao,
+                        PaginacaoKeyset.TAMANHO_LOTE_EXPORTACAO),
+                item -> consumidor.accept(toResponseDTO(item)));
+    }
+
+    private static PatrocinioStatus parseStatusFiltro(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return PatrocinioStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, "Status inválido fornecido: " + status);
+        }
+    }
+
+    private static String parseTipoFiltro(String tipo) {
+        if (tipo == null || tipo.isBlank()) {
+            return null;
+        }
+        String tipoFiltro = tipo.toUpperCase();
+        if (!TIPOS_VALIDOS.contains(tipoFiltro)) {
+            throw new BusinessException(ErrorCode.DADOS_INVALIDOS, "Tipo inválido fornecido: " + tipo);
+        }
+        return tipoFiltro;
     }
 
     /**
@@ -0,0 +1,249 @@
+//
+// Motor de exibição dos destaques: seleção ponderada e contagem de impressões.
+//
+package br.com.legalconnect.patrocinio.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import br.com.legalconnect.patrocinio.dto.DestaquesResponseDTO;
+import br.com.legalconnect.patrocinio.dto.ImpressoesDestaqueDTO;
+import br.com.legalconnect.patrocinio.service.DestaquesAtivosCache.Selecao;
+import br.com.legalconnect.patrocinio.service.DestaquesAtivosCache.Snapshot;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Seleciona, por requisição, os N destaques exibidos nos espaços da vitrine.
+ * Regras:
+ * - A escolha é aleatória e ponderada pelo nível de patrocínio, por uma tabela
+ * de alias pré-calculada no snapshot (sorteio O(1)).
+ * - Um item não aparece duas vezes na mesma resposta.
+ * - Itens que atingiram o limite de impressões não são exibidos. A reserva da
+ * impressão é feita com CAS em contadores atômicos, sem bloqueio; o limite é
+ * exato por instância e aproximado entre instâncias.
+ * - As impressões são acumuladas em memória e gravadas no banco em lote
+ * (UPDATE incremental), periodicamente e no encerramento.
+ * - Quando o snapshot é reconstruído, os contadores de itens que saíram dele
+ * são descartados, depois de gravadas as suas impressões.
+ */
+@Component
+public class ServidorDestaques {
+
+    private static final Logger log = LoggerFactory.getLogger(ServidorDestaques.class);
+    private static final String SQL_INCREMENTAR = "UPDATE tb_patrocinio SET impressoes = impressoes + ? WHERE id = ?";
+    private static final String SQL_CONSULTAR = "SELECT id, impressoes, limite_impressoes FROM tb_patrocinio ORDER BY impressoes DESC";
+
+    private final DestaquesAtivosCache destaquesAtivosCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final long intervaloDescargaSegundos;
+    private final Map<UUID, Contador> contadores = new ConcurrentHashMap<>();
+    private final AtomicReference<Snapshot> snapshotAtual = new AtomicReference<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "impressoes-destaques");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ServidorDestaques(DestaquesAtivosCache destaquesAtivosCache, JdbcTemplate jdbcTemplate,
+            @Value("${application.destaques.impressoes.intervalo-descarga-segundos:10}") long intervaloDescargaSegundos) {
+        this.destaquesAtivosCache = destaquesAtivosCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.intervaloDescargaSegundos = intervaloDescargaSegundos;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        executor.scheduleWithFixedDelay(this::descarregarComSeguranca, intervaloDescargaSegundos,
+                intervaloDescargaSegundos, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+        descarregarComSeguranca(); // Não perde as impressões ainda não gravadas
+    }
+
+    /**
+     * Seleciona até {@code quantidade} destaques distintos e registra uma
+     * impressão para cada um.
+     *
+     * @param quantidade Número de espaços a preencher.
+     * @return Destaques selecionados (pode ter menos itens, se não houver
+     *         elegíveis suficientes).
+     */
+    public List<DestaquesResponseDTO> selecionar(int quantidade) {
+        Snapshot snapshot = destaquesAtivosCache.obter();
+        Snapshot anterior = snapshotAtual.get();
+        if (anterior != snapshot && snapshotAtual.compareAndSet(anterior, snapshot)) {
+            podarContadores(snapshot);
+        }
+        List<DestaquesResponseDTO> itens = snapshot.getItens();
+        Selecao selecao = snapshot.getSelecao();
+        int n = itens.size();
+        int alvo = Math.min(quantidade, n);
+        List<DestaquesResponseDTO> escolhidos = new ArrayList<>(alvo);
+        if (alvo <= 0) {
+            return escolhidos;
+        }
+
+        // Amostragem sem reposição por rejeição: sorteios repetidos ou esgotados
+        // são descartados. O número de tentativas é limitado; se o peso restante
+        // ficar concentrado em itens já descartados, o restante é preenchido em
+        // ordem aleatória uniforme.
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean[] descartados = new boolean[n];
+        int restantes = n;
+        int tentativas = alvo * 4 + 8;
+        while (escolhidos.size() < alvo && restantes > 0 && tentativas-- > 0) {
+            int indice = selecao.getAlias().sortear(random);
+            if (descartados[indice]) {
+                continue;
+            }
+            descartados[indice] = true;
+            restantes--;
+            if (reservarImpressao(itens.get(indice).getId(), selecao, indice)) {
+                escolhidos.add(itens.get(indice));
+            }
+        }
+        int inicio = random.nextInt(n);
+        for (int k = 0; k < n && escolhidos.size() < alvo; k++) {
+            int indice = (inicio + k) % n;
+            if (!descartados[indice]) {
+                descartados[indice] = true;
+                if (reservarImpressao(itens.get(indice).getId(), selecao, indice)) {
+                    escolhidos.add(itens.get(indice));
+                }
+            }
+        }
+        return escolhidos;
+    }
+
+    /**
+     * Grava no banco, em um único lote, as impressões acumuladas desde a última
+     * descarga. Em caso de falha, os valores voltam a ficar pendentes.
+     */
+    public synchronized void descarregar() {
+        List<Object[]> lote = new ArrayList<>();
+        List<Contador> descarregados = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        contadores.forEach((id, contador) -> {
+            long delta = contador.pendentes.get();
+            if (delta > 0) {
+                // Soma às persistidas antes de subtrair das pendentes: durante a troca o
+                // total fica superestimado, nunca abaixo do real (o limite não é ultrapassado)
+                contador.persistidas.addAndGet(delta);
+                contador.pendentes.addAndGet(-delta);
+                lote.add(new Object[] { delta, id });
+                descarregados.add(contador);
+                deltas.add(delta);
+            }
+        });
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(SQL_INCREMENTAR, lote);
+            log.debug("Impressões de {} destaque(s) gravadas em lote.", lote.size());
+        } catch (RuntimeException e) {
+            for (int i = 0; i < descarregados.size(); i++) {
+                descarregados.get(i).pendentes.addAndGet(deltas.get(i));
+                descarregados.get(i).persistidas.addAndGet(-deltas.get(i));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Consulta os contadores de impressões de todos os destaques, para
+     * faturamento. As impressões pendentes desta instância são gravadas antes da
+     * leitura.
+     *
+     * @return Impressões e limite de cada destaque.
+     */
+    public List<ImpressoesDestaqueDTO> consultarImpressoes() {
+        descarregar();
+        return jdbcTemplate.query(SQL_CONSULTAR, (rs, linha) -> ImpressoesDestaqueDTO.builder()
+                .id(rs.getObject("id", UUID.class))
+                .impressoes(rs.getLong("impressoes"))
+                .limiteImpressoes(rs.getObject("limite_impressoes", Long.class))
+                .build());
+    }
+
+    private boolean reservarImpressao(UUID id, Selecao selecao, int indice) {
+        long persistidasNoSnapshot = selecao.getImpressoesPersistidas(indice);
+        Contador contador = contadores.computeIfAbsent(id, chave -> new Contador(persistidasNoSnapshot));
+        if (contador.persistidas.get() < persistidasNoSnapshot) {
+            // Snapshot mais recente trouxe impressões gravadas por outras instâncias
+            contador.persistidas.accumulateAndGet(persistidasNoSnapshot, Math::max);
+        }
+
+        long limite = selecao.getLimite(indice);
+        if (limite == Long.MAX_VALUE) {
+            contador.pendentes.incrementAndGet();
+            return true;
+        }
+        while (true) {
+            long pendentes = contador.pendentes.get();
+            if (contador.persistidas.get() + pendentes >= limite) {
+                return false;
+            }
+            if (contador.pendentes.compareAndSet(pendentes, pendentes + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Remove os contadores de itens ausentes do snapshot. Contadores com
+     * impressões pendentes ficam até serem gravados e são removidos em uma
+     * reconstrução seguinte.
+     */
+    private void podarContadores(Snapshot snapshot) {
+        Set<UUID> ativos = new HashSet<>();
+        for (DestaquesResponseDTO item : snapshot.getItens()) {
+            ativos.add(item.getId());
+        }
+        contadores.entrySet().removeIf(
+                entrada -> !ativos.contains(entrada.getKey()) && entrada.getValue().pendentes.get() == 0);
+    }
+
+    private void descarregarComSeguranca() {
+        try {
+            descarregar();
+        } catch (Exception e) {
+            log.warn("Falha ao gravar impressões de destaques; nova tentativa na próxima descarga: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Impressões de um destaque conhecidas por esta instância.
+     */
+    private static final class Contador {
+        private final AtomicLong persistidas;
+        private final AtomicLong pendentes = new AtomicLong();
+
+        private Contador(long persistidas) {
+            this.persistidas = new AtomicLong(persistidas);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+//
+// Tabela de alias (método de Vose) para amostragem ponderada em tempo constante.
+//
+package br.com.legalconnect.patrocinio.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Amostragem aleatória ponderada pelo método de alias (Vose).
+ * A construção é O(n) e cada sorteio é O(1): um índice uniforme e uma
+ * comparação com a probabilidade da coluna sorteada. Imutável após construída,
+ * pode ser compartilhada entre threads.
+ */
+final class TabelaAlias {
+
+    private final double[] probabilidade;
+    private final int[] alias;
+
+    /**
+     * Constrói a tabela para os pesos informados.
+     *
+     * @param pesos Pesos positivos, um por item.
+     */
+    TabelaAlias(double[] pesos) {
+        int n = pesos.length;
+        this.probabilidade = new double[n];
+        this.alias = new int[n];
+        if (n == 0) {
+            return;
+        }
+
+        double soma = 0;
+        for (double peso : pesos) {
+            soma += peso;
+        }
+        double[] escalado = new double[n];
+        Deque<Integer> menores = new ArrayDeque<>();
+        Deque<Integer> maiores = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            escalado[i] = pesos[i] * n / soma;
+            (escalado[i] < 1.0 ? menores : maiores).push(i);
+        }
+        while (!menores.isEmpty() && !maiores.isEmpty()) {
+            int menor = menores.pop();
+            int maior = maiores.pop();
+            probabilidade[menor] = escalado[menor];
+            alias[menor] = maior;
+            escalado[maior] = (escalado[maior] + escalado[menor]) - 1.0;
+            (escalado[maior] < 1.0 ? menores : maiores).push(maior);
+        }
+        // Sobras (por arredondamento) ficam com probabilidade 1
+        while (!maiores.isEmpty()) {
+            probabilidade[maiores.pop()] = 1.0;
+        }
+        while (!menores.isEmpty()) {
+            probabilidade[menores.pop()] = 1.0;
+        }
+    }
+
+    /**
+     * Sorteia um índice com probabilidade proporcional ao seu peso.
+     *
+     * @param random Gerador de números aleatórios da thread atual.
+     * @return Índice sorteado.
+     */
+    int sortear(ThreadLocalRandom random) {
+        int coluna = random.nextInt(probabilidade.length);
+        return random.nextDouble() < probabilidade[coluna] ? coluna : alias[coluna];
+    }
+
+    int tamanho() {
+        return probabilidade.length;
+    }
+}
@@ -0,0 +1,244 @@
+//
+// Agendador das transições de status dos destaques com período de vigência.
+//
+package br.com.legalconnect.patrocinio.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.legalconnect.common.config.leitura.TransacaoLeituraContext;
+import br.com.legalconnect.patrocinio.domain.DestaquesItem;
+import br.com.legalconnect.patrocinio.domain.enums.PatrocinioStatus;
+import br.com.legalconnect.patrocinio.repository.DestaquesJpaRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Alterna o status dos destaques nos limites exatos de sua vigência.
+ * As transições futuras ficam em uma fila de prioridade ordenada pelo instante;
+ * uma única thread dorme até a transição mais próxima, aplica no banco todas as
+ * que venceram (UPDATE condicional e idempotente) e recarrega o
+ * {@link DestaquesAtivosCache}. Assim a leitura pública nunca avalia datas.
+ * A fila é reconstruída a partir do banco na inicialização e periodicamente,
+ * para incorporar alterações feitas por outras instâncias.
+ */
+@Component
+public class VigenciaDestaquesScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(VigenciaDestaquesScheduler.class);
+    private static final Duration ATRASO_NOVA_TENTATIVA = Duration.ofSeconds(30);
+
+    private final DestaquesJpaRepository repository;
+    private final DestaquesAtivosCache destaquesAtivosCache;
+    private final long intervaloSincronizacaoMinutos;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vigencia-destaques");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PriorityQueue<Transicao> fila = new PriorityQueue<>(Comparator.comparing(Transicao::getInstante));
+    private ScheduledFuture<?> proximaExecucao;
+    private LocalDateTime instanteProximaExecucao;
+
+    public VigenciaDestaquesScheduler(DestaquesJpaRepository repository, DestaquesAtivosCache destaquesAtivosCache,
+            @Value("${application.destaques.vigencia.sincronizacao-minutos:5}") long intervaloSincronizacaoMinutos) {
+        this.repository = repository;
+        this.destaquesAtivosCache = destaquesAtivosCache;
+        this.intervaloSincronizacaoMinutos = intervaloSincronizacaoMinutos;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        executor.scheduleWithFixedDelay(this::sincronizarComSeguranca, 0, intervaloSincronizacaoMinutos,
+                TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Aplica no banco o status vigente de todos os itens com vigência (limites
+     * ultrapassados enquanto o serviço estava parado) e reconstrói a fila com as
+     * transições futuras.
+     */
+    public void sincronizar() {
+        LocalDateTime agora = LocalDateTime.now();
+        int alterados = repository.ativarVigentes(agora) + repository.desativarForaDaVigencia(agora);
+        // Lida do primário, como em aplicar: deve refletir os UPDATEs acima
+        List<DestaquesItem> pendentes = TransacaoLeituraContext
+                .noPrimario(() -> repository.findComTransicaoFutura(agora));
+        int agendadas;
+        synchronized (this) {
+            fila.clear();
+            pendentes.forEach(item -> enfileirar(item, agora));
+            agendadas = fila.size();
+            reprogramar();
+        }
+        if (alterados > 0) {
+            destaquesAtivosCache.invalidar();
+        }
+        log.debug("Vigência de destaques sincronizada: {} status ajustado(s), {} transição(ões) agendada(s).",
+                alterados, agendadas);
+    }
+
+    /**
+     * (Re)agenda as transições futuras de um item recém-criado ou alterado.
+     *
+     * @param item O item salvo.
+     */
+    public synchronized void agendar(DestaquesItem item) {
+        fila.removeIf(transicao -> transicao.getItemId().equals(item.getId()));
+        enfileirar(item, LocalDateTime.now());
+        reprogramar();
+    }
+
+    /**
+     * Remove as transições pendentes de um item (exclusão ou status manual).
+     *
+     * @param itemId O ID do item.
+     */
+    public synchronized void remover(UUID itemId) {
+        fila.removeIf(transicao -> transicao.getItemId().equals(itemId));
+        reprogramar();
+    }
+
+    private void enfileirar(DestaquesItem item, LocalDateTime agora) {
+        if (item.getInicioVigencia() != null && item.getInicioVigencia().isAfter(agora)) {
+            fila.add(new Transicao(item.getInicioVigencia(), item.getId(), PatrocinioStatus.ACTIVE));
+        }
+        if (item.getFimVigencia() != null && item.getFimVigencia().isAfter(agora)) {
+            fila.add(new Transicao(item.getFimVigencia(), item.getId(), PatrocinioStatus.INACTIVE));
+        }
+    }
+
+    /**
+     * Garante que a thread acorde no instante da transição mais próxima.
+     * Deve ser chamado com o monitor desta instância.
+     */
+    private void reprogramar() {
+        Transicao proxima = fila.peek();
+        if (proxima == null) {
+            return;
+        }
+        if (proximaExecucao != null && !proximaExecucao.isDone()
+                && !instanteProximaExecucao.isAfter(proxima.getInstante())) {
+            return; // Já existe execução agendada para antes (ou no) instante da próxima transição
+        }
+        if (proximaExecucao != null) {
+            proximaExecucao.cancel(false);
+        }
+        long atraso = Math.max(0, Duration.between(LocalDateTime.now(), proxima.getInstante()).toMillis());
+        instanteProximaExecucao = proxima.getInstante();
+        proximaExecucao = executor.schedule(this::processarVencidas, atraso, TimeUnit.MILLISECONDS);
+    }
+
+    private void processarVencidas() {
+        List<Transicao> vencidas = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime agora = LocalDateTime.now();
+            while (!fila.isEmpty() && !fila.peek().getInstante().isAfter(agora)) {
+                vencidas.add(fila.poll());
+            }
+        }
+
+        int alterados = 0;
+        List<Transicao> falhas = new ArrayList<>();
+        for (Transicao transicao : vencidas) {
+            try {
+                alterados += aplicar(transicao);
+            } catch (Exception e) {
+                log.warn("Falha ao aplicar transição {} do destaque {}: {}", transicao.getStatus(),
+                        transicao.getItemId(), e.getMessage());
+                falhas.add(transicao);
+            }
+        }
+        if (alterados > 0) {
+            destaquesAtivosCache.invalidar();
+            log.info("Vigência de destaques: {} status alterado(s) no limite do período.", alterados);
+        }
+
+        synchronized (this) {
+            LocalDateTime novaTentativa = LocalDateTime.now().plus(ATRASO_NOVA_TENTATIVA);
+            falhas.forEach(t -> fila.add(new Transicao(novaTentativa, t.getItemId(), t.getStatus())));
+            if (instanteProximaExecucao != null && !instanteProximaExecucao.isAfter(LocalDateTime.now())) {
+                // Esta era a execução agendada; uma reprogramação feita durante o
+                // processamento (instante futuro) é preservada
+                proximaExecucao = null;
+                instanteProximaExecucao = null;
+            }
+            reprogramar();
+        }
+    }
+
+    /**
+     * Aplica uma transição vencida a partir do estado atual do item: a vigência
+     * pode ter sido alterada (ou removida, com status manual) por outra instância
+     * depois que a transição entrou na fila, então o status gravado é o vigente
+     * agora, e não o previsto no momento do agendamento. O item é lido do
+     * primário, que já tem a alteração mesmo que a réplica esteja atrasada.
+     *
+     * @param transicao A transição vencida.
+     * @return Quantidade de linhas alteradas (0 ou 1).
+     */
+    private int aplicar(Transicao transicao) {
+        return TransacaoLeituraContext.noPrimario(() -> repository.findById(transicao.getItemId()))
+                .filter(DestaquesItem::possuiVigencia)
+                .map(item -> repository.atualizarStatusSeDiferente(item.getId(),
+                        item.statusVigente(LocalDateTime.now())))
+                .orElse(0);
+    }
+
+    private void sincronizarComSeguranca() {
+        try {
+            sincronizar();
+        } catch (Exception e) {
+            // Uma falha não pode cancelar as sincronizações periódicas seguintes
+            log.error("Falha ao sincronizar a vigência dos destaques: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Mudança de status agendada para um item.
+     */
+    static final class Transicao {
+        private final LocalDateTime instante;
+        private final UUID itemId;
+        private final PatrocinioStatus status;
+
+        Transicao(LocalDateTime instante, UUID itemId, PatrocinioStatus status) {
+            this.instante = instante;
+            this.itemId = itemId;
+            this.status = status;
+        }
+
+        LocalDateTime getInstante() {
+            return instante;
+        }
+
+        UUID getItemId() {
+            return itemId;
+        }
+
+        PatrocinioStatus getStatus() {
+            return status;
+        }
+    }
+}
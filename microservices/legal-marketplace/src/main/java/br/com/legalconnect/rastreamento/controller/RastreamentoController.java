@@ -0,0 +1,51 @@
+//
+// Controlador REST para o registro de interações com a vitrine do marketplace.
+//
+package br.com.legalconnect.rastreamento.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.legalconnect.common.dto.BaseResponse;
+import br.com.legalconnect.rastreamento.dto.LoteEventosRequestDTO;
+import br.com.legalconnect.rastreamento.service.RastreamentoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Rastreamento", description = "Registro de visualizações e cliques em destaques e cards de advogados")
+@RequestMapping("/api/v1/publico/marketplace/eventos")
+public class RastreamentoController {
+
+        private final RastreamentoService rastreamentoService;
+
+        /**
+         * Endpoint público para registrar, em lote, interações do usuário com a
+         * vitrine. Os eventos são apenas enfileirados em memória e gravados depois,
+         * agregados por minuto; por isso a resposta é 202.
+         *
+         * @param request Lote de eventos.
+         * @return ResponseEntity com a quantidade de eventos aceitos.
+         */
+        @Operation(summary = "Registra interações com a vitrine", description = "Recebe um lote de visualizações e cliques em destaques e cards de advogados. O processamento é assíncrono.", responses = {
+                        @ApiResponse(responseCode = "202", description = "Eventos aceitos para processamento"),
+                        @ApiResponse(responseCode = "400", description = "Lote inválido")
+        })
+        @PostMapping
+        public ResponseEntity<BaseResponse<Integer>> registrarEventos(@Valid @RequestBody LoteEventosRequestDTO request) {
+                int aceitos = rastreamentoService.registrar(request.getEventos());
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                                .body(BaseResponse.<Integer>builder()
+                                                .data(aceitos)
+                                                .message("Eventos recebidos com sucesso.")
+                                                .build());
+        }
+}
@@ -0,0 +1,12 @@
+//
+// Enum para os tipos de interação rastreados.
+//
+package br.com.legalconnect.rastreamento.domain.enums;
+
+/**
+ * Define as interações do usuário com um item da vitrine.
+ */
+public enum TipoEventoRastreado {
+    VISUALIZACAO, // Item apareceu na tela do usuário.
+    CLIQUE        // Usuário clicou no item.
+}
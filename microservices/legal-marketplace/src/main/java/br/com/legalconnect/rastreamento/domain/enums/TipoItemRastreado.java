@@ -0,0 +1,12 @@
+//
+// Enum para os tipos de item cujas interações são rastreadas.
+//
+package br.com.legalconnect.rastreamento.domain.enums;
+
+/**
+ * Define os itens da vitrine que registram visualizações e cliques.
+ */
+public enum TipoItemRastreado {
+    DESTAQUE, // Patrocinador exibido nos espaços de destaque.
+    ADVOGADO  // Card de advogado exibido nas listagens.
+}
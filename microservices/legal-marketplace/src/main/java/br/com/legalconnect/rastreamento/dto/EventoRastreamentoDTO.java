@@ -0,0 +1,27 @@
+//
+// DTO de um evento de interação enviado pelo front-end.
+//
+package br.com.legalconnect.rastreamento.dto;
+
+import java.util.UUID;
+
+import br.com.legalconnect.rastreamento.domain.enums.TipoEventoRastreado;
+import br.com.legalconnect.rastreamento.domain.enums.TipoItemRastreado;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoRastreamentoDTO {
+    @NotNull(message = "O tipo do item é obrigatório.")
+    private TipoItemRastreado tipoItem; // DESTAQUE ou ADVOGADO
+    @NotNull(message = "O ID do item é obrigatório.")
+    private UUID itemId;
+    @NotNull(message = "O tipo do evento é obrigatório.")
+    private TipoEventoRastreado tipoEvento; // VISUALIZACAO ou CLIQUE
+}
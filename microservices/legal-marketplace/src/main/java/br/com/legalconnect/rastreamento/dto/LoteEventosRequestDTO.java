@@ -0,0 +1,28 @@
+//
+// DTO para o envio em lote dos eventos de interação.
+//
+package br.com.legalconnect.rastreamento.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * O front-end acumula as interações e as envia em lote (por exemplo, a cada
+ * poucos segundos ou ao sair da página), reduzindo o número de requisições.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteEventosRequestDTO {
+    @NotEmpty(message = "O lote deve conter ao menos um evento.")
+    @Size(max = 100, message = "O lote pode conter no máximo 100 eventos.")
+    private List<@Valid EventoRastreamentoDTO> eventos;
+}
@@ -0,0 +1,93 @@
+//
+// Buffer circular limitado, sem bloqueio, para os eventos de interação.
+//
+package br.com.legalconnect.rastreamento.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Anel de capacidade fixa com vários produtores e um único consumidor.
+ * Cada posição tem um número de sequência que indica se está livre para o
+ * produtor da volta atual ou pronta para o consumidor; os produtores disputam
+ * apenas um CAS no índice de escrita. Com o anel cheio, {@link #oferecer}
+ * retorna false imediatamente: a requisição nunca espera pelo consumidor.
+ *
+ * @param <T> Tipo dos elementos.
+ */
+final class AnelEventos<T> {
+
+    private final AtomicReferenceArray<T> elementos;
+    private final AtomicLongArray sequencias;
+    private final int mascara;
+    private final AtomicLong escrita = new AtomicLong();
+    private long leitura; // Acessado apenas pelo consumidor (sob o monitor de drenar)
+
+    /**
+     * @param capacidadeMinima Capacidade desejada; arredondada para a próxima
+     *                         potência de 2.
+     */
+    AnelEventos(int capacidadeMinima) {
+        int capacidade = Integer.highestOneBit(Math.max(2, capacidadeMinima - 1)) << 1;
+        this.elementos = new AtomicReferenceArray<>(capacidade);
+        this.sequencias = new AtomicLongArray(capacidade);
+        this.mascara = capacidade - 1;
+        for (int i = 0; i < capacidade; i++) {
+            sequencias.set(i, i);
+        }
+    }
+
+    /**
+     * Insere um elemento, se houver espaço.
+     *
+     * @param elemento O elemento (não nulo).
+     * @return false se o anel estiver cheio.
+     */
+    boolean oferecer(T elemento) {
+        long posicao = escrita.get();
+        while (true) {
+            int indice = (int) (posicao & mascara);
+            long diferenca = sequencias.get(indice) - posicao;
+            if (diferenca == 0) {
+                if (escrita.compareAndSet(posicao, posicao + 1)) {
+                    elementos.set(indice, elemento);
+                    sequencias.set(indice, posicao + 1); // Publica para o consumidor
+                    return true;
+                }
+                posicao = escrita.get();
+            } else if (diferenca < 0) {
+                return false; // Posição ainda não consumida na volta anterior: cheio
+            } else {
+                posicao = escrita.get(); // Outro produtor já avançou
+            }
+        }
+    }
+
+    /**
+     * Remove todos os elementos publicados até o momento, na ordem de inserção.
+     *
+     * @param consumidor Recebe cada elemento removido.
+     * @return Quantidade de elementos removidos.
+     */
+    synchronized int drenar(Consumer<T> consumidor) {
+        int removidos = 0;
+        while (true) {
+            int indice = (int) (leitura & mascara);
+            if (sequencias.get(indice) != leitura + 1) {
+                return removidos; // Vazio ou produtor ainda gravando esta posição
+            }
+            T elemento = elementos.get(indice);
+            elementos.set(indice, null);
+            sequencias.set(indice, leitura + mascara + 1); // Libera para a próxima volta
+            leitura++;
+            removidos++;
+            consumidor.accept(elemento);
+        }
+    }
+
+    int capacidade() {
+        return mascara + 1;
+    }
+}
@@ -0,0 +1,189 @@
+//
+// Registro de visualizações e cliques da vitrine, agregados por minuto.
+//
+package br.com.legalconnect.rastreamento.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import br.com.legalconnect.rastreamento.domain.enums.TipoEventoRastreado;
+import br.com.legalconnect.rastreamento.domain.enums.TipoItemRastreado;
+import br.com.legalconnect.rastreamento.dto.EventoRastreamentoDTO;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Recebe eventos de interação (visualizações e cliques em destaques e cards de
+ * advogados) sem tocar no banco durante a requisição.
+ * Fluxo:
+ * - A requisição apenas enfileira cada evento em um {@link AnelEventos} de
+ * capacidade fixa; com o anel cheio o evento é descartado e contado.
+ * - Uma thread drena o anel periodicamente e soma os eventos por
+ * (item, tipo de evento, minuto).
+ * - Os agregados são gravados com um único lote de UPSERT, que soma à contagem
+ * já existente (várias instâncias podem gravar o mesmo minuto).
+ * Em caso de falha na gravação, os agregados são mantidos para a próxima
+ * descarga, até o limite configurado de chaves pendentes.
+ */
+@Service
+public class RastreamentoService {
+
+    private static final Logger log = LoggerFactory.getLogger(RastreamentoService.class);
+    private static final String SQL_UPSERT = "INSERT INTO tb_metrica_interacao "
+            + "(tipo_item, item_id, tipo_evento, minuto, quantidade) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT (tipo_item, item_id, tipo_evento, minuto) "
+            + "DO UPDATE SET quantidade = tb_metrica_interacao.quantidade + EXCLUDED.quantidade";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AnelEventos<Interacao> anel;
+    private final long intervaloDescargaSegundos;
+    private final int maximoChavesPendentes;
+    private final AtomicLong descartados = new AtomicLong();
+    private final Map<Interacao, Long> pendentes = new HashMap<>(); // Guardado pelo monitor de descarregar
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rastreamento-interacoes");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RastreamentoService(JdbcTemplate jdbcTemplate,
+            @Value("${application.rastreamento.capacidade-buffer:65536}") int capacidadeBuffer,
+            @Value("${application.rastreamento.intervalo-descarga-segundos:5}") long intervaloDescargaSegundos,
+            @Value("${application.rastreamento.maximo-chaves-pendentes:100000}") int maximoChavesPendentes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.anel = new AnelEventos<>(capacidadeBuffer);
+        this.intervaloDescargaSegundos = intervaloDescargaSegundos;
+        this.maximoChavesPendentes = maximoChavesPendentes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        executor.scheduleWithFixedDelay(this::descarregarComSeguranca, intervaloDescargaSegundos,
+                intervaloDescargaSegundos, TimeUnit.SECONDS);
+        log.info("Rastreamento de interações iniciado: buffer de {} eventos, descarga a cada {}s.",
+                anel.capacidade(), intervaloDescargaSegundos);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+        descarregarComSeguranca(); // Grava o que ainda está no buffer
+    }
+
+    /**
+     * Enfileira os eventos recebidos, atribuindo-os ao minuto atual do servidor.
+     *
+     * @param eventos Eventos validados pelo controlador.
+     * @return Quantidade de eventos aceitos (os demais foram descartados por
+     *         falta de espaço no buffer).
+     */
+    public int registrar(List<EventoRastreamentoDTO> eventos) {
+        long minuto = Instant.now().truncatedTo(ChronoUnit.MINUTES).toEpochMilli();
+        int aceitos = 0;
+        for (EventoRastreamentoDTO evento : eventos) {
+            Interacao interacao = new Interacao(evento.getTipoItem(), evento.getItemId(), evento.getTipoEvento(),
+                    minuto);
+            if (anel.oferecer(interacao)) {
+                aceitos++;
+            }
+        }
+        int perdidos = eventos.size() - aceitos;
+        if (perdidos > 0 && descartados.getAndAdd(perdidos) == 0) {
+            log.warn("Buffer de rastreamento cheio; eventos estão sendo descartados.");
+        }
+        return aceitos;
+    }
+
+    /**
+     * Drena o buffer, agrega por item e minuto e grava os agregados em um único
+     * lote.
+     */
+    public synchronized void descarregar() {
+        anel.drenar(interacao -> pendentes.merge(interacao, 1L, Long::sum));
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        List<Object[]> lote = new ArrayList<>(pendentes.size());
+        pendentes.forEach((interacao, quantidade) -> lote.add(new Object[] {
+                interacao.tipoItem.name(), interacao.itemId, interacao.tipoEvento.name(),
+                new Timestamp(interacao.minuto), quantidade }));
+        try {
+            jdbcTemplate.batchUpdate(SQL_UPSERT, lote);
+            log.debug("{} agregado(s) de interações gravados em lote.", lote.size());
+            pendentes.clear();
+        } catch (RuntimeException e) {
+            if (pendentes.size() > maximoChavesPendentes) {
+                log.error("Descartando {} agregado(s) de interações não gravados após falhas repetidas.",
+                        pendentes.size());
+                pendentes.clear();
+            }
+            throw e;
+        } finally {
+            long perdidos = descartados.getAndSet(0);
+            if (perdidos > 0) {
+                log.warn("{} evento(s) de rastreamento descartados por buffer cheio desde a última descarga.",
+                        perdidos);
+            }
+        }
+    }
+
+    private void descarregarComSeguranca() {
+        try {
+            descarregar();
+        } catch (Exception e) {
+            log.warn("Falha ao gravar interações; nova tentativa na próxima descarga: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Evento enfileirado e, ao mesmo tempo, chave da agregação por minuto.
+     */
+    private static final class Interacao {
+        private final TipoItemRastreado tipoItem;
+        private final UUID itemId;
+        private final TipoEventoRastreado tipoEvento;
+        private final long minuto; // Epoch em milissegundos, truncado ao minuto
+
+        private Interacao(TipoItemRastreado tipoItem, UUID itemId, TipoEventoRastreado tipoEvento, long minuto) {
+            this.tipoItem = tipoItem;
+            this.itemId = itemId;
+            this.tipoEvento = tipoEvento;
+            this.minuto = minuto;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Interacao outra)) {
+                return false;
+            }
+            return minuto == outra.minuto && tipoItem == outra.tipoItem && tipoEvento == outra.tipoEvento
+                    && itemId.equals(outra.itemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tipoItem, itemId, tipoEvento, minuto);
+        }
+    }
+}